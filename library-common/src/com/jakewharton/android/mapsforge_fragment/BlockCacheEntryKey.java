@@ -0,0 +1,82 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * An immutable container class which is the key for the block cache.
+ */
+class BlockCacheEntryKey {
+	private final long blockNumber;
+	private final int hashCode;
+	private final MapFileParameters mapFileParameters;
+	private final byte zoomLevel;
+
+	/**
+	 * Creates an immutable key to be stored in a map.
+	 * 
+	 * @param mapFileParameters
+	 *            the parameters of the map file.
+	 * @param blockNumber
+	 *            the number of the block in the map file.
+	 * @param zoomLevel
+	 *            the zoom level for which the block has been decoded.
+	 */
+	BlockCacheEntryKey(MapFileParameters mapFileParameters, long blockNumber, byte zoomLevel) {
+		this.mapFileParameters = mapFileParameters;
+		this.blockNumber = blockNumber;
+		this.zoomLevel = zoomLevel;
+		this.hashCode = calculateHashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof BlockCacheEntryKey)) {
+			return false;
+		}
+		BlockCacheEntryKey other = (BlockCacheEntryKey) obj;
+		if (this.mapFileParameters == null && other.mapFileParameters != null) {
+			return false;
+		} else if (this.mapFileParameters != null
+				&& !this.mapFileParameters.equals(other.mapFileParameters)) {
+			return false;
+		} else if (this.blockNumber != other.blockNumber) {
+			return false;
+		} else if (this.zoomLevel != other.zoomLevel) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * Calculates the hash value of this object.
+	 * 
+	 * @return the hash value of this object.
+	 */
+	private int calculateHashCode() {
+		int result = 7;
+		result = 31 * result
+				+ ((this.mapFileParameters == null) ? 0 : this.mapFileParameters.hashCode());
+		result = 31 * result + (int) (this.blockNumber ^ (this.blockNumber >>> 32));
+		result = 31 * result + this.zoomLevel;
+		return result;
+	}
+}
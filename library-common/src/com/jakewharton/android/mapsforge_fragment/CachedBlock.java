@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A container for all decoded map elements of a single block on one zoom level.
+ */
+class CachedBlock {
+	/**
+	 * Estimated memory overhead of an array in bytes.
+	 */
+	private static final int ARRAY_OVERHEAD = 16;
+
+	/**
+	 * Estimated memory overhead of an object in bytes.
+	 */
+	private static final int OBJECT_OVERHEAD = 32;
+
+	/**
+	 * Estimated memory overhead of a string in bytes.
+	 */
+	private static final int STRING_OVERHEAD = 40;
+
+	/**
+	 * Returns the estimated amount of memory which is used by the given array.
+	 * 
+	 * @param array
+	 *            the array (may be null).
+	 * @return the estimated size of the array in bytes.
+	 */
+	private static int getSize(int[] array) {
+		if (array == null) {
+			return 0;
+		}
+		return ARRAY_OVERHEAD + array.length * 4;
+	}
+
+	/**
+	 * Returns the estimated amount of memory which is used by the given string.
+	 * 
+	 * @param string
+	 *            the string (may be null).
+	 * @return the estimated size of the string in bytes.
+	 */
+	private static int getSize(String string) {
+		if (string == null) {
+			return 0;
+		}
+		return STRING_OVERHEAD + string.length() * 2;
+	}
+
+	private int size;
+
+	/**
+	 * All points of interest in the block.
+	 */
+	final List<CachedNode> nodes;
+
+	/**
+	 * All ways in the block.
+	 */
+	final List<CachedWay> ways;
+
+	/**
+	 * Creates a new empty block container.
+	 * 
+	 * @param numberOfNodes
+	 *            the number of points of interest in the block.
+	 * @param numberOfWays
+	 *            the number of ways in the block.
+	 */
+	CachedBlock(int numberOfNodes, int numberOfWays) {
+		this.nodes = new ArrayList<CachedNode>(numberOfNodes);
+		this.ways = new ArrayList<CachedWay>(numberOfWays);
+		this.size = 2 * OBJECT_OVERHEAD + (numberOfNodes + numberOfWays) * 4;
+	}
+
+	/**
+	 * Adds the given point of interest to the block.
+	 * 
+	 * @param cachedNode
+	 *            the point of interest.
+	 */
+	void addNode(CachedNode cachedNode) {
+		this.nodes.add(cachedNode);
+		this.size += OBJECT_OVERHEAD + getSize(cachedNode.tagIds) + getSize(cachedNode.name)
+				+ getSize(cachedNode.houseNumber) + getSize(cachedNode.elevation);
+	}
+
+	/**
+	 * Adds the given way to the block.
+	 * 
+	 * @param cachedWay
+	 *            the way.
+	 */
+	void addWay(CachedWay cachedWay) {
+		this.ways.add(cachedWay);
+		this.size += OBJECT_OVERHEAD + getSize(cachedWay.nodes) + getSize(cachedWay.tagIds)
+				+ getSize(cachedWay.labelPosition) + getSize(cachedWay.name)
+				+ getSize(cachedWay.ref);
+		if (cachedWay.innerWays != null) {
+			this.size += ARRAY_OVERHEAD + cachedWay.innerWays.length * 4;
+			for (int i = cachedWay.innerWays.length - 1; i >= 0; --i) {
+				this.size += getSize(cachedWay.innerWays[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the estimated amount of memory which is used by this block.
+	 * 
+	 * @return the estimated size of this block in bytes.
+	 */
+	int getSize() {
+		return this.size;
+	}
+}
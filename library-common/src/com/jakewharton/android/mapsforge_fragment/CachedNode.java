@@ -0,0 +1,57 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * An immutable container for a decoded point of interest, stored in the {@link MapDatabaseBlockCache}.
+ */
+class CachedNode {
+	final String elevation;
+	final String houseNumber;
+	final int latitude;
+	final byte layer;
+	final int longitude;
+	final String name;
+	final int[] tagIds;
+
+	/**
+	 * Creates a new cached point of interest.
+	 * 
+	 * @param layer
+	 *            the layer of the node.
+	 * @param latitude
+	 *            the latitude of the node.
+	 * @param longitude
+	 *            the longitude of the node.
+	 * @param name
+	 *            the name of the node (may be null).
+	 * @param houseNumber
+	 *            the house number of the node (may be null).
+	 * @param elevation
+	 *            the elevation of the node (may be null).
+	 * @param tagIds
+	 *            the IDs of all tags of the node.
+	 */
+	CachedNode(byte layer, int latitude, int longitude, String name, String houseNumber,
+			String elevation, int[] tagIds) {
+		this.layer = layer;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.name = name;
+		this.houseNumber = houseNumber;
+		this.elevation = elevation;
+		this.tagIds = tagIds;
+	}
+}
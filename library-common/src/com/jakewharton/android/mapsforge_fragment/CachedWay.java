@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * An immutable container for a decoded way, stored in the {@link MapDatabaseBlockCache}. The way
+ * nodes are stored with absolute coordinates.
+ */
+class CachedWay {
+	final int[][] innerWays;
+	final int[] labelPosition;
+	final byte layer;
+	final String name;
+	final int[] nodes;
+	final byte numberOfRelevantTags;
+	final String ref;
+	final byte tagBitmap;
+	final int[] tagIds;
+	final int tileBitmask;
+
+	/**
+	 * Creates a new cached way.
+	 * 
+	 * @param tileBitmask
+	 *            the bitmask of the subtiles which are covered by the way.
+	 * @param layer
+	 *            the layer of the way.
+	 * @param numberOfRelevantTags
+	 *            the number of relevant tags of the way.
+	 * @param name
+	 *            the name of the way (may be null).
+	 * @param ref
+	 *            the reference of the way (may be null).
+	 * @param labelPosition
+	 *            the position of the area label (may be null).
+	 * @param tagIds
+	 *            the IDs of all tags of the way.
+	 * @param tagBitmap
+	 *            the tag bitmap of the way.
+	 * @param nodes
+	 *            the coordinates of the way nodes.
+	 * @param innerWays
+	 *            the coordinates of the inner ways (may be null).
+	 */
+	CachedWay(int tileBitmask, byte layer, byte numberOfRelevantTags, String name, String ref,
+			int[] labelPosition, int[] tagIds, byte tagBitmap, int[] nodes, int[][] innerWays) {
+		this.tileBitmask = tileBitmask;
+		this.layer = layer;
+		this.numberOfRelevantTags = numberOfRelevantTags;
+		this.name = name;
+		this.ref = ref;
+		this.labelPosition = labelPosition;
+		this.tagIds = tagIds;
+		this.tagBitmap = tagBitmap;
+		this.nodes = nodes;
+		this.innerWays = innerWays;
+	}
+}
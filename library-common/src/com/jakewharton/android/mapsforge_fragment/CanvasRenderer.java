@@ -21,6 +21,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.Paint;
+import android.graphics.PaintFlagsDrawFilter;
 import android.graphics.Path;
 import android.graphics.Typeface;
 
@@ -37,7 +38,8 @@ class CanvasRenderer extends DatabaseMapGenerator {
 	private int arrayListIndex;
 	private Paint bitmapFilterPaint;
 	private Canvas canvas;
-	private float[][] coordinates;
+	private float[] coordinates;
+	private PaintFlagsDrawFilter draftFilter;
 	private Path path;
 	private StringBuilder stringBuilder;
 	private Matrix symbolMatrix;
@@ -125,45 +127,41 @@ class CanvasRenderer extends DatabaseMapGenerator {
 	}
 
 	@Override
-	void drawWays(List<List<List<ShapePaintContainer>>> drawWays, byte layers,
-			byte levelsPerLayer) {
-		List<List<ShapePaintContainer>> shapePaintContainers;
-		CircleContainer circleContainer;
-		WayContainer complexWayContainer;
-		ShapePaintContainer shapePaintContainer;
-		List<ShapePaintContainer> wayList;
-		for (byte currentLayer = 0; currentLayer < layers; ++currentLayer) {
-			shapePaintContainers = drawWays.get(currentLayer);
-			for (byte currentLevel = 0; currentLevel < levelsPerLayer; ++currentLevel) {
-				wayList = shapePaintContainers.get(currentLevel);
-				for (this.arrayListIndex = wayList.size() - 1; this.arrayListIndex >= 0; --this.arrayListIndex) {
-					shapePaintContainer = wayList.get(this.arrayListIndex);
-					this.path.rewind();
-					switch (shapePaintContainer.shapeContainer.getShapeType()) {
-						case CIRCLE:
-							circleContainer = (CircleContainer) shapePaintContainer.shapeContainer;
-							this.path.addCircle(circleContainer.x, circleContainer.y,
-									circleContainer.radius, Path.Direction.CCW);
-							break;
-						case WAY:
-							complexWayContainer = (WayContainer) shapePaintContainer.shapeContainer;
-							this.coordinates = complexWayContainer.coordinates;
-							for (int j = 0; j < this.coordinates.length; ++j) {
-								// make sure that the coordinates sequence is not empty
-								if (this.coordinates[j].length > 2) {
-									this.path.moveTo(this.coordinates[j][0],
-											this.coordinates[j][1]);
-									for (int i = 2; i < this.coordinates[j].length; i += 2) {
-										this.path.lineTo(this.coordinates[j][i],
-												this.coordinates[j][i + 1]);
-									}
-								}
+	void drawWays(DisplayList displayList) {
+		GeometryArena geometryArena = displayList.geometryArena;
+		int firstRing;
+		int lastRing;
+		int ringLength;
+		int ringOffset;
+		this.coordinates = geometryArena.coordinates;
+		for (int command = 0; command < displayList.size(); ++command) {
+			this.path.rewind();
+			firstRing = displayList.getFirstRing(command);
+			switch (displayList.getOpcode(command)) {
+				case DisplayList.OPCODE_CIRCLE:
+					ringOffset = geometryArena.getRingOffset(firstRing);
+					this.path.addCircle(this.coordinates[ringOffset],
+							this.coordinates[ringOffset + 1], this.coordinates[ringOffset + 2],
+							Path.Direction.CCW);
+					break;
+				case DisplayList.OPCODE_PATH:
+					lastRing = firstRing + displayList.getNumberOfRings(command);
+					for (int j = firstRing; j < lastRing; ++j) {
+						ringOffset = geometryArena.getRingOffset(j);
+						ringLength = geometryArena.getRingLength(j);
+						// make sure that the coordinates sequence is not empty
+						if (ringLength > 2) {
+							this.path.moveTo(this.coordinates[ringOffset],
+									this.coordinates[ringOffset + 1]);
+							for (int i = 2; i < ringLength; i += 2) {
+								this.path.lineTo(this.coordinates[ringOffset + i],
+										this.coordinates[ringOffset + i + 1]);
 							}
-							break;
+						}
 					}
-					this.canvas.drawPath(this.path, shapePaintContainer.paint);
-				}
+					break;
 			}
+			this.canvas.drawPath(this.path, displayList.getPaint(command));
 		}
 	}
 
@@ -187,11 +185,22 @@ class CanvasRenderer extends DatabaseMapGenerator {
 		// do nothing
 	}
 
+	@Override
+	void setAntiAliasing(boolean antiAliasing) {
+		this.canvas.setDrawFilter(antiAliasing ? null : this.draftFilter);
+	}
+
+	@Override
+	void setRenderBitmap(Bitmap bitmap) {
+		this.canvas.setBitmap(bitmap);
+	}
+
 	@Override
 	void setupRenderer(Bitmap bitmap) {
 		this.canvas = new Canvas(bitmap);
 		this.symbolMatrix = new Matrix();
 		this.bitmapFilterPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+		this.draftFilter = new PaintFlagsDrawFilter(Paint.ANTI_ALIAS_FLAG, 0);
 		this.tileFrame = new float[] { 0, 0, 0, Tile.TILE_SIZE, 0, Tile.TILE_SIZE,
 				Tile.TILE_SIZE, Tile.TILE_SIZE, Tile.TILE_SIZE, Tile.TILE_SIZE, Tile.TILE_SIZE,
 				0 };
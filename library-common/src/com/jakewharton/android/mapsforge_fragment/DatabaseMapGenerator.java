@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import android.graphics.Bitmap;
+import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.graphics.Paint;
@@ -43,214 +44,16 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	private static final byte DEFAULT_LAYER = 5;
 	private static final byte DEFAULT_ZOOM_LEVEL = 13;
 	private static final byte LAYERS = 11;
-	private static final byte MIN_ZOOM_LEVEL_AREA_NAMES = 17;
-	private static final byte MIN_ZOOM_LEVEL_WAY_NAMES = 15;
 
-	private static final Paint PAINT_AERIALWAY = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_AEROWAY_AERODROME_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_AERODROME_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_APRON_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_RUNWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_RUNWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_TAXIWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_TAXIWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_TERMINAL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AEROWAY_TERMINAL_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_AMENITY_GRAVE_YARD_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AMENITY_HOSPITAL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AMENITY_PARKING_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AMENITY_PARKING_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AMENITY_SCHOOL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_AMENITY_SCHOOL_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_BARRIER_BOLLARD = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BARRIER_WALL = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9 = new Paint(
-			Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BOUNDARY_NATIONAL_PARK = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_BUILDING_ROOF_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BUILDING_YES_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_BUILDING_YES_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_HIGHWAY_BRIDLEWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_BRIDLEWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_BYWAY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_CONSTRUCTION = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_CYCLEWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_CYCLEWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_FOOTWAY_AREA_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_FOOTWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_FOOTWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_LIVING_STREET1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_LIVING_STREET2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_MOTORWAY_LINK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_MOTORWAY_LINK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_MOTORWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_MOTORWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PATH1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PATH2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PEDESTRIAN1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PEDESTRIAN2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PRIMARY_LINK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PRIMARY_LINK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PRIMARY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_PRIMARY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_RESIDENTIAL1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_RESIDENTIAL2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_ROAD1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_ROAD2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SECONDARY_LINK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SECONDARY_LINK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SECONDARY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SECONDARY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SERVICE_AREA_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SERVICE_AREA_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SERVICE1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_SERVICE2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_STEPS1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_STEPS2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TERTIARY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TERTIARY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRACK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRACK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRUNK_LINK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRUNK_LINK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRUNK1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TRUNK2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_TUNNEL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_UNCLASSIFIED1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HIGHWAY_UNCLASSIFIED2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_HISTORIC_CIRCLE_INNER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_HISTORIC_CIRCLE_OUTER = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_LANDUSE_ALLOTMENTS_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_ALLOTMENTS_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_BASIN_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_CEMETERY_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_CEMETERY_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_COMMERCIAL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_COMMERCIAL_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_CONSTRUCTION_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_FARM_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_FOREST_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_GRASS_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_GRASS_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_INDUSTRIAL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_MILITARY_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_RESIDENTIAL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LANDUSE_RETAIL_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_LEISURE_COMMON_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LEISURE_COMMON_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LEISURE_NATURE_RESERVE_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LEISURE_NATURE_RESERVE_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LEISURE_STADIUM_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_LEISURE_STADIUM_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_MAN_MADE_PIER = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_MILITARY_BARRACKS_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_MILITARY_NAVAL_BASE_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_MILITARY_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_NAME_BLACK_HUGE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_LARGE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_LARGER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_NORMAL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_SMALL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_TINY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLACK_TINY_CENTER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_BLUE_TINY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_PURPLE_TINY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_RED_NORMAL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_RED_SMALLER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_RED_TINY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_HUGE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_LARGE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_LARGER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_NORMAL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_SMALL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_SMALLER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_TINY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NAME_WHITE_STROKE_TINY_CENTER = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_NATURAL_BEACH_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_COASTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_COASTLINE_INVALID = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_COASTLINE_VALID = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_GLACIER_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_GLACIER_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_HEATH_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_LAND_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_MARSH_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_WATER_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_NATURAL_WOOD_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_ADVANCED = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_EASY = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_EXPERT = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_FREERIDE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_DOWNHILL_NOVICE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_PISTE_TYPE_NORDIC = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_RAILWAY_CIRCLE_INNER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_CIRCLE_OUTER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_LIGHT_RAIL1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_LIGHT_RAIL2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_RAIL_TUNNEL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_RAIL1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_RAIL2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_STATION_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_STATION_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_SUBWAY_TUNNEL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_SUBWAY1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_SUBWAY2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_TRAM1 = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_RAILWAY_TRAM2 = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_ROUTE_FERRY = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_SPORT_SHOOTING_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_SPORT_SHOOTING_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_SPORT_SWIMMING_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_SPORT_SWIMMING_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_SPORT_TENNIS_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_SPORT_TENNIS_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_TOURISM_ATTRACTION_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_TOURISM_ZOO_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_TOURISM_ZOO_OUTLINE = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_WATER_TILE_HIGHTLIGHT = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_WATERWAY_CANAL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_WATERWAY_RIVER = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_WATERWAY_RIVERBANK_FILL = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_WATERWAY_STREAM = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-	private static final Paint PAINT_WOOD_CONIFEROUS_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_WOOD_DECIDUOUS_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
-	private static final Paint PAINT_WOOD_MIXED_PATTERN = new Paint(Paint.ANTI_ALIAS_FLAG);
+	/**
+	 * Enables the debug log of the way points before and after the simplification and of the time
+	 * needed to draw the ways of each tile.
+	 */
+	private static final boolean LOG_SIMPLIFICATION = false;
 
+	private static final int MAP_OBJECT_BUFFERS = 2;
+	private static final byte MIN_ZOOM_LEVEL_AREA_NAMES = 17;
+	private static final byte MIN_ZOOM_LEVEL_WAY_NAMES = 15;
 	private static final byte TEXT_SCALE_HUGE = 25;
 	private static final byte TEXT_SCALE_LARGE = 15;
 	private static final byte TEXT_SCALE_LARGER = 20;
@@ -263,53 +66,286 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	private static final byte ZOOM_MAX = 21;
 
 	/**
-	 * Returns a WayContainer for the given coastline segment.
+	 * Flags of the levels whose ways are drawn in a draft, indexed by level.
+	 */
+	private static final boolean[] DRAFT_LEVELS = getDraftLevels();
+
+	/**
+	 * Returns the levels whose ways are drawn in a draft. A draft contains all areas, waterways,
+	 * railways and highways for motorized traffic, but no paths, barriers, boundaries or other
+	 * minor ways.
 	 * 
-	 * @param coastline
-	 *            the coordinates of the coastline segment.
-	 * @return a WayContainer.
+	 * @return the flags of the draft levels, indexed by level.
 	 */
-	private static WayContainer getWayContainer(float[] coastline) {
-		float[][] wayCoordinates = new float[1][coastline.length];
-		System.arraycopy(coastline, 0, wayCoordinates[0], 0, coastline.length);
-		return new WayContainer(wayCoordinates);
+	private static boolean[] getDraftLevels() {
+		boolean[] draftLevels = new boolean[LayerIds.LEVELS_PER_LAYER];
+		for (int level = 0; level < draftLevels.length; ++level) {
+			draftLevels[level] = level <= LayerIds.MAN_MADE$PIER
+					|| (level >= LayerIds.HIGHWAY$UNCLASSIFIED1
+							&& level <= LayerIds.HIGHWAY$MOTORWAY1)
+					|| (level >= LayerIds.HIGHWAY$UNCLASSIFIED2
+							&& level <= LayerIds.HIGHWAY$MOTORWAY2)
+					|| level == LayerIds.RAILWAY$RAIL;
+		}
+		return draftLevels;
 	}
 
 	private List<PointTextContainer> areaLabels;
 	private float[] areaNamePositions;
 	private CoastlineAlgorithm coastlineAlgorithm;
-	private float[][] coordinates;
+	private float[] coordinates;
 	private MapGeneratorJob currentJob;
 	private Tile currentTile;
 	private float currentX;
 	private float currentY;
 	private MapDatabase database;
+	private final List<MapObjectBuffer> decodedBuffers;
+	private boolean decodedBuffersClosed;
+	private int decodedWayPoints;
+	private Thread decoderThread;
 	private float diffX;
 	private float diffY;
-	private int innerWayLength;
-	private List<List<ShapePaintContainer>> innerWayList;
+	private DisplayList displayList;
+	private final List<MapObjectBuffer> freeBuffers;
+	private GeometryArena geometryArena;
 	private LabelPlacement labelPlacement;
 	private float lastTileTextScale;
 	private byte lastTileZoomLevel;
-	private List<List<ShapePaintContainer>> layer;
+	private byte layer;
+	private MapObjectBuffer[] mapObjectBuffers;
 	private MapPatterns mapPatterns;
 	private MapSymbols mapSymbols;
+	private Bitmap metatileBitmap;
+	private int metatileSize;
+	private final int[] nodeRuleMatches;
+	private final RuleTable nodeRuleTable;
 	private List<PointTextContainer> nodes;
+	private final Paint paintAerialway = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayAerodromeFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayAerodromeOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayApronFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayRunway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayRunway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayTaxiway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayTaxiway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayTerminalFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAerowayTerminalOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenityGraveYardFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenityHospitalFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenityParkingFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenityParkingOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenitySchoolFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintAmenitySchoolOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBarrierBollard = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBarrierWall = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel10 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel4 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel6 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel8 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryAdministrativeAdminLevel9 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBoundaryNationalPark = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBuildingRoofOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBuildingYesFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintBuildingYesOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayBridleway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayBridleway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayBridlewayBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayByway = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayConstruction = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayConstructionBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayCycleway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayCycleway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayCyclewayBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayFootway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayFootway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayFootwayBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayFootwayAreaFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayFootwayAreaOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayLivingStreet1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayLivingStreet2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayLivingStreetBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorwayBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorwayLink1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorwayLink2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayMotorwayLinkBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPath1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPath2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPathBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPedestrian1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPedestrian2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPedestrianBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPedestrianAreaFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPedestrianAreaOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimary1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimary2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimaryBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimaryLink1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimaryLink2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayPrimaryLinkBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayResidential1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayResidential2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayResidentialBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayRoad1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayRoad2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayRoadBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondary1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondary2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondaryBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondaryLink1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondaryLink2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySecondaryLinkBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayService1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayService2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayServiceBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayServiceAreaFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayServiceAreaOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySteps1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwaySteps2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayStepsBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTertiary1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTertiary2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTertiaryBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrack1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrack2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrackBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunk1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunk2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunkBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunkLink1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunkLink2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTrunkLinkBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayTunnel = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayUnclassified1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayUnclassified2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHighwayUnclassifiedBridge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHistoricCircleInner = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintHistoricCircleOuter = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseAllotmentsFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseAllotmentsOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseBasinFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseCemeteryFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseCemeteryPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseCommercialFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseCommercialOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseConstructionFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseFarmFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseForestFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseGrassFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseGrassOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseIndustrialFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseMilitaryFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseResidentialFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLanduseRetailFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureCommonFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureCommonOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureNatureReserveOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureNatureReservePattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureStadiumFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintLeisureStadiumOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintManMadePier = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintMilitaryBarracksFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintMilitaryNavalBaseFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintMilitaryPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackHuge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackLarge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackLarger = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackNormal = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackSmall = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackTiny = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlackTinyCenter = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameBlueTiny = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNamePurpleTiny = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameRedNormal = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameRedSmaller = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameRedTiny = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeHuge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeLarge = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeLarger = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeNormal = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeSmall = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeSmaller = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeTiny = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNameWhiteStrokeTinyCenter = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalBeachFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalCoastline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalCoastlineInvalid = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalCoastlineValid = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalGlacierFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalGlacierOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalHeathFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalLandFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalMarshPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalWaterFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintNaturalWoodFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillAdvanced = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillEasy = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillExpert = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillFreeride = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillIntermediate = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeDownhillNovice = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintPisteTypeNordic = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayCircleInner = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayCircleOuter = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayLightRail1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayLightRail2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayRail1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayRail2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayRailTunnel = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayStationFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayStationOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwaySubway1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwaySubway2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwaySubwayTunnel = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayTram1 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRailwayTram2 = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintRouteFerry = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportShootingFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportShootingOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportSwimmingFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportSwimmingOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportTennisFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintSportTennisOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final PaintTable paintTable;
+	private final Paint paintTourismAttractionFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintTourismZooFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintTourismZooOutline = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWaterTileHightlight = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWaterwayCanal = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWaterwayRiver = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWaterwayRiverbankFill = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWaterwayStream = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWoodConiferousPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWoodDeciduousPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private final Paint paintWoodMixedPattern = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private boolean pipelined;
 	private List<SymbolContainer> pointSymbols;
 	private float previousX;
 	private float previousY;
+	private int projectedWayPoints;
+	private MapObjectBuffer rasterBuffer;
+	private volatile int requestedMetatileSize;
 	private double segmentLengthInPixel;
-	private ShapeContainer shapeContainer;
+	private int shapeFirstRing;
+	private int shapeNumberOfRings;
+	private int shapeOpcode;
 	private int skipPixels;
+	private Canvas sliceCanvas;
+	private boolean subPixelRing;
 	private SymbolContainer symbolContainer;
 	private final TagIDsNodes tagIDsNodes;
 	private final TagIDsWays tagIDsWays;
 	private Bitmap tileBitmap;
 	private Tile tileForCoastlineAlgorithm;
-	private float[][] waterTileCoordinates;
+	private float[] waterTileCoordinates;
+	private int wayLength;
 	private float[] wayNamePath;
 	private List<WayTextContainer> wayNames;
-	private List<List<List<ShapePaintContainer>>> ways;
+	private final int[] wayRuleMatches;
+	private final RuleTable wayRuleTable;
+	private int wayOffset;
 	private List<SymbolContainer> waySymbols;
 
 	/**
@@ -319,39 +355,44 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		super();
 		this.tagIDsNodes = new TagIDsNodes();
 		this.tagIDsWays = new TagIDsWays();
+		this.nodeRuleTable = new RuleTable(NodeRules.RULES, NodeRules.NUMBER_OF_CLASSES);
+		this.nodeRuleMatches = new int[NodeRules.NUMBER_OF_CLASSES];
+		this.wayRuleTable = new RuleTable(WayRules.RULES, WayRules.NUMBER_OF_CLASSES);
+		this.wayRuleMatches = new int[WayRules.NUMBER_OF_CLASSES];
+		this.requestedMetatileSize = 1;
+		this.decodedBuffers = new ArrayList<MapObjectBuffer>(MAP_OBJECT_BUFFERS);
+		this.freeBuffers = new ArrayList<MapObjectBuffer>(MAP_OBJECT_BUFFERS);
+		this.paintTable = new PaintTable();
 	}
 
 	@Override
 	public void onInvalidCoastlineSegment(float[] coastline) {
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.NATURAL$COASTLINE).add(
-				new ShapePaintContainer(getWayContainer(coastline), PAINT_NATURAL_COASTLINE_INVALID));
+		addPolygon(LayerIds.NATURAL$COASTLINE, this.paintNaturalCoastlineInvalid,
+				copyRing(coastline));
 	}
 
 	@Override
 	public void onIslandPolygon(float[] coastline) {
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.NATURAL$LAND).add(
-				new ShapePaintContainer(getWayContainer(coastline), PAINT_NATURAL_LAND_FILL));
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.NATURAL$COASTLINE).add(
-				new ShapePaintContainer(getWayContainer(coastline), PAINT_NATURAL_COASTLINE));
+		int island = copyRing(coastline);
+		addPolygon(LayerIds.NATURAL$LAND, this.paintNaturalLandFill, island);
+		addPolygon(LayerIds.NATURAL$COASTLINE, this.paintNaturalCoastline, island);
 	}
 
 	@Override
 	public void onValidCoastlineSegment(float[] coastline) {
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.NATURAL$COASTLINE).add(
-				new ShapePaintContainer(getWayContainer(coastline), PAINT_NATURAL_COASTLINE_VALID));
+		addPolygon(LayerIds.NATURAL$COASTLINE, this.paintNaturalCoastlineValid,
+				copyRing(coastline));
 	}
 
 	@Override
 	public void onWaterPolygon(float[] coastline) {
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.SEA_AREAS).add(
-				new ShapePaintContainer(getWayContainer(coastline), PAINT_NATURAL_WATER_FILL));
+		addPolygon(LayerIds.SEA_AREAS, this.paintNaturalWaterFill, copyRing(coastline));
 	}
 
 	@Override
 	public void onWaterTile() {
-		this.ways.get(DEFAULT_LAYER).get(LayerIds.SEA_AREAS).add(
-				new ShapePaintContainer(new WayContainer(this.waterTileCoordinates),
-						PAINT_NATURAL_WATER_FILL));
+		addPolygon(LayerIds.SEA_AREAS, this.paintNaturalWaterFill,
+				copyRing(this.waterTileCoordinates));
 	}
 
 	/**
@@ -377,14 +418,14 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 			// choose the correct text paint
 			if (nameColor == AREA_NAME_BLUE) {
 				this.areaLabels.add(new PointTextContainer(wayName, this.areaNamePositions[0],
-						this.areaNamePositions[1] - nameOffset, PAINT_NAME_BLUE_TINY,
-						PAINT_NAME_WHITE_STROKE_TINY));
+						this.areaNamePositions[1] - nameOffset, this.paintNameBlueTiny,
+						this.paintNameWhiteStrokeTiny));
 			} else if (nameColor == AREA_NAME_BLACK) {
 				this.areaLabels.add(new PointTextContainer(wayName, this.areaNamePositions[0],
-						this.areaNamePositions[1] - nameOffset, PAINT_NAME_BLACK_LARGE));
+						this.areaNamePositions[1] - nameOffset, this.paintNameBlackLarge));
 			} else if (nameColor == AREA_NAME_RED) {
 				this.areaLabels.add(new PointTextContainer(wayName, this.areaNamePositions[0],
-						this.areaNamePositions[1] - nameOffset, PAINT_NAME_RED_TINY));
+						this.areaNamePositions[1] - nameOffset, this.paintNameRedTiny));
 			}
 		}
 	}
@@ -408,6 +449,20 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 				- (symbolBitmap.getHeight() >> 1)));
 	}
 
+	/**
+	 * Adds a single ring with the given paint to the given level of the default layer.
+	 * 
+	 * @param level
+	 *            the level within the default layer.
+	 * @param paint
+	 *            the paint for the ring.
+	 * @param ring
+	 *            the index of the ring in the geometry of the current job.
+	 */
+	private void addPolygon(byte level, Paint paint, int ring) {
+		this.displayList.add(DEFAULT_LAYER, level, DisplayList.OPCODE_PATH, paint, ring, 1);
+	}
+
 	private SymbolContainer addPOISymbol(float x, float y, Bitmap symbolBitmap) {
 		if (symbolBitmap == null) {
 			return null;
@@ -419,6 +474,19 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		return this.symbolContainer;
 	}
 
+	/**
+	 * Adds the current shape with the given paint to the given level of the current layer.
+	 * 
+	 * @param level
+	 *            the level within the layer.
+	 * @param paint
+	 *            the paint for the shape.
+	 */
+	private void addShape(byte level, Paint paint) {
+		this.displayList.add(this.layer, level, this.shapeOpcode, paint, this.shapeFirstRing,
+				this.shapeNumberOfRings);
+	}
+
 	/**
 	 * Renders the name for the current way.
 	 * 
@@ -429,21 +497,21 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 */
 	private void addWayName(String wayName, Paint outline) {
 		// calculate the way name length plus some margin of safety
-		float wayNameWidth = PAINT_NAME_BLACK_TINY_CENTER.measureText(wayName) + 20;
+		float wayNameWidth = this.paintNameBlackTinyCenter.measureText(wayName) + 20;
 
 		// flag if the current way name has been rendered at least once
 		boolean wayNameRendered = false;
 		this.skipPixels = 0;
 
 		// get the first way point coordinates
-		this.previousX = this.coordinates[0][0];
-		this.previousY = this.coordinates[0][1];
+		this.previousX = this.coordinates[this.wayOffset];
+		this.previousY = this.coordinates[this.wayOffset + 1];
 
 		// find way segments long enough to draw the way name on them
-		for (int i = 2; i < this.coordinates[0].length; i += 2) {
+		for (int i = 2; i < this.wayLength; i += 2) {
 			// get the current way point coordinates
-			this.currentX = this.coordinates[0][i];
-			this.currentY = this.coordinates[0][i + 1];
+			this.currentX = this.coordinates[this.wayOffset + i];
+			this.currentY = this.coordinates[this.wayOffset + i + 1];
 
 			// calculate the length of the current segment (Euclidian distance)
 			this.diffX = this.currentX - this.previousX;
@@ -467,11 +535,11 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 					this.wayNamePath[3] = this.previousY;
 				}
 				this.wayNames.add(new WayTextContainer(this.wayNamePath, wayName,
-						PAINT_NAME_BLACK_TINY_CENTER));
+						this.paintNameBlackTinyCenter));
 
 				if (outline != null) {
 					// draw the outline of the way name with the correct color
-					Paint paintOutline = new Paint(PAINT_NAME_WHITE_STROKE_TINY_CENTER);
+					Paint paintOutline = new Paint(this.paintNameWhiteStrokeTinyCenter);
 					paintOutline.setColor(outline.getColor());
 					this.wayNames.add(new WayTextContainer(this.wayNamePath, wayName, paintOutline));
 				}
@@ -489,36 +557,38 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		// if no segment is long enough, check if the name can be drawn on the whole way
 		if (!wayNameRendered && getWayLengthInPixel() > wayNameWidth) {
+			float[] wayNameCoordinates = copyWayCoordinates();
+
 			// check to prevent inverted way names
-			if (this.coordinates[0][0] > this.coordinates[0][this.coordinates[0].length - 2]) {
+			if (wayNameCoordinates[0] > wayNameCoordinates[this.wayLength - 2]) {
 				// reverse the way coordinates
 				int offsetLeft = 0;
-				int offsetRight = this.coordinates[0].length - 2;
+				int offsetRight = this.wayLength - 2;
 				float exchangeValue;
 				while (offsetLeft < offsetRight) {
 					// exchange the way x coordinates
-					exchangeValue = this.coordinates[0][offsetLeft];
-					this.coordinates[0][offsetLeft] = this.coordinates[0][offsetRight];
-					this.coordinates[0][offsetRight] = exchangeValue;
+					exchangeValue = wayNameCoordinates[offsetLeft];
+					wayNameCoordinates[offsetLeft] = wayNameCoordinates[offsetRight];
+					wayNameCoordinates[offsetRight] = exchangeValue;
 
 					// exchange the way y coordinates
-					exchangeValue = this.coordinates[0][offsetLeft + 1];
-					this.coordinates[0][offsetLeft + 1] = this.coordinates[0][offsetRight + 1];
-					this.coordinates[0][offsetRight + 1] = exchangeValue;
+					exchangeValue = wayNameCoordinates[offsetLeft + 1];
+					wayNameCoordinates[offsetLeft + 1] = wayNameCoordinates[offsetRight + 1];
+					wayNameCoordinates[offsetRight + 1] = exchangeValue;
 
 					// move the pointers to the next position;
 					offsetLeft += 2;
 					offsetRight -= 2;
 				}
 			}
-			this.wayNames.add(new WayTextContainer(this.coordinates[0], wayName,
-					PAINT_NAME_BLACK_TINY_CENTER));
+			this.wayNames.add(new WayTextContainer(wayNameCoordinates, wayName,
+					this.paintNameBlackTinyCenter));
 
 			if (outline != null) {
 				// draw the outline of the way name with the correct color
-				Paint paintOutline = new Paint(PAINT_NAME_WHITE_STROKE_TINY_CENTER);
+				Paint paintOutline = new Paint(this.paintNameWhiteStrokeTinyCenter);
 				paintOutline.setColor(outline.getColor());
-				this.wayNames.add(new WayTextContainer(this.coordinates[0], wayName, paintOutline));
+				this.wayNames.add(new WayTextContainer(wayNameCoordinates, wayName, paintOutline));
 			}
 		}
 	}
@@ -551,17 +621,17 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		this.skipPixels = segmentSafetyDistance;
 
 		// get the first way point coordinates
-		this.previousX = this.coordinates[0][0];
-		this.previousY = this.coordinates[0][1];
+		this.previousX = this.coordinates[this.wayOffset];
+		this.previousY = this.coordinates[this.wayOffset + 1];
 
 		// draw the symbol on each way segment
 		float segmentLengthRemaining;
 		float segmentSkipPercentage;
 		float symbolAngle;
-		for (int i = 2; i < this.coordinates[0].length; i += 2) {
+		for (int i = 2; i < this.wayLength; i += 2) {
 			// get the current way point coordinates
-			this.currentX = this.coordinates[0][i];
-			this.currentY = this.coordinates[0][i + 1];
+			this.currentX = this.coordinates[this.wayOffset + i];
+			this.currentY = this.coordinates[this.wayOffset + i + 1];
 
 			// calculate the length of the current segment (Euclidian distance)
 			this.diffX = this.currentX - this.previousX;
@@ -611,20 +681,20 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 	private float[] calculateCenterOfBoundingBox() {
 		// calculate the minimal bounding box
-		float bboxLongitude1 = this.coordinates[0][0];
-		float bboxLongitude2 = this.coordinates[0][0];
-		float bboxLatitude1 = this.coordinates[0][1];
-		float bboxLatitude2 = this.coordinates[0][1];
-		for (int i = 2; i < this.coordinates[0].length; i += 2) {
-			if (this.coordinates[0][i] < bboxLongitude1) {
-				bboxLongitude1 = this.coordinates[0][i];
-			} else if (this.coordinates[0][i] > bboxLongitude2) {
-				bboxLongitude2 = this.coordinates[0][i];
+		float bboxLongitude1 = this.coordinates[this.wayOffset];
+		float bboxLongitude2 = this.coordinates[this.wayOffset];
+		float bboxLatitude1 = this.coordinates[this.wayOffset + 1];
+		float bboxLatitude2 = this.coordinates[this.wayOffset + 1];
+		for (int i = 2; i < this.wayLength; i += 2) {
+			if (this.coordinates[this.wayOffset + i] < bboxLongitude1) {
+				bboxLongitude1 = this.coordinates[this.wayOffset + i];
+			} else if (this.coordinates[this.wayOffset + i] > bboxLongitude2) {
+				bboxLongitude2 = this.coordinates[this.wayOffset + i];
 			}
-			if (this.coordinates[0][i + 1] > bboxLatitude1) {
-				bboxLatitude1 = this.coordinates[0][i + 1];
-			} else if (this.coordinates[0][i + 1] < bboxLatitude2) {
-				bboxLatitude2 = this.coordinates[0][i + 1];
+			if (this.coordinates[this.wayOffset + i + 1] > bboxLatitude1) {
+				bboxLatitude1 = this.coordinates[this.wayOffset + i + 1];
+			} else if (this.coordinates[this.wayOffset + i + 1] < bboxLatitude2) {
+				bboxLatitude2 = this.coordinates[this.wayOffset + i + 1];
 			}
 		}
 
@@ -632,6 +702,327 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		return new float[] { (bboxLongitude1 + bboxLongitude2) / 2, (bboxLatitude1 + bboxLatitude2) / 2 };
 	}
 
+	/**
+	 * Copies the given coordinates into the geometry of the current job.
+	 * 
+	 * @param ringCoordinates
+	 *            the coordinates of a coastline segment or polygon.
+	 * @return the index of the new ring.
+	 */
+	private int copyRing(float[] ringCoordinates) {
+		int ring = this.geometryArena.addRing(ringCoordinates.length);
+		System.arraycopy(ringCoordinates, 0, this.geometryArena.coordinates,
+				this.geometryArena.getRingOffset(ring), ringCoordinates.length);
+		return ring;
+	}
+
+	/**
+	 * Copies the coordinates of the current way into a new array for objects which outlive the
+	 * geometry of the current job or modify the coordinates.
+	 * 
+	 * @return the copied way coordinates.
+	 */
+	private float[] copyWayCoordinates() {
+		float[] wayCoordinates = new float[this.wayLength];
+		System.arraycopy(this.coordinates, this.wayOffset, wayCoordinates, 0, this.wayLength);
+		return wayCoordinates;
+	}
+
+	/**
+	 * Reads the map objects of the given job from the database, projects them onto the tile and places
+	 * the labels. This is the first stage of a job, it does not draw anything.
+	 * 
+	 * @param mapGeneratorJob
+	 *            the job whose map objects should be decoded.
+	 * @param buffer
+	 *            the empty buffer for the map objects.
+	 * @return true if all map objects were decoded, false if the job was cancelled.
+	 */
+	private boolean decodeJob(MapGeneratorJob mapGeneratorJob, MapObjectBuffer buffer) {
+		this.currentJob = mapGeneratorJob;
+		Tile jobTile = mapGeneratorJob.tile;
+
+		// the requested size may change at any time, so it is read only once per job
+		int requestedSize = this.requestedMetatileSize;
+
+		// a metatile never exceeds the number of tiles at the zoom level of the job
+		int newMetatileSize = (int) Math.min(requestedSize, 1L << jobTile.zoomLevel);
+		if (mapGeneratorJob.draft || mapGeneratorJob.tileContent == TileContent.LABELS) {
+			// neither drafts nor labels are cached, so the other tiles of a metatile would be wasted
+			newMetatileSize = 1;
+		}
+		if (newMetatileSize != this.metatileSize) {
+			resizeMetatile(newMetatileSize);
+		}
+
+		Tile queryTile;
+		Tile labelTile;
+		if (this.metatileSize == 1) {
+			this.currentTile = jobTile;
+			queryTile = jobTile;
+			labelTile = jobTile;
+		} else {
+			// all coordinates are relative to the upper left tile of the metatile
+			long metatileX = jobTile.x / this.metatileSize;
+			long metatileY = jobTile.y / this.metatileSize;
+			this.currentTile = new Tile(metatileX * this.metatileSize, metatileY
+					* this.metatileSize, jobTile.zoomLevel);
+
+			// the area of a metatile is the area of a single tile at a lower zoom level
+			queryTile = new Tile(metatileX, metatileY, (byte) (jobTile.zoomLevel - Integer
+					.numberOfTrailingZeros(this.metatileSize)));
+
+			// labels are placed on the grid of the metatiles
+			labelTile = new Tile(metatileX, metatileY, jobTile.zoomLevel);
+		}
+
+		// check if the zoom level or the text scale has changed, base tiles contain no text
+		boolean textScaleChanged = mapGeneratorJob.tileContent != TileContent.BASE
+				&& mapGeneratorJob.textScale != this.lastTileTextScale;
+		if (this.currentTile.zoomLevel != this.lastTileZoomLevel || textScaleChanged) {
+			if (this.pipelined) {
+				// the paints are still used by the map objects in the other buffer
+				waitForDrawnBuffers();
+			}
+			if (this.currentTile.zoomLevel != this.lastTileZoomLevel) {
+				setPaintZoomLevel(this.currentTile.zoomLevel);
+				this.lastTileZoomLevel = this.currentTile.zoomLevel;
+			}
+			if (textScaleChanged) {
+				setPaintTextSize(mapGeneratorJob.textScale);
+				this.lastTileTextScale = mapGeneratorJob.textScale;
+			}
+		}
+
+		// all render callbacks add their map objects to the given buffer
+		buffer.job = mapGeneratorJob;
+		buffer.tile = this.currentTile;
+		buffer.metatileSize = this.metatileSize;
+		buffer.requestedMetatileSize = requestedSize;
+		this.displayList = buffer.displayList;
+		this.geometryArena = buffer.displayList.geometryArena;
+		this.wayNames = buffer.wayNames;
+		this.nodes = buffer.nodes;
+		this.areaLabels = buffer.areaLabels;
+		this.waySymbols = buffer.waySymbols;
+		this.pointSymbols = buffer.pointSymbols;
+		this.coastlineAlgorithm.clearCoastlineSegments();
+		this.decodedWayPoints = 0;
+		this.projectedWayPoints = 0;
+
+		// the job is checked for cancellation after each stage
+		this.database.executeQuery(queryTile, this.currentTile.zoomLevel, !mapGeneratorJob.draft
+				&& mapGeneratorJob.tileContent != TileContent.BASE
+				&& this.currentTile.zoomLevel >= MIN_ZOOM_LEVEL_WAY_NAMES, this);
+		buffer.decodedWayPoints = this.decodedWayPoints;
+		buffer.projectedWayPoints = this.projectedWayPoints;
+		if (isCurrentJobCancelled()) {
+			return false;
+		} else if (mapGeneratorJob.tileContent == TileContent.LABELS) {
+			// the labels are placed by the label layer of the MapView, no water areas are needed
+			return true;
+		}
+
+		// start the coastline algorithm for generating closed polygons
+		this.coastlineAlgorithm.setTiles(this.tileForCoastlineAlgorithm, this.currentTile);
+		this.coastlineAlgorithm.generateClosedPolygons(this);
+		if (isCurrentJobCancelled()) {
+			return false;
+		} else if (mapGeneratorJob.draft) {
+			// a draft has no labels, so the label placement is skipped
+			this.displayList.retainLevels(DRAFT_LEVELS);
+			return true;
+		} else if (mapGeneratorJob.tileContent == TileContent.BASE) {
+			// a base tile has no labels
+			return true;
+		}
+
+		this.labelPlacement.setTileSize(Tile.TILE_SIZE * this.metatileSize);
+		buffer.nodes = this.labelPlacement.placeLabels(this.nodes, this.pointSymbols,
+				this.areaLabels, labelTile);
+		return !isCurrentJobCancelled();
+	}
+
+	/**
+	 * Decodes the jobs of the MapGenerator in advance while the map objects of the previous job are
+	 * being drawn. This method runs in the decoder thread until it gets interrupted. Afterwards no
+	 * more buffers are passed to the MapGenerator thread.
+	 */
+	private void decodeJobs() {
+		try {
+			decodeJobsUntilInterrupted();
+		} finally {
+			// let the MapGenerator thread stop waiting for decoded buffers
+			synchronized (this.decodedBuffers) {
+				this.decodedBuffersClosed = true;
+				this.decodedBuffers.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Decodes the jobs of the MapGenerator until the decoder thread gets interrupted.
+	 */
+	private void decodeJobsUntilInterrupted() {
+		Thread decoder = Thread.currentThread();
+		MapObjectBuffer buffer;
+		MapGeneratorJob mapGeneratorJob;
+		while (!decoder.isInterrupted()) {
+			// wait until the map objects of one buffer have been drawn
+			synchronized (this.decodedBuffers) {
+				while (!decoder.isInterrupted() && this.freeBuffers.isEmpty()) {
+					try {
+						this.decodedBuffers.wait();
+					} catch (InterruptedException e) {
+						// restore the interrupted status
+						decoder.interrupt();
+					}
+				}
+				if (decoder.isInterrupted()) {
+					return;
+				}
+				buffer = this.freeBuffers.remove(this.freeBuffers.size() - 1);
+			}
+
+			mapGeneratorJob = takeJob();
+			if (mapGeneratorJob == null) {
+				return;
+			}
+
+			buffer.job = mapGeneratorJob;
+			if (!isJobCancelled(mapGeneratorJob) && !isTileCached(mapGeneratorJob.key)) {
+				buffer.decoded = decodeJob(mapGeneratorJob, buffer);
+			}
+
+			// pass the buffer to the MapGenerator thread for drawing
+			synchronized (this.decodedBuffers) {
+				this.decodedBuffers.add(buffer);
+				this.decodedBuffers.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Draws the decoded map objects of a job. This is the second stage of a job, it does not access
+	 * the database. The labels of a label job are passed to the MapView instead.
+	 * 
+	 * @param buffer
+	 *            the buffer with the decoded map objects.
+	 * @return true if the tile of the job was generated, false if the job was cancelled or has no
+	 *         image.
+	 */
+	private boolean drawMapObjects(MapObjectBuffer buffer) {
+		MapGeneratorJob mapGeneratorJob = buffer.job;
+		if (mapGeneratorJob.tileContent == TileContent.LABELS) {
+			// the paints are copied before the decoder thread may change them
+			putLabels(mapGeneratorJob.key, new TileLabels(buffer.tile, buffer.nodes,
+					buffer.areaLabels, buffer.pointSymbols, buffer.wayNames));
+			return false;
+		}
+
+		Bitmap renderBitmap = getRenderBitmap(buffer);
+		setRenderBitmap(renderBitmap);
+
+		// erase the render bitmap with the default color
+		renderBitmap.eraseColor(TILE_BACKGROUND);
+
+		// the ways are drawn in the order of their layer and level
+		buffer.displayList.sort();
+
+		long startTime = LOG_SIMPLIFICATION ? System.nanoTime() : 0;
+		if (mapGeneratorJob.draft) {
+			// a draft consists only of the ways, drawn without anti-aliasing
+			setAntiAliasing(false);
+			drawWays(buffer.displayList);
+			setAntiAliasing(true);
+			if (LOG_SIMPLIFICATION) {
+				logSimplification(buffer, System.nanoTime() - startTime);
+			}
+			finishMapGeneration();
+			return !isJobCancelled(mapGeneratorJob);
+		}
+
+		// draw all map objects
+		drawWays(buffer.displayList);
+		if (LOG_SIMPLIFICATION) {
+			logSimplification(buffer, System.nanoTime() - startTime);
+		}
+		if (isJobCancelled(mapGeneratorJob)) {
+			return false;
+		}
+
+		drawSymbols(buffer.waySymbols);
+		if (mapGeneratorJob.tileContent == TileContent.ALL) {
+			drawSymbols(buffer.pointSymbols);
+			drawWayNames(buffer.wayNames);
+			if (isJobCancelled(mapGeneratorJob)) {
+				return false;
+			}
+
+			drawNodes(buffer.nodes);
+			drawNodes(buffer.areaLabels);
+		}
+
+		if (buffer.metatileSize > 1) {
+			finishMapGeneration();
+			return sliceMetatile(buffer);
+		}
+
+		if (mapGeneratorJob.drawTileFrames) {
+			drawTileFrame();
+		}
+
+		if (mapGeneratorJob.drawTileCoordinates) {
+			drawTileCoordinates(buffer.tile);
+		}
+
+		finishMapGeneration();
+		return true;
+	}
+
+	/**
+	 * Returns the bitmap on which the map objects of the given buffer are drawn. A metatile bitmap
+	 * of another size gets replaced, it is released when metatiles were disabled for the job.
+	 * 
+	 * @param buffer
+	 *            the buffer whose map objects should be drawn.
+	 * @return the render bitmap.
+	 */
+	private Bitmap getRenderBitmap(MapObjectBuffer buffer) {
+		int size = buffer.metatileSize;
+		int renderSize = Tile.TILE_SIZE * size;
+		if (this.metatileBitmap != null
+				&& (buffer.requestedMetatileSize == 1 || (size > 1 && this.metatileBitmap
+						.getWidth() != renderSize))) {
+			this.metatileBitmap.recycle();
+			this.metatileBitmap = null;
+		}
+		if (size == 1) {
+			return this.tileBitmap;
+		} else if (this.metatileBitmap == null) {
+			this.metatileBitmap = Bitmap.createBitmap(renderSize, renderSize,
+					Bitmap.Config.RGB_565);
+		}
+		return this.metatileBitmap;
+	}
+
+	/**
+	 * Returns the simplification tolerance of the current way, which is the smallest tolerance of
+	 * all rule classes with a matching rule.
+	 * 
+	 * @return the simplification tolerance in pixels.
+	 */
+	private float getSimplificationTolerance() {
+		float tolerance = Float.MAX_VALUE;
+		for (int i = 0; i < WayRules.NUMBER_OF_CLASSES; ++i) {
+			if (this.wayRuleMatches[i] != RuleTable.NO_RULE
+					&& WayRules.SIMPLIFICATION_TOLERANCES[i] < tolerance) {
+				tolerance = WayRules.SIMPLIFICATION_TOLERANCES[i];
+			}
+		}
+		return tolerance == Float.MAX_VALUE ? 0 : tolerance;
+	}
+
 	/**
 	 * Calculate the length in pixel of the current way coordinates using the Euclidean distance for
 	 * each way segment.
@@ -639,12 +1030,12 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 * @return the length of the way in pixels.
 	 */
 	private double getWayLengthInPixel() {
-		this.previousX = this.coordinates[0][0];
-		this.previousY = this.coordinates[0][1];
+		this.previousX = this.coordinates[this.wayOffset];
+		this.previousY = this.coordinates[this.wayOffset + 1];
 		this.segmentLengthInPixel = 0;
-		for (int i = 2; i < this.coordinates[0].length; i += 2) {
-			this.currentX = this.coordinates[0][i];
-			this.currentY = this.coordinates[0][i + 1];
+		for (int i = 2; i < this.wayLength; i += 2) {
+			this.currentX = this.coordinates[this.wayOffset + i];
+			this.currentY = this.coordinates[this.wayOffset + i + 1];
 			this.diffX = this.currentX - this.previousX;
 			this.diffY = this.currentY - this.previousY;
 			this.segmentLengthInPixel += Math.sqrt(this.diffX * this.diffX + this.diffY * this.diffY);
@@ -658,702 +1049,812 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 * Sets the style, color and stroke parameters for all paints.
 	 */
 	private void initializePaints() {
-		PAINT_AERIALWAY.setStyle(Paint.Style.STROKE);
-		PAINT_AERIALWAY.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AERIALWAY.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_AERIALWAY.setColor(Color.rgb(32, 32, 32));
-
-		PAINT_AEROWAY_AERODROME_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AEROWAY_AERODROME_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_AERODROME_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_AERODROME_FILL.setColor(Color.rgb(229, 224, 195));
-		PAINT_AEROWAY_AERODROME_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_AERODROME_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_AERODROME_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_AERODROME_OUTLINE.setColor(Color.rgb(145, 140, 144));
-		PAINT_AEROWAY_APRON_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AEROWAY_APRON_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_APRON_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_APRON_FILL.setColor(Color.rgb(240, 240, 240));
-		PAINT_AEROWAY_RUNWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_RUNWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_RUNWAY1.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_AEROWAY_RUNWAY1.setColor(Color.rgb(0, 0, 0));
-		PAINT_AEROWAY_RUNWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_RUNWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_RUNWAY2.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_AEROWAY_RUNWAY2.setColor(Color.rgb(212, 220, 189));
-		PAINT_AEROWAY_TAXIWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_TAXIWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_TAXIWAY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_TAXIWAY1.setColor(Color.rgb(0, 0, 0));
-		PAINT_AEROWAY_TAXIWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_TAXIWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_TAXIWAY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_TAXIWAY2.setColor(Color.rgb(212, 220, 189));
-		PAINT_AEROWAY_TERMINAL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AEROWAY_TERMINAL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_TERMINAL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_TERMINAL_FILL.setColor(Color.rgb(243, 214, 182));
-		PAINT_AEROWAY_TERMINAL_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_AEROWAY_TERMINAL_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AEROWAY_TERMINAL_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AEROWAY_TERMINAL_OUTLINE.setColor(Color.rgb(115, 100, 143));
-
-		PAINT_AMENITY_GRAVE_YARD_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AMENITY_GRAVE_YARD_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_GRAVE_YARD_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_GRAVE_YARD_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_AMENITY_HOSPITAL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AMENITY_HOSPITAL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_HOSPITAL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_HOSPITAL_FILL.setColor(Color.rgb(248, 248, 248));
-		PAINT_AMENITY_PARKING_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AMENITY_PARKING_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_PARKING_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_PARKING_FILL.setColor(Color.rgb(255, 255, 192));
-		PAINT_AMENITY_PARKING_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_AMENITY_PARKING_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_PARKING_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_PARKING_OUTLINE.setColor(Color.rgb(233, 221, 115));
-		PAINT_AMENITY_SCHOOL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_AMENITY_SCHOOL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_SCHOOL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_SCHOOL_FILL.setColor(Color.rgb(205, 171, 222));
-		PAINT_AMENITY_SCHOOL_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_AMENITY_SCHOOL_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_AMENITY_SCHOOL_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_AMENITY_SCHOOL_OUTLINE.setColor(Color.rgb(233, 221, 115));
-
-		PAINT_BARRIER_BOLLARD.setStyle(Paint.Style.FILL);
-		PAINT_BARRIER_BOLLARD.setColor(Color.rgb(111, 111, 111));
-		PAINT_BARRIER_WALL.setStyle(Paint.Style.STROKE);
-		PAINT_BARRIER_WALL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BARRIER_WALL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_BARRIER_WALL.setColor(Color.rgb(0, 0, 0));
-
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setColor(Color.rgb(242, 100, 93));
-		PAINT_BOUNDARY_NATIONAL_PARK.setStyle(Paint.Style.STROKE);
-		PAINT_BOUNDARY_NATIONAL_PARK.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BOUNDARY_NATIONAL_PARK.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_BOUNDARY_NATIONAL_PARK.setColor(Color.rgb(79, 248, 76));
-
-		PAINT_BUILDING_ROOF_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_BUILDING_ROOF_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BUILDING_ROOF_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_BUILDING_ROOF_OUTLINE.setColor(Color.rgb(115, 100, 143));
-		PAINT_BUILDING_YES_FILL.setStyle(Paint.Style.FILL);
-		PAINT_BUILDING_YES_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BUILDING_YES_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_BUILDING_YES_FILL.setColor(Color.rgb(243, 214, 182));
-		PAINT_BUILDING_YES_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_BUILDING_YES_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_BUILDING_YES_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_BUILDING_YES_OUTLINE.setColor(Color.rgb(115, 100, 143));
-
-		PAINT_HIGHWAY_BRIDLEWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_BRIDLEWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_BRIDLEWAY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_BRIDLEWAY1.setColor(Color.rgb(175, 212, 175));
-		PAINT_HIGHWAY_BRIDLEWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_BRIDLEWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_BRIDLEWAY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_BRIDLEWAY2.setColor(Color.rgb(112, 185, 113));
-		PAINT_HIGHWAY_BYWAY.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_BYWAY.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_BYWAY.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_BYWAY.setColor(Color.rgb(239, 173, 170));
-		PAINT_HIGHWAY_CONSTRUCTION.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_CONSTRUCTION.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_CONSTRUCTION.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_CONSTRUCTION.setColor(Color.rgb(208, 208, 209));
-		PAINT_HIGHWAY_CYCLEWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_CYCLEWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_CYCLEWAY1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_HIGHWAY_CYCLEWAY1.setColor(Color.rgb(136, 159, 139));
-		PAINT_HIGHWAY_CYCLEWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_CYCLEWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_CYCLEWAY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_CYCLEWAY2.setColor(Color.rgb(209, 234, 209));
-		PAINT_HIGHWAY_FOOTWAY_AREA_FILL.setStyle(Paint.Style.FILL);
-		PAINT_HIGHWAY_FOOTWAY_AREA_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_FOOTWAY_AREA_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_FOOTWAY_AREA_FILL.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE.setColor(Color.rgb(143, 144, 141));
-		PAINT_HIGHWAY_FOOTWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_FOOTWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_FOOTWAY1.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_FOOTWAY1.setColor(Color.rgb(165, 166, 150));
-		PAINT_HIGHWAY_FOOTWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_FOOTWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_FOOTWAY2.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_FOOTWAY2.setColor(Color.rgb(229, 224, 194));
-		PAINT_HIGHWAY_LIVING_STREET1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_LIVING_STREET1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_LIVING_STREET1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_LIVING_STREET1.setColor(Color.rgb(194, 194, 194));
-		PAINT_HIGHWAY_LIVING_STREET2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_LIVING_STREET2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_LIVING_STREET2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_LIVING_STREET2.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_MOTORWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_MOTORWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_MOTORWAY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_MOTORWAY1.setColor(Color.rgb(80, 96, 119));
-		PAINT_HIGHWAY_MOTORWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_MOTORWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_MOTORWAY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_MOTORWAY2.setColor(Color.rgb(128, 155, 192));
-		PAINT_HIGHWAY_MOTORWAY_LINK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_MOTORWAY_LINK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_MOTORWAY_LINK1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_HIGHWAY_MOTORWAY_LINK1.setColor(Color.rgb(80, 96, 119));
-		PAINT_HIGHWAY_MOTORWAY_LINK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_MOTORWAY_LINK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_MOTORWAY_LINK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_MOTORWAY_LINK2.setColor(Color.rgb(128, 155, 192));
-		PAINT_HIGHWAY_PATH1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PATH1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PATH1.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_PATH1.setColor(Color.rgb(128, 128, 128));
-		PAINT_HIGHWAY_PATH2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PATH2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PATH2.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_PATH2.setColor(Color.rgb(208, 208, 208));
-		PAINT_HIGHWAY_PEDESTRIAN1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PEDESTRIAN1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN1.setColor(Color.rgb(128, 128, 128));
-		PAINT_HIGHWAY_PEDESTRIAN2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PEDESTRIAN2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN2.setColor(Color.rgb(237, 237, 237));
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL.setStyle(Paint.Style.FILL);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL.setColor(Color.rgb(229, 224, 195));
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE.setColor(Color.rgb(145, 140, 144));
-		PAINT_HIGHWAY_PRIMARY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PRIMARY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PRIMARY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PRIMARY1.setColor(Color.rgb(141, 67, 70));
-		PAINT_HIGHWAY_PRIMARY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PRIMARY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PRIMARY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PRIMARY2.setColor(Color.rgb(228, 109, 113));
-		PAINT_HIGHWAY_PRIMARY_LINK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PRIMARY_LINK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PRIMARY_LINK1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PRIMARY_LINK1.setColor(Color.rgb(141, 67, 70));
-		PAINT_HIGHWAY_PRIMARY_LINK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_PRIMARY_LINK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_PRIMARY_LINK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_PRIMARY_LINK2.setColor(Color.rgb(228, 109, 113));
-		PAINT_HIGHWAY_RESIDENTIAL1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_RESIDENTIAL1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_RESIDENTIAL1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_RESIDENTIAL1.setColor(Color.rgb(153, 153, 153));
-		PAINT_HIGHWAY_RESIDENTIAL2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_RESIDENTIAL2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_RESIDENTIAL2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_RESIDENTIAL2.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_ROAD1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_ROAD1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_ROAD1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_ROAD1.setColor(Color.rgb(122, 128, 124));
-		PAINT_HIGHWAY_ROAD2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_ROAD2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_ROAD2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_ROAD2.setColor(Color.rgb(208, 208, 208));
-		PAINT_HIGHWAY_SECONDARY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SECONDARY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SECONDARY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SECONDARY1.setColor(Color.rgb(163, 123, 72));
-		PAINT_HIGHWAY_SECONDARY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SECONDARY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SECONDARY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SECONDARY2.setColor(Color.rgb(253, 191, 111));
-		PAINT_HIGHWAY_SECONDARY_LINK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SECONDARY_LINK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SECONDARY_LINK1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SECONDARY_LINK1.setColor(Color.rgb(163, 123, 72));
-		PAINT_HIGHWAY_SECONDARY_LINK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SECONDARY_LINK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SECONDARY_LINK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SECONDARY_LINK2.setColor(Color.rgb(253, 191, 111));
-		PAINT_HIGHWAY_SERVICE_AREA_FILL.setStyle(Paint.Style.FILL);
-		PAINT_HIGHWAY_SERVICE_AREA_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SERVICE_AREA_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SERVICE_AREA_FILL.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_SERVICE_AREA_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SERVICE_AREA_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SERVICE_AREA_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SERVICE_AREA_OUTLINE.setColor(Color.rgb(143, 144, 141));
-		PAINT_HIGHWAY_SERVICE1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SERVICE1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SERVICE1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SERVICE1.setColor(Color.rgb(126, 126, 126));
-		PAINT_HIGHWAY_SERVICE2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_SERVICE2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_SERVICE2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_SERVICE2.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_STEPS1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_STEPS1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_STEPS1.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_STEPS1.setColor(Color.rgb(123, 126, 119));
-		PAINT_HIGHWAY_STEPS2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_STEPS2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_STEPS2.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_HIGHWAY_STEPS2.setColor(Color.rgb(229, 224, 195));
-		PAINT_HIGHWAY_TERTIARY1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TERTIARY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TERTIARY1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TERTIARY1.setColor(Color.rgb(153, 153, 153));
-		PAINT_HIGHWAY_TERTIARY2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TERTIARY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TERTIARY2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TERTIARY2.setColor(Color.rgb(247, 244, 150));
-		PAINT_HIGHWAY_TRACK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRACK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRACK1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TRACK1.setColor(Color.rgb(177, 188, 126));
-		PAINT_HIGHWAY_TRACK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRACK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRACK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TRACK2.setColor(Color.rgb(255, 255, 255));
-		PAINT_HIGHWAY_TRUNK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRUNK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRUNK1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TRUNK1.setColor(Color.rgb(71, 113, 71));
-		PAINT_HIGHWAY_TRUNK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRUNK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRUNK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TRUNK2.setColor(Color.rgb(127, 201, 127));
-		PAINT_HIGHWAY_TRUNK_LINK1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRUNK_LINK1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRUNK_LINK1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_HIGHWAY_TRUNK_LINK1.setColor(Color.rgb(71, 113, 71));
-		PAINT_HIGHWAY_TRUNK_LINK2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TRUNK_LINK2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TRUNK_LINK2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_TRUNK_LINK2.setColor(Color.rgb(127, 201, 127));
-		PAINT_HIGHWAY_TUNNEL.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_TUNNEL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_TUNNEL.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_HIGHWAY_TUNNEL.setColor(Color.argb(150, 131, 131, 131));
-		PAINT_HIGHWAY_UNCLASSIFIED1.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_UNCLASSIFIED1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_UNCLASSIFIED1.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_UNCLASSIFIED1.setColor(Color.rgb(126, 126, 126));
-		PAINT_HIGHWAY_UNCLASSIFIED2.setStyle(Paint.Style.STROKE);
-		PAINT_HIGHWAY_UNCLASSIFIED2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_HIGHWAY_UNCLASSIFIED2.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_HIGHWAY_UNCLASSIFIED2.setColor(Color.rgb(255, 255, 255));
-
-		PAINT_HISTORIC_CIRCLE_INNER.setStyle(Paint.Style.FILL);
-		PAINT_HISTORIC_CIRCLE_INNER.setColor(Color.rgb(64, 64, 254));
-		PAINT_HISTORIC_CIRCLE_OUTER.setStyle(Paint.Style.STROKE);
-		PAINT_HISTORIC_CIRCLE_OUTER.setColor(Color.rgb(90, 90, 90));
-		PAINT_HISTORIC_CIRCLE_OUTER.setStrokeWidth(2);
-
-		PAINT_LANDUSE_ALLOTMENTS_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_ALLOTMENTS_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_ALLOTMENTS_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_ALLOTMENTS_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_LANDUSE_ALLOTMENTS_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LANDUSE_ALLOTMENTS_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_ALLOTMENTS_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_ALLOTMENTS_OUTLINE.setColor(Color.rgb(112, 194, 63));
-		PAINT_LANDUSE_BASIN_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_BASIN_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_BASIN_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_BASIN_FILL.setColor(Color.rgb(180, 213, 240));
-		PAINT_LANDUSE_CEMETERY_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_CEMETERY_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_CEMETERY_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_CEMETERY_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_LANDUSE_CEMETERY_PATTERN.setShader(this.mapPatterns.cemeteryShader);
-		PAINT_LANDUSE_COMMERCIAL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_COMMERCIAL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_COMMERCIAL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_COMMERCIAL_FILL.setColor(Color.rgb(255, 254, 192));
-		PAINT_LANDUSE_COMMERCIAL_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LANDUSE_COMMERCIAL_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_COMMERCIAL_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_COMMERCIAL_OUTLINE.setColor(Color.rgb(228, 228, 228));
-		PAINT_LANDUSE_CONSTRUCTION_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_CONSTRUCTION_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_CONSTRUCTION_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_CONSTRUCTION_FILL.setColor(Color.rgb(164, 124, 65));
-		PAINT_LANDUSE_FARM_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_FARM_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_FARM_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_FARM_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_LANDUSE_FOREST_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_FOREST_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_FOREST_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_FOREST_FILL.setColor(Color.rgb(114, 191, 129));
-		PAINT_LANDUSE_GRASS_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_GRASS_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_GRASS_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_GRASS_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_LANDUSE_GRASS_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LANDUSE_GRASS_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_GRASS_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_GRASS_OUTLINE.setColor(Color.rgb(112, 193, 62));
-		PAINT_LANDUSE_INDUSTRIAL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_INDUSTRIAL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_INDUSTRIAL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_INDUSTRIAL_FILL.setColor(Color.rgb(235, 215, 254));
-		PAINT_LANDUSE_MILITARY_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_MILITARY_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_MILITARY_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_MILITARY_FILL.setColor(Color.rgb(208, 208, 80));
-		PAINT_LANDUSE_RESIDENTIAL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_RESIDENTIAL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_RESIDENTIAL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_RESIDENTIAL_FILL.setColor(Color.rgb(228, 228, 228));
-		PAINT_LANDUSE_RETAIL_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LANDUSE_RETAIL_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LANDUSE_RETAIL_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LANDUSE_RETAIL_FILL.setColor(Color.rgb(254, 234, 234));
-
-		PAINT_LEISURE_COMMON_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LEISURE_COMMON_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LEISURE_COMMON_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LEISURE_COMMON_FILL.setColor(Color.rgb(199, 241, 163));
-		PAINT_LEISURE_COMMON_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LEISURE_COMMON_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LEISURE_COMMON_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LEISURE_COMMON_OUTLINE.setColor(Color.rgb(123, 200, 145));
-		PAINT_LEISURE_NATURE_RESERVE_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LEISURE_NATURE_RESERVE_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LEISURE_NATURE_RESERVE_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LEISURE_NATURE_RESERVE_OUTLINE.setColor(Color.rgb(112, 193, 142));
-		PAINT_LEISURE_NATURE_RESERVE_PATTERN.setShader(this.mapPatterns.natureReserveShader);
-		PAINT_LEISURE_STADIUM_FILL.setStyle(Paint.Style.FILL);
-		PAINT_LEISURE_STADIUM_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LEISURE_STADIUM_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LEISURE_STADIUM_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_LEISURE_STADIUM_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_LEISURE_STADIUM_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_LEISURE_STADIUM_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_LEISURE_STADIUM_OUTLINE.setColor(Color.rgb(123, 200, 145));
-
-		PAINT_MAN_MADE_PIER.setStyle(Paint.Style.STROKE);
-		PAINT_MAN_MADE_PIER.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_MAN_MADE_PIER.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_MAN_MADE_PIER.setColor(Color.rgb(228, 228, 228));
-
-		PAINT_MILITARY_BARRACKS_FILL.setStyle(Paint.Style.FILL);
-		PAINT_MILITARY_BARRACKS_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_MILITARY_BARRACKS_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_MILITARY_BARRACKS_FILL.setColor(Color.rgb(208, 208, 80));
-		PAINT_MILITARY_NAVAL_BASE_FILL.setStyle(Paint.Style.FILL);
-		PAINT_MILITARY_NAVAL_BASE_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_MILITARY_NAVAL_BASE_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_MILITARY_NAVAL_BASE_FILL.setColor(Color.rgb(181, 214, 241));
-		PAINT_MILITARY_PATTERN.setShader(this.mapPatterns.militaryShader);
-
-		PAINT_NAME_BLACK_TINY.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_TINY.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_TINY.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_TINY_CENTER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_TINY_CENTER.setTextAlign(Align.CENTER);
-		PAINT_NAME_BLACK_TINY_CENTER.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_SMALL.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_SMALL.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_SMALL.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_NORMAL.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_NORMAL.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_NORMAL.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_LARGE.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_LARGE.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_LARGE.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_LARGER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_LARGER.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_LARGER.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLACK_HUGE.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLACK_HUGE.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLACK_HUGE.setColor(Color.rgb(0, 0, 0));
-		PAINT_NAME_BLUE_TINY.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_BLUE_TINY.setTextAlign(Align.LEFT);
-		PAINT_NAME_BLUE_TINY.setColor(Color.rgb(64, 64, 254));
-		PAINT_NAME_PURPLE_TINY.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_PURPLE_TINY.setTextAlign(Align.LEFT);
-		PAINT_NAME_PURPLE_TINY.setColor(Color.rgb(255, 4, 255));
-		PAINT_NAME_RED_TINY.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_RED_TINY.setTextAlign(Align.LEFT);
-		PAINT_NAME_RED_TINY.setColor(Color.rgb(236, 46, 46));
-		PAINT_NAME_RED_SMALLER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_RED_SMALLER.setTextAlign(Align.LEFT);
-		PAINT_NAME_RED_SMALLER.setColor(Color.rgb(236, 46, 46));
-		PAINT_NAME_RED_NORMAL.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_RED_NORMAL.setTextAlign(Align.LEFT);
-		PAINT_NAME_RED_NORMAL.setColor(Color.rgb(236, 46, 46));
-		PAINT_NAME_WHITE_STROKE_TINY.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_TINY.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_TINY.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_TINY.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_TINY.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setTextAlign(Align.CENTER);
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setStrokeWidth(2);
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_SMALLER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_SMALLER.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_SMALLER.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_SMALLER.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_SMALLER.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_SMALL.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_SMALL.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_SMALL.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_SMALL.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_SMALL.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_NORMAL.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_NORMAL.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_NORMAL.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_NORMAL.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_NORMAL.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_LARGE.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_LARGE.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_LARGE.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_LARGE.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_LARGE.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_LARGER.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_LARGER.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_LARGER.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_LARGER.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_LARGER.setColor(Color.rgb(255, 255, 255));
-		PAINT_NAME_WHITE_STROKE_HUGE.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
-		PAINT_NAME_WHITE_STROKE_HUGE.setTextAlign(Align.LEFT);
-		PAINT_NAME_WHITE_STROKE_HUGE.setStyle(Paint.Style.STROKE);
-		PAINT_NAME_WHITE_STROKE_HUGE.setStrokeWidth(3);
-		PAINT_NAME_WHITE_STROKE_HUGE.setColor(Color.rgb(255, 255, 255));
-
-		PAINT_NATURAL_BEACH_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_BEACH_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_BEACH_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_BEACH_FILL.setColor(Color.rgb(238, 204, 85));
-		PAINT_NATURAL_COASTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_NATURAL_COASTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_COASTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_COASTLINE.setColor(Color.rgb(181, 214, 241));
-		PAINT_NATURAL_COASTLINE_INVALID.setStyle(Paint.Style.STROKE);
-		PAINT_NATURAL_COASTLINE_INVALID.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_COASTLINE_INVALID.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_COASTLINE_INVALID.setColor(Color.rgb(112, 133, 153));
-		PAINT_NATURAL_COASTLINE_VALID.setStyle(Paint.Style.STROKE);
-		PAINT_NATURAL_COASTLINE_VALID.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_COASTLINE_VALID.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_COASTLINE_VALID.setColor(Color.rgb(181, 214, 241));
-		PAINT_NATURAL_GLACIER_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_GLACIER_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_GLACIER_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_GLACIER_FILL.setColor(Color.rgb(250, 250, 255));
-		PAINT_NATURAL_GLACIER_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_NATURAL_GLACIER_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_GLACIER_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_GLACIER_OUTLINE.setColor(Color.rgb(182, 220, 233));
-		PAINT_NATURAL_HEATH_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_HEATH_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_HEATH_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_HEATH_FILL.setColor(Color.rgb(255, 255, 192));
-		PAINT_NATURAL_LAND_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_LAND_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_LAND_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_LAND_FILL.setColor(Color.rgb(248, 248, 248));
-		PAINT_NATURAL_MARSH_PATTERN.setShader(this.mapPatterns.marshShader);
-		PAINT_NATURAL_WATER_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_WATER_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_WATER_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_WATER_FILL.setColor(Color.rgb(181, 214, 241));
-		PAINT_NATURAL_WOOD_FILL.setStyle(Paint.Style.FILL);
-		PAINT_NATURAL_WOOD_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_NATURAL_WOOD_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_NATURAL_WOOD_FILL.setColor(Color.rgb(114, 191, 129));
-
-		PAINT_PISTE_TYPE_DOWNHILL_ADVANCED.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_ADVANCED.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_ADVANCED.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_ADVANCED.setColor(Color.argb(136, 0, 0, 0));
-		PAINT_PISTE_TYPE_DOWNHILL_EASY.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_EASY.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_EASY.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_EASY.setColor(Color.argb(136, 64, 64, 255));
-		PAINT_PISTE_TYPE_DOWNHILL_EXPERT.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_EXPERT.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_EXPERT.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_EXPERT.setColor(Color.argb(136, 246, 128, 10));
-		PAINT_PISTE_TYPE_DOWNHILL_FREERIDE.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_FREERIDE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_FREERIDE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_FREERIDE.setColor(Color.argb(136, 246, 221, 10));
-		PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE.setColor(Color.argb(136, 255, 64, 64));
-		PAINT_PISTE_TYPE_DOWNHILL_NOVICE.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_DOWNHILL_NOVICE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_NOVICE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_PISTE_TYPE_DOWNHILL_NOVICE.setColor(Color.argb(136, 64, 255, 64));
-		PAINT_PISTE_TYPE_NORDIC.setStyle(Paint.Style.STROKE);
-		PAINT_PISTE_TYPE_NORDIC.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_PISTE_TYPE_NORDIC.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_PISTE_TYPE_NORDIC.setColor(Color.rgb(192, 0, 0));
-
-		PAINT_RAILWAY_CIRCLE_INNER.setStyle(Paint.Style.FILL);
-		PAINT_RAILWAY_CIRCLE_INNER.setColor(Color.rgb(236, 46, 46));
-		PAINT_RAILWAY_CIRCLE_OUTER.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_CIRCLE_OUTER.setColor(Color.rgb(90, 90, 90));
-		PAINT_RAILWAY_CIRCLE_OUTER.setStrokeWidth(2);
-		PAINT_RAILWAY_LIGHT_RAIL1.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_LIGHT_RAIL1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_LIGHT_RAIL1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_LIGHT_RAIL1.setColor(Color.rgb(181, 228, 227));
-		PAINT_RAILWAY_LIGHT_RAIL2.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_LIGHT_RAIL2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_LIGHT_RAIL2.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_LIGHT_RAIL2.setColor(Color.rgb(16, 77, 17));
-		PAINT_RAILWAY_RAIL_TUNNEL.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_RAIL_TUNNEL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_RAIL_TUNNEL.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_RAIL_TUNNEL.setColor(Color.argb(150, 153, 156, 153));
-		PAINT_RAILWAY_RAIL1.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_RAIL1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_RAIL1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_RAIL1.setColor(Color.rgb(230, 230, 231));
-		PAINT_RAILWAY_RAIL2.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_RAIL2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_RAIL2.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_RAIL2.setColor(Color.rgb(52, 50, 50));
-		PAINT_RAILWAY_STATION_FILL.setStyle(Paint.Style.FILL);
-		PAINT_RAILWAY_STATION_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_STATION_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_RAILWAY_STATION_FILL.setColor(Color.rgb(243, 214, 182));
-		PAINT_RAILWAY_STATION_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_STATION_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_STATION_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_RAILWAY_STATION_OUTLINE.setColor(Color.rgb(115, 100, 143));
-		PAINT_RAILWAY_SUBWAY1.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_SUBWAY1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_SUBWAY1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_SUBWAY1.setColor(Color.rgb(183, 183, 229));
-		PAINT_RAILWAY_SUBWAY2.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_SUBWAY2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_SUBWAY2.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_SUBWAY2.setColor(Color.rgb(25, 24, 91));
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setColor(Color.argb(150, 165, 162, 184));
-		PAINT_RAILWAY_TRAM1.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_TRAM1.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_TRAM1.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_TRAM1.setColor(Color.rgb(229, 183, 229));
-		PAINT_RAILWAY_TRAM2.setStyle(Paint.Style.STROKE);
-		PAINT_RAILWAY_TRAM2.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_RAILWAY_TRAM2.setStrokeCap(Paint.Cap.BUTT);
-		PAINT_RAILWAY_TRAM2.setColor(Color.rgb(77, 16, 76));
-
-		PAINT_ROUTE_FERRY.setStyle(Paint.Style.STROKE);
-		PAINT_ROUTE_FERRY.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_ROUTE_FERRY.setStrokeCap(Paint.Cap.SQUARE);
-		PAINT_ROUTE_FERRY.setColor(Color.rgb(113, 113, 113));
-
-		PAINT_SPORT_SHOOTING_FILL.setStyle(Paint.Style.FILL);
-		PAINT_SPORT_SHOOTING_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_SHOOTING_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_SHOOTING_FILL.setColor(Color.rgb(189, 227, 203));
-		PAINT_SPORT_SHOOTING_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_SPORT_SHOOTING_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_SHOOTING_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_SHOOTING_OUTLINE.setColor(Color.rgb(112, 193, 143));
-		PAINT_SPORT_SWIMMING_FILL.setStyle(Paint.Style.FILL);
-		PAINT_SPORT_SWIMMING_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_SWIMMING_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_SWIMMING_FILL.setColor(Color.rgb(181, 214, 241));
-		PAINT_SPORT_SWIMMING_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_SPORT_SWIMMING_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_SWIMMING_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_SWIMMING_OUTLINE.setColor(Color.rgb(97, 97, 255));
-		PAINT_SPORT_TENNIS_FILL.setStyle(Paint.Style.FILL);
-		PAINT_SPORT_TENNIS_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_TENNIS_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_TENNIS_FILL.setColor(Color.rgb(209, 138, 106));
-		PAINT_SPORT_TENNIS_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_SPORT_TENNIS_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_SPORT_TENNIS_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_SPORT_TENNIS_OUTLINE.setColor(Color.rgb(178, 108, 77));
-
-		PAINT_TOURISM_ATTRACTION_FILL.setStyle(Paint.Style.FILL);
-		PAINT_TOURISM_ATTRACTION_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_TOURISM_ATTRACTION_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_TOURISM_ATTRACTION_FILL.setColor(Color.rgb(242, 202, 234));
-		PAINT_TOURISM_ZOO_FILL.setStyle(Paint.Style.FILL);
-		PAINT_TOURISM_ZOO_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_TOURISM_ZOO_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_TOURISM_ZOO_FILL.setColor(Color.rgb(199, 241, 163));
-		PAINT_TOURISM_ZOO_OUTLINE.setStyle(Paint.Style.STROKE);
-		PAINT_TOURISM_ZOO_OUTLINE.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_TOURISM_ZOO_OUTLINE.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_TOURISM_ZOO_OUTLINE.setColor(Color.rgb(123, 200, 145));
-
-		PAINT_WATER_TILE_HIGHTLIGHT.setStyle(Paint.Style.FILL);
-		PAINT_WATER_TILE_HIGHTLIGHT.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_WATER_TILE_HIGHTLIGHT.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_WATER_TILE_HIGHTLIGHT.setColor(Color.CYAN);
-
-		PAINT_WATERWAY_CANAL.setStyle(Paint.Style.STROKE);
-		PAINT_WATERWAY_CANAL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_WATERWAY_CANAL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_WATERWAY_CANAL.setColor(Color.rgb(179, 213, 241));
-		PAINT_WATERWAY_RIVER.setStyle(Paint.Style.STROKE);
-		PAINT_WATERWAY_RIVER.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_WATERWAY_RIVER.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_WATERWAY_RIVER.setColor(Color.rgb(179, 213, 241));
-		PAINT_WATERWAY_RIVERBANK_FILL.setStyle(Paint.Style.FILL);
-		PAINT_WATERWAY_RIVERBANK_FILL.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_WATERWAY_RIVERBANK_FILL.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_WATERWAY_RIVERBANK_FILL.setColor(Color.rgb(179, 213, 241));
-		PAINT_WATERWAY_STREAM.setStyle(Paint.Style.STROKE);
-		PAINT_WATERWAY_STREAM.setStrokeJoin(Paint.Join.ROUND);
-		PAINT_WATERWAY_STREAM.setStrokeCap(Paint.Cap.ROUND);
-		PAINT_WATERWAY_STREAM.setColor(Color.rgb(179, 213, 241));
-
-		PAINT_WOOD_CONIFEROUS_PATTERN.setShader(this.mapPatterns.woodConiferousShader);
-		PAINT_WOOD_DECIDUOUS_PATTERN.setShader(this.mapPatterns.woodDeciduousShader);
-		PAINT_WOOD_MIXED_PATTERN.setShader(this.mapPatterns.woodMixedShader);
+		this.paintAerialway.setStyle(Paint.Style.STROKE);
+		this.paintAerialway.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerialway.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintAerialway.setColor(Color.rgb(32, 32, 32));
+
+		this.paintAerowayAerodromeFill.setStyle(Paint.Style.FILL);
+		this.paintAerowayAerodromeFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayAerodromeFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayAerodromeFill.setColor(Color.rgb(229, 224, 195));
+		this.paintAerowayAerodromeOutline.setStyle(Paint.Style.STROKE);
+		this.paintAerowayAerodromeOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayAerodromeOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayAerodromeOutline.setColor(Color.rgb(145, 140, 144));
+		this.paintAerowayApronFill.setStyle(Paint.Style.FILL);
+		this.paintAerowayApronFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayApronFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayApronFill.setColor(Color.rgb(240, 240, 240));
+		this.paintAerowayRunway1.setStyle(Paint.Style.STROKE);
+		this.paintAerowayRunway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayRunway1.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintAerowayRunway1.setColor(Color.rgb(0, 0, 0));
+		this.paintAerowayRunway2.setStyle(Paint.Style.STROKE);
+		this.paintAerowayRunway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayRunway2.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintAerowayRunway2.setColor(Color.rgb(212, 220, 189));
+		this.paintAerowayTaxiway1.setStyle(Paint.Style.STROKE);
+		this.paintAerowayTaxiway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayTaxiway1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayTaxiway1.setColor(Color.rgb(0, 0, 0));
+		this.paintAerowayTaxiway2.setStyle(Paint.Style.STROKE);
+		this.paintAerowayTaxiway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayTaxiway2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayTaxiway2.setColor(Color.rgb(212, 220, 189));
+		this.paintAerowayTerminalFill.setStyle(Paint.Style.FILL);
+		this.paintAerowayTerminalFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayTerminalFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayTerminalFill.setColor(Color.rgb(243, 214, 182));
+		this.paintAerowayTerminalOutline.setStyle(Paint.Style.STROKE);
+		this.paintAerowayTerminalOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAerowayTerminalOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAerowayTerminalOutline.setColor(Color.rgb(115, 100, 143));
+
+		this.paintAmenityGraveYardFill.setStyle(Paint.Style.FILL);
+		this.paintAmenityGraveYardFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenityGraveYardFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenityGraveYardFill.setColor(Color.rgb(189, 227, 203));
+		this.paintAmenityHospitalFill.setStyle(Paint.Style.FILL);
+		this.paintAmenityHospitalFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenityHospitalFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenityHospitalFill.setColor(Color.rgb(248, 248, 248));
+		this.paintAmenityParkingFill.setStyle(Paint.Style.FILL);
+		this.paintAmenityParkingFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenityParkingFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenityParkingFill.setColor(Color.rgb(255, 255, 192));
+		this.paintAmenityParkingOutline.setStyle(Paint.Style.STROKE);
+		this.paintAmenityParkingOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenityParkingOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenityParkingOutline.setColor(Color.rgb(233, 221, 115));
+		this.paintAmenitySchoolFill.setStyle(Paint.Style.FILL);
+		this.paintAmenitySchoolFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenitySchoolFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenitySchoolFill.setColor(Color.rgb(205, 171, 222));
+		this.paintAmenitySchoolOutline.setStyle(Paint.Style.STROKE);
+		this.paintAmenitySchoolOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintAmenitySchoolOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintAmenitySchoolOutline.setColor(Color.rgb(233, 221, 115));
+
+		this.paintBarrierBollard.setStyle(Paint.Style.FILL);
+		this.paintBarrierBollard.setColor(Color.rgb(111, 111, 111));
+		this.paintBarrierWall.setStyle(Paint.Style.STROKE);
+		this.paintBarrierWall.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBarrierWall.setStrokeCap(Paint.Cap.ROUND);
+		this.paintBarrierWall.setColor(Color.rgb(0, 0, 0));
+
+		this.paintBoundaryAdministrativeAdminLevel2.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel2.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel2.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryAdministrativeAdminLevel4.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel4.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel4.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel4.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryAdministrativeAdminLevel6.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel6.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel6.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel6.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryAdministrativeAdminLevel8.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel8.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel8.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel8.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryAdministrativeAdminLevel9.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel9.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel9.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel9.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryAdministrativeAdminLevel10.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryAdministrativeAdminLevel10.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryAdministrativeAdminLevel10.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryAdministrativeAdminLevel10.setColor(Color.rgb(242, 100, 93));
+		this.paintBoundaryNationalPark.setStyle(Paint.Style.STROKE);
+		this.paintBoundaryNationalPark.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBoundaryNationalPark.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintBoundaryNationalPark.setColor(Color.rgb(79, 248, 76));
+
+		this.paintBuildingRoofOutline.setStyle(Paint.Style.STROKE);
+		this.paintBuildingRoofOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBuildingRoofOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintBuildingRoofOutline.setColor(Color.rgb(115, 100, 143));
+		this.paintBuildingYesFill.setStyle(Paint.Style.FILL);
+		this.paintBuildingYesFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBuildingYesFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintBuildingYesFill.setColor(Color.rgb(243, 214, 182));
+		this.paintBuildingYesOutline.setStyle(Paint.Style.STROKE);
+		this.paintBuildingYesOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintBuildingYesOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintBuildingYesOutline.setColor(Color.rgb(115, 100, 143));
+
+		this.paintHighwayBridleway1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayBridleway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayBridleway1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayBridleway1.setColor(Color.rgb(175, 212, 175));
+		this.paintHighwayBridleway2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayBridleway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayBridleway2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayBridleway2.setColor(Color.rgb(112, 185, 113));
+		this.paintHighwayByway.setStyle(Paint.Style.STROKE);
+		this.paintHighwayByway.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayByway.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayByway.setColor(Color.rgb(239, 173, 170));
+		this.paintHighwayConstruction.setStyle(Paint.Style.STROKE);
+		this.paintHighwayConstruction.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayConstruction.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayConstruction.setColor(Color.rgb(208, 208, 209));
+		this.paintHighwayCycleway1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayCycleway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayCycleway1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintHighwayCycleway1.setColor(Color.rgb(136, 159, 139));
+		this.paintHighwayCycleway2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayCycleway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayCycleway2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayCycleway2.setColor(Color.rgb(209, 234, 209));
+		this.paintHighwayFootwayAreaFill.setStyle(Paint.Style.FILL);
+		this.paintHighwayFootwayAreaFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayFootwayAreaFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayFootwayAreaFill.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwayFootwayAreaOutline.setStyle(Paint.Style.STROKE);
+		this.paintHighwayFootwayAreaOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayFootwayAreaOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayFootwayAreaOutline.setColor(Color.rgb(143, 144, 141));
+		this.paintHighwayFootway1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayFootway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayFootway1.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwayFootway1.setColor(Color.rgb(165, 166, 150));
+		this.paintHighwayFootway2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayFootway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayFootway2.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwayFootway2.setColor(Color.rgb(229, 224, 194));
+		this.paintHighwayLivingStreet1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayLivingStreet1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayLivingStreet1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayLivingStreet1.setColor(Color.rgb(194, 194, 194));
+		this.paintHighwayLivingStreet2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayLivingStreet2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayLivingStreet2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayLivingStreet2.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwayMotorway1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayMotorway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayMotorway1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayMotorway1.setColor(Color.rgb(80, 96, 119));
+		this.paintHighwayMotorway2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayMotorway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayMotorway2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayMotorway2.setColor(Color.rgb(128, 155, 192));
+		this.paintHighwayMotorwayLink1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayMotorwayLink1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayMotorwayLink1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintHighwayMotorwayLink1.setColor(Color.rgb(80, 96, 119));
+		this.paintHighwayMotorwayLink2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayMotorwayLink2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayMotorwayLink2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayMotorwayLink2.setColor(Color.rgb(128, 155, 192));
+		this.paintHighwayPath1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPath1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPath1.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwayPath1.setColor(Color.rgb(128, 128, 128));
+		this.paintHighwayPath2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPath2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPath2.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwayPath2.setColor(Color.rgb(208, 208, 208));
+		this.paintHighwayPedestrian1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPedestrian1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPedestrian1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPedestrian1.setColor(Color.rgb(128, 128, 128));
+		this.paintHighwayPedestrian2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPedestrian2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPedestrian2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPedestrian2.setColor(Color.rgb(237, 237, 237));
+		this.paintHighwayPedestrianAreaFill.setStyle(Paint.Style.FILL);
+		this.paintHighwayPedestrianAreaFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPedestrianAreaFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPedestrianAreaFill.setColor(Color.rgb(229, 224, 195));
+		this.paintHighwayPedestrianAreaOutline.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPedestrianAreaOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPedestrianAreaOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPedestrianAreaOutline.setColor(Color.rgb(145, 140, 144));
+		this.paintHighwayPrimary1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPrimary1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPrimary1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPrimary1.setColor(Color.rgb(141, 67, 70));
+		this.paintHighwayPrimary2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPrimary2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPrimary2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPrimary2.setColor(Color.rgb(228, 109, 113));
+		this.paintHighwayPrimaryLink1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPrimaryLink1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPrimaryLink1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPrimaryLink1.setColor(Color.rgb(141, 67, 70));
+		this.paintHighwayPrimaryLink2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayPrimaryLink2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayPrimaryLink2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayPrimaryLink2.setColor(Color.rgb(228, 109, 113));
+		this.paintHighwayResidential1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayResidential1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayResidential1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayResidential1.setColor(Color.rgb(153, 153, 153));
+		this.paintHighwayResidential2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayResidential2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayResidential2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayResidential2.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwayRoad1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayRoad1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayRoad1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayRoad1.setColor(Color.rgb(122, 128, 124));
+		this.paintHighwayRoad2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayRoad2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayRoad2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayRoad2.setColor(Color.rgb(208, 208, 208));
+		this.paintHighwaySecondary1.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySecondary1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySecondary1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwaySecondary1.setColor(Color.rgb(163, 123, 72));
+		this.paintHighwaySecondary2.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySecondary2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySecondary2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwaySecondary2.setColor(Color.rgb(253, 191, 111));
+		this.paintHighwaySecondaryLink1.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySecondaryLink1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySecondaryLink1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwaySecondaryLink1.setColor(Color.rgb(163, 123, 72));
+		this.paintHighwaySecondaryLink2.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySecondaryLink2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySecondaryLink2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwaySecondaryLink2.setColor(Color.rgb(253, 191, 111));
+		this.paintHighwayServiceAreaFill.setStyle(Paint.Style.FILL);
+		this.paintHighwayServiceAreaFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayServiceAreaFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayServiceAreaFill.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwayServiceAreaOutline.setStyle(Paint.Style.STROKE);
+		this.paintHighwayServiceAreaOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayServiceAreaOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayServiceAreaOutline.setColor(Color.rgb(143, 144, 141));
+		this.paintHighwayService1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayService1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayService1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayService1.setColor(Color.rgb(126, 126, 126));
+		this.paintHighwayService2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayService2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayService2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayService2.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwaySteps1.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySteps1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySteps1.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwaySteps1.setColor(Color.rgb(123, 126, 119));
+		this.paintHighwaySteps2.setStyle(Paint.Style.STROKE);
+		this.paintHighwaySteps2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwaySteps2.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintHighwaySteps2.setColor(Color.rgb(229, 224, 195));
+		this.paintHighwayTertiary1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTertiary1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTertiary1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTertiary1.setColor(Color.rgb(153, 153, 153));
+		this.paintHighwayTertiary2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTertiary2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTertiary2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTertiary2.setColor(Color.rgb(247, 244, 150));
+		this.paintHighwayTrack1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrack1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrack1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTrack1.setColor(Color.rgb(177, 188, 126));
+		this.paintHighwayTrack2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrack2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrack2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTrack2.setColor(Color.rgb(255, 255, 255));
+		this.paintHighwayTrunk1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrunk1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrunk1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTrunk1.setColor(Color.rgb(71, 113, 71));
+		this.paintHighwayTrunk2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrunk2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrunk2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTrunk2.setColor(Color.rgb(127, 201, 127));
+		this.paintHighwayTrunkLink1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrunkLink1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrunkLink1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintHighwayTrunkLink1.setColor(Color.rgb(71, 113, 71));
+		this.paintHighwayTrunkLink2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTrunkLink2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTrunkLink2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayTrunkLink2.setColor(Color.rgb(127, 201, 127));
+		this.paintHighwayTunnel.setStyle(Paint.Style.STROKE);
+		this.paintHighwayTunnel.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayTunnel.setStrokeCap(Paint.Cap.BUTT);
+		this.paintHighwayTunnel.setColor(Color.argb(150, 131, 131, 131));
+		this.paintHighwayUnclassified1.setStyle(Paint.Style.STROKE);
+		this.paintHighwayUnclassified1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayUnclassified1.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayUnclassified1.setColor(Color.rgb(126, 126, 126));
+		this.paintHighwayUnclassified2.setStyle(Paint.Style.STROKE);
+		this.paintHighwayUnclassified2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintHighwayUnclassified2.setStrokeCap(Paint.Cap.ROUND);
+		this.paintHighwayUnclassified2.setColor(Color.rgb(255, 255, 255));
+
+		this.paintHistoricCircleInner.setStyle(Paint.Style.FILL);
+		this.paintHistoricCircleInner.setColor(Color.rgb(64, 64, 254));
+		this.paintHistoricCircleOuter.setStyle(Paint.Style.STROKE);
+		this.paintHistoricCircleOuter.setColor(Color.rgb(90, 90, 90));
+		this.paintHistoricCircleOuter.setStrokeWidth(2);
+
+		this.paintLanduseAllotmentsFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseAllotmentsFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseAllotmentsFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseAllotmentsFill.setColor(Color.rgb(189, 227, 203));
+		this.paintLanduseAllotmentsOutline.setStyle(Paint.Style.STROKE);
+		this.paintLanduseAllotmentsOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseAllotmentsOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseAllotmentsOutline.setColor(Color.rgb(112, 194, 63));
+		this.paintLanduseBasinFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseBasinFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseBasinFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseBasinFill.setColor(Color.rgb(180, 213, 240));
+		this.paintLanduseCemeteryFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseCemeteryFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseCemeteryFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseCemeteryFill.setColor(Color.rgb(189, 227, 203));
+		this.paintLanduseCemeteryPattern.setShader(this.mapPatterns.cemeteryShader);
+		this.paintLanduseCommercialFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseCommercialFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseCommercialFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseCommercialFill.setColor(Color.rgb(255, 254, 192));
+		this.paintLanduseCommercialOutline.setStyle(Paint.Style.STROKE);
+		this.paintLanduseCommercialOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseCommercialOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseCommercialOutline.setColor(Color.rgb(228, 228, 228));
+		this.paintLanduseConstructionFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseConstructionFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseConstructionFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseConstructionFill.setColor(Color.rgb(164, 124, 65));
+		this.paintLanduseFarmFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseFarmFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseFarmFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseFarmFill.setColor(Color.rgb(189, 227, 203));
+		this.paintLanduseForestFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseForestFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseForestFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseForestFill.setColor(Color.rgb(114, 191, 129));
+		this.paintLanduseGrassFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseGrassFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseGrassFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseGrassFill.setColor(Color.rgb(189, 227, 203));
+		this.paintLanduseGrassOutline.setStyle(Paint.Style.STROKE);
+		this.paintLanduseGrassOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseGrassOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseGrassOutline.setColor(Color.rgb(112, 193, 62));
+		this.paintLanduseIndustrialFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseIndustrialFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseIndustrialFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseIndustrialFill.setColor(Color.rgb(235, 215, 254));
+		this.paintLanduseMilitaryFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseMilitaryFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseMilitaryFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseMilitaryFill.setColor(Color.rgb(208, 208, 80));
+		this.paintLanduseResidentialFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseResidentialFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseResidentialFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseResidentialFill.setColor(Color.rgb(228, 228, 228));
+		this.paintLanduseRetailFill.setStyle(Paint.Style.FILL);
+		this.paintLanduseRetailFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLanduseRetailFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLanduseRetailFill.setColor(Color.rgb(254, 234, 234));
+
+		this.paintLeisureCommonFill.setStyle(Paint.Style.FILL);
+		this.paintLeisureCommonFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLeisureCommonFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLeisureCommonFill.setColor(Color.rgb(199, 241, 163));
+		this.paintLeisureCommonOutline.setStyle(Paint.Style.STROKE);
+		this.paintLeisureCommonOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLeisureCommonOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLeisureCommonOutline.setColor(Color.rgb(123, 200, 145));
+		this.paintLeisureNatureReserveOutline.setStyle(Paint.Style.STROKE);
+		this.paintLeisureNatureReserveOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLeisureNatureReserveOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLeisureNatureReserveOutline.setColor(Color.rgb(112, 193, 142));
+		this.paintLeisureNatureReservePattern.setShader(this.mapPatterns.natureReserveShader);
+		this.paintLeisureStadiumFill.setStyle(Paint.Style.FILL);
+		this.paintLeisureStadiumFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLeisureStadiumFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLeisureStadiumFill.setColor(Color.rgb(189, 227, 203));
+		this.paintLeisureStadiumOutline.setStyle(Paint.Style.STROKE);
+		this.paintLeisureStadiumOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintLeisureStadiumOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintLeisureStadiumOutline.setColor(Color.rgb(123, 200, 145));
+
+		this.paintManMadePier.setStyle(Paint.Style.STROKE);
+		this.paintManMadePier.setStrokeJoin(Paint.Join.ROUND);
+		this.paintManMadePier.setStrokeCap(Paint.Cap.ROUND);
+		this.paintManMadePier.setColor(Color.rgb(228, 228, 228));
+
+		this.paintMilitaryBarracksFill.setStyle(Paint.Style.FILL);
+		this.paintMilitaryBarracksFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintMilitaryBarracksFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintMilitaryBarracksFill.setColor(Color.rgb(208, 208, 80));
+		this.paintMilitaryNavalBaseFill.setStyle(Paint.Style.FILL);
+		this.paintMilitaryNavalBaseFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintMilitaryNavalBaseFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintMilitaryNavalBaseFill.setColor(Color.rgb(181, 214, 241));
+		this.paintMilitaryPattern.setShader(this.mapPatterns.militaryShader);
+
+		this.paintNameBlackTiny.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackTiny.setTextAlign(Align.LEFT);
+		this.paintNameBlackTiny.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackTinyCenter.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackTinyCenter.setTextAlign(Align.CENTER);
+		this.paintNameBlackTinyCenter.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackSmall.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackSmall.setTextAlign(Align.LEFT);
+		this.paintNameBlackSmall.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackNormal.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackNormal.setTextAlign(Align.LEFT);
+		this.paintNameBlackNormal.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackLarge.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackLarge.setTextAlign(Align.LEFT);
+		this.paintNameBlackLarge.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackLarger.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackLarger.setTextAlign(Align.LEFT);
+		this.paintNameBlackLarger.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlackHuge.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlackHuge.setTextAlign(Align.LEFT);
+		this.paintNameBlackHuge.setColor(Color.rgb(0, 0, 0));
+		this.paintNameBlueTiny.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameBlueTiny.setTextAlign(Align.LEFT);
+		this.paintNameBlueTiny.setColor(Color.rgb(64, 64, 254));
+		this.paintNamePurpleTiny.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNamePurpleTiny.setTextAlign(Align.LEFT);
+		this.paintNamePurpleTiny.setColor(Color.rgb(255, 4, 255));
+		this.paintNameRedTiny.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameRedTiny.setTextAlign(Align.LEFT);
+		this.paintNameRedTiny.setColor(Color.rgb(236, 46, 46));
+		this.paintNameRedSmaller.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameRedSmaller.setTextAlign(Align.LEFT);
+		this.paintNameRedSmaller.setColor(Color.rgb(236, 46, 46));
+		this.paintNameRedNormal.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameRedNormal.setTextAlign(Align.LEFT);
+		this.paintNameRedNormal.setColor(Color.rgb(236, 46, 46));
+		this.paintNameWhiteStrokeTiny.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeTiny.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeTiny.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeTiny.setStrokeWidth(3);
+		this.paintNameWhiteStrokeTiny.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeTinyCenter.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeTinyCenter.setTextAlign(Align.CENTER);
+		this.paintNameWhiteStrokeTinyCenter.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeTinyCenter.setStrokeWidth(2);
+		this.paintNameWhiteStrokeTinyCenter.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeSmaller.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeSmaller.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeSmaller.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeSmaller.setStrokeWidth(3);
+		this.paintNameWhiteStrokeSmaller.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeSmall.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeSmall.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeSmall.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeSmall.setStrokeWidth(3);
+		this.paintNameWhiteStrokeSmall.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeNormal.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeNormal.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeNormal.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeNormal.setStrokeWidth(3);
+		this.paintNameWhiteStrokeNormal.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeLarge.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeLarge.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeLarge.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeLarge.setStrokeWidth(3);
+		this.paintNameWhiteStrokeLarge.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeLarger.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeLarger.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeLarger.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeLarger.setStrokeWidth(3);
+		this.paintNameWhiteStrokeLarger.setColor(Color.rgb(255, 255, 255));
+		this.paintNameWhiteStrokeHuge.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+		this.paintNameWhiteStrokeHuge.setTextAlign(Align.LEFT);
+		this.paintNameWhiteStrokeHuge.setStyle(Paint.Style.STROKE);
+		this.paintNameWhiteStrokeHuge.setStrokeWidth(3);
+		this.paintNameWhiteStrokeHuge.setColor(Color.rgb(255, 255, 255));
+
+		this.paintNaturalBeachFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalBeachFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalBeachFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalBeachFill.setColor(Color.rgb(238, 204, 85));
+		this.paintNaturalCoastline.setStyle(Paint.Style.STROKE);
+		this.paintNaturalCoastline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalCoastline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalCoastline.setColor(Color.rgb(181, 214, 241));
+		this.paintNaturalCoastlineInvalid.setStyle(Paint.Style.STROKE);
+		this.paintNaturalCoastlineInvalid.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalCoastlineInvalid.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalCoastlineInvalid.setColor(Color.rgb(112, 133, 153));
+		this.paintNaturalCoastlineValid.setStyle(Paint.Style.STROKE);
+		this.paintNaturalCoastlineValid.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalCoastlineValid.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalCoastlineValid.setColor(Color.rgb(181, 214, 241));
+		this.paintNaturalGlacierFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalGlacierFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalGlacierFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalGlacierFill.setColor(Color.rgb(250, 250, 255));
+		this.paintNaturalGlacierOutline.setStyle(Paint.Style.STROKE);
+		this.paintNaturalGlacierOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalGlacierOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalGlacierOutline.setColor(Color.rgb(182, 220, 233));
+		this.paintNaturalHeathFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalHeathFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalHeathFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalHeathFill.setColor(Color.rgb(255, 255, 192));
+		this.paintNaturalLandFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalLandFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalLandFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalLandFill.setColor(Color.rgb(248, 248, 248));
+		this.paintNaturalMarshPattern.setShader(this.mapPatterns.marshShader);
+		this.paintNaturalWaterFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalWaterFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalWaterFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalWaterFill.setColor(Color.rgb(181, 214, 241));
+		this.paintNaturalWoodFill.setStyle(Paint.Style.FILL);
+		this.paintNaturalWoodFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintNaturalWoodFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintNaturalWoodFill.setColor(Color.rgb(114, 191, 129));
+
+		this.paintPisteTypeDownhillAdvanced.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillAdvanced.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillAdvanced.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillAdvanced.setColor(Color.argb(136, 0, 0, 0));
+		this.paintPisteTypeDownhillEasy.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillEasy.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillEasy.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillEasy.setColor(Color.argb(136, 64, 64, 255));
+		this.paintPisteTypeDownhillExpert.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillExpert.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillExpert.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillExpert.setColor(Color.argb(136, 246, 128, 10));
+		this.paintPisteTypeDownhillFreeride.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillFreeride.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillFreeride.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillFreeride.setColor(Color.argb(136, 246, 221, 10));
+		this.paintPisteTypeDownhillIntermediate.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillIntermediate.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillIntermediate.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillIntermediate.setColor(Color.argb(136, 255, 64, 64));
+		this.paintPisteTypeDownhillNovice.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeDownhillNovice.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeDownhillNovice.setStrokeCap(Paint.Cap.ROUND);
+		this.paintPisteTypeDownhillNovice.setColor(Color.argb(136, 64, 255, 64));
+		this.paintPisteTypeNordic.setStyle(Paint.Style.STROKE);
+		this.paintPisteTypeNordic.setStrokeJoin(Paint.Join.ROUND);
+		this.paintPisteTypeNordic.setStrokeCap(Paint.Cap.BUTT);
+		this.paintPisteTypeNordic.setColor(Color.rgb(192, 0, 0));
+
+		this.paintRailwayCircleInner.setStyle(Paint.Style.FILL);
+		this.paintRailwayCircleInner.setColor(Color.rgb(236, 46, 46));
+		this.paintRailwayCircleOuter.setStyle(Paint.Style.STROKE);
+		this.paintRailwayCircleOuter.setColor(Color.rgb(90, 90, 90));
+		this.paintRailwayCircleOuter.setStrokeWidth(2);
+		this.paintRailwayLightRail1.setStyle(Paint.Style.STROKE);
+		this.paintRailwayLightRail1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayLightRail1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayLightRail1.setColor(Color.rgb(181, 228, 227));
+		this.paintRailwayLightRail2.setStyle(Paint.Style.STROKE);
+		this.paintRailwayLightRail2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayLightRail2.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayLightRail2.setColor(Color.rgb(16, 77, 17));
+		this.paintRailwayRailTunnel.setStyle(Paint.Style.STROKE);
+		this.paintRailwayRailTunnel.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayRailTunnel.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayRailTunnel.setColor(Color.argb(150, 153, 156, 153));
+		this.paintRailwayRail1.setStyle(Paint.Style.STROKE);
+		this.paintRailwayRail1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayRail1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayRail1.setColor(Color.rgb(230, 230, 231));
+		this.paintRailwayRail2.setStyle(Paint.Style.STROKE);
+		this.paintRailwayRail2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayRail2.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayRail2.setColor(Color.rgb(52, 50, 50));
+		this.paintRailwayStationFill.setStyle(Paint.Style.FILL);
+		this.paintRailwayStationFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayStationFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintRailwayStationFill.setColor(Color.rgb(243, 214, 182));
+		this.paintRailwayStationOutline.setStyle(Paint.Style.STROKE);
+		this.paintRailwayStationOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayStationOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintRailwayStationOutline.setColor(Color.rgb(115, 100, 143));
+		this.paintRailwaySubway1.setStyle(Paint.Style.STROKE);
+		this.paintRailwaySubway1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwaySubway1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwaySubway1.setColor(Color.rgb(183, 183, 229));
+		this.paintRailwaySubway2.setStyle(Paint.Style.STROKE);
+		this.paintRailwaySubway2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwaySubway2.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwaySubway2.setColor(Color.rgb(25, 24, 91));
+		this.paintRailwaySubwayTunnel.setStyle(Paint.Style.STROKE);
+		this.paintRailwaySubwayTunnel.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwaySubwayTunnel.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwaySubwayTunnel.setColor(Color.argb(150, 165, 162, 184));
+		this.paintRailwayTram1.setStyle(Paint.Style.STROKE);
+		this.paintRailwayTram1.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayTram1.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayTram1.setColor(Color.rgb(229, 183, 229));
+		this.paintRailwayTram2.setStyle(Paint.Style.STROKE);
+		this.paintRailwayTram2.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRailwayTram2.setStrokeCap(Paint.Cap.BUTT);
+		this.paintRailwayTram2.setColor(Color.rgb(77, 16, 76));
+
+		this.paintRouteFerry.setStyle(Paint.Style.STROKE);
+		this.paintRouteFerry.setStrokeJoin(Paint.Join.ROUND);
+		this.paintRouteFerry.setStrokeCap(Paint.Cap.SQUARE);
+		this.paintRouteFerry.setColor(Color.rgb(113, 113, 113));
+
+		this.paintSportShootingFill.setStyle(Paint.Style.FILL);
+		this.paintSportShootingFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportShootingFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportShootingFill.setColor(Color.rgb(189, 227, 203));
+		this.paintSportShootingOutline.setStyle(Paint.Style.STROKE);
+		this.paintSportShootingOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportShootingOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportShootingOutline.setColor(Color.rgb(112, 193, 143));
+		this.paintSportSwimmingFill.setStyle(Paint.Style.FILL);
+		this.paintSportSwimmingFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportSwimmingFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportSwimmingFill.setColor(Color.rgb(181, 214, 241));
+		this.paintSportSwimmingOutline.setStyle(Paint.Style.STROKE);
+		this.paintSportSwimmingOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportSwimmingOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportSwimmingOutline.setColor(Color.rgb(97, 97, 255));
+		this.paintSportTennisFill.setStyle(Paint.Style.FILL);
+		this.paintSportTennisFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportTennisFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportTennisFill.setColor(Color.rgb(209, 138, 106));
+		this.paintSportTennisOutline.setStyle(Paint.Style.STROKE);
+		this.paintSportTennisOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintSportTennisOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintSportTennisOutline.setColor(Color.rgb(178, 108, 77));
+
+		this.paintTourismAttractionFill.setStyle(Paint.Style.FILL);
+		this.paintTourismAttractionFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintTourismAttractionFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintTourismAttractionFill.setColor(Color.rgb(242, 202, 234));
+		this.paintTourismZooFill.setStyle(Paint.Style.FILL);
+		this.paintTourismZooFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintTourismZooFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintTourismZooFill.setColor(Color.rgb(199, 241, 163));
+		this.paintTourismZooOutline.setStyle(Paint.Style.STROKE);
+		this.paintTourismZooOutline.setStrokeJoin(Paint.Join.ROUND);
+		this.paintTourismZooOutline.setStrokeCap(Paint.Cap.ROUND);
+		this.paintTourismZooOutline.setColor(Color.rgb(123, 200, 145));
+
+		this.paintWaterTileHightlight.setStyle(Paint.Style.FILL);
+		this.paintWaterTileHightlight.setStrokeJoin(Paint.Join.ROUND);
+		this.paintWaterTileHightlight.setStrokeCap(Paint.Cap.ROUND);
+		this.paintWaterTileHightlight.setColor(Color.CYAN);
+
+		this.paintWaterwayCanal.setStyle(Paint.Style.STROKE);
+		this.paintWaterwayCanal.setStrokeJoin(Paint.Join.ROUND);
+		this.paintWaterwayCanal.setStrokeCap(Paint.Cap.ROUND);
+		this.paintWaterwayCanal.setColor(Color.rgb(179, 213, 241));
+		this.paintWaterwayRiver.setStyle(Paint.Style.STROKE);
+		this.paintWaterwayRiver.setStrokeJoin(Paint.Join.ROUND);
+		this.paintWaterwayRiver.setStrokeCap(Paint.Cap.ROUND);
+		this.paintWaterwayRiver.setColor(Color.rgb(179, 213, 241));
+		this.paintWaterwayRiverbankFill.setStyle(Paint.Style.FILL);
+		this.paintWaterwayRiverbankFill.setStrokeJoin(Paint.Join.ROUND);
+		this.paintWaterwayRiverbankFill.setStrokeCap(Paint.Cap.ROUND);
+		this.paintWaterwayRiverbankFill.setColor(Color.rgb(179, 213, 241));
+		this.paintWaterwayStream.setStyle(Paint.Style.STROKE);
+		this.paintWaterwayStream.setStrokeJoin(Paint.Join.ROUND);
+		this.paintWaterwayStream.setStrokeCap(Paint.Cap.ROUND);
+		this.paintWaterwayStream.setColor(Color.rgb(179, 213, 241));
+
+		this.paintWoodConiferousPattern.setShader(this.mapPatterns.woodConiferousShader);
+		this.paintWoodDeciduousPattern.setShader(this.mapPatterns.woodDeciduousShader);
+		this.paintWoodMixedPattern.setShader(this.mapPatterns.woodMixedShader);
+	}
+
+	/**
+	 * Logs the number of way points of a tile before and after the simplification and the time
+	 * needed to draw its ways.
+	 * 
+	 * @param buffer
+	 *            the buffer with the map objects of the tile.
+	 * @param drawTime
+	 *            the time in nanoseconds needed to draw the ways.
+	 */
+	private void logSimplification(MapObjectBuffer buffer, long drawTime) {
+		Logger.debug(buffer.tile + ": " + buffer.decodedWayPoints + " way points, "
+				+ buffer.projectedWayPoints + " after simplification, ways drawn in "
+				+ drawTime / 1000 + " us");
+	}
+
+	/**
+	 * Projects the given way nodes into the given ring, which must have been added last. A point
+	 * which is closer than the tolerance to the previously kept point is skipped, the first and the
+	 * last point are always kept. The ring is shortened to the kept points and
+	 * {@link #subPixelRing} is set if all points fit into a square of the tolerance.
+	 * 
+	 * @param ring
+	 *            the index of the ring.
+	 * @param wayNodes
+	 *            the latitude and longitude pairs of the way nodes.
+	 * @param length
+	 *            the number of coordinates in the way nodes array.
+	 * @param tolerance
+	 *            the simplification tolerance in pixels.
+	 * @return the number of coordinates of the projected ring.
+	 */
+	private int projectRing(int ring, int[] wayNodes, int length, float tolerance) {
+		this.coordinates = this.geometryArena.coordinates;
+		if (length < 2) {
+			this.subPixelRing = true;
+			this.geometryArena.setLastRingLength(0);
+			return 0;
+		}
+
+		int ringOffset = this.geometryArena.getRingOffset(ring);
+		float squaredTolerance = tolerance * tolerance;
+		this.previousX = scaleLongitude(wayNodes[0]);
+		this.previousY = scaleLatitude(wayNodes[1]);
+		this.coordinates[ringOffset] = this.previousX;
+		this.coordinates[ringOffset + 1] = this.previousY;
+		int ringLength = 2;
+		float minX = this.previousX;
+		float maxX = this.previousX;
+		float minY = this.previousY;
+		float maxY = this.previousY;
+		for (int i = 2; i < length; i += 2) {
+			this.currentX = scaleLongitude(wayNodes[i]);
+			this.currentY = scaleLatitude(wayNodes[i + 1]);
+			if (this.currentX < minX) {
+				minX = this.currentX;
+			} else if (this.currentX > maxX) {
+				maxX = this.currentX;
+			}
+			if (this.currentY < minY) {
+				minY = this.currentY;
+			} else if (this.currentY > maxY) {
+				maxY = this.currentY;
+			}
+
+			this.diffX = this.currentX - this.previousX;
+			this.diffY = this.currentY - this.previousY;
+			if (i == length - 2
+					|| this.diffX * this.diffX + this.diffY * this.diffY >= squaredTolerance) {
+				this.coordinates[ringOffset + ringLength] = this.currentX;
+				this.coordinates[ringOffset + ringLength + 1] = this.currentY;
+				ringLength += 2;
+				this.previousX = this.currentX;
+				this.previousY = this.currentY;
+			}
+		}
+
+		this.subPixelRing = maxX - minX < tolerance && maxY - minY < tolerance;
+		this.geometryArena.setLastRingLength(ringLength);
+		return ringLength;
+	}
+
+	/**
+	 * Empties the given buffer after its map objects have been drawn and passes it back to the decoder
+	 * thread.
+	 * 
+	 * @param buffer
+	 *            the buffer which is not needed anymore.
+	 */
+	private void releaseBuffer(MapObjectBuffer buffer) {
+		buffer.clear();
+		synchronized (this.decodedBuffers) {
+			this.freeBuffers.add(buffer);
+			this.decodedBuffers.notifyAll();
+		}
+	}
+
+	/**
+	 * Changes the number of tiles per side which are decoded at once and adjusts the water tile
+	 * coordinates accordingly.
+	 * 
+	 * @param newMetatileSize
+	 *            the new number of tiles per side.
+	 */
+	private void resizeMetatile(int newMetatileSize) {
+		this.metatileSize = newMetatileSize;
+		int renderSize = Tile.TILE_SIZE * newMetatileSize;
+		this.waterTileCoordinates = new float[] { 0, 0, renderSize, 0, renderSize, renderSize, 0,
+				renderSize, 0, 0 };
 	}
 
 	/**
@@ -1380,6 +1881,42 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 				this.currentTile.zoomLevel) - this.currentTile.pixelX);
 	}
 
+	/**
+	 * Sets the given bridge paint to a copy of the given road paint with a wider black casing.
+	 * 
+	 * @param bridgePaint
+	 *            the paint for bridges.
+	 * @param paint
+	 *            the paint for the road on the ground.
+	 */
+	private void setBridgePaint(Paint bridgePaint, Paint paint) {
+		bridgePaint.set(paint);
+		bridgePaint.setStrokeCap(Paint.Cap.BUTT);
+		bridgePaint.setColor(Color.BLACK);
+		bridgePaint.setStrokeWidth(bridgePaint.getStrokeWidth() * 1.05f);
+	}
+
+	/**
+	 * Makes a circle the current shape.
+	 * 
+	 * @param x
+	 *            the x coordinate of the center.
+	 * @param y
+	 *            the y coordinate of the center.
+	 * @param radius
+	 *            the radius of the circle.
+	 */
+	private void setCircleShape(float x, float y, float radius) {
+		this.shapeOpcode = DisplayList.OPCODE_CIRCLE;
+		this.shapeFirstRing = this.geometryArena.addRing(3);
+		this.shapeNumberOfRings = 1;
+		float[] circle = this.geometryArena.coordinates;
+		int ringOffset = this.geometryArena.getRingOffset(this.shapeFirstRing);
+		circle[ringOffset] = x;
+		circle[ringOffset + 1] = y;
+		circle[ringOffset + 2] = radius;
+	}
+
 	/**
 	 * Sets the font size of the paints according to the given text scale.
 	 * 
@@ -1387,30 +1924,30 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 *            the text scale for map rendering.
 	 */
 	private void setPaintTextSize(float textScale) {
-		PAINT_NAME_BLACK_TINY.setTextSize(TEXT_SCALE_TINY * textScale);
-		PAINT_NAME_BLACK_TINY_CENTER.setTextSize(TEXT_SCALE_TINY * textScale);
-		PAINT_NAME_BLACK_SMALL.setTextSize(TEXT_SCALE_SMALL * textScale);
-		PAINT_NAME_BLACK_NORMAL.setTextSize(TEXT_SCALE_NORMAL * textScale);
-		PAINT_NAME_BLACK_LARGE.setTextSize(TEXT_SCALE_LARGE * textScale);
-		PAINT_NAME_BLACK_LARGER.setTextSize(TEXT_SCALE_LARGER * textScale);
-		PAINT_NAME_BLACK_HUGE.setTextSize(TEXT_SCALE_HUGE * textScale);
-
-		PAINT_NAME_BLUE_TINY.setTextSize(TEXT_SCALE_TINY * textScale);
-
-		PAINT_NAME_PURPLE_TINY.setTextSize(TEXT_SCALE_TINY * textScale);
-
-		PAINT_NAME_RED_TINY.setTextSize(TEXT_SCALE_TINY * textScale);
-		PAINT_NAME_RED_SMALLER.setTextSize(TEXT_SCALE_SMALLER * textScale);
-		PAINT_NAME_RED_NORMAL.setTextSize(TEXT_SCALE_NORMAL * textScale);
-
-		PAINT_NAME_WHITE_STROKE_TINY.setTextSize(TEXT_SCALE_TINY * textScale);
-		PAINT_NAME_WHITE_STROKE_TINY_CENTER.setTextSize(TEXT_SCALE_TINY * textScale);
-		PAINT_NAME_WHITE_STROKE_SMALLER.setTextSize(TEXT_SCALE_SMALLER * textScale);
-		PAINT_NAME_WHITE_STROKE_SMALL.setTextSize(TEXT_SCALE_SMALL * textScale);
-		PAINT_NAME_WHITE_STROKE_NORMAL.setTextSize(TEXT_SCALE_NORMAL * textScale);
-		PAINT_NAME_WHITE_STROKE_LARGE.setTextSize(TEXT_SCALE_LARGE * textScale);
-		PAINT_NAME_WHITE_STROKE_LARGER.setTextSize(TEXT_SCALE_LARGER * textScale);
-		PAINT_NAME_WHITE_STROKE_HUGE.setTextSize(TEXT_SCALE_HUGE * textScale);
+		this.paintNameBlackTiny.setTextSize(TEXT_SCALE_TINY * textScale);
+		this.paintNameBlackTinyCenter.setTextSize(TEXT_SCALE_TINY * textScale);
+		this.paintNameBlackSmall.setTextSize(TEXT_SCALE_SMALL * textScale);
+		this.paintNameBlackNormal.setTextSize(TEXT_SCALE_NORMAL * textScale);
+		this.paintNameBlackLarge.setTextSize(TEXT_SCALE_LARGE * textScale);
+		this.paintNameBlackLarger.setTextSize(TEXT_SCALE_LARGER * textScale);
+		this.paintNameBlackHuge.setTextSize(TEXT_SCALE_HUGE * textScale);
+
+		this.paintNameBlueTiny.setTextSize(TEXT_SCALE_TINY * textScale);
+
+		this.paintNamePurpleTiny.setTextSize(TEXT_SCALE_TINY * textScale);
+
+		this.paintNameRedTiny.setTextSize(TEXT_SCALE_TINY * textScale);
+		this.paintNameRedSmaller.setTextSize(TEXT_SCALE_SMALLER * textScale);
+		this.paintNameRedNormal.setTextSize(TEXT_SCALE_NORMAL * textScale);
+
+		this.paintNameWhiteStrokeTiny.setTextSize(TEXT_SCALE_TINY * textScale);
+		this.paintNameWhiteStrokeTinyCenter.setTextSize(TEXT_SCALE_TINY * textScale);
+		this.paintNameWhiteStrokeSmaller.setTextSize(TEXT_SCALE_SMALLER * textScale);
+		this.paintNameWhiteStrokeSmall.setTextSize(TEXT_SCALE_SMALL * textScale);
+		this.paintNameWhiteStrokeNormal.setTextSize(TEXT_SCALE_NORMAL * textScale);
+		this.paintNameWhiteStrokeLarge.setTextSize(TEXT_SCALE_LARGE * textScale);
+		this.paintNameWhiteStrokeLarger.setTextSize(TEXT_SCALE_LARGER * textScale);
+		this.paintNameWhiteStrokeHuge.setTextSize(TEXT_SCALE_HUGE * textScale);
 	}
 
 	/**
@@ -1457,168 +1994,280 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 				break;
 		}
 
-		PAINT_AERIALWAY.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintAerialway.setStrokeWidth(0.5f * paintScaleFactor);
 
-		PAINT_AEROWAY_AERODROME_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_AEROWAY_RUNWAY1.setStrokeWidth(7.5f * paintScaleFactor);
-		PAINT_AEROWAY_RUNWAY2.setStrokeWidth(5 * paintScaleFactor);
-		PAINT_AEROWAY_TAXIWAY1.setStrokeWidth(4 * paintScaleFactor);
-		PAINT_AEROWAY_TAXIWAY2.setStrokeWidth(3 * paintScaleFactor);
-		PAINT_AEROWAY_TERMINAL_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintAerowayAerodromeOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintAerowayRunway1.setStrokeWidth(7.5f * paintScaleFactor);
+		this.paintAerowayRunway2.setStrokeWidth(5 * paintScaleFactor);
+		this.paintAerowayTaxiway1.setStrokeWidth(4 * paintScaleFactor);
+		this.paintAerowayTaxiway2.setStrokeWidth(3 * paintScaleFactor);
+		this.paintAerowayTerminalOutline.setStrokeWidth(0.3f * paintScaleFactor);
 
-		PAINT_AMENITY_SCHOOL_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_AMENITY_PARKING_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintAmenitySchoolOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintAmenityParkingOutline.setStrokeWidth(0.3f * paintScaleFactor);
 
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2.setPathEffect(new DashPathEffect(new float[] {
+		this.paintBoundaryAdministrativeAdminLevel2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel2.setPathEffect(new DashPathEffect(new float[] {
 				3 * paintScaleFactor, 2 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setStrokeWidth(1 * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4.setPathEffect(new DashPathEffect(
+		this.paintBoundaryAdministrativeAdminLevel4.setStrokeWidth(1 * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel4.setPathEffect(new DashPathEffect(
 				new float[] { 3 * paintScaleFactor, 2 * paintScaleFactor, 1 * paintScaleFactor,
 						2 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6.setPathEffect(new DashPathEffect(new float[] {
+		this.paintBoundaryAdministrativeAdminLevel6.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel6.setPathEffect(new DashPathEffect(new float[] {
 				1 * paintScaleFactor, 4 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8.setPathEffect(new DashPathEffect(
+		this.paintBoundaryAdministrativeAdminLevel8.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel8.setPathEffect(new DashPathEffect(
 				new float[] { 3 * paintScaleFactor, 2 * paintScaleFactor, 1 * paintScaleFactor,
 						2 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9.setPathEffect(new DashPathEffect(new float[] {
+		this.paintBoundaryAdministrativeAdminLevel9.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel9.setPathEffect(new DashPathEffect(new float[] {
 				3 * paintScaleFactor, 2 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10.setPathEffect(new DashPathEffect(new float[] {
+		this.paintBoundaryAdministrativeAdminLevel10.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintBoundaryAdministrativeAdminLevel10.setPathEffect(new DashPathEffect(new float[] {
 				1 * paintScaleFactor, 4 * paintScaleFactor }, 0));
-		PAINT_BOUNDARY_NATIONAL_PARK.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_BOUNDARY_NATIONAL_PARK.setPathEffect(new DashPathEffect(new float[] {
+		this.paintBoundaryNationalPark.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintBoundaryNationalPark.setPathEffect(new DashPathEffect(new float[] {
 				1 * paintScaleFactor, 4 * paintScaleFactor }, 0));
 
-		PAINT_BUILDING_ROOF_OUTLINE.setStrokeWidth(0.1f * paintScaleFactor);
-		PAINT_BUILDING_YES_OUTLINE.setStrokeWidth(0.2f * paintScaleFactor);
+		this.paintBuildingRoofOutline.setStrokeWidth(0.1f * paintScaleFactor);
+		this.paintBuildingYesOutline.setStrokeWidth(0.2f * paintScaleFactor);
 
-		PAINT_HIGHWAY_BRIDLEWAY1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_BRIDLEWAY2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_BYWAY.setStrokeWidth(1.2f * paintScaleFactor);
-		PAINT_HIGHWAY_CONSTRUCTION.setStrokeWidth(1.3f * paintScaleFactor);
-		PAINT_HIGHWAY_CYCLEWAY1.setStrokeWidth(1.1f * paintScaleFactor);
-		PAINT_HIGHWAY_CYCLEWAY2.setStrokeWidth(0.8f * paintScaleFactor);
-		PAINT_HIGHWAY_FOOTWAY1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
+		this.paintHighwayBridleway1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayBridleway2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayByway.setStrokeWidth(1.2f * paintScaleFactor);
+		this.paintHighwayConstruction.setStrokeWidth(1.3f * paintScaleFactor);
+		this.paintHighwayCycleway1.setStrokeWidth(1.1f * paintScaleFactor);
+		this.paintHighwayCycleway2.setStrokeWidth(0.8f * paintScaleFactor);
+		this.paintHighwayFootway1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
 				1 * paintScaleFactor }, 0));
-		PAINT_HIGHWAY_FOOTWAY1.setStrokeWidth(0.8f * paintScaleFactor);
-		PAINT_HIGHWAY_FOOTWAY2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_HIGHWAY_LIVING_STREET1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_LIVING_STREET2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_MOTORWAY_LINK1.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_HIGHWAY_MOTORWAY_LINK2.setStrokeWidth(2.1f * paintScaleFactor);
-		PAINT_HIGHWAY_MOTORWAY1.setStrokeWidth(2.9f * paintScaleFactor);
-		PAINT_HIGHWAY_MOTORWAY2.setStrokeWidth(2.6f * paintScaleFactor);
-		PAINT_HIGHWAY_PATH1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
+		this.paintHighwayFootway1.setStrokeWidth(0.8f * paintScaleFactor);
+		this.paintHighwayFootway2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintHighwayLivingStreet1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayLivingStreet2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayMotorwayLink1.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintHighwayMotorwayLink2.setStrokeWidth(2.1f * paintScaleFactor);
+		this.paintHighwayMotorway1.setStrokeWidth(2.9f * paintScaleFactor);
+		this.paintHighwayMotorway2.setStrokeWidth(2.6f * paintScaleFactor);
+		this.paintHighwayPath1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
 				1 * paintScaleFactor }, 0));
-		PAINT_HIGHWAY_PATH1.setStrokeWidth(0.8f * paintScaleFactor);
-		PAINT_HIGHWAY_PATH2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE.setStrokeWidth(0.1f * paintScaleFactor);
-		PAINT_HIGHWAY_PEDESTRIAN1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_PEDESTRIAN2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_PRIMARY_LINK1.setStrokeWidth(2.1f * paintScaleFactor);
-		PAINT_HIGHWAY_PRIMARY_LINK2.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_PRIMARY1.setStrokeWidth(2.1f * paintScaleFactor);
-		PAINT_HIGHWAY_PRIMARY2.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_RESIDENTIAL1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_RESIDENTIAL2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_ROAD1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_ROAD2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_SECONDARY_LINK1.setStrokeWidth(2 * paintScaleFactor);
-		PAINT_HIGHWAY_SECONDARY_LINK2.setStrokeWidth(1.7f * paintScaleFactor);
-		PAINT_HIGHWAY_SECONDARY1.setStrokeWidth(2 * paintScaleFactor);
-		PAINT_HIGHWAY_SECONDARY2.setStrokeWidth(1.7f * paintScaleFactor);
-		PAINT_HIGHWAY_SERVICE_AREA_OUTLINE.setStrokeWidth(0.1f * paintScaleFactor);
-		PAINT_HIGHWAY_SERVICE1.setStrokeWidth(1.3f * paintScaleFactor);
-		PAINT_HIGHWAY_SERVICE2.setStrokeWidth(1 * paintScaleFactor);
-		PAINT_HIGHWAY_STEPS1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
+		this.paintHighwayPath1.setStrokeWidth(0.8f * paintScaleFactor);
+		this.paintHighwayPath2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintHighwayPedestrianAreaOutline.setStrokeWidth(0.1f * paintScaleFactor);
+		this.paintHighwayPedestrian1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayPedestrian2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayPrimaryLink1.setStrokeWidth(2.1f * paintScaleFactor);
+		this.paintHighwayPrimaryLink2.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayPrimary1.setStrokeWidth(2.1f * paintScaleFactor);
+		this.paintHighwayPrimary2.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayResidential1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayResidential2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayRoad1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayRoad2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwaySecondaryLink1.setStrokeWidth(2 * paintScaleFactor);
+		this.paintHighwaySecondaryLink2.setStrokeWidth(1.7f * paintScaleFactor);
+		this.paintHighwaySecondary1.setStrokeWidth(2 * paintScaleFactor);
+		this.paintHighwaySecondary2.setStrokeWidth(1.7f * paintScaleFactor);
+		this.paintHighwayServiceAreaOutline.setStrokeWidth(0.1f * paintScaleFactor);
+		this.paintHighwayService1.setStrokeWidth(1.3f * paintScaleFactor);
+		this.paintHighwayService2.setStrokeWidth(1 * paintScaleFactor);
+		this.paintHighwaySteps1.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
 				1 * paintScaleFactor }, 0));
-		PAINT_HIGHWAY_STEPS1.setStrokeWidth(0.8f * paintScaleFactor);
-		PAINT_HIGHWAY_STEPS2.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
+		this.paintHighwaySteps1.setStrokeWidth(0.8f * paintScaleFactor);
+		this.paintHighwaySteps2.setPathEffect(new DashPathEffect(new float[] { 1 * paintScaleFactor,
 				1 * paintScaleFactor }, 3));
-		PAINT_HIGHWAY_STEPS2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_HIGHWAY_TERTIARY1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_TERTIARY2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_TRACK1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_TRACK2.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_HIGHWAY_TRUNK_LINK1.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_HIGHWAY_TRUNK_LINK2.setStrokeWidth(2.1f * paintScaleFactor);
-		PAINT_HIGHWAY_TRUNK1.setStrokeWidth(2.6f * paintScaleFactor);
-		PAINT_HIGHWAY_TRUNK2.setStrokeWidth(2.3f * paintScaleFactor);
-		PAINT_HIGHWAY_TUNNEL.setPathEffect(new DashPathEffect(new float[] { 1.5f * paintScaleFactor,
+		this.paintHighwaySteps2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintHighwayTertiary1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayTertiary2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayTrack1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayTrack2.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintHighwayTrunkLink1.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintHighwayTrunkLink2.setStrokeWidth(2.1f * paintScaleFactor);
+		this.paintHighwayTrunk1.setStrokeWidth(2.6f * paintScaleFactor);
+		this.paintHighwayTrunk2.setStrokeWidth(2.3f * paintScaleFactor);
+		this.paintHighwayTunnel.setPathEffect(new DashPathEffect(new float[] { 1.5f * paintScaleFactor,
 				1.5f * paintScaleFactor }, 0));
-		PAINT_HIGHWAY_TUNNEL.setStrokeWidth(0.8f * paintScaleFactor);
-		PAINT_HIGHWAY_UNCLASSIFIED1.setStrokeWidth(1.8f * paintScaleFactor);
-		PAINT_HIGHWAY_UNCLASSIFIED2.setStrokeWidth(1.5f * paintScaleFactor);
-
-		PAINT_LANDUSE_ALLOTMENTS_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_LANDUSE_GRASS_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-
-		PAINT_LEISURE_COMMON_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_LEISURE_NATURE_RESERVE_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_LEISURE_STADIUM_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-
-		PAINT_MAN_MADE_PIER.setStrokeWidth(0.8f * paintScaleFactor);
-
-		PAINT_NATURAL_COASTLINE.setStrokeWidth(1 * paintScaleFactor);
-		PAINT_NATURAL_COASTLINE_INVALID.setStrokeWidth(2 * paintScaleFactor);
-		PAINT_NATURAL_COASTLINE_VALID.setStrokeWidth(2 * paintScaleFactor);
-		PAINT_NATURAL_GLACIER_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-
-		PAINT_PISTE_TYPE_DOWNHILL_ADVANCED.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_DOWNHILL_EASY.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_DOWNHILL_EXPERT.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_DOWNHILL_FREERIDE.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_DOWNHILL_NOVICE.setStrokeWidth(2.4f * paintScaleFactor);
-		PAINT_PISTE_TYPE_NORDIC.setPathEffect(new DashPathEffect(new float[] { 3 * paintScaleFactor,
+		this.paintHighwayTunnel.setStrokeWidth(0.8f * paintScaleFactor);
+		this.paintHighwayUnclassified1.setStrokeWidth(1.8f * paintScaleFactor);
+		this.paintHighwayUnclassified2.setStrokeWidth(1.5f * paintScaleFactor);
+
+		this.paintLanduseAllotmentsOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintLanduseGrassOutline.setStrokeWidth(0.3f * paintScaleFactor);
+
+		this.paintLeisureCommonOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintLeisureNatureReserveOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintLeisureStadiumOutline.setStrokeWidth(0.3f * paintScaleFactor);
+
+		this.paintManMadePier.setStrokeWidth(0.8f * paintScaleFactor);
+
+		this.paintNaturalCoastline.setStrokeWidth(1 * paintScaleFactor);
+		this.paintNaturalCoastlineInvalid.setStrokeWidth(2 * paintScaleFactor);
+		this.paintNaturalCoastlineValid.setStrokeWidth(2 * paintScaleFactor);
+		this.paintNaturalGlacierOutline.setStrokeWidth(0.3f * paintScaleFactor);
+
+		this.paintPisteTypeDownhillAdvanced.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeDownhillEasy.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeDownhillExpert.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeDownhillFreeride.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeDownhillIntermediate.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeDownhillNovice.setStrokeWidth(2.4f * paintScaleFactor);
+		this.paintPisteTypeNordic.setPathEffect(new DashPathEffect(new float[] { 3 * paintScaleFactor,
 				2 * paintScaleFactor }, 0));
-		PAINT_PISTE_TYPE_NORDIC.setStrokeWidth(1.2f * paintScaleFactor);
+		this.paintPisteTypeNordic.setStrokeWidth(1.2f * paintScaleFactor);
 
-		PAINT_RAILWAY_RAIL_TUNNEL.setPathEffect(new DashPathEffect(new float[] {
+		this.paintRailwayRailTunnel.setPathEffect(new DashPathEffect(new float[] {
 				1.5f * paintScaleFactor, 1.5f * paintScaleFactor }, 0));
-		PAINT_RAILWAY_RAIL_TUNNEL.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_RAILWAY_RAIL1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
+		this.paintRailwayRailTunnel.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintRailwayRail1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
 				2 * paintScaleFactor }, 0));
-		PAINT_RAILWAY_RAIL1.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_RAILWAY_RAIL2.setStrokeWidth(0.6f * paintScaleFactor);
-		PAINT_RAILWAY_TRAM1.setStrokeWidth(0.4f * paintScaleFactor);
-		PAINT_RAILWAY_TRAM1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
+		this.paintRailwayRail1.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintRailwayRail2.setStrokeWidth(0.6f * paintScaleFactor);
+		this.paintRailwayTram1.setStrokeWidth(0.4f * paintScaleFactor);
+		this.paintRailwayTram1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
 				2 * paintScaleFactor }, 0));
-		PAINT_RAILWAY_TRAM2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_RAILWAY_LIGHT_RAIL1.setStrokeWidth(0.4f * paintScaleFactor);
-		PAINT_RAILWAY_LIGHT_RAIL1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
+		this.paintRailwayTram2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintRailwayLightRail1.setStrokeWidth(0.4f * paintScaleFactor);
+		this.paintRailwayLightRail1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
 				2 * paintScaleFactor }, 0));
-		PAINT_RAILWAY_LIGHT_RAIL2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_RAILWAY_SUBWAY1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
+		this.paintRailwayLightRail2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintRailwaySubway1.setPathEffect(new DashPathEffect(new float[] { 2 * paintScaleFactor,
 				2 * paintScaleFactor }, 0));
-		PAINT_RAILWAY_SUBWAY1.setStrokeWidth(0.4f * paintScaleFactor);
-		PAINT_RAILWAY_SUBWAY2.setStrokeWidth(0.5f * paintScaleFactor);
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setPathEffect(new DashPathEffect(new float[] {
+		this.paintRailwaySubway1.setStrokeWidth(0.4f * paintScaleFactor);
+		this.paintRailwaySubway2.setStrokeWidth(0.5f * paintScaleFactor);
+		this.paintRailwaySubwayTunnel.setPathEffect(new DashPathEffect(new float[] {
 				1 * paintScaleFactor, 1 * paintScaleFactor }, 0));
-		PAINT_RAILWAY_SUBWAY_TUNNEL.setStrokeWidth(0.4f * paintScaleFactor);
-		PAINT_RAILWAY_STATION_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintRailwaySubwayTunnel.setStrokeWidth(0.4f * paintScaleFactor);
+		this.paintRailwayStationOutline.setStrokeWidth(0.3f * paintScaleFactor);
 
-		PAINT_ROUTE_FERRY.setPathEffect(new DashPathEffect(new float[] { 3 * paintScaleFactor,
+		this.paintRouteFerry.setPathEffect(new DashPathEffect(new float[] { 3 * paintScaleFactor,
 				3 * paintScaleFactor }, 0));
-		PAINT_ROUTE_FERRY.setStrokeWidth(1 * paintScaleFactor);
+		this.paintRouteFerry.setStrokeWidth(1 * paintScaleFactor);
+
+		this.paintSportShootingOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintSportSwimmingOutline.setStrokeWidth(0.3f * paintScaleFactor);
+		this.paintSportTennisOutline.setStrokeWidth(0.3f * paintScaleFactor);
+
+		this.paintTourismZooOutline.setStrokeWidth(0.3f * paintScaleFactor);
+
+		this.paintWaterwayCanal.setStrokeWidth(1.5f * paintScaleFactor);
+		this.paintWaterwayRiver.setStrokeWidth(1 * paintScaleFactor);
+		this.paintWaterwayStream.setStrokeWidth(0.7f * paintScaleFactor);
+
+		// bridges are drawn with a wider black casing of the road paint
+		setBridgePaint(this.paintHighwayBridlewayBridge, this.paintHighwayBridleway1);
+		this.paintHighwayConstructionBridge.set(this.paintHighwayConstruction);
+		this.paintHighwayConstructionBridge.setStrokeCap(Paint.Cap.BUTT);
+		setBridgePaint(this.paintHighwayCyclewayBridge, this.paintHighwayCycleway1);
+		setBridgePaint(this.paintHighwayFootwayBridge, this.paintHighwayFootway1);
+		this.paintHighwayFootwayBridge.setPathEffect(null);
+		setBridgePaint(this.paintHighwayLivingStreetBridge, this.paintHighwayLivingStreet1);
+		setBridgePaint(this.paintHighwayMotorwayBridge, this.paintHighwayMotorway1);
+		setBridgePaint(this.paintHighwayMotorwayLinkBridge, this.paintHighwayMotorwayLink1);
+		setBridgePaint(this.paintHighwayPathBridge, this.paintHighwayPath1);
+		setBridgePaint(this.paintHighwayPedestrianBridge, this.paintHighwayPedestrian1);
+		setBridgePaint(this.paintHighwayPrimaryBridge, this.paintHighwayPrimary1);
+		setBridgePaint(this.paintHighwayPrimaryLinkBridge, this.paintHighwayPrimaryLink1);
+		setBridgePaint(this.paintHighwayResidentialBridge, this.paintHighwayResidential1);
+		setBridgePaint(this.paintHighwayRoadBridge, this.paintHighwayRoad1);
+		setBridgePaint(this.paintHighwaySecondaryBridge, this.paintHighwaySecondary1);
+		setBridgePaint(this.paintHighwaySecondaryLinkBridge, this.paintHighwaySecondaryLink1);
+		setBridgePaint(this.paintHighwayServiceBridge, this.paintHighwayService1);
+		setBridgePaint(this.paintHighwayStepsBridge, this.paintHighwaySteps1);
+		setBridgePaint(this.paintHighwayTertiaryBridge, this.paintHighwayTertiary1);
+		setBridgePaint(this.paintHighwayTrackBridge, this.paintHighwayTrack1);
+		setBridgePaint(this.paintHighwayTrunkBridge, this.paintHighwayTrunk1);
+		setBridgePaint(this.paintHighwayTrunkLinkBridge, this.paintHighwayTrunkLink1);
+		setBridgePaint(this.paintHighwayUnclassifiedBridge, this.paintHighwayUnclassified1);
+	}
+
+	/**
+	 * Cuts all tiles out of the rendered metatile. The tiles which are not cached yet are passed to
+	 * the caches immediately, except for the tile of the job, which is left in the tile bitmap.
+	 * 
+	 * @param buffer
+	 *            the buffer with the map objects of the metatile.
+	 * @return true if the tile of the job is available, false if the job was interrupted.
+	 */
+	private boolean sliceMetatile(MapObjectBuffer buffer) {
+		Tile jobTile = buffer.job.tile;
+		int renderProfileId = TileKey.getRenderProfileId(buffer.job.key);
+		setRenderBitmap(this.tileBitmap);
+
+		long key;
+		Tile tile;
+		for (long y = buffer.tile.y; y < buffer.tile.y + buffer.metatileSize; ++y) {
+			for (long x = buffer.tile.x; x < buffer.tile.x + buffer.metatileSize; ++x) {
+				if (isInterrupted()) {
+					return false;
+				} else if (x == jobTile.x && y == jobTile.y) {
+					continue;
+				}
+				key = TileKey.pack(x, y, jobTile.zoomLevel, renderProfileId);
+				if (!isTileCached(key)) {
+					tile = new Tile(x, y, jobTile.zoomLevel);
+					sliceTile(buffer, tile);
+					putTile(tile, key, this.tileBitmap);
+				}
+			}
+		}
+		sliceTile(buffer, jobTile);
+		return true;
+	}
+
+	/**
+	 * Copies the given tile from the metatile bitmap to the tile bitmap and draws the debug
+	 * information of the job on it.
+	 * 
+	 * @param buffer
+	 *            the buffer with the map objects of the metatile.
+	 * @param tile
+	 *            a tile of the metatile.
+	 */
+	private void sliceTile(MapObjectBuffer buffer, Tile tile) {
+		this.sliceCanvas.drawBitmap(this.metatileBitmap, buffer.tile.pixelX - tile.pixelX,
+				buffer.tile.pixelY - tile.pixelY, null);
 
-		PAINT_SPORT_SHOOTING_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_SPORT_SWIMMING_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
-		PAINT_SPORT_TENNIS_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
+		if (buffer.job.drawTileFrames) {
+			drawTileFrame();
+		}
 
-		PAINT_TOURISM_ZOO_OUTLINE.setStrokeWidth(0.3f * paintScaleFactor);
+		if (buffer.job.drawTileCoordinates) {
+			drawTileCoordinates(tile);
+		}
+	}
 
-		PAINT_WATERWAY_CANAL.setStrokeWidth(1.5f * paintScaleFactor);
-		PAINT_WATERWAY_RIVER.setStrokeWidth(1 * paintScaleFactor);
-		PAINT_WATERWAY_STREAM.setStrokeWidth(0.7f * paintScaleFactor);
+	/**
+	 * Waits until the map objects of all other buffers have been drawn. The decoder thread calls this
+	 * method before it changes any paint which might still be referenced by these map objects.
+	 */
+	private void waitForDrawnBuffers() {
+		Thread decoder = Thread.currentThread();
+		synchronized (this.decodedBuffers) {
+			while (!decoder.isInterrupted() && this.freeBuffers.size() < MAP_OBJECT_BUFFERS - 1) {
+				try {
+					this.decodedBuffers.wait();
+				} catch (InterruptedException e) {
+					// restore the interrupted status
+					decoder.interrupt();
+				}
+			}
+		}
 	}
 
 	@Override
 	final void cleanup() {
+		// stop the decoder thread before the shared objects are released
+		if (this.decoderThread != null) {
+			this.decoderThread.interrupt();
+			try {
+				this.decoderThread.join();
+			} catch (InterruptedException e) {
+				// restore the interrupted status
+				interrupt();
+			}
+			this.decoderThread = null;
+		}
+
 		// free the memory of the map symbols
 		if (this.mapSymbols != null) {
 			this.mapSymbols.recycle();
@@ -1631,6 +2280,12 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 			this.mapPatterns = null;
 		}
 
+		// free the memory of the metatile bitmap
+		if (this.metatileBitmap != null) {
+			this.metatileBitmap.recycle();
+			this.metatileBitmap = null;
+		}
+
 		this.currentTile = null;
 		this.tileBitmap = null;
 		this.database = null;
@@ -1683,72 +2338,16 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 * @param levelsPerLayer
 	 *            the amount of levels per layer.
 	 */
-	abstract void drawWays(List<List<List<ShapePaintContainer>>> drawWays, byte layers,
-			byte levelsPerLayer);
+	abstract void drawWays(DisplayList displayList);
 
 	@Override
 	final boolean executeJob(MapGeneratorJob mapGeneratorJob) {
-		this.currentJob = mapGeneratorJob;
-		this.currentTile = mapGeneratorJob.tile;
-
-		// check if the zoom level has changed
-		if (this.currentTile.zoomLevel != this.lastTileZoomLevel) {
-			setPaintZoomLevel(this.currentTile.zoomLevel);
-			this.lastTileZoomLevel = this.currentTile.zoomLevel;
-		}
-
-		// check if the text scale has changed
-		if (this.currentJob.textScale != this.lastTileTextScale) {
-			setPaintTextSize(this.currentJob.textScale);
-			this.lastTileTextScale = this.currentJob.textScale;
-		}
-
-		this.database.executeQuery(this.currentTile,
-				this.currentTile.zoomLevel >= MIN_ZOOM_LEVEL_WAY_NAMES, this);
-
-		if (isInterrupted()) {
-			return false;
-		}
-
-		// start the coastline algorithm for generating closed polygons
-		this.coastlineAlgorithm.setTiles(this.tileForCoastlineAlgorithm, this.currentTile);
-		this.coastlineAlgorithm.generateClosedPolygons(this);
-
-		// erase the tileBitmap with the default color
-		this.tileBitmap.eraseColor(TILE_BACKGROUND);
-
-		// draw all map objects
-		drawWays(this.ways, LAYERS, LayerIds.LEVELS_PER_LAYER);
-		if (isInterrupted()) {
-			return false;
-		}
-
-		drawSymbols(this.waySymbols);
-		this.nodes = this.labelPlacement.placeLabels(this.nodes, this.pointSymbols, this.areaLabels,
-				this.currentTile);
-		drawSymbols(this.pointSymbols);
-		if (isInterrupted()) {
-			return false;
-		}
-
-		drawWayNames(this.wayNames);
-		if (isInterrupted()) {
-			return false;
-		}
-
-		drawNodes(this.nodes);
-		drawNodes(this.areaLabels);
-
-		if (mapGeneratorJob.drawTileFrames) {
-			drawTileFrame();
-		}
-
-		if (mapGeneratorJob.drawTileCoordinates) {
-			drawTileCoordinates(this.currentTile);
+		if (this.pipelined) {
+			// the map objects have been decoded in advance by the decoder thread
+			return this.rasterBuffer.decoded && drawMapObjects(this.rasterBuffer);
 		}
-
-		finishMapGeneration();
-		return true;
+		return decodeJob(mapGeneratorJob, this.mapObjectBuffers[0])
+				&& drawMapObjects(this.mapObjectBuffers[0]);
 	}
 
 	/**
@@ -1779,32 +2378,106 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	}
 
 	/**
-	 * This method must be called each time a new map file is set for the database.
+	 * Returns the node tags which select a render rule at the given zoom level.
+	 * 
+	 * @param zoomLevel
+	 *            the zoom level.
+	 * @return a flag for each node tag id of the map file, true if the tag is rendered.
 	 */
-	final void onMapFileChange() {
-		this.tagIDsNodes.update(this.database.getNodeTags());
-		this.tagIDsWays.update(this.database.getWayTags());
+	final boolean[] getRenderableNodeTags(byte zoomLevel) {
+		return this.nodeRuleTable.getRenderableTags(zoomLevel);
 	}
 
-	@Override
-	final void prepareMapGeneration() {
-		// clear all data structures for the map objects
-		for (byte i = LAYERS - 1; i >= 0; --i) {
-			this.innerWayList = this.ways.get(i);
-			for (byte j = LayerIds.LEVELS_PER_LAYER - 1; j >= 0; --j) {
-				this.innerWayList.get(j).clear();
-			}
-		}
-		this.wayNames.clear();
-		this.nodes.clear();
-		this.areaLabels.clear();
-		this.waySymbols.clear();
-		this.pointSymbols.clear();
-		this.coastlineAlgorithm.clearCoastlineSegments();
+	/**
+	 * Returns the way tags which select a render rule at the given zoom level.
+	 * 
+	 * @param zoomLevel
+	 *            the zoom level.
+	 * @return a flag for each way tag id of the map file, true if the tag is rendered.
+	 */
+	final boolean[] getRenderableWayTags(byte zoomLevel) {
+		return this.wayRuleTable.getRenderableTags(zoomLevel);
 	}
 
-	final void renderCoastlineTile(Tile tile) {
-		this.tileForCoastlineAlgorithm = tile;
+	/**
+	 * Checks if the job which is currently executed should be cancelled. This method is called by the
+	 * database between reading two blocks.
+	 * 
+	 * @return true if the current job should be cancelled, false otherwise.
+	 */
+	final boolean isCurrentJobCancelled() {
+		return isJobCancelled(this.currentJob);
+	}
+
+	/**
+	 * In pipelined mode, the MapGenerator is only ready if the decoder thread waits for a job and no
+	 * decoded buffer is waiting or being drawn.
+	 */
+	@Override
+	final boolean isReady() {
+		if (!this.pipelined) {
+			return super.isReady();
+		}
+		synchronized (this.decodedBuffers) {
+			// the decoder thread holds the only buffer which is not free while it waits for a job
+			return super.isReady() && this.decodedBuffers.isEmpty()
+					&& this.freeBuffers.size() == MAP_OBJECT_BUFFERS - 1;
+		}
+	}
+
+	/**
+	 * In pipelined mode, returns the next job whose map objects have been decoded by the decoder
+	 * thread. Otherwise the job is taken from the job queue.
+	 * 
+	 * @return the next job or null, if the thread was interrupted or the decoder thread has stopped.
+	 */
+	@Override
+	final MapGeneratorJob nextJob() {
+		if (!this.pipelined) {
+			return super.nextJob();
+		}
+
+		synchronized (this.decodedBuffers) {
+			while (!isInterrupted() && this.decodedBuffers.isEmpty() && !this.decodedBuffersClosed) {
+				try {
+					this.decodedBuffers.wait();
+				} catch (InterruptedException e) {
+					// restore the interrupted status
+					interrupt();
+				}
+			}
+			if (isInterrupted() || this.decodedBuffers.isEmpty()) {
+				return null;
+			}
+			this.rasterBuffer = this.decodedBuffers.remove(0);
+			return this.rasterBuffer.job;
+		}
+	}
+
+	/**
+	 * This method must be called each time a new map file is set for the database.
+	 */
+	final void onMapFileChange() {
+		this.tagIDsNodes.update(this.database.getNodeTags());
+		this.tagIDsWays.update(this.database.getWayTags());
+		this.nodeRuleTable.compile(this.database.getNodeTags());
+		this.wayRuleTable.compile(this.database.getWayTags());
+	}
+
+	@Override
+	final void prepareMapGeneration() {
+		if (!this.pipelined) {
+			// clear all data structures for the map objects
+			this.mapObjectBuffers[0].clear();
+		} else if (this.rasterBuffer != null) {
+			// the map objects of the previous job have been drawn
+			releaseBuffer(this.rasterBuffer);
+			this.rasterBuffer = null;
+		}
+	}
+
+	final void renderCoastlineTile(Tile tile) {
+		this.tileForCoastlineAlgorithm = tile;
 	}
 
 	/**
@@ -1824,463 +2497,435 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 *            the elevation of the node (may be null).
 	 * @param nodeTagIds
 	 *            the tag id array of the node.
+	 * @param nodeTags
+	 *            the ids of the tags of the node.
+	 * @param nodeNumberOfTags
+	 *            the number of tags of the node.
 	 */
 	final void renderPointOfInterest(byte nodeLayer, int latitude, int longitude, String nodeName,
-			String houseNumber, String nodeElevation, boolean[] nodeTagIds) {
+			String houseNumber, String nodeElevation, boolean[] nodeTagIds, int[] nodeTags,
+			byte nodeNumberOfTags) {
+		this.nodeRuleTable.match(nodeTags, nodeNumberOfTags, this.currentTile.zoomLevel,
+				this.nodeRuleMatches);
 		float nodeX = scaleLongitude(longitude);
 		float nodeY = scaleLatitude(latitude);
 
 		// check for a valid layer value
 		if (nodeLayer < 0) {
-			this.layer = this.ways.get(0);
+			this.layer = 0;
 		} else if (nodeLayer >= LAYERS) {
-			this.layer = this.ways.get(LAYERS - 1);
+			this.layer = LAYERS - 1;
 		} else {
-			this.layer = this.ways.get(nodeLayer);
+			this.layer = nodeLayer;
 		}
 
 		/* houseNumber */
 		if (houseNumber != null && this.currentTile.zoomLevel >= 17) {
 			this.nodes.add(new PointTextContainer(houseNumber, nodeX, nodeY,
-					PAINT_NAME_BLACK_TINY, PAINT_NAME_WHITE_STROKE_TINY));
+					this.paintNameBlackTiny, this.paintNameWhiteStrokeTiny));
 		}
 
-		/* aeroway */
-		if (this.tagIDsNodes.aeroway$aerodrome != null
-				&& nodeTagIds[this.tagIDsNodes.aeroway$aerodrome.intValue()]
-				&& this.currentTile.zoomLevel <= 14) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.airport);
-		} else if (this.tagIDsNodes.aeroway$helipad != null
-				&& nodeTagIds[this.tagIDsNodes.aeroway$helipad.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.helipad);
-		}
-
-		/* amenity */
-		else if (this.tagIDsNodes.amenity$pub != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$pub.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.pub);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_RED_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$cinema != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$cinema.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.cinema);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$theatre != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$theatre.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.theatre);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$fire_station != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$fire_station.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.firebrigade);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$shelter != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$shelter.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.shelter);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$school != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$school.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.school);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$university != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$university.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.university);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$place_of_worship != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$place_of_worship.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.church);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$atm != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$atm.intValue()]
-				&& this.currentTile.zoomLevel >= 17) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.atm);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$library != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$library.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.library);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$fast_food != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$fast_food.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.fastfood);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$parking != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$parking.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.parking);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$hospital != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$hospital.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.hospital);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$restaurant != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$restaurant.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.restaurant);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$bank != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$bank.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.bank);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$cafe != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$cafe.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.cafe);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$fuel != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$fuel.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.petrolStation);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$bus_station != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$bus_station.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.bus_sta);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.amenity$post_box != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$post_box.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.postbox);
-		} else if (this.tagIDsNodes.amenity$post_office != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$post_office.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.postoffice);
-		} else if (this.tagIDsNodes.amenity$pharmacy != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$pharmacy.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.pharmacy);
-		} else if (this.tagIDsNodes.amenity$fountain != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$fountain.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.fountain);
-		} else if (this.tagIDsNodes.amenity$recycling != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$recycling.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.recycling);
-		} else if (this.tagIDsNodes.amenity$telephone != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$telephone.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.telephone);
-		} else if (this.tagIDsNodes.amenity$toilets != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$toilets.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.toilets);
-		} else if (this.tagIDsNodes.amenity$bicycle_rental != null
-				&& nodeTagIds[this.tagIDsNodes.amenity$bicycle_rental.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.bicycle_rental);
-		}
+		switch (this.nodeRuleMatches[NodeRules.POI]) {
+			/* aeroway */
+			case NodeRules.AEROWAY$AERODROME:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.airport);
+				break;
+			case NodeRules.AEROWAY$HELIPAD:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.helipad);
+				break;
 
-		/* barrier */
-		else if (this.tagIDsNodes.barrier$bollard != null
-				&& nodeTagIds[this.tagIDsNodes.barrier$bollard.intValue()]) {
-			this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-					new ShapePaintContainer(new CircleContainer(nodeX, nodeY,
-							1.5f), PAINT_BARRIER_BOLLARD));
-		}
+			/* amenity */
+			case NodeRules.AMENITY$PUB:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.pub);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameRedTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$CINEMA:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.cinema);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$THEATRE:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.theatre);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$FIRE_STATION:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.firebrigade);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$SHELTER:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.shelter);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$SCHOOL:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.school);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$UNIVERSITY:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.university);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$PLACE_OF_WORSHIP:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.church);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$ATM:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.atm);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$LIBRARY:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.library);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$FAST_FOOD:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.fastfood);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$PARKING:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.parking);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$HOSPITAL:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.hospital);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$RESTAURANT:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.restaurant);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$BANK:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.bank);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$CAFE:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.cafe);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$FUEL:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.petrolStation);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$BUS_STATION:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.bus_sta);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.AMENITY$POST_BOX:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.postbox);
+				break;
+			case NodeRules.AMENITY$POST_OFFICE:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.postoffice);
+				break;
+			case NodeRules.AMENITY$PHARMACY:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.pharmacy);
+				break;
+			case NodeRules.AMENITY$FOUNTAIN:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.fountain);
+				break;
+			case NodeRules.AMENITY$RECYCLING:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.recycling);
+				break;
+			case NodeRules.AMENITY$TELEPHONE:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.telephone);
+				break;
+			case NodeRules.AMENITY$TOILETS:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.toilets);
+				break;
+			case NodeRules.AMENITY$BICYCLE_RENTAL:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.bicycle_rental);
+				break;
 
-		/* highway */
-		else if (this.tagIDsNodes.highway$bus_stop != null
-				&& nodeTagIds[this.tagIDsNodes.highway$bus_stop.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.bus);
-		} else if (this.tagIDsNodes.highway$traffic_signals != null
-				&& nodeTagIds[this.tagIDsNodes.highway$traffic_signals.intValue()]
-				&& this.currentTile.zoomLevel >= 17) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.traffic_signal);
-		}
+			/* barrier */
+			case NodeRules.BARRIER$BOLLARD:
+				setCircleShape(nodeX, nodeY, 1.5f);
+				addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintBarrierBollard);
+				break;
 
-		/* historic */
-		else if ((this.tagIDsNodes.historic$memorial != null && nodeTagIds[this.tagIDsNodes.historic$memorial
-				.intValue()])
-				|| (this.tagIDsNodes.historic$monument != null && nodeTagIds[this.tagIDsNodes.historic$monument
-						.intValue()])) {
-			this.shapeContainer = new CircleContainer(nodeX, nodeY, 3);
-			this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_HISTORIC_CIRCLE_INNER));
-			this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_HISTORIC_CIRCLE_OUTER));
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX,
-						nodeY - 8, PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		}
+			/* highway */
+			case NodeRules.HIGHWAY$BUS_STOP:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.bus);
+				break;
+			case NodeRules.HIGHWAY$TRAFFIC_SIGNALS:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.traffic_signal);
+				break;
 
-		/* leisure */
-		else if (this.tagIDsNodes.leisure$playground != null
-				&& nodeTagIds[this.tagIDsNodes.leisure$playground.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.playground);
-		}
+			/* historic */
+			case NodeRules.HISTORIC$MEMORIAL:
+				setCircleShape(nodeX, nodeY, 3);
+				addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintHistoricCircleInner);
+				addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintHistoricCircleOuter);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX,
+							nodeY - 8, this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
 
-		/* man_made */
-		else if (this.tagIDsNodes.man_made$windmill != null
-				&& nodeTagIds[this.tagIDsNodes.man_made$windmill.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.windmill);
-		}
+			/* leisure */
+			case NodeRules.LEISURE$PLAYGROUND:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.playground);
+				break;
 
-		/* natural */
-		else if (this.tagIDsNodes.natural$cave_entrance != null
-				&& nodeTagIds[this.tagIDsNodes.natural$cave_entrance.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.cave_entrance);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_SMALL, PAINT_NAME_WHITE_STROKE_SMALL));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.natural$peak != null
-				&& nodeTagIds[this.tagIDsNodes.natural$peak.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.peak);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_SMALL, PAINT_NAME_WHITE_STROKE_SMALL));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-			if (nodeElevation != null && this.currentTile.zoomLevel >= 17) {
-				this.nodes.add(new PointTextContainer(nodeElevation, nodeX,
-						nodeY + 18, PAINT_NAME_BLACK_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		} else if (this.tagIDsNodes.natural$volcano != null
-				&& nodeTagIds[this.tagIDsNodes.natural$volcano.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.vulcan);
-			if (nodeName != null && this.currentTile.zoomLevel >= 14) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_TINY, PAINT_NAME_WHITE_STROKE_SMALLER));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-			if (nodeElevation != null && this.currentTile.zoomLevel >= 17) {
-				this.nodes.add(new PointTextContainer(nodeElevation, nodeX,
-						nodeY + 18, PAINT_NAME_BLACK_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		}
+			/* man_made */
+			case NodeRules.MAN_MADE$WINDMILL:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.windmill);
+				break;
 
-		/* place */
-		else if (this.tagIDsNodes.place$city != null
-				&& nodeTagIds[this.tagIDsNodes.place$city.intValue()]) {
-			if (nodeName != null && this.currentTile.zoomLevel <= 14) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_HUGE, PAINT_NAME_WHITE_STROKE_HUGE));
-			}
-		} else if (this.tagIDsNodes.place$country != null
-				&& nodeTagIds[this.tagIDsNodes.place$country.intValue()]) {
-			if (nodeName != null && this.currentTile.zoomLevel <= 6) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_HUGE, PAINT_NAME_WHITE_STROKE_HUGE));
-			}
-		} else if (this.tagIDsNodes.place$island != null
-				&& nodeTagIds[this.tagIDsNodes.place$island.intValue()]) {
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_LARGER, PAINT_NAME_WHITE_STROKE_LARGER));
-			}
-		} else if ((this.tagIDsNodes.place$suburb != null && nodeTagIds[this.tagIDsNodes.place$suburb
-				.intValue()])
-				|| (this.tagIDsNodes.place$town != null && nodeTagIds[this.tagIDsNodes.place$town
-						.intValue()])
-				|| (this.tagIDsNodes.place$village != null && nodeTagIds[this.tagIDsNodes.place$village
-						.intValue()])) {
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLACK_LARGE, PAINT_NAME_WHITE_STROKE_LARGE));
-			}
-		}
+			/* natural */
+			case NodeRules.NATURAL$CAVE_ENTRANCE:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.cave_entrance);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackSmall, this.paintNameWhiteStrokeSmall));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.NATURAL$PEAK:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.peak);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackSmall, this.paintNameWhiteStrokeSmall));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				if (nodeElevation != null && this.currentTile.zoomLevel >= 17) {
+					this.nodes.add(new PointTextContainer(nodeElevation, nodeX,
+							nodeY + 18, this.paintNameBlackTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
+			case NodeRules.NATURAL$VOLCANO:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.vulcan);
+				if (nodeName != null && this.currentTile.zoomLevel >= 14) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackTiny, this.paintNameWhiteStrokeSmaller));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				if (nodeElevation != null && this.currentTile.zoomLevel >= 17) {
+					this.nodes.add(new PointTextContainer(nodeElevation, nodeX,
+							nodeY + 18, this.paintNameBlackTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
 
-		/* railway */
-		else if (this.tagIDsNodes.railway$level_crossing != null
-				&& nodeTagIds[this.tagIDsNodes.railway$level_crossing.intValue()]) {
-			/* crossing */
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.railway_crossing);
-		} else if (this.tagIDsNodes.railway$station != null
-				&& nodeTagIds[this.tagIDsNodes.railway$station.intValue()]) {
-			/* station */
-			if ((this.tagIDsNodes.station$light_rail != null && nodeTagIds[this.tagIDsNodes.station$light_rail
-					.intValue()])
-					|| (this.tagIDsNodes.station$subway != null && nodeTagIds[this.tagIDsNodes.station$subway
-							.intValue()])) {
-				this.shapeContainer = new CircleContainer(nodeX, nodeY, 4);
-				this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_INNER));
-				this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_OUTER));
+			/* place */
+			case NodeRules.PLACE$CITY:
+				if (nodeName != null && this.currentTile.zoomLevel <= 14) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackHuge, this.paintNameWhiteStrokeHuge));
+				}
+				break;
+			case NodeRules.PLACE$COUNTRY:
+				if (nodeName != null && this.currentTile.zoomLevel <= 6) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackHuge, this.paintNameWhiteStrokeHuge));
+				}
+				break;
+			case NodeRules.PLACE$ISLAND:
 				if (nodeName != null) {
-					this.nodes.add(new PointTextContainer(nodeName, nodeX,
-							nodeY - 10, PAINT_NAME_RED_SMALLER,
-							PAINT_NAME_WHITE_STROKE_SMALLER));
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackLarger, this.paintNameWhiteStrokeLarger));
 				}
-			} else {
-				this.shapeContainer = new CircleContainer(nodeX, nodeY, 6);
-				this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_INNER));
-				this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_OUTER));
+				break;
+			case NodeRules.PLACE$SUBURB:
 				if (nodeName != null) {
-					this.nodes.add(new PointTextContainer(nodeName, nodeX,
-							nodeY - 15, PAINT_NAME_RED_NORMAL,
-							PAINT_NAME_WHITE_STROKE_NORMAL));
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlackLarge, this.paintNameWhiteStrokeLarge));
 				}
-			}
-		} else if ((this.tagIDsNodes.railway$halt != null && nodeTagIds[this.tagIDsNodes.railway$halt
-				.intValue()])
-				|| (this.tagIDsNodes.railway$tram_stop != null && nodeTagIds[this.tagIDsNodes.railway$tram_stop
-						.intValue()])) {
-			/* halt or tram_stop */
-			this.shapeContainer = new CircleContainer(nodeX, nodeY, 4);
-			this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_INNER));
-			this.layer.get(LayerIds.POI_CIRCLE_SYMBOL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_CIRCLE_OUTER));
-			if (nodeName != null) {
-				this.nodes
-						.add(new PointTextContainer(nodeName, nodeX,
-								nodeY - 10, PAINT_NAME_RED_SMALLER,
-								PAINT_NAME_WHITE_STROKE_SMALLER));
-			}
-		}
+				break;
 
-		/* shop */
-		else if (this.tagIDsNodes.shop$bakery != null
-				&& nodeTagIds[this.tagIDsNodes.shop$bakery.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.bakery);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.shop$organic != null
-				&& nodeTagIds[this.tagIDsNodes.shop$organic.intValue()]) {
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		} else if (this.tagIDsNodes.shop$supermarket != null
-				&& nodeTagIds[this.tagIDsNodes.shop$supermarket.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.supermarket);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		}
+			/* railway */
+			case NodeRules.RAILWAY$LEVEL_CROSSING:
+				/* crossing */
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.railway_crossing);
+				break;
+			case NodeRules.RAILWAY$STATION:
+				/* station */
+				if ((this.tagIDsNodes.station$light_rail != null && nodeTagIds[this.tagIDsNodes.station$light_rail
+						.intValue()])
+						|| (this.tagIDsNodes.station$subway != null && nodeTagIds[this.tagIDsNodes.station$subway
+								.intValue()])) {
+					setCircleShape(nodeX, nodeY, 4);
+					addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleInner);
+					addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleOuter);
+					if (nodeName != null) {
+						this.nodes.add(new PointTextContainer(nodeName, nodeX,
+								nodeY - 10, this.paintNameRedSmaller,
+								this.paintNameWhiteStrokeSmaller));
+					}
+				} else {
+					setCircleShape(nodeX, nodeY, 6);
+					addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleInner);
+					addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleOuter);
+					if (nodeName != null) {
+						this.nodes.add(new PointTextContainer(nodeName, nodeX,
+								nodeY - 15, this.paintNameRedNormal,
+								this.paintNameWhiteStrokeNormal));
+					}
+				}
+				break;
+			case NodeRules.RAILWAY$HALT:
+				/* halt or tram_stop */
+				setCircleShape(nodeX, nodeY, 4);
+				addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleInner);
+				addShape(LayerIds.POI_CIRCLE_SYMBOL, this.paintRailwayCircleOuter);
+				if (nodeName != null) {
+					this.nodes
+							.add(new PointTextContainer(nodeName, nodeX,
+									nodeY - 10, this.paintNameRedSmaller,
+									this.paintNameWhiteStrokeSmaller));
+				}
+				break;
 
-		/* tourism */
-		else if (this.tagIDsNodes.tourism$information != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$information.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.information);
-		} else if (this.tagIDsNodes.tourism$museum != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$museum.intValue()]) {
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		} else if (this.tagIDsNodes.tourism$hostel != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$hostel.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.hostel);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.tourism$hotel != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$hotel.intValue()]) {
-			this.symbolContainer = addPOISymbol(nodeX, nodeY,
-					this.mapSymbols.hotel);
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_BLUE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-				this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
-			}
-		} else if (this.tagIDsNodes.tourism$attraction != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$attraction.intValue()]) {
-			if (nodeName != null) {
-				this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
-						PAINT_NAME_PURPLE_TINY, PAINT_NAME_WHITE_STROKE_TINY));
-			}
-		} else if (this.tagIDsNodes.tourism$viewpoint != null
-				&& nodeTagIds[this.tagIDsNodes.tourism$viewpoint.intValue()]) {
-			addPOISymbol(nodeX, nodeY, this.mapSymbols.viewpoint);
-		}
+			/* shop */
+			case NodeRules.SHOP$BAKERY:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.bakery);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.SHOP$ORGANIC:
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
+			case NodeRules.SHOP$SUPERMARKET:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.supermarket);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
 
-		/* unknown node */
-		else {
-			return;
+			/* tourism */
+			case NodeRules.TOURISM$INFORMATION:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.information);
+				break;
+			case NodeRules.TOURISM$MUSEUM:
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
+			case NodeRules.TOURISM$HOSTEL:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.hostel);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.TOURISM$HOTEL:
+				this.symbolContainer = addPOISymbol(nodeX, nodeY,
+						this.mapSymbols.hotel);
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNameBlueTiny, this.paintNameWhiteStrokeTiny));
+					this.nodes.get(this.nodes.size() - 1).symbol = this.symbolContainer;
+				}
+				break;
+			case NodeRules.TOURISM$ATTRACTION:
+				if (nodeName != null) {
+					this.nodes.add(new PointTextContainer(nodeName, nodeX, nodeY,
+							this.paintNamePurpleTiny, this.paintNameWhiteStrokeTiny));
+				}
+				break;
+			case NodeRules.TOURISM$VIEWPOINT:
+				addPOISymbol(nodeX, nodeY, this.mapSymbols.viewpoint);
+				break;
 		}
 	}
 
@@ -2289,13 +2934,11 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 */
 	final void renderWaterBackground() {
 		if (this.currentJob.highlightWater) {
-			this.ways.get(DEFAULT_LAYER).get(LayerIds.SEA_AREAS).add(
-					new ShapePaintContainer(new WayContainer(this.waterTileCoordinates),
-							PAINT_WATER_TILE_HIGHTLIGHT));
+			addPolygon(LayerIds.SEA_AREAS, this.paintWaterTileHightlight,
+					copyRing(this.waterTileCoordinates));
 		} else {
-			this.ways.get(DEFAULT_LAYER).get(LayerIds.SEA_AREAS).add(
-					new ShapePaintContainer(new WayContainer(this.waterTileCoordinates),
-							PAINT_NATURAL_WATER_FILL));
+			addPolygon(LayerIds.SEA_AREAS, this.paintNaturalWaterFill,
+					copyRing(this.waterTileCoordinates));
 		}
 	}
 
@@ -2315,838 +2958,670 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 	 *            the position of the area label (may be null).
 	 * @param wayTagIds
 	 *            the tag id array of the way.
-	 * @param wayTagBitmap
-	 *            the way tag tileBitmap.
-	 * @param wayNodesSequenceLength
-	 *            the number of node positions.
-	 * @param wayNodesSequence
-	 *            the node positions.
-	 * @param innerWays
-	 *            the inner nodes if this way is a multipolygon.
-	 */
-	final void renderWay(byte wayLayer, byte wayNumberOfRealTags, String wayName, String wayRef,
-			int[] wayLabelPosition, boolean[] wayTagIds, byte wayTagBitmap, int wayNodesSequenceLength,
-			int[] wayNodesSequence, int[][] innerWays) {
-		byte remainingTags = wayNumberOfRealTags;
-		if (innerWays == null) {
-			this.coordinates = new float[1][];
-		} else {
-			this.coordinates = new float[1 + innerWays.length][];
-		}
-		this.coordinates[0] = new float[wayNodesSequenceLength];
-		for (int i = 0; i < wayNodesSequenceLength; i += 2) {
-			this.coordinates[0][i] = scaleLongitude(wayNodesSequence[i]);
-			this.coordinates[0][i + 1] = scaleLatitude(wayNodesSequence[i + 1]);
-		}
-
-		if (innerWays != null) {
-			for (int j = 1; j <= innerWays.length; ++j) {
-				int[] innerWay = innerWays[j - 1];
-				this.innerWayLength = innerWay.length;
-				this.coordinates[j] = new float[this.innerWayLength];
-
-				for (int i = 0; i < this.innerWayLength; i += 2) {
-					this.coordinates[j][i] = scaleLongitude(innerWay[i]);
-					this.coordinates[j][i + 1] = scaleLatitude(innerWay[i + 1]);
-				}
-			}
-		}
-		this.shapeContainer = new WayContainer(this.coordinates);
-
-		// check for a valid layer value
-		if (wayLayer < 0) {
-			this.layer = this.ways.get(0);
-		} else if (wayLayer >= LAYERS) {
-			this.layer = this.ways.get(LAYERS - 1);
-		} else {
-			this.layer = this.ways.get(wayLayer);
-		}
-
-		/* highway */
-		if ((wayTagBitmap & BITMAP_HIGHWAY) != 0) {
-			if (this.tagIDsWays.tunnel$yes != null && wayTagIds[this.tagIDsWays.tunnel$yes.intValue()]) {
-				this.layer.get(LayerIds.HIGHWAY_TUNNEL$YES).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TUNNEL));
-			} else if (this.tagIDsWays.highway$motorway != null
-					&& wayTagIds[this.tagIDsWays.highway$motorway.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_MOTORWAY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_MOTORWAY2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY1));
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_MOTORWAY2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$motorway_link != null
-					&& wayTagIds[this.tagIDsWays.highway$motorway_link.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_MOTORWAY_LINK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_MOTORWAY_LINK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY_LINK1));
-					this.layer.get(LayerIds.HIGHWAY$MOTORWAY_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_MOTORWAY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_MOTORWAY_LINK2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$trunk != null
-					&& wayTagIds[this.tagIDsWays.highway$trunk.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_TRUNK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$TRUNK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$TRUNK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRUNK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$TRUNK1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK1));
-					this.layer.get(LayerIds.HIGHWAY$TRUNK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRUNK2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$trunk_link != null
-					&& wayTagIds[this.tagIDsWays.highway$trunk_link.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_TRUNK_LINK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$TRUNK_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$TRUNK_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRUNK_LINK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$TRUNK_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK_LINK1));
-					this.layer.get(LayerIds.HIGHWAY$TRUNK_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRUNK_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRUNK_LINK2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$primary != null
-					&& wayTagIds[this.tagIDsWays.highway$primary.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_PRIMARY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PRIMARY2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY1));
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PRIMARY2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$primary_link != null
-					&& wayTagIds[this.tagIDsWays.highway$primary_link.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_PRIMARY_LINK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PRIMARY_LINK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY_LINK1));
-					this.layer.get(LayerIds.HIGHWAY$PRIMARY_LINK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PRIMARY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PRIMARY_LINK2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$secondary != null
-					&& wayTagIds[this.tagIDsWays.highway$secondary.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_SECONDARY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SECONDARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SECONDARY2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SECONDARY1));
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SECONDARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SECONDARY2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$secondary_link != null
-					&& wayTagIds[this.tagIDsWays.highway$secondary_link.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_SECONDARY_LINK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY_LINK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY_LINK2)
-							.add(
-									new ShapePaintContainer(this.shapeContainer,
-											PAINT_HIGHWAY_SECONDARY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SECONDARY_LINK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY_LINK1)
-							.add(
-									new ShapePaintContainer(this.shapeContainer,
-											PAINT_HIGHWAY_SECONDARY_LINK1));
-					this.layer.get(LayerIds.HIGHWAY$SECONDARY_LINK2)
-							.add(
-									new ShapePaintContainer(this.shapeContainer,
-											PAINT_HIGHWAY_SECONDARY_LINK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SECONDARY_LINK2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$tertiary != null
-					&& wayTagIds[this.tagIDsWays.highway$tertiary.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_TERTIARY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$TERTIARY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$TERTIARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TERTIARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TERTIARY2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$TERTIARY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TERTIARY1));
-					this.layer.get(LayerIds.HIGHWAY$TERTIARY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TERTIARY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TERTIARY2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$unclassified != null
-					&& wayTagIds[this.tagIDsWays.highway$unclassified.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_UNCLASSIFIED1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$UNCLASSIFIED1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$UNCLASSIFIED2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_UNCLASSIFIED2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_UNCLASSIFIED2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$UNCLASSIFIED1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_UNCLASSIFIED1));
-					this.layer.get(LayerIds.HIGHWAY$UNCLASSIFIED2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_UNCLASSIFIED2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_UNCLASSIFIED2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$road != null
-					&& wayTagIds[this.tagIDsWays.highway$road.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_ROAD1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$ROAD1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$ROAD2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_ROAD2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_ROAD2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$ROAD1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_ROAD1));
-					this.layer.get(LayerIds.HIGHWAY$ROAD2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_ROAD2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_ROAD2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$residential != null
-					&& wayTagIds[this.tagIDsWays.highway$residential.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_RESIDENTIAL1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$RESIDENTIAL1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$RESIDENTIAL2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_RESIDENTIAL2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_RESIDENTIAL2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$RESIDENTIAL1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_RESIDENTIAL1));
-					this.layer.get(LayerIds.HIGHWAY$RESIDENTIAL2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_RESIDENTIAL2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_RESIDENTIAL2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$living_street != null
-					&& wayTagIds[this.tagIDsWays.highway$living_street.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_LIVING_STREET1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$LIVING_STREET1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$LIVING_STREET2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_LIVING_STREET2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_LIVING_STREET2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$LIVING_STREET1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_LIVING_STREET1));
-					this.layer.get(LayerIds.HIGHWAY$LIVING_STREET2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_LIVING_STREET2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_LIVING_STREET2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$service != null
-					&& wayTagIds[this.tagIDsWays.highway$service.intValue()]) {
-				if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
-					this.layer.get(LayerIds.HIGHWAY$SERVICE_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_SERVICE_AREA_OUTLINE));
-					this.layer.get(LayerIds.HIGHWAY$SERVICE_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_SERVICE_AREA_FILL));
-					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				} else if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_SERVICE1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$SERVICE1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$SERVICE2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SERVICE2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SERVICE2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$SERVICE1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SERVICE1));
-					this.layer.get(LayerIds.HIGHWAY$SERVICE2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_SERVICE2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_SERVICE2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$track != null
-					&& wayTagIds[this.tagIDsWays.highway$track.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_TRACK1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$TRACK1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$TRACK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRACK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRACK2);
-					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$TRACK1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRACK1));
-					this.layer.get(LayerIds.HIGHWAY$TRACK2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_TRACK2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_TRACK2);
-					}
+	 * @param wayTags
+	 *            the ids of the tags of the way.
+	 * @param wayNumberOfTags
+	 *            the number of tags of the way.
+	 * @param wayTagBitmap
+	 *            the way tag tileBitmap.
+	 * @param wayNodesSequenceLength
+	 *            the number of node positions.
+	 * @param wayNodesSequence
+	 *            the node positions.
+	 * @param innerWays
+	 *            the inner nodes if this way is a multipolygon.
+	 */
+	final void renderWay(byte wayLayer, byte wayNumberOfRealTags, String wayName, String wayRef,
+			int[] wayLabelPosition, boolean[] wayTagIds, int[] wayTags, byte wayNumberOfTags,
+			byte wayTagBitmap, int wayNodesSequenceLength, int[] wayNodesSequence, int[][] innerWays) {
+		this.wayRuleTable.match(wayTags, wayNumberOfTags, this.currentTile.zoomLevel,
+				this.wayRuleMatches);
+		byte remainingTags = wayNumberOfRealTags;
+		float tolerance = getSimplificationTolerance();
+		int firstRing = this.geometryArena.addRing(wayNodesSequenceLength);
+		this.wayLength = projectRing(firstRing, wayNodesSequence, wayNodesSequenceLength,
+				tolerance);
+		if (LOG_SIMPLIFICATION) {
+			this.decodedWayPoints += wayNodesSequenceLength >> 1;
+		}
+		if (this.subPixelRing
+				&& this.wayRuleMatches[WayRules.NATURAL] != WayRules.NATURAL$COASTLINE) {
+			// the way would not be visible, coastline segments are needed to close the polygons
+			this.geometryArena.removeLastRing();
+			return;
+		}
+		this.wayOffset = this.geometryArena.getRingOffset(firstRing);
+		if (LOG_SIMPLIFICATION) {
+			this.projectedWayPoints += this.wayLength >> 1;
+		}
+
+		int numberOfRings = 1;
+		if (innerWays != null) {
+			for (int j = 0; j < innerWays.length; ++j) {
+				int[] innerWay = innerWays[j];
+				int innerWayLength = projectRing(this.geometryArena.addRing(innerWay.length),
+						innerWay, innerWay.length, tolerance);
+				if (LOG_SIMPLIFICATION) {
+					this.decodedWayPoints += innerWay.length >> 1;
 				}
-			} else if (this.tagIDsWays.highway$pedestrian != null
-					&& wayTagIds[this.tagIDsWays.highway$pedestrian.intValue()]) {
-				if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_PEDESTRIAN_AREA_OUTLINE));
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_PEDESTRIAN_AREA_FILL));
-					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				} else if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_PEDESTRIAN1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PEDESTRIAN2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PEDESTRIAN2);
-					}
+				if (this.subPixelRing) {
+					// the hole would not be visible
+					this.geometryArena.removeLastRing();
 				} else {
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PEDESTRIAN1));
-					this.layer.get(LayerIds.HIGHWAY$PEDESTRIAN2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PEDESTRIAN2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
-					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PEDESTRIAN2);
+					++numberOfRings;
+					if (LOG_SIMPLIFICATION) {
+						this.projectedWayPoints += innerWayLength >> 1;
 					}
 				}
-			} else if (this.tagIDsWays.highway$path != null
-					&& wayTagIds[this.tagIDsWays.highway$path.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_PATH1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$PATH1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$PATH2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PATH2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+			}
+		}
+		this.shapeOpcode = DisplayList.OPCODE_PATH;
+		this.shapeFirstRing = firstRing;
+		this.shapeNumberOfRings = numberOfRings;
+
+		// check for a valid layer value
+		if (wayLayer < 0) {
+			this.layer = 0;
+		} else if (wayLayer >= LAYERS) {
+			this.layer = LAYERS - 1;
+		} else {
+			this.layer = wayLayer;
+		}
+
+		/* highway */
+		if ((wayTagBitmap & BITMAP_HIGHWAY) != 0) {
+			switch (this.wayRuleMatches[WayRules.HIGHWAY]) {
+				case WayRules.TUNNEL$YES:
+					addShape(LayerIds.HIGHWAY_TUNNEL$YES, this.paintHighwayTunnel);
+					break;
+				case WayRules.HIGHWAY$MOTORWAY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$MOTORWAY1, this.paintHighwayMotorwayBridge);
+						addShape(LayerIds.HIGHWAY$MOTORWAY2, this.paintHighwayMotorway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayMotorway2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$MOTORWAY1, this.paintHighwayMotorway1);
+						addShape(LayerIds.HIGHWAY$MOTORWAY2, this.paintHighwayMotorway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayMotorway2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PATH2);
+					break;
+				case WayRules.HIGHWAY$MOTORWAY_LINK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$MOTORWAY_LINK1, this.paintHighwayMotorwayLinkBridge);
+						addShape(LayerIds.HIGHWAY$MOTORWAY_LINK2, this.paintHighwayMotorwayLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayMotorwayLink2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$MOTORWAY_LINK1, this.paintHighwayMotorwayLink1);
+						addShape(LayerIds.HIGHWAY$MOTORWAY_LINK2, this.paintHighwayMotorwayLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayMotorwayLink2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$PATH1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PATH1));
-					this.layer.get(LayerIds.HIGHWAY$PATH2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_PATH2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$TRUNK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$TRUNK1, this.paintHighwayTrunkBridge);
+						addShape(LayerIds.HIGHWAY$TRUNK2, this.paintHighwayTrunk2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrunk2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$TRUNK1, this.paintHighwayTrunk1);
+						addShape(LayerIds.HIGHWAY$TRUNK2, this.paintHighwayTrunk2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrunk2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_PATH2);
+					break;
+				case WayRules.HIGHWAY$TRUNK_LINK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$TRUNK_LINK1, this.paintHighwayTrunkLinkBridge);
+						addShape(LayerIds.HIGHWAY$TRUNK_LINK2, this.paintHighwayTrunkLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrunkLink2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$TRUNK_LINK1, this.paintHighwayTrunkLink1);
+						addShape(LayerIds.HIGHWAY$TRUNK_LINK2, this.paintHighwayTrunkLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrunkLink2);
+						}
 					}
-				}
-			} else if (this.tagIDsWays.highway$cycleway != null
-					&& wayTagIds[this.tagIDsWays.highway$cycleway.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_CYCLEWAY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$CYCLEWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$CYCLEWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_CYCLEWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$PRIMARY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$PRIMARY1, this.paintHighwayPrimaryBridge);
+						addShape(LayerIds.HIGHWAY$PRIMARY2, this.paintHighwayPrimary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPrimary2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$PRIMARY1, this.paintHighwayPrimary1);
+						addShape(LayerIds.HIGHWAY$PRIMARY2, this.paintHighwayPrimary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPrimary2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_CYCLEWAY2);
+					break;
+				case WayRules.HIGHWAY$PRIMARY_LINK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$PRIMARY_LINK1, this.paintHighwayPrimaryLinkBridge);
+						addShape(LayerIds.HIGHWAY$PRIMARY_LINK2, this.paintHighwayPrimaryLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPrimaryLink2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$PRIMARY_LINK1, this.paintHighwayPrimaryLink1);
+						addShape(LayerIds.HIGHWAY$PRIMARY_LINK2, this.paintHighwayPrimaryLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPrimaryLink2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$CYCLEWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_CYCLEWAY1));
-					this.layer.get(LayerIds.HIGHWAY$CYCLEWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_CYCLEWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$SECONDARY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$SECONDARY1, this.paintHighwaySecondaryBridge);
+						addShape(LayerIds.HIGHWAY$SECONDARY2, this.paintHighwaySecondary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySecondary2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$SECONDARY1, this.paintHighwaySecondary1);
+						addShape(LayerIds.HIGHWAY$SECONDARY2, this.paintHighwaySecondary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySecondary2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_CYCLEWAY2);
+					break;
+				case WayRules.HIGHWAY$SECONDARY_LINK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$SECONDARY_LINK1, this.paintHighwaySecondaryLinkBridge);
+						addShape(LayerIds.HIGHWAY$SECONDARY_LINK2, this.paintHighwaySecondaryLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySecondaryLink2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$SECONDARY_LINK1, this.paintHighwaySecondaryLink1);
+						addShape(LayerIds.HIGHWAY$SECONDARY_LINK2, this.paintHighwaySecondaryLink2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySecondaryLink2);
+						}
 					}
-				}
-			} else if (this.tagIDsWays.highway$footway != null
-					&& wayTagIds[this.tagIDsWays.highway$footway.intValue()]) {
-				if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_FOOTWAY_AREA_OUTLINE));
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY_AREA$YES).add(
-							new ShapePaintContainer(this.shapeContainer,
-									PAINT_HIGHWAY_FOOTWAY_AREA_FILL));
-					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				} else if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_FOOTWAY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					paint1Bridge.setPathEffect(null);
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_FOOTWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$TERTIARY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$TERTIARY1, this.paintHighwayTertiaryBridge);
+						addShape(LayerIds.HIGHWAY$TERTIARY2, this.paintHighwayTertiary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTertiary2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$TERTIARY1, this.paintHighwayTertiary1);
+						addShape(LayerIds.HIGHWAY$TERTIARY2, this.paintHighwayTertiary2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTertiary2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_FOOTWAY2);
+					break;
+				case WayRules.HIGHWAY$UNCLASSIFIED:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$UNCLASSIFIED1, this.paintHighwayUnclassifiedBridge);
+						addShape(LayerIds.HIGHWAY$UNCLASSIFIED2, this.paintHighwayUnclassified2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayUnclassified2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$UNCLASSIFIED1, this.paintHighwayUnclassified1);
+						addShape(LayerIds.HIGHWAY$UNCLASSIFIED2, this.paintHighwayUnclassified2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayUnclassified2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_FOOTWAY1));
-					this.layer.get(LayerIds.HIGHWAY$FOOTWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_FOOTWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$ROAD:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$ROAD1, this.paintHighwayRoadBridge);
+						addShape(LayerIds.HIGHWAY$ROAD2, this.paintHighwayRoad2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayRoad2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$ROAD1, this.paintHighwayRoad1);
+						addShape(LayerIds.HIGHWAY$ROAD2, this.paintHighwayRoad2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayRoad2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_FOOTWAY2);
+					break;
+				case WayRules.HIGHWAY$RESIDENTIAL:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$RESIDENTIAL1, this.paintHighwayResidentialBridge);
+						addShape(LayerIds.HIGHWAY$RESIDENTIAL2, this.paintHighwayResidential2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayResidential2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$RESIDENTIAL1, this.paintHighwayResidential1);
+						addShape(LayerIds.HIGHWAY$RESIDENTIAL2, this.paintHighwayResidential2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayResidential2);
+						}
 					}
-				}
-			} else if (this.tagIDsWays.highway$byway != null
-					&& wayTagIds[this.tagIDsWays.highway$byway.intValue()]) {
-				this.layer.get(LayerIds.HIGHWAY$BYWAY).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_BYWAY));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_HIGHWAY_BYWAY);
-				}
-			} else if (this.tagIDsWays.highway$bridleway != null
-					&& wayTagIds[this.tagIDsWays.highway$bridleway.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_BRIDLEWAY1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$BRIDLEWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$BRIDLEWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_BRIDLEWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$LIVING_STREET:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$LIVING_STREET1, this.paintHighwayLivingStreetBridge);
+						addShape(LayerIds.HIGHWAY$LIVING_STREET2, this.paintHighwayLivingStreet2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayLivingStreet2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$LIVING_STREET1, this.paintHighwayLivingStreet1);
+						addShape(LayerIds.HIGHWAY$LIVING_STREET2, this.paintHighwayLivingStreet2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayLivingStreet2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_BRIDLEWAY2);
+					break;
+				case WayRules.HIGHWAY$SERVICE:
+					if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$SERVICE_AREA$YES, this.paintHighwayServiceAreaOutline);
+						addShape(LayerIds.HIGHWAY$SERVICE_AREA$YES, this.paintHighwayServiceAreaFill);
+						addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					} else if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$SERVICE1, this.paintHighwayServiceBridge);
+						addShape(LayerIds.HIGHWAY$SERVICE2, this.paintHighwayService2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayService2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$SERVICE1, this.paintHighwayService1);
+						addShape(LayerIds.HIGHWAY$SERVICE2, this.paintHighwayService2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayService2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$BRIDLEWAY1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_BRIDLEWAY1));
-					this.layer.get(LayerIds.HIGHWAY$BRIDLEWAY2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_BRIDLEWAY2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$TRACK:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$TRACK1, this.paintHighwayTrackBridge);
+						addShape(LayerIds.HIGHWAY$TRACK2, this.paintHighwayTrack2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrack2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$TRACK1, this.paintHighwayTrack1);
+						addShape(LayerIds.HIGHWAY$TRACK2, this.paintHighwayTrack2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayTrack2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_BRIDLEWAY2);
+					break;
+				case WayRules.HIGHWAY$PEDESTRIAN:
+					if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN_AREA$YES, this.paintHighwayPedestrianAreaOutline);
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN_AREA$YES, this.paintHighwayPedestrianAreaFill);
+						addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					} else if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN1, this.paintHighwayPedestrianBridge);
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN2, this.paintHighwayPedestrian2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPedestrian2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN1, this.paintHighwayPedestrian1);
+						addShape(LayerIds.HIGHWAY$PEDESTRIAN2, this.paintHighwayPedestrian2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPedestrian2);
+						}
 					}
-				}
-			} else if (this.tagIDsWays.highway$steps != null
-					&& wayTagIds[this.tagIDsWays.highway$steps.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_STEPS1);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					paint1Bridge.setColor(Color.BLACK);
-					paint1Bridge.setStrokeWidth(paint1Bridge.getStrokeWidth() * 1.05f);
-					this.layer.get(LayerIds.HIGHWAY$STEPS1).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					this.layer.get(LayerIds.HIGHWAY$STEPS2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_STEPS2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$PATH:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$PATH1, this.paintHighwayPathBridge);
+						addShape(LayerIds.HIGHWAY$PATH2, this.paintHighwayPath2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPath2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$PATH1, this.paintHighwayPath1);
+						addShape(LayerIds.HIGHWAY$PATH2, this.paintHighwayPath2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayPath2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_STEPS2);
+					break;
+				case WayRules.HIGHWAY$CYCLEWAY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$CYCLEWAY1, this.paintHighwayCyclewayBridge);
+						addShape(LayerIds.HIGHWAY$CYCLEWAY2, this.paintHighwayCycleway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayCycleway2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$CYCLEWAY1, this.paintHighwayCycleway1);
+						addShape(LayerIds.HIGHWAY$CYCLEWAY2, this.paintHighwayCycleway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayCycleway2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$STEPS1).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_STEPS1));
-					this.layer.get(LayerIds.HIGHWAY$STEPS2).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_STEPS2));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$FOOTWAY:
+					if (this.tagIDsWays.area$yes != null && wayTagIds[this.tagIDsWays.area$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$FOOTWAY_AREA$YES, this.paintHighwayFootwayAreaOutline);
+						addShape(LayerIds.HIGHWAY$FOOTWAY_AREA$YES, this.paintHighwayFootwayAreaFill);
+						addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					} else if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$FOOTWAY1, this.paintHighwayFootwayBridge);
+						addShape(LayerIds.HIGHWAY$FOOTWAY2, this.paintHighwayFootway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayFootway2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$FOOTWAY1, this.paintHighwayFootway1);
+						addShape(LayerIds.HIGHWAY$FOOTWAY2, this.paintHighwayFootway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayFootway2);
+						}
 					}
+					break;
+				case WayRules.HIGHWAY$BYWAY:
+					addShape(LayerIds.HIGHWAY$BYWAY, this.paintHighwayByway);
 					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_STEPS2);
-					}
-				}
-			} else if (this.tagIDsWays.highway$construction != null
-					&& wayTagIds[this.tagIDsWays.highway$construction.intValue()]) {
-				if (this.tagIDsWays.bridge$yes != null
-						&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
-					Paint paint1Bridge = new Paint(PAINT_HIGHWAY_CONSTRUCTION);
-					paint1Bridge.setStrokeCap(Paint.Cap.BUTT);
-					this.layer.get(LayerIds.HIGHWAY$CONSTRUCTION).add(
-							new ShapePaintContainer(this.shapeContainer, paint1Bridge));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+						addWayName(wayName, this.paintHighwayByway);
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, paint1Bridge);
+					break;
+				case WayRules.HIGHWAY$BRIDLEWAY:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$BRIDLEWAY1, this.paintHighwayBridlewayBridge);
+						addShape(LayerIds.HIGHWAY$BRIDLEWAY2, this.paintHighwayBridleway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayBridleway2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$BRIDLEWAY1, this.paintHighwayBridleway1);
+						addShape(LayerIds.HIGHWAY$BRIDLEWAY2, this.paintHighwayBridleway2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayBridleway2);
+						}
 					}
-				} else {
-					this.layer.get(LayerIds.HIGHWAY$CONSTRUCTION).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_HIGHWAY_CONSTRUCTION));
-					if (this.tagIDsWays.oneway$yes != null
-							&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
-							&& this.currentTile.zoomLevel > 15) {
-						addWaySymbol(this.mapSymbols.oneway, true, true);
+					break;
+				case WayRules.HIGHWAY$STEPS:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$STEPS1, this.paintHighwayStepsBridge);
+						addShape(LayerIds.HIGHWAY$STEPS2, this.paintHighwaySteps2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySteps2);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$STEPS1, this.paintHighwaySteps1);
+						addShape(LayerIds.HIGHWAY$STEPS2, this.paintHighwaySteps2);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwaySteps2);
+						}
 					}
-					if (wayName != null && this.currentTile.zoomLevel > 15) {
-						addWayName(wayName, PAINT_HIGHWAY_CONSTRUCTION);
+					break;
+				case WayRules.HIGHWAY$CONSTRUCTION:
+					if (this.tagIDsWays.bridge$yes != null
+							&& wayTagIds[this.tagIDsWays.bridge$yes.intValue()]) {
+						addShape(LayerIds.HIGHWAY$CONSTRUCTION, this.paintHighwayConstructionBridge);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayConstructionBridge);
+						}
+					} else {
+						addShape(LayerIds.HIGHWAY$CONSTRUCTION, this.paintHighwayConstruction);
+						if (this.tagIDsWays.oneway$yes != null
+								&& wayTagIds[this.tagIDsWays.oneway$yes.intValue()]
+								&& this.currentTile.zoomLevel > 15) {
+							addWaySymbol(this.mapSymbols.oneway, true, true);
+						}
+						if (wayName != null && this.currentTile.zoomLevel > 15) {
+							addWayName(wayName, this.paintHighwayConstruction);
+						}
 					}
-				}
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3155,33 +3630,15 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* building */
 		if ((wayTagBitmap & BITMAP_BUILDING) != 0) {
-			if (this.tagIDsWays.building$roof != null
-					&& wayTagIds[this.tagIDsWays.building$roof.intValue()]) {
-				this.layer.get(LayerIds.BUILDING$ROOF).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_BUILDING_ROOF_OUTLINE));
-			} else if ((this.tagIDsWays.building$apartments != null && wayTagIds[this.tagIDsWays.building$apartments
-					.intValue()])
-					|| (this.tagIDsWays.building$embassy != null && wayTagIds[this.tagIDsWays.building$embassy
-							.intValue()])
-					|| (this.tagIDsWays.building$government != null && wayTagIds[this.tagIDsWays.building$government
-							.intValue()])
-					|| (this.tagIDsWays.building$gym != null && wayTagIds[this.tagIDsWays.building$gym
-							.intValue()])
-					|| (this.tagIDsWays.building$ruins != null && wayTagIds[this.tagIDsWays.building$ruins
-							.intValue()])
-					|| (this.tagIDsWays.building$sports != null && wayTagIds[this.tagIDsWays.building$sports
-							.intValue()])
-					|| (this.tagIDsWays.building$train_station != null && wayTagIds[this.tagIDsWays.building$train_station
-							.intValue()])
-					|| (this.tagIDsWays.building$university != null && wayTagIds[this.tagIDsWays.building$university
-							.intValue()])
-					|| (this.tagIDsWays.building$yes != null && wayTagIds[this.tagIDsWays.building$yes
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.BUILDING$YES).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_BUILDING_YES_OUTLINE));
-				this.layer.get(LayerIds.BUILDING$YES).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_BUILDING_YES_FILL));
+			switch (this.wayRuleMatches[WayRules.BUILDING]) {
+				case WayRules.BUILDING$ROOF:
+					addShape(LayerIds.BUILDING$ROOF, this.paintBuildingRoofOutline);
+					break;
+				case WayRules.BUILDING$APARTMENTS:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.BUILDING$YES, this.paintBuildingYesOutline);
+					addShape(LayerIds.BUILDING$YES, this.paintBuildingYesFill);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3190,55 +3647,42 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* railway */
 		if ((wayTagBitmap & BITMAP_RAILWAY) != 0) {
-			if (this.tagIDsWays.railway$rail != null
-					&& wayTagIds[this.tagIDsWays.railway$rail.intValue()]) {
-				/* railway=rail */
-				if (this.tagIDsWays.tunnel$yes != null
-						&& wayTagIds[this.tagIDsWays.tunnel$yes.intValue()]) {
-					this.layer.get(LayerIds.RAILWAY$RAIL_TUNNEL$YES).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_RAIL_TUNNEL));
-				} else {
-					this.layer.get(LayerIds.RAILWAY$RAIL).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_RAIL1));
-					this.layer.get(LayerIds.RAILWAY$RAIL).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_RAIL2));
-				}
-			} else if (this.tagIDsWays.railway$tram != null
-					&& wayTagIds[this.tagIDsWays.railway$tram.intValue()]) {
-				/* railway=tram */
-				this.layer.get(LayerIds.RAILWAY$TRAM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_TRAM1));
-				this.layer.get(LayerIds.RAILWAY$TRAM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_TRAM2));
-			} else if ((this.tagIDsWays.railway$light_rail != null && wayTagIds[this.tagIDsWays.railway$light_rail
-					.intValue()])
-					|| (this.tagIDsWays.railway$narrow_gauge != null && wayTagIds[this.tagIDsWays.railway$narrow_gauge
-							.intValue()])) {
-				/* railway=light_rail */
-				this.layer.get(LayerIds.RAILWAY$LIGHT_RAIL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_LIGHT_RAIL1));
-				this.layer.get(LayerIds.RAILWAY$LIGHT_RAIL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_LIGHT_RAIL2));
-			} else if (this.tagIDsWays.railway$subway != null
-					&& wayTagIds[this.tagIDsWays.railway$subway.intValue()]) {
-				/* railway=subway */
-				if (this.tagIDsWays.tunnel$yes != null
-						&& wayTagIds[this.tagIDsWays.tunnel$yes.intValue()]) {
-					/* tunnel=yes */
-					this.layer.get(LayerIds.RAILWAY$SUBWAY_TUNNEL).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_SUBWAY_TUNNEL));
-				} else {
-					this.layer.get(LayerIds.RAILWAY$SUBWAY).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_SUBWAY1));
-					this.layer.get(LayerIds.RAILWAY$SUBWAY).add(
-							new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_SUBWAY2));
-				}
-			} else if (this.tagIDsWays.railway$station != null
-					&& wayTagIds[this.tagIDsWays.railway$station.intValue()]) {
-				this.layer.get(LayerIds.RAILWAY$STATION).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_STATION_OUTLINE));
-				this.layer.get(LayerIds.RAILWAY$STATION).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_RAILWAY_STATION_FILL));
+			switch (this.wayRuleMatches[WayRules.RAILWAY]) {
+				case WayRules.RAILWAY$RAIL:
+					/* railway=rail */
+					if (this.tagIDsWays.tunnel$yes != null
+							&& wayTagIds[this.tagIDsWays.tunnel$yes.intValue()]) {
+						addShape(LayerIds.RAILWAY$RAIL_TUNNEL$YES, this.paintRailwayRailTunnel);
+					} else {
+						addShape(LayerIds.RAILWAY$RAIL, this.paintRailwayRail1);
+						addShape(LayerIds.RAILWAY$RAIL, this.paintRailwayRail2);
+					}
+					break;
+				case WayRules.RAILWAY$TRAM:
+					/* railway=tram */
+					addShape(LayerIds.RAILWAY$TRAM, this.paintRailwayTram1);
+					addShape(LayerIds.RAILWAY$TRAM, this.paintRailwayTram2);
+					break;
+				case WayRules.RAILWAY$LIGHT_RAIL:
+					/* railway=light_rail */
+					addShape(LayerIds.RAILWAY$LIGHT_RAIL, this.paintRailwayLightRail1);
+					addShape(LayerIds.RAILWAY$LIGHT_RAIL, this.paintRailwayLightRail2);
+					break;
+				case WayRules.RAILWAY$SUBWAY:
+					/* railway=subway */
+					if (this.tagIDsWays.tunnel$yes != null
+							&& wayTagIds[this.tagIDsWays.tunnel$yes.intValue()]) {
+						/* tunnel=yes */
+						addShape(LayerIds.RAILWAY$SUBWAY_TUNNEL, this.paintRailwaySubwayTunnel);
+					} else {
+						addShape(LayerIds.RAILWAY$SUBWAY, this.paintRailwaySubway1);
+						addShape(LayerIds.RAILWAY$SUBWAY, this.paintRailwaySubway2);
+					}
+					break;
+				case WayRules.RAILWAY$STATION:
+					addShape(LayerIds.RAILWAY$STATION, this.paintRailwayStationOutline);
+					addShape(LayerIds.RAILWAY$STATION, this.paintRailwayStationFill);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3247,103 +3691,69 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* landuse */
 		if ((wayTagBitmap & BITMAP_LANDUSE) != 0) {
-			if (this.tagIDsWays.landuse$allotments != null
-					&& wayTagIds[this.tagIDsWays.landuse$allotments.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LANDUSE$ALLOTMENTS).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_ALLOTMENTS_FILL));
-				this.layer.get(LayerIds.LANDUSE$ALLOTMENTS).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_ALLOTMENTS_OUTLINE));
-			} else if (this.tagIDsWays.landuse$cemetery != null
-					&& wayTagIds[this.tagIDsWays.landuse$cemetery.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				if (this.currentTile.zoomLevel >= 16) {
-					this.layer.get(LayerIds.LANDUSE$CEMETERY)
-							.add(
-									new ShapePaintContainer(this.shapeContainer,
-											PAINT_LANDUSE_CEMETERY_PATTERN));
-				}
-				this.layer.get(LayerIds.LANDUSE$CEMETERY).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_CEMETERY_FILL));
-			} else if ((this.tagIDsWays.landuse$farm != null && wayTagIds[this.tagIDsWays.landuse$farm
-					.intValue()])
-					|| (this.tagIDsWays.landuse$recreation_ground != null && wayTagIds[this.tagIDsWays.landuse$recreation_ground
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LANDUSE$FARM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_FARM_FILL));
-			} else if ((this.tagIDsWays.landuse$basin != null && wayTagIds[this.tagIDsWays.landuse$basin
-					.intValue()])
-					|| (this.tagIDsWays.landuse$reservoir != null && wayTagIds[this.tagIDsWays.landuse$reservoir
-							.intValue()])) {
-				this.layer.get(LayerIds.LANDUSE$BASIN).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_BASIN_FILL));
-			} else if ((this.tagIDsWays.landuse$brownfield != null && wayTagIds[this.tagIDsWays.landuse$brownfield
-					.intValue()])
-					|| (this.tagIDsWays.landuse$industrial != null && wayTagIds[this.tagIDsWays.landuse$industrial
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LANDUSE$INDUSTRIAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_INDUSTRIAL_FILL));
-			} else if (this.tagIDsWays.landuse$commercial != null
-					&& wayTagIds[this.tagIDsWays.landuse$commercial.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LANDUSE$COMMERCIAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_COMMERCIAL_FILL));
-				this.layer.get(LayerIds.LANDUSE$COMMERCIAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_COMMERCIAL_OUTLINE));
-			} else if ((this.tagIDsWays.landuse$construction != null && wayTagIds[this.tagIDsWays.landuse$construction
-					.intValue()])
-					|| (this.tagIDsWays.landuse$greenfield != null && wayTagIds[this.tagIDsWays.landuse$greenfield
-							.intValue()])) {
-				this.layer.get(LayerIds.LANDUSE$CONSTRUCTION).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_CONSTRUCTION_FILL));
-			} else if ((this.tagIDsWays.landuse$forest != null && wayTagIds[this.tagIDsWays.landuse$forest
-					.intValue()])
-					|| (this.tagIDsWays.landuse$wood != null && wayTagIds[this.tagIDsWays.landuse$wood
-							.intValue()])) {
-				if (this.currentTile.zoomLevel >= 14) {
-					if (this.tagIDsWays.wood$coniferous != null
-							&& wayTagIds[this.tagIDsWays.wood$coniferous.intValue()]) {
-						this.layer.get(LayerIds.LANDUSE$FOREST).add(
-								new ShapePaintContainer(this.shapeContainer,
-										PAINT_WOOD_CONIFEROUS_PATTERN));
-					} else if (this.tagIDsWays.wood$deciduous != null
-							&& wayTagIds[this.tagIDsWays.wood$deciduous.intValue()]) {
-						this.layer.get(LayerIds.LANDUSE$FOREST).add(
-								new ShapePaintContainer(this.shapeContainer,
-										PAINT_WOOD_DECIDUOUS_PATTERN));
-					} else if (this.tagIDsWays.wood$mixed != null
-							&& wayTagIds[this.tagIDsWays.wood$mixed.intValue()]) {
-						this.layer.get(LayerIds.LANDUSE$FOREST).add(
-								new ShapePaintContainer(this.shapeContainer, PAINT_WOOD_MIXED_PATTERN));
+			switch (this.wayRuleMatches[WayRules.LANDUSE]) {
+				case WayRules.LANDUSE$ALLOTMENTS:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LANDUSE$ALLOTMENTS, this.paintLanduseAllotmentsFill);
+					addShape(LayerIds.LANDUSE$ALLOTMENTS, this.paintLanduseAllotmentsOutline);
+					break;
+				case WayRules.LANDUSE$CEMETERY:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					if (this.currentTile.zoomLevel >= 16) {
+						addShape(LayerIds.LANDUSE$CEMETERY, this.paintLanduseCemeteryPattern);
 					}
-				}
-				this.layer.get(LayerIds.LANDUSE$FOREST).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_FOREST_FILL));
-			} else if ((this.tagIDsWays.landuse$farmland != null && wayTagIds[this.tagIDsWays.landuse$farmland
-					.intValue()])
-					|| (this.tagIDsWays.landuse$grass != null && wayTagIds[this.tagIDsWays.landuse$grass
-							.intValue()])
-					|| (this.tagIDsWays.landuse$village_green != null && wayTagIds[this.tagIDsWays.landuse$village_green
-							.intValue()])) {
-				this.layer.get(LayerIds.LANDUSE$GRASS).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_GRASS_FILL));
-				this.layer.get(LayerIds.LANDUSE$GRASS).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_GRASS_OUTLINE));
-			} else if (this.tagIDsWays.landuse$military != null
-					&& wayTagIds[this.tagIDsWays.landuse$military.intValue()]) {
-				this.layer.get(LayerIds.LANDUSE$MILITARY).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_MILITARY_FILL));
-			} else if (this.tagIDsWays.landuse$residential != null
-					&& wayTagIds[this.tagIDsWays.landuse$residential.intValue()]) {
-				// always draw on the lowest layer
-				this.ways.get(0).get(LayerIds.LANDUSE$RESIDENTIAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_RESIDENTIAL_FILL));
-			} else if (this.tagIDsWays.landuse$retail != null
-					&& wayTagIds[this.tagIDsWays.landuse$retail.intValue()]) {
-				this.layer.get(LayerIds.LANDUSE$RETAIL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LANDUSE_RETAIL_FILL));
+					addShape(LayerIds.LANDUSE$CEMETERY, this.paintLanduseCemeteryFill);
+					break;
+				case WayRules.LANDUSE$FARM:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LANDUSE$FARM, this.paintLanduseFarmFill);
+					break;
+				case WayRules.LANDUSE$BASIN:
+					addShape(LayerIds.LANDUSE$BASIN, this.paintLanduseBasinFill);
+					break;
+				case WayRules.LANDUSE$BROWNFIELD:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LANDUSE$INDUSTRIAL, this.paintLanduseIndustrialFill);
+					break;
+				case WayRules.LANDUSE$COMMERCIAL:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LANDUSE$COMMERCIAL, this.paintLanduseCommercialFill);
+					addShape(LayerIds.LANDUSE$COMMERCIAL, this.paintLanduseCommercialOutline);
+					break;
+				case WayRules.LANDUSE$CONSTRUCTION:
+					addShape(LayerIds.LANDUSE$CONSTRUCTION, this.paintLanduseConstructionFill);
+					break;
+				case WayRules.LANDUSE$FOREST:
+					if (this.currentTile.zoomLevel >= 14) {
+						if (this.tagIDsWays.wood$coniferous != null
+								&& wayTagIds[this.tagIDsWays.wood$coniferous.intValue()]) {
+							addShape(LayerIds.LANDUSE$FOREST, this.paintWoodConiferousPattern);
+						} else if (this.tagIDsWays.wood$deciduous != null
+								&& wayTagIds[this.tagIDsWays.wood$deciduous.intValue()]) {
+							addShape(LayerIds.LANDUSE$FOREST, this.paintWoodDeciduousPattern);
+						} else if (this.tagIDsWays.wood$mixed != null
+								&& wayTagIds[this.tagIDsWays.wood$mixed.intValue()]) {
+							addShape(LayerIds.LANDUSE$FOREST, this.paintWoodMixedPattern);
+						}
+					}
+					addShape(LayerIds.LANDUSE$FOREST, this.paintLanduseForestFill);
+					break;
+				case WayRules.LANDUSE$FARMLAND:
+					addShape(LayerIds.LANDUSE$GRASS, this.paintLanduseGrassFill);
+					addShape(LayerIds.LANDUSE$GRASS, this.paintLanduseGrassOutline);
+					break;
+				case WayRules.LANDUSE$MILITARY:
+					addShape(LayerIds.LANDUSE$MILITARY, this.paintLanduseMilitaryFill);
+					break;
+				case WayRules.LANDUSE$RESIDENTIAL:
+					// always draw on the lowest layer
+					this.displayList.add(0, LayerIds.LANDUSE$RESIDENTIAL, this.shapeOpcode,
+							this.paintLanduseResidentialFill, this.shapeFirstRing,
+							this.shapeNumberOfRings);
+					break;
+				case WayRules.LANDUSE$RETAIL:
+					addShape(LayerIds.LANDUSE$RETAIL, this.paintLanduseRetailFill);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3352,45 +3762,22 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* leisure */
 		if ((wayTagBitmap & BITMAP_LEISURE) != 0) {
-			if ((this.tagIDsWays.leisure$common != null && wayTagIds[this.tagIDsWays.leisure$common
-					.intValue()])
-					|| (this.tagIDsWays.leisure$garden != null && wayTagIds[this.tagIDsWays.leisure$garden
-							.intValue()])
-					|| (this.tagIDsWays.leisure$golf_course != null && wayTagIds[this.tagIDsWays.leisure$golf_course
-							.intValue()])
-					|| (this.tagIDsWays.leisure$park != null && wayTagIds[this.tagIDsWays.leisure$park
-							.intValue()])
-					|| (this.tagIDsWays.leisure$pitch != null && wayTagIds[this.tagIDsWays.leisure$pitch
-							.intValue()])
-					|| (this.tagIDsWays.leisure$playground != null && wayTagIds[this.tagIDsWays.leisure$playground
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LEISURE$COMMON).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LEISURE_COMMON_FILL));
-				this.layer.get(LayerIds.LEISURE$COMMON).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LEISURE_COMMON_OUTLINE));
-			} else if (this.tagIDsWays.leisure$nature_reserve != null
-					&& wayTagIds[this.tagIDsWays.leisure$nature_reserve.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LEISURE$NATURE_RESERVE).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_LEISURE_NATURE_RESERVE_PATTERN));
-				this.layer.get(LayerIds.LEISURE$NATURE_RESERVE).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_LEISURE_NATURE_RESERVE_OUTLINE));
-			} else if ((this.tagIDsWays.leisure$sports_centre != null && wayTagIds[this.tagIDsWays.leisure$sports_centre
-					.intValue()])
-					|| (this.tagIDsWays.leisure$stadium != null && wayTagIds[this.tagIDsWays.leisure$stadium
-							.intValue()])
-					|| (this.tagIDsWays.leisure$track != null && wayTagIds[this.tagIDsWays.leisure$track
-							.intValue()])
-					|| (this.tagIDsWays.leisure$water_park != null && wayTagIds[this.tagIDsWays.leisure$park
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.LEISURE$STADIUM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LEISURE_STADIUM_FILL));
-				this.layer.get(LayerIds.LEISURE$STADIUM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_LEISURE_STADIUM_OUTLINE));
+			switch (this.wayRuleMatches[WayRules.LEISURE]) {
+				case WayRules.LEISURE$COMMON:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LEISURE$COMMON, this.paintLeisureCommonFill);
+					addShape(LayerIds.LEISURE$COMMON, this.paintLeisureCommonOutline);
+					break;
+				case WayRules.LEISURE$NATURE_RESERVE:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LEISURE$NATURE_RESERVE, this.paintLeisureNatureReservePattern);
+					addShape(LayerIds.LEISURE$NATURE_RESERVE, this.paintLeisureNatureReserveOutline);
+					break;
+				case WayRules.LEISURE$SPORTS_CENTRE:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.LEISURE$STADIUM, this.paintLeisureStadiumFill);
+					addShape(LayerIds.LEISURE$STADIUM, this.paintLeisureStadiumOutline);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3399,47 +3786,36 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* amenity */
 		if ((wayTagBitmap & BITMAP_AMENITY) != 0) {
-			if ((this.tagIDsWays.amenity$college != null && wayTagIds[this.tagIDsWays.amenity$college
-					.intValue()])
-					|| (this.tagIDsWays.amenity$school != null && wayTagIds[this.tagIDsWays.amenity$school
-							.intValue()])
-					|| (this.tagIDsWays.amenity$university != null && wayTagIds[this.tagIDsWays.amenity$university
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.AMENITY$SCHOOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_SCHOOL_FILL));
-				this.layer.get(LayerIds.AMENITY$SCHOOL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_SCHOOL_OUTLINE));
-			} else if (this.tagIDsWays.amenity$grave_yard != null
-					&& wayTagIds[this.tagIDsWays.amenity$grave_yard.intValue()]) {
-				this.layer.get(LayerIds.AMENITY$GRAVE_YARD).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_GRAVE_YARD_FILL));
-			} else if (this.tagIDsWays.amenity$hospital != null
-					&& wayTagIds[this.tagIDsWays.amenity$hospital.intValue()]) {
-				/* amenity=hospital */
-				if (this.currentTile.zoomLevel >= 15) {
-					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 18);
-					addAreaSymbol(this.mapSymbols.hospital, (byte) 16);
-				}
-				this.layer.get(LayerIds.AMENITY$HOSPITAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_HOSPITAL_FILL));
-			} else if (this.tagIDsWays.amenity$parking != null
-					&& wayTagIds[this.tagIDsWays.amenity$parking.intValue()]) {
-				/* amenity=parking */
-				if (this.currentTile.zoomLevel >= 17) {
-					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 18);
-					addAreaSymbol(this.mapSymbols.parking, (byte) 17);
-				}
-				this.layer.get(LayerIds.AMENITY$PARKING).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_PARKING_FILL));
-				this.layer.get(LayerIds.AMENITY$PARKING).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_AMENITY_PARKING_OUTLINE));
-			} else if (this.tagIDsWays.amenity$fountain != null
-					&& wayTagIds[this.tagIDsWays.amenity$fountain.intValue()]) {
-				/* amenity=fountain */
-				if (this.currentTile.zoomLevel >= 16) {
+			switch (this.wayRuleMatches[WayRules.AMENITY]) {
+				case WayRules.AMENITY$COLLEGE:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.AMENITY$SCHOOL, this.paintAmenitySchoolFill);
+					addShape(LayerIds.AMENITY$SCHOOL, this.paintAmenitySchoolOutline);
+					break;
+				case WayRules.AMENITY$GRAVE_YARD:
+					addShape(LayerIds.AMENITY$GRAVE_YARD, this.paintAmenityGraveYardFill);
+					break;
+				case WayRules.AMENITY$HOSPITAL:
+					/* amenity=hospital */
+					if (this.currentTile.zoomLevel >= 15) {
+						addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 18);
+						addAreaSymbol(this.mapSymbols.hospital, (byte) 16);
+					}
+					addShape(LayerIds.AMENITY$HOSPITAL, this.paintAmenityHospitalFill);
+					break;
+				case WayRules.AMENITY$PARKING:
+					/* amenity=parking */
+					if (this.currentTile.zoomLevel >= 17) {
+						addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 18);
+						addAreaSymbol(this.mapSymbols.parking, (byte) 17);
+					}
+					addShape(LayerIds.AMENITY$PARKING, this.paintAmenityParkingFill);
+					addShape(LayerIds.AMENITY$PARKING, this.paintAmenityParkingOutline);
+					break;
+				case WayRules.AMENITY$FOUNTAIN:
+					/* amenity=fountain */
 					addAreaSymbol(this.mapSymbols.fountain, (byte) 16);
-				}
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3448,46 +3824,35 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* natural */
 		if ((wayTagBitmap & BITMAP_NATURAL) != 0) {
-			if (this.tagIDsWays.natural$beach != null
-					&& wayTagIds[this.tagIDsWays.natural$beach.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.NATURAL$BEACH).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_BEACH_FILL));
-			} else if (this.tagIDsWays.natural$heath != null
-					&& wayTagIds[this.tagIDsWays.natural$heath.intValue()]) {
-				this.layer.get(LayerIds.NATURAL$HEATH).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_HEATH_FILL));
-			} else if (this.tagIDsWays.natural$land != null
-					&& wayTagIds[this.tagIDsWays.natural$land.intValue()]) {
-				this.layer.get(LayerIds.NATURAL$LAND).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_LAND_FILL));
-			} else if ((this.tagIDsWays.natural$scrub != null && wayTagIds[this.tagIDsWays.natural$scrub
-					.intValue()])
-					|| (this.tagIDsWays.natural$wood != null && wayTagIds[this.tagIDsWays.natural$wood
-							.intValue()])) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.NATURAL$WOOD).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_WOOD_FILL));
-			} else if (this.tagIDsWays.natural$water != null
-					&& wayTagIds[this.tagIDsWays.natural$water.intValue()]) {
-				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-				this.layer.get(LayerIds.NATURAL$WATER).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_WATER_FILL));
-			} else if ((this.tagIDsWays.natural$marsh != null && wayTagIds[this.tagIDsWays.natural$marsh
-					.intValue()])
-					|| (this.tagIDsWays.natural$wetland != null && wayTagIds[this.tagIDsWays.natural$wetland
-							.intValue()])) {
-				this.layer.get(LayerIds.NATURAL$MARSH).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_MARSH_PATTERN));
-			} else if (this.tagIDsWays.natural$coastline != null
-					&& wayTagIds[this.tagIDsWays.natural$coastline.intValue()]) {
-				this.coastlineAlgorithm.addCoastlineSegment(this.coordinates[0]);
-			} else if (this.tagIDsWays.natural$glacier != null
-					&& wayTagIds[this.tagIDsWays.natural$glacier.intValue()]) {
-				this.layer.get(LayerIds.NATURAL$GLACIER).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_GLACIER_FILL));
-				this.layer.get(LayerIds.NATURAL$GLACIER).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_NATURAL_GLACIER_OUTLINE));
+			switch (this.wayRuleMatches[WayRules.NATURAL]) {
+				case WayRules.NATURAL$BEACH:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.NATURAL$BEACH, this.paintNaturalBeachFill);
+					break;
+				case WayRules.NATURAL$HEATH:
+					addShape(LayerIds.NATURAL$HEATH, this.paintNaturalHeathFill);
+					break;
+				case WayRules.NATURAL$LAND:
+					addShape(LayerIds.NATURAL$LAND, this.paintNaturalLandFill);
+					break;
+				case WayRules.NATURAL$SCRUB:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.NATURAL$WOOD, this.paintNaturalWoodFill);
+					break;
+				case WayRules.NATURAL$WATER:
+					addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+					addShape(LayerIds.NATURAL$WATER, this.paintNaturalWaterFill);
+					break;
+				case WayRules.NATURAL$MARSH:
+					addShape(LayerIds.NATURAL$MARSH, this.paintNaturalMarshPattern);
+					break;
+				case WayRules.NATURAL$COASTLINE:
+					this.coastlineAlgorithm.addCoastlineSegment(copyWayCoordinates());
+					break;
+				case WayRules.NATURAL$GLACIER:
+					addShape(LayerIds.NATURAL$GLACIER, this.paintNaturalGlacierFill);
+					addShape(LayerIds.NATURAL$GLACIER, this.paintNaturalGlacierOutline);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3495,10 +3860,8 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		}
 
 		/* man_made */
-		if (this.tagIDsWays.man_made$pier != null
-				&& wayTagIds[this.tagIDsWays.man_made$pier.intValue()]) {
-			this.layer.get(LayerIds.MAN_MADE$PIER).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_MAN_MADE_PIER));
+		if (this.wayRuleMatches[WayRules.MAN_MADE] == WayRules.MAN_MADE$PIER) {
+			addShape(LayerIds.MAN_MADE$PIER, this.paintManMadePier);
 			if (--remainingTags <= 0) {
 				return;
 			}
@@ -3506,24 +3869,19 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		/* waterway */
 		if ((wayTagBitmap & BITMAP_WATERWAY) != 0) {
-			if ((this.tagIDsWays.waterway$canal != null && wayTagIds[this.tagIDsWays.waterway$canal
-					.intValue()])
-					|| (this.tagIDsWays.waterway$drain != null && wayTagIds[this.tagIDsWays.waterway$drain
-							.intValue()])) {
-				this.layer.get(LayerIds.WATERWAY$CANAL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_WATERWAY_CANAL));
-			} else if (this.tagIDsWays.waterway$river != null
-					&& wayTagIds[this.tagIDsWays.waterway$river.intValue()]) {
-				this.layer.get(LayerIds.WATERWAY$RIVER).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_WATERWAY_RIVER));
-			} else if (this.tagIDsWays.waterway$riverbank != null
-					&& wayTagIds[this.tagIDsWays.waterway$riverbank.intValue()]) {
-				this.layer.get(LayerIds.WATERWAY$RIVERBANK).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_WATERWAY_RIVERBANK_FILL));
-			} else if (this.tagIDsWays.waterway$stream != null
-					&& wayTagIds[this.tagIDsWays.waterway$stream.intValue()]) {
-				this.layer.get(LayerIds.WATERWAY$STREAM).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_WATERWAY_STREAM));
+			switch (this.wayRuleMatches[WayRules.WATERWAY]) {
+				case WayRules.WATERWAY$CANAL:
+					addShape(LayerIds.WATERWAY$CANAL, this.paintWaterwayCanal);
+					break;
+				case WayRules.WATERWAY$RIVER:
+					addShape(LayerIds.WATERWAY$RIVER, this.paintWaterwayRiver);
+					break;
+				case WayRules.WATERWAY$RIVERBANK:
+					addShape(LayerIds.WATERWAY$RIVERBANK, this.paintWaterwayRiverbankFill);
+					break;
+				case WayRules.WATERWAY$STREAM:
+					addShape(LayerIds.WATERWAY$STREAM, this.paintWaterwayStream);
+					break;
 			}
 			if (--remainingTags <= 0) {
 				return;
@@ -3531,294 +3889,233 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		}
 
 		/* barrier */
-		if ((this.tagIDsWays.barrier$fence != null && wayTagIds[this.tagIDsWays.barrier$fence
-				.intValue()])
-				|| (this.tagIDsWays.barrier$wall != null && wayTagIds[this.tagIDsWays.barrier$wall
-						.intValue()])) {
-			if (this.currentTile.zoomLevel > 15) {
-				this.layer.get(LayerIds.BARRIER$WALL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_BARRIER_WALL));
-			}
+		if (this.wayRuleMatches[WayRules.BARRIER] == WayRules.BARRIER$FENCE) {
+			addShape(LayerIds.BARRIER$WALL, this.paintBarrierWall);
 			if (--remainingTags <= 0) {
 				return;
 			}
 		}
 
 		/* boundary */
-		if (this.tagIDsWays.boundary$administrative != null
-				&& wayTagIds[this.tagIDsWays.boundary$administrative.intValue()]) {
-			if (this.tagIDsWays.admin_level$2 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$2.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$2).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_2));
-			} else if (this.tagIDsWays.admin_level$4 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$4.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$4).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_4));
-			} else if (this.tagIDsWays.admin_level$6 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$6.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$6).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_6));
-			} else if (this.tagIDsWays.admin_level$8 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$8.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$8).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_8));
-			} else if (this.tagIDsWays.admin_level$9 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$9.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$9).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_9));
-			} else if (this.tagIDsWays.admin_level$10 != null
-					&& wayTagIds[this.tagIDsWays.admin_level$10.intValue()]) {
-				this.layer.get(LayerIds.ADMIN_LEVEL$10).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_BOUNDARY_ADMINISTRATIVE_ADMIN_LEVEL_10));
-			}
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.boundary$national_park != null
-				&& wayTagIds[this.tagIDsWays.boundary$national_park.intValue()]) {
-			this.layer.get(LayerIds.BOUNDARY$NATIONAL_PARK).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_BOUNDARY_NATIONAL_PARK));
+		switch (this.wayRuleMatches[WayRules.BOUNDARY]) {
+			case WayRules.BOUNDARY$ADMINISTRATIVE:
+				if (this.tagIDsWays.admin_level$2 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$2.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$2, this.paintBoundaryAdministrativeAdminLevel2);
+				} else if (this.tagIDsWays.admin_level$4 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$4.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$4, this.paintBoundaryAdministrativeAdminLevel4);
+				} else if (this.tagIDsWays.admin_level$6 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$6.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$6, this.paintBoundaryAdministrativeAdminLevel6);
+				} else if (this.tagIDsWays.admin_level$8 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$8.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$8, this.paintBoundaryAdministrativeAdminLevel8);
+				} else if (this.tagIDsWays.admin_level$9 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$9.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$9, this.paintBoundaryAdministrativeAdminLevel9);
+				} else if (this.tagIDsWays.admin_level$10 != null
+						&& wayTagIds[this.tagIDsWays.admin_level$10.intValue()]) {
+					addShape(LayerIds.ADMIN_LEVEL$10, this.paintBoundaryAdministrativeAdminLevel10);
+				}
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.BOUNDARY$NATIONAL_PARK:
+				addShape(LayerIds.BOUNDARY$NATIONAL_PARK, this.paintBoundaryNationalPark);
+				break;
 		}
 
 		/* sport */
-		if (this.tagIDsWays.sport$shooting != null
-				&& wayTagIds[this.tagIDsWays.sport$shooting.intValue()]) {
-			this.layer.get(LayerIds.SPORT$SHOOTING).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_SHOOTING_FILL));
-			this.layer.get(LayerIds.SPORT$SHOOTING).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_SHOOTING_OUTLINE));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.sport$swimming != null
-				&& wayTagIds[this.tagIDsWays.sport$swimming.intValue()]) {
-			this.layer.get(LayerIds.SPORT$SWIMMING).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_SWIMMING_FILL));
-			this.layer.get(LayerIds.SPORT$SWIMMING).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_SWIMMING_OUTLINE));
-			addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.sport$tennis != null
-				&& wayTagIds[this.tagIDsWays.sport$tennis.intValue()]) {
-			this.layer.get(LayerIds.SPORT$TENNIS).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_TENNIS_FILL));
-			this.layer.get(LayerIds.SPORT$TENNIS).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_SPORT_TENNIS_OUTLINE));
-			if (--remainingTags <= 0) {
-				return;
-			}
+		switch (this.wayRuleMatches[WayRules.SPORT]) {
+			case WayRules.SPORT$SHOOTING:
+				addShape(LayerIds.SPORT$SHOOTING, this.paintSportShootingFill);
+				addShape(LayerIds.SPORT$SHOOTING, this.paintSportShootingOutline);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.SPORT$SWIMMING:
+				addShape(LayerIds.SPORT$SWIMMING, this.paintSportSwimmingFill);
+				addShape(LayerIds.SPORT$SWIMMING, this.paintSportSwimmingOutline);
+				addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.SPORT$TENNIS:
+				addShape(LayerIds.SPORT$TENNIS, this.paintSportTennisFill);
+				addShape(LayerIds.SPORT$TENNIS, this.paintSportTennisOutline);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
 		}
 
 		/* aeroway */
-		if (this.tagIDsWays.aeroway$aerodrome != null
-				&& wayTagIds[this.tagIDsWays.aeroway$aerodrome.intValue()]) {
-			this.layer.get(LayerIds.AEROWAY$AERODROME).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_AERODROME_OUTLINE));
-			this.layer.get(LayerIds.AEROWAY$AERODROME).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_AERODROME_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.aeroway$apron != null
-				&& wayTagIds[this.tagIDsWays.aeroway$apron.intValue()]) {
-			this.layer.get(LayerIds.AEROWAY$APRON).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_APRON_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.aeroway$runway != null
-				&& wayTagIds[this.tagIDsWays.aeroway$runway.intValue()]) {
-			this.layer.get(LayerIds.AEROWAY$RUNWAY1).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_RUNWAY1));
-			this.layer.get(LayerIds.AEROWAY$RUNWAY2).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_RUNWAY2));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.aeroway$taxiway != null
-				&& wayTagIds[this.tagIDsWays.aeroway$taxiway.intValue()]) {
-			this.layer.get(LayerIds.AEROWAY$TAXIWAY1).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_TAXIWAY1));
-			this.layer.get(LayerIds.AEROWAY$TAXIWAY2).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_TAXIWAY2));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.aeroway$terminal != null
-				&& wayTagIds[this.tagIDsWays.aeroway$terminal.intValue()]) {
-			this.layer.get(LayerIds.AEROWAY$TERMINAL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_TERMINAL_OUTLINE));
-			this.layer.get(LayerIds.AEROWAY$TERMINAL).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AEROWAY_TERMINAL_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
+		switch (this.wayRuleMatches[WayRules.AEROWAY]) {
+			case WayRules.AEROWAY$AERODROME:
+				addShape(LayerIds.AEROWAY$AERODROME, this.paintAerowayAerodromeOutline);
+				addShape(LayerIds.AEROWAY$AERODROME, this.paintAerowayAerodromeFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.AEROWAY$APRON:
+				addShape(LayerIds.AEROWAY$APRON, this.paintAerowayApronFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.AEROWAY$RUNWAY:
+				addShape(LayerIds.AEROWAY$RUNWAY1, this.paintAerowayRunway1);
+				addShape(LayerIds.AEROWAY$RUNWAY2, this.paintAerowayRunway2);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.AEROWAY$TAXIWAY:
+				addShape(LayerIds.AEROWAY$TAXIWAY1, this.paintAerowayTaxiway1);
+				addShape(LayerIds.AEROWAY$TAXIWAY2, this.paintAerowayTaxiway2);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.AEROWAY$TERMINAL:
+				addShape(LayerIds.AEROWAY$TERMINAL, this.paintAerowayTerminalOutline);
+				addShape(LayerIds.AEROWAY$TERMINAL, this.paintAerowayTerminalFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
 		}
 
 		/* tourism */
-		if (this.tagIDsWays.tourism$attraction != null
-				&& wayTagIds[this.tagIDsWays.tourism$attraction.intValue()]) {
-			addAreaName(wayName, wayLabelPosition, AREA_NAME_RED, (byte) 0);
-			this.layer.get(LayerIds.TOURISM$ATTRACTION).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_TOURISM_ATTRACTION_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.tourism$zoo != null
-				&& wayTagIds[this.tagIDsWays.tourism$zoo.intValue()]) {
-			this.layer.get(LayerIds.TOURISM$ZOO).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_TOURISM_ZOO_FILL));
-			this.layer.get(LayerIds.TOURISM$ZOO).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_TOURISM_ZOO_OUTLINE));
-			if (--remainingTags <= 0) {
-				return;
-			}
+		switch (this.wayRuleMatches[WayRules.TOURISM]) {
+			case WayRules.TOURISM$ATTRACTION:
+				addAreaName(wayName, wayLabelPosition, AREA_NAME_RED, (byte) 0);
+				addShape(LayerIds.TOURISM$ATTRACTION, this.paintTourismAttractionFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.TOURISM$ZOO:
+				addShape(LayerIds.TOURISM$ZOO, this.paintTourismZooFill);
+				addShape(LayerIds.TOURISM$ZOO, this.paintTourismZooOutline);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
 		}
 
 		/* aerial ways */
-		if ((this.tagIDsWays.aerialway$cable_car != null && wayTagIds[this.tagIDsWays.aerialway$cable_car
-				.intValue()])
-				|| (this.tagIDsWays.aerialway$drag_lift != null && wayTagIds[this.tagIDsWays.aerialway$drag_lift
-						.intValue()])
-				|| (this.tagIDsWays.aerialway$gondola != null && wayTagIds[this.tagIDsWays.aerialway$gondola
-						.intValue()])
-				|| (this.tagIDsWays.aerialway$magic_carpet != null && wayTagIds[this.tagIDsWays.aerialway$magic_carpet
-						.intValue()])
-				|| (this.tagIDsWays.aerialway$mixed_lift != null && wayTagIds[this.tagIDsWays.aerialway$mixed_lift
-						.intValue()])
-				|| (this.tagIDsWays.aerialway$rope_tow != null && wayTagIds[this.tagIDsWays.aerialway$rope_tow
-						.intValue()])) {
-			this.layer.get(LayerIds.AERIALWAY$CABLE_CAR).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AERIALWAY));
-			if (wayName != null && this.currentTile.zoomLevel >= 15) {
-				addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
-			}
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.aerialway$chair_lift != null
-				&& wayTagIds[this.tagIDsWays.aerialway$chair_lift.intValue()]) {
-			this.layer.get(LayerIds.AERIALWAY$CABLE_CAR).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_AERIALWAY));
-			if (wayName != null && this.currentTile.zoomLevel >= 15) {
-				addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
-				addWaySymbol(this.mapSymbols.chair_lift_2, false, false);
-			}
-			if (--remainingTags <= 0) {
-				return;
-			}
+		switch (this.wayRuleMatches[WayRules.AERIALWAY]) {
+			case WayRules.AERIALWAY$CABLE_CAR:
+				addShape(LayerIds.AERIALWAY$CABLE_CAR, this.paintAerialway);
+				if (wayName != null && this.currentTile.zoomLevel >= 15) {
+					addWayName(wayName, this.paintNameWhiteStrokeTiny);
+				}
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.AERIALWAY$CHAIR_LIFT:
+				addShape(LayerIds.AERIALWAY$CABLE_CAR, this.paintAerialway);
+				if (wayName != null && this.currentTile.zoomLevel >= 15) {
+					addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					addWaySymbol(this.mapSymbols.chair_lift_2, false, false);
+				}
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
 		}
 
 		/* pistes */
-		if (this.tagIDsWays.piste$type$downhill != null
-				&& wayTagIds[this.tagIDsWays.piste$type$downhill.intValue()]) {
-			if (this.tagIDsWays.piste$difficulty$novice != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$novice.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_PISTE_TYPE_DOWNHILL_NOVICE));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
+		switch (this.wayRuleMatches[WayRules.PISTE]) {
+			case WayRules.PISTE$TYPE$DOWNHILL:
+				if (this.tagIDsWays.piste$difficulty$novice != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$novice.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillNovice);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
+				} else if (this.tagIDsWays.piste$difficulty$easy != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$easy.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillEasy);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
+				} else if (this.tagIDsWays.piste$difficulty$intermediate != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$intermediate.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillIntermediate);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
+				} else if (this.tagIDsWays.piste$difficulty$advanced != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$advanced.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillAdvanced);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
+				} else if (this.tagIDsWays.piste$difficulty$expert != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$expert.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillExpert);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
+				} else if (this.tagIDsWays.piste$difficulty$freeride != null
+						&& wayTagIds[this.tagIDsWays.piste$difficulty$freeride.intValue()]) {
+					addShape(LayerIds.PISTE$TYPE$DOWNHILL, this.paintPisteTypeDownhillFreeride);
+					if (wayName != null && this.currentTile.zoomLevel > 15) {
+						addWayName(wayName, this.paintNameWhiteStrokeTiny);
+					}
 				}
-			} else if (this.tagIDsWays.piste$difficulty$easy != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$easy.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_PISTE_TYPE_DOWNHILL_EASY));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
+				if (--remainingTags <= 0) {
+					return;
 				}
-			} else if (this.tagIDsWays.piste$difficulty$intermediate != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$intermediate.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL).add(
-						new ShapePaintContainer(this.shapeContainer,
-								PAINT_PISTE_TYPE_DOWNHILL_INTERMEDIATE));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
-				}
-			} else if (this.tagIDsWays.piste$difficulty$advanced != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$advanced.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL)
-						.add(
-								new ShapePaintContainer(this.shapeContainer,
-										PAINT_PISTE_TYPE_DOWNHILL_ADVANCED));
+				break;
+			case WayRules.PISTE$TYPE$NORDIC:
+				addShape(LayerIds.PISTE$TYPE$NORDIC, this.paintPisteTypeNordic);
 				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
+					addWayName(wayName, this.paintNameWhiteStrokeTiny);
 				}
-			} else if (this.tagIDsWays.piste$difficulty$expert != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$expert.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_PISTE_TYPE_DOWNHILL_EXPERT));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
-				}
-			} else if (this.tagIDsWays.piste$difficulty$freeride != null
-					&& wayTagIds[this.tagIDsWays.piste$difficulty$freeride.intValue()]) {
-				this.layer.get(LayerIds.PISTE$TYPE$DOWNHILL)
-						.add(
-								new ShapePaintContainer(this.shapeContainer,
-										PAINT_PISTE_TYPE_DOWNHILL_FREERIDE));
-				if (wayName != null && this.currentTile.zoomLevel > 15) {
-					addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
+				if (--remainingTags <= 0) {
+					return;
 				}
-			}
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.piste$type$nordic != null
-				&& wayTagIds[this.tagIDsWays.piste$type$nordic.intValue()]) {
-			this.layer.get(LayerIds.PISTE$TYPE$NORDIC).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_PISTE_TYPE_NORDIC));
-			if (wayName != null && this.currentTile.zoomLevel > 15) {
-				addWayName(wayName, PAINT_NAME_WHITE_STROKE_TINY);
-			}
-			if (--remainingTags <= 0) {
-				return;
-			}
+				break;
 		}
 
 		/* route */
-		if (this.tagIDsWays.route$ferry != null && wayTagIds[this.tagIDsWays.route$ferry.intValue()]) {
-			this.layer.get(LayerIds.ROUTE$FERRY).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_ROUTE_FERRY));
+		if (this.wayRuleMatches[WayRules.ROUTE] == WayRules.ROUTE$FERRY) {
+			addShape(LayerIds.ROUTE$FERRY, this.paintRouteFerry);
 			if (--remainingTags <= 0) {
 				return;
 			}
 		}
 
 		/* military */
-		if ((this.tagIDsWays.military$airfield != null && wayTagIds[this.tagIDsWays.military$airfield
-				.intValue()])
-				|| (this.tagIDsWays.military$barracks != null && wayTagIds[this.tagIDsWays.military$barracks
-						.intValue()])) {
-			if (this.currentTile.zoomLevel >= 14) {
-				this.layer.get(LayerIds.MILITARY$BARRACKS).add(
-						new ShapePaintContainer(this.shapeContainer, PAINT_MILITARY_PATTERN));
-			}
-			this.layer.get(LayerIds.MILITARY$BARRACKS).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_MILITARY_BARRACKS_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
-		} else if (this.tagIDsWays.military$naval_base != null
-				&& wayTagIds[this.tagIDsWays.military$naval_base.intValue()]) {
-			this.layer.get(LayerIds.MILITARY$NAVAL_BASE).add(
-					new ShapePaintContainer(this.shapeContainer, PAINT_MILITARY_NAVAL_BASE_FILL));
-			if (--remainingTags <= 0) {
-				return;
-			}
+		switch (this.wayRuleMatches[WayRules.MILITARY]) {
+			case WayRules.MILITARY$AIRFIELD:
+				if (this.currentTile.zoomLevel >= 14) {
+					addShape(LayerIds.MILITARY$BARRACKS, this.paintMilitaryPattern);
+				}
+				addShape(LayerIds.MILITARY$BARRACKS, this.paintMilitaryBarracksFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
+			case WayRules.MILITARY$NAVAL_BASE:
+				addShape(LayerIds.MILITARY$NAVAL_BASE, this.paintMilitaryNavalBaseFill);
+				if (--remainingTags <= 0) {
+					return;
+				}
+				break;
 		}
 
 		/* historic */
-		if (this.tagIDsWays.historic$ruins != null
-				&& wayTagIds[this.tagIDsWays.historic$ruins.intValue()]) {
+		if (this.wayRuleMatches[WayRules.HISTORIC] == WayRules.HISTORIC$RUINS) {
 			addAreaName(wayName, wayLabelPosition, AREA_NAME_BLUE, (byte) 0);
 			if (--remainingTags <= 0) {
 				return;
@@ -3826,8 +4123,7 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		}
 
 		/* place */
-		if (this.tagIDsWays.place$locality != null
-				&& wayTagIds[this.tagIDsWays.place$locality.intValue()]) {
+		if (this.wayRuleMatches[WayRules.PLACE] == WayRules.PLACE$LOCALITY) {
 			addAreaName(wayName, wayLabelPosition, AREA_NAME_BLACK, (byte) 0);
 			if (--remainingTags <= 0) {
 				return;
@@ -3835,6 +4131,15 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		}
 	}
 
+	/**
+	 * Enables or disables anti-aliasing for all following map objects, regardless of the flags of
+	 * their paints.
+	 * 
+	 * @param antiAliasing
+	 *            true if anti-aliasing should be used, false otherwise.
+	 */
+	abstract void setAntiAliasing(boolean antiAliasing);
+
 	/**
 	 * Sets the database that should be used.
 	 * 
@@ -3848,6 +4153,40 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 		}
 	}
 
+	/**
+	 * Sets the number of tiles per side of the metatiles. A metatile is queried, rendered and
+	 * labelled at once and then cut into single tiles, which avoids the overhead per tile and label
+	 * seams between the tiles of a metatile. The new size is read once at the start of each job and
+	 * takes effect with the next job, so it may be changed from any thread.
+	 * 
+	 * @param metatileSize
+	 *            the number of tiles per side, 1 disables metatiles.
+	 */
+	final void setMetatileSize(int metatileSize) {
+		this.requestedMetatileSize = metatileSize;
+	}
+
+	/**
+	 * Enables the pipelined mode, in which a separate decoder thread reads and projects the map objects
+	 * of the next job while the MapGenerator thread draws the map objects of the current job. The
+	 * decoder thread uses the database of this MapGenerator. Must be called before the thread is
+	 * started.
+	 * 
+	 * @param pipelined
+	 *            true if the jobs should be decoded in a separate thread, false otherwise.
+	 */
+	final void setPipelined(boolean pipelined) {
+		this.pipelined = pipelined;
+	}
+
+	/**
+	 * Sets the bitmap on which all following map objects are rendered.
+	 * 
+	 * @param bitmap
+	 *            the bitmap.
+	 */
+	abstract void setRenderBitmap(Bitmap bitmap);
+
 	@Override
 	final void setupMapGenerator(Bitmap bitmap) {
 		this.tileBitmap = bitmap;
@@ -3859,26 +4198,34 @@ abstract class DatabaseMapGenerator extends MapGenerator implements
 
 		initializePaints();
 
-		// set up all data structures for the map objects
-		this.ways = new ArrayList<List<List<ShapePaintContainer>>>(LAYERS);
-		for (byte i = LAYERS - 1; i >= 0; --i) {
-			this.innerWayList = new ArrayList<List<ShapePaintContainer>>(LayerIds.LEVELS_PER_LAYER);
-			for (byte j = LayerIds.LEVELS_PER_LAYER - 1; j >= 0; --j) {
-				this.innerWayList.add(new ArrayList<ShapePaintContainer>(0));
-			}
-			this.ways.add(this.innerWayList);
+		// set up the buffers for the map objects, the pipelined mode alternates between two of them
+		this.mapObjectBuffers = new MapObjectBuffer[this.pipelined ? MAP_OBJECT_BUFFERS : 1];
+		for (int i = 0; i < this.mapObjectBuffers.length; ++i) {
+			this.mapObjectBuffers[i] = new MapObjectBuffer(LAYERS, LayerIds.LEVELS_PER_LAYER,
+					this.paintTable);
 		}
-		this.wayNames = new ArrayList<WayTextContainer>(64);
-		this.nodes = new ArrayList<PointTextContainer>(64);
-		this.areaLabels = new ArrayList<PointTextContainer>(64);
-		this.waySymbols = new ArrayList<SymbolContainer>(64);
-		this.pointSymbols = new ArrayList<SymbolContainer>(64);
 
 		// create the coordinates array for water tiles
-		this.waterTileCoordinates = new float[][] { { 0, 0, Tile.TILE_SIZE, 0, Tile.TILE_SIZE,
-				Tile.TILE_SIZE, 0, Tile.TILE_SIZE, 0, 0 } };
+		this.waterTileCoordinates = new float[] { 0, 0, Tile.TILE_SIZE, 0, Tile.TILE_SIZE,
+				Tile.TILE_SIZE, 0, Tile.TILE_SIZE, 0, 0 };
+		this.metatileSize = 1;
+		this.sliceCanvas = new Canvas(this.tileBitmap);
 
 		setupRenderer(this.tileBitmap);
+
+		if (this.pipelined) {
+			for (MapObjectBuffer buffer : this.mapObjectBuffers) {
+				this.freeBuffers.add(buffer);
+			}
+			this.decoderThread = new Thread() {
+				@Override
+				public void run() {
+					setName(getThreadName() + "Decoder");
+					decodeJobs();
+				}
+			};
+			this.decoderThread.start();
+		}
 	}
 
 	/**
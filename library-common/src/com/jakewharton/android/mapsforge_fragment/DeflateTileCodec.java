@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A TileCodec which compresses the RGB_565 pixels of a tile with the deflate algorithm. The fastest
+ * compression level is used, as map tiles with their large areas of equal color compress well anyway.
+ */
+class DeflateTileCodec implements TileCodec {
+	/**
+	 * Additional bytes which the deflate algorithm may need for incompressible data.
+	 */
+	private static final int DEFLATE_OVERHEAD = 1024;
+
+	/**
+	 * Name of the encoding.
+	 */
+	private static final String NAME = "deflate";
+
+	private final Deflater deflater;
+	private final Inflater inflater;
+
+	/**
+	 * Constructs a new DeflateTileCodec.
+	 */
+	DeflateTileCodec() {
+		this.deflater = new Deflater(Deflater.BEST_SPEED);
+		this.inflater = new Inflater();
+	}
+
+	@Override
+	public boolean decode(byte[] data, int length, ByteBuffer pixels) {
+		try {
+			this.inflater.reset();
+			this.inflater.setInput(data, 0, length);
+			if (this.inflater.inflate(pixels.array(), 0, Tile.TILE_SIZE_IN_BYTES) != Tile.TILE_SIZE_IN_BYTES
+					|| !this.inflater.finished()) {
+				Logger.debug("invalid compressed tile");
+				return false;
+			}
+			pixels.rewind();
+			return true;
+		} catch (DataFormatException e) {
+			Logger.exception(e);
+			return false;
+		}
+	}
+
+	@Override
+	public int encode(ByteBuffer pixels, byte[] data) {
+		this.deflater.reset();
+		this.deflater.setInput(pixels.array(), 0, Tile.TILE_SIZE_IN_BYTES);
+		this.deflater.finish();
+		int length = this.deflater.deflate(data, 0, data.length);
+		if (!this.deflater.finished()) {
+			// the output array is too small
+			return -1;
+		}
+		return length;
+	}
+
+	@Override
+	public int getMaximumEncodedLength() {
+		return Tile.TILE_SIZE_IN_BYTES + DEFLATE_OVERHEAD;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+}
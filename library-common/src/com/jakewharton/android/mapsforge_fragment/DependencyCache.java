@@ -163,6 +163,7 @@ class DependencyCache {
 
 	private DependencyOnTile currentDependencyOnTile;
 	private Tile currentTile;
+	private int tileSize;
 
 	/**
 	 * Hash table, that connects the Tiles with their entries in the dependency cache.
@@ -179,6 +180,7 @@ class DependencyCache {
 	 */
 	DependencyCache() {
 		this.dependencyTable = new Hashtable<Tile, DependencyOnTile>(60);
+		this.tileSize = Tile.TILE_SIZE;
 	}
 
 	private void addLabelsFromDependencyOnTile(List<PointTextContainer> labels) {
@@ -257,7 +259,7 @@ class DependencyCache {
 				toAdd.depCounter++;
 
 				linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-						label.x, label.y + Tile.TILE_SIZE)));
+						label.x, label.y + this.tileSize)));
 
 				toAdd.addTile(up);
 
@@ -265,18 +267,18 @@ class DependencyCache {
 					linkedDep = this.dependencyTable.get(leftup);
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x + Tile.TILE_SIZE, label.y + Tile.TILE_SIZE)));
+							label.x + this.tileSize, label.y + this.tileSize)));
 
 					toAdd.addTile(leftup);
 
 				}
 
-				if ((label.x + label.boundary.width() > Tile.TILE_SIZE)
+				if ((label.x + label.boundary.width() > this.tileSize)
 						&& (!this.dependencyTable.get(rightup).drawn)) {
 					linkedDep = this.dependencyTable.get(rightup);
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x - Tile.TILE_SIZE, label.y + Tile.TILE_SIZE)));
+							label.x - this.tileSize, label.y + this.tileSize)));
 
 					toAdd.addTile(rightup);
 
@@ -284,7 +286,7 @@ class DependencyCache {
 			}
 
 			// down
-			if ((label.y > Tile.TILE_SIZE) && (!this.dependencyTable.get(down).drawn)) {
+			if ((label.y > this.tileSize) && (!this.dependencyTable.get(down).drawn)) {
 
 				linkedDep = this.dependencyTable.get(down);
 
@@ -300,7 +302,7 @@ class DependencyCache {
 				}
 
 				linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-						label.x, label.y - Tile.TILE_SIZE)));
+						label.x, label.y - this.tileSize)));
 
 				toAdd.addTile(down);
 
@@ -308,19 +310,19 @@ class DependencyCache {
 					linkedDep = this.dependencyTable.get(leftdown);
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x + Tile.TILE_SIZE, label.y - Tile.TILE_SIZE)));
+							label.x + this.tileSize, label.y - this.tileSize)));
 
 					toAdd.addTile(leftdown);
 
 				}
 
-				if ((label.x + label.boundary.width() > Tile.TILE_SIZE)
+				if ((label.x + label.boundary.width() > this.tileSize)
 						&& (!this.dependencyTable.get(rightdown).drawn)) {
 
 					linkedDep = this.dependencyTable.get(rightdown);
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x - Tile.TILE_SIZE, label.y - Tile.TILE_SIZE)));
+							label.x - this.tileSize, label.y - this.tileSize)));
 
 					toAdd.addTile(rightdown);
 
@@ -343,13 +345,13 @@ class DependencyCache {
 				}
 
 				linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-						label.x + Tile.TILE_SIZE, label.y)));
+						label.x + this.tileSize, label.y)));
 
 				toAdd.addTile(left);
 
 			}
 			// right
-			if ((label.x + label.boundary.width() > Tile.TILE_SIZE)
+			if ((label.x + label.boundary.width() > this.tileSize)
 					&& (!this.dependencyTable.get(right).drawn)) {
 				linkedDep = this.dependencyTable.get(right);
 
@@ -365,7 +367,7 @@ class DependencyCache {
 				}
 
 				linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-						label.x - Tile.TILE_SIZE, label.y)));
+						label.x - this.tileSize, label.y)));
 
 				toAdd.addTile(right);
 
@@ -387,7 +389,7 @@ class DependencyCache {
 					toAdd.depCounter++;
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x, label.y + Tile.TILE_SIZE)));
+							label.x, label.y + this.tileSize)));
 
 					toAdd.addTile(up);
 
@@ -395,27 +397,27 @@ class DependencyCache {
 						linkedDep = this.dependencyTable.get(leftup);
 
 						linkedDep.addText(new Dependency<DependencyText>(toAdd,
-								new ImmutablePoint(label.x + Tile.TILE_SIZE, label.y
-										+ Tile.TILE_SIZE)));
+								new ImmutablePoint(label.x + this.tileSize, label.y
+										+ this.tileSize)));
 
 						toAdd.addTile(leftup);
 
 					}
 
-					if ((label.symbol.x + label.symbol.symbol.getWidth() > Tile.TILE_SIZE)
+					if ((label.symbol.x + label.symbol.symbol.getWidth() > this.tileSize)
 							&& (!this.dependencyTable.get(rightup).drawn)) {
 						linkedDep = this.dependencyTable.get(rightup);
 
 						linkedDep.addText(new Dependency<DependencyText>(toAdd,
-								new ImmutablePoint(label.x - Tile.TILE_SIZE, label.y
-										+ Tile.TILE_SIZE)));
+								new ImmutablePoint(label.x - this.tileSize, label.y
+										+ this.tileSize)));
 
 						toAdd.addTile(rightup);
 
 					}
 				}
 
-				if ((label.symbol.y + label.symbol.symbol.getHeight() >= Tile.TILE_SIZE)
+				if ((label.symbol.y + label.symbol.symbol.getHeight() >= this.tileSize)
 						&& (!this.dependencyTable.get(down).drawn)) {
 
 					linkedDep = this.dependencyTable.get(down);
@@ -432,7 +434,7 @@ class DependencyCache {
 					}
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x, label.y + Tile.TILE_SIZE)));
+							label.x, label.y + this.tileSize)));
 
 					toAdd.addTile(up);
 
@@ -440,21 +442,21 @@ class DependencyCache {
 						linkedDep = this.dependencyTable.get(leftdown);
 
 						linkedDep.addText(new Dependency<DependencyText>(toAdd,
-								new ImmutablePoint(label.x + Tile.TILE_SIZE, label.y
-										- Tile.TILE_SIZE)));
+								new ImmutablePoint(label.x + this.tileSize, label.y
+										- this.tileSize)));
 
 						toAdd.addTile(leftdown);
 
 					}
 
-					if ((label.symbol.x + label.symbol.symbol.getWidth() > Tile.TILE_SIZE)
+					if ((label.symbol.x + label.symbol.symbol.getWidth() > this.tileSize)
 							&& (!this.dependencyTable.get(rightdown).drawn)) {
 
 						linkedDep = this.dependencyTable.get(rightdown);
 
 						linkedDep.addText(new Dependency<DependencyText>(toAdd,
-								new ImmutablePoint(label.x - Tile.TILE_SIZE, label.y
-										- Tile.TILE_SIZE)));
+								new ImmutablePoint(label.x - this.tileSize, label.y
+										- this.tileSize)));
 
 						toAdd.addTile(rightdown);
 
@@ -476,13 +478,13 @@ class DependencyCache {
 					}
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x - Tile.TILE_SIZE, label.y)));
+							label.x - this.tileSize, label.y)));
 
 					toAdd.addTile(left);
 
 				}
 
-				if ((label.symbol.x + label.symbol.symbol.getWidth() >= Tile.TILE_SIZE)
+				if ((label.symbol.x + label.symbol.symbol.getWidth() >= this.tileSize)
 						&& (!this.dependencyTable.get(right).drawn)) {
 					linkedDep = this.dependencyTable.get(right);
 
@@ -498,7 +500,7 @@ class DependencyCache {
 					}
 
 					linkedDep.addText(new Dependency<DependencyText>(toAdd, new ImmutablePoint(
-							label.x + Tile.TILE_SIZE, label.y)));
+							label.x + this.tileSize, label.y)));
 
 					toAdd.addTile(right);
 				}
@@ -570,31 +572,31 @@ class DependencyCache {
 				addSmb.depCounter++;
 
 				linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-						new ImmutablePoint(symbol.x, symbol.y + Tile.TILE_SIZE)));
+						new ImmutablePoint(symbol.x, symbol.y + this.tileSize)));
 				addSmb.addTile(up);
 
 				if ((symbol.x < 0.0f) && (!this.dependencyTable.get(leftup).drawn)) {
 					linkedDep = this.dependencyTable.get(leftup);
 
 					linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-							new ImmutablePoint(symbol.x + Tile.TILE_SIZE, symbol.y
-									+ Tile.TILE_SIZE)));
+							new ImmutablePoint(symbol.x + this.tileSize, symbol.y
+									+ this.tileSize)));
 					addSmb.addTile(leftup);
 				}
 
-				if ((symbol.x + symbol.symbol.getWidth() > Tile.TILE_SIZE)
+				if ((symbol.x + symbol.symbol.getWidth() > this.tileSize)
 						&& (!this.dependencyTable.get(rightup).drawn)) {
 					linkedDep = this.dependencyTable.get(rightup);
 
 					linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-							new ImmutablePoint(symbol.x - Tile.TILE_SIZE, symbol.y
-									+ Tile.TILE_SIZE)));
+							new ImmutablePoint(symbol.x - this.tileSize, symbol.y
+									+ this.tileSize)));
 					addSmb.addTile(rightup);
 				}
 			}
 
 			// down
-			if ((symbol.y + symbol.symbol.getHeight() > Tile.TILE_SIZE)
+			if ((symbol.y + symbol.symbol.getHeight() > this.tileSize)
 					&& (!this.dependencyTable.get(down).drawn)) {
 
 				linkedDep = this.dependencyTable.get(down);
@@ -607,26 +609,26 @@ class DependencyCache {
 				}
 
 				linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-						new ImmutablePoint(symbol.x, symbol.y - Tile.TILE_SIZE)));
+						new ImmutablePoint(symbol.x, symbol.y - this.tileSize)));
 				addSmb.addTile(down);
 
 				if ((symbol.x < 0.0f) && (!this.dependencyTable.get(leftdown).drawn)) {
 					linkedDep = this.dependencyTable.get(leftdown);
 
 					linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-							new ImmutablePoint(symbol.x + Tile.TILE_SIZE, symbol.y
-									- Tile.TILE_SIZE)));
+							new ImmutablePoint(symbol.x + this.tileSize, symbol.y
+									- this.tileSize)));
 					addSmb.addTile(leftdown);
 				}
 
-				if ((symbol.x + symbol.symbol.getWidth() > Tile.TILE_SIZE)
+				if ((symbol.x + symbol.symbol.getWidth() > this.tileSize)
 						&& (!this.dependencyTable.get(rightdown).drawn)) {
 
 					linkedDep = this.dependencyTable.get(rightdown);
 
 					linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-							new ImmutablePoint(symbol.x - Tile.TILE_SIZE, symbol.y
-									- Tile.TILE_SIZE)));
+							new ImmutablePoint(symbol.x - this.tileSize, symbol.y
+									- this.tileSize)));
 					addSmb.addTile(rightdown);
 				}
 			}
@@ -643,11 +645,11 @@ class DependencyCache {
 				}
 
 				linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-						new ImmutablePoint(symbol.x + Tile.TILE_SIZE, symbol.y)));
+						new ImmutablePoint(symbol.x + this.tileSize, symbol.y)));
 				addSmb.addTile(left);
 			}
 			// right
-			if ((symbol.x + symbol.symbol.getWidth() > Tile.TILE_SIZE)
+			if ((symbol.x + symbol.symbol.getWidth() > this.tileSize)
 					&& (!this.dependencyTable.get(right).drawn)) {
 				linkedDep = this.dependencyTable.get(right);
 				if (addSmb == null) {
@@ -658,7 +660,7 @@ class DependencyCache {
 				}
 
 				linkedDep.addSymbol(new Dependency<DependencySymbol>(addSmb,
-						new ImmutablePoint(symbol.x - Tile.TILE_SIZE, symbol.y)));
+						new ImmutablePoint(symbol.x - this.tileSize, symbol.y)));
 				addSmb.addTile(right);
 			}
 		}
@@ -979,7 +981,7 @@ class DependencyCache {
 				continue;
 			}
 
-			if (down && label.y > Tile.TILE_SIZE) {
+			if (down && label.y > this.tileSize) {
 				areaLabels.remove(i);
 				i--;
 				continue;
@@ -989,7 +991,7 @@ class DependencyCache {
 				i--;
 				continue;
 			}
-			if (right && label.x + label.boundary.width() > Tile.TILE_SIZE) {
+			if (right && label.x + label.boundary.width() > this.tileSize) {
 				areaLabels.remove(i);
 				i--;
 				continue;
@@ -1072,7 +1074,7 @@ class DependencyCache {
 				continue;
 			}
 
-			if (down && ref.y >= Tile.TILE_SIZE) {
+			if (down && ref.y >= this.tileSize) {
 				refPos[i] = null;
 				continue;
 			}
@@ -1082,7 +1084,7 @@ class DependencyCache {
 				continue;
 			}
 
-			if (right && ref.x + ref.width > Tile.TILE_SIZE) {
+			if (right && ref.x + ref.width > this.tileSize) {
 				refPos[i] = null;
 			}
 		}
@@ -1176,7 +1178,7 @@ class DependencyCache {
 				continue;
 			}
 
-			if (down && ref.y + ref.symbol.getHeight() > Tile.TILE_SIZE) {
+			if (down && ref.y + ref.symbol.getHeight() > this.tileSize) {
 				symbols.remove(i);
 				i--;
 				continue;
@@ -1186,11 +1188,25 @@ class DependencyCache {
 				i--;
 				continue;
 			}
-			if (right && ref.x + ref.symbol.getWidth() > Tile.TILE_SIZE) {
+			if (right && ref.x + ref.symbol.getWidth() > this.tileSize) {
 				symbols.remove(i);
 				i--;
 				continue;
 			}
 		}
 	}
+
+	/**
+	 * Sets the width and height in pixels of the tiles for which labels are placed. All dependencies
+	 * are removed if the size changes, as their coordinates refer to the previous size.
+	 * 
+	 * @param tileSize
+	 *            the new tile size in pixels.
+	 */
+	void setTileSize(int tileSize) {
+		if (this.tileSize != tileSize) {
+			this.dependencyTable.clear();
+			this.tileSize = tileSize;
+		}
+	}
 }
@@ -14,8 +14,10 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
+import java.nio.ByteBuffer;
+
 /**
- * This class converts byte arrays to numbers.
+ * This class converts byte arrays and byte buffers to numbers.
  */
 final class Deserializer {
 	/**
@@ -84,6 +86,72 @@ final class Deserializer {
 		return buffer[offset] << 8 | (buffer[offset + 1] & 0xff);
 	}
 
+	/**
+	 * Converts five bytes of a byte buffer to an unsigned long.
+	 * <p>
+	 * The byte order is big-endian.
+	 * 
+	 * @param buffer
+	 *            the byte buffer.
+	 * @param offset
+	 *            the absolute offset in the buffer.
+	 * @return the long value.
+	 */
+	static long getFiveBytesLong(ByteBuffer buffer, int offset) {
+		return (buffer.get(offset) & 0xffL) << 32 | (buffer.get(offset + 1) & 0xffL) << 24
+				| (buffer.get(offset + 2) & 0xffL) << 16 | (buffer.get(offset + 3) & 0xffL) << 8
+				| (buffer.get(offset + 4) & 0xffL);
+	}
+
+	/**
+	 * Converts four bytes of a byte buffer to a signed int.
+	 * <p>
+	 * The byte order is big-endian.
+	 * 
+	 * @param buffer
+	 *            the byte buffer.
+	 * @param offset
+	 *            the absolute offset in the buffer.
+	 * @return the int value.
+	 */
+	static int getInt(ByteBuffer buffer, int offset) {
+		return buffer.get(offset) << 24 | (buffer.get(offset + 1) & 0xff) << 16
+				| (buffer.get(offset + 2) & 0xff) << 8 | (buffer.get(offset + 3) & 0xff);
+	}
+
+	/**
+	 * Converts eight bytes of a byte buffer to a signed long.
+	 * <p>
+	 * The byte order is big-endian.
+	 * 
+	 * @param buffer
+	 *            the byte buffer.
+	 * @param offset
+	 *            the absolute offset in the buffer.
+	 * @return the long value.
+	 */
+	static long getLong(ByteBuffer buffer, int offset) {
+		return (buffer.get(offset) & 0xffL) << 56 | (buffer.get(offset + 1) & 0xffL) << 48
+				| (buffer.get(offset + 2) & 0xffL) << 40 | (buffer.get(offset + 3) & 0xffL) << 32
+				| (buffer.get(offset + 4) & 0xffL) << 24 | (buffer.get(offset + 5) & 0xffL) << 16
+				| (buffer.get(offset + 6) & 0xffL) << 8 | (buffer.get(offset + 7) & 0xffL);
+	}
+
+	/**
+	 * Converts two bytes of a byte buffer to a signed int.
+	 * <p>
+	 * The byte order is big-endian.
+	 * 
+	 * @param buffer
+	 *            the byte buffer.
+	 * @param offset
+	 *            the absolute offset in the buffer.
+	 * @return the int value.
+	 */
+	static int getShort(ByteBuffer buffer, int offset) {
+		return buffer.get(offset) << 8 | (buffer.get(offset + 1) & 0xff);
+	}
+
 	/**
 	 * Empty private constructor to prevent object creation.
 	 */
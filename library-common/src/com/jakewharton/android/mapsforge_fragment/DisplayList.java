@@ -0,0 +1,365 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import android.graphics.Paint;
+
+/**
+ * A compact list of drawing commands for the ways of one job. Each command consists of its layer and
+ * level, an opcode, the id of its paint in a {@link PaintTable} and a range of consecutive rings in a
+ * {@link GeometryArena}. Commands are added in any order while the map objects are decoded and are
+ * replayed in the order of their layer and level after {@link #sort()} has been called.
+ * <p>
+ * A display list can be written to a stream and read back, so it can also be stored as a vector
+ * tile. Paint ids are only valid together with the paint table of the list.
+ * <p>
+ * This class is not thread-safe.
+ */
+class DisplayList {
+	/**
+	 * Opcode of a circle, its ring contains the x and y coordinate of the center and the radius.
+	 */
+	static final int OPCODE_CIRCLE = 0;
+
+	/**
+	 * Opcode of a path, each ring contains the x and y coordinates of its points.
+	 */
+	static final int OPCODE_PATH = 1;
+
+	/**
+	 * Number of integers which are stored for each command.
+	 */
+	private static final int COMMAND_SIZE = 5;
+
+	/**
+	 * Position of the first ring in a command.
+	 */
+	private static final int FIRST_RING = 3;
+
+	/**
+	 * Initial number of commands.
+	 */
+	private static final int INITIAL_COMMANDS = 1024;
+
+	/**
+	 * Position of the layer and level in a command.
+	 */
+	private static final int KEY = 0;
+
+	/**
+	 * Position of the number of rings in a command.
+	 */
+	private static final int NUMBER_OF_RINGS = 4;
+
+	/**
+	 * Position of the opcode in a command.
+	 */
+	private static final int OPCODE = 1;
+
+	/**
+	 * Position of the paint id in a command.
+	 */
+	private static final int PAINT_ID = 2;
+
+	/**
+	 * Version of the serialized format, must be changed whenever the format changes.
+	 */
+	private static final int VERSION = 1;
+
+	private int[] commands;
+	private int[] keyStarts;
+	private final int layers;
+	private final int levelsPerLayer;
+	private int numberOfCommands;
+	private int[] order;
+	private Paint[] paints;
+	private final PaintTable paintTable;
+
+	/**
+	 * Coordinates of all rings which are referenced by the commands.
+	 */
+	final GeometryArena geometryArena;
+
+	/**
+	 * Constructs a new empty display list.
+	 * 
+	 * @param layers
+	 *            the number of layers.
+	 * @param levelsPerLayer
+	 *            the amount of levels per layer.
+	 * @param paintTable
+	 *            the table which assigns the paint ids.
+	 */
+	DisplayList(int layers, int levelsPerLayer, PaintTable paintTable) {
+		this.layers = layers;
+		this.levelsPerLayer = levelsPerLayer;
+		this.paintTable = paintTable;
+		this.commands = new int[INITIAL_COMMANDS * COMMAND_SIZE];
+		this.order = new int[INITIAL_COMMANDS];
+		this.keyStarts = new int[layers * levelsPerLayer + 1];
+		this.paints = new Paint[256];
+		this.geometryArena = new GeometryArena();
+	}
+
+	/**
+	 * Appends a command and makes sure that the paint can be found by its id.
+	 * 
+	 * @param key
+	 *            the layer and level of the command.
+	 * @param opcode
+	 *            the opcode of the command.
+	 * @param paintId
+	 *            the id of the paint.
+	 * @param paint
+	 *            the paint.
+	 * @param firstRing
+	 *            the index of the first ring.
+	 * @param numberOfRings
+	 *            the number of rings.
+	 */
+	private void addCommand(int key, int opcode, int paintId, Paint paint, int firstRing,
+			int numberOfRings) {
+		if (this.numberOfCommands * COMMAND_SIZE == this.commands.length) {
+			int[] newCommands = new int[this.commands.length << 1];
+			System.arraycopy(this.commands, 0, newCommands, 0, this.commands.length);
+			this.commands = newCommands;
+		}
+		if (paintId >= this.paints.length) {
+			Paint[] newPaints = new Paint[Math.max(this.paints.length << 1, paintId + 1)];
+			System.arraycopy(this.paints, 0, newPaints, 0, this.paints.length);
+			this.paints = newPaints;
+		}
+		this.paints[paintId] = paint;
+
+		int command = this.numberOfCommands * COMMAND_SIZE;
+		this.commands[command + KEY] = key;
+		this.commands[command + OPCODE] = opcode;
+		this.commands[command + PAINT_ID] = paintId;
+		this.commands[command + FIRST_RING] = firstRing;
+		this.commands[command + NUMBER_OF_RINGS] = numberOfRings;
+		++this.numberOfCommands;
+	}
+
+	/**
+	 * Appends a command for a circle or a path.
+	 * 
+	 * @param layer
+	 *            the layer of the command.
+	 * @param level
+	 *            the level of the command within its layer.
+	 * @param opcode
+	 *            the opcode of the command.
+	 * @param paint
+	 *            the paint for the shape.
+	 * @param firstRing
+	 *            the index of the first ring of the shape in the geometry arena.
+	 * @param numberOfRings
+	 *            the number of consecutive rings of the shape.
+	 */
+	void add(int layer, int level, int opcode, Paint paint, int firstRing, int numberOfRings) {
+		addCommand(layer * this.levelsPerLayer + level, opcode, this.paintTable.getId(paint), paint,
+				firstRing, numberOfRings);
+	}
+
+	/**
+	 * Removes all commands and rings. The allocated memory is kept.
+	 */
+	void clear() {
+		this.numberOfCommands = 0;
+		this.geometryArena.clear();
+	}
+
+	/**
+	 * @param index
+	 *            the position of the command in the sorted order.
+	 * @return the index of the first ring of the command.
+	 */
+	int getFirstRing(int index) {
+		return this.commands[this.order[index] * COMMAND_SIZE + FIRST_RING];
+	}
+
+	/**
+	 * @param index
+	 *            the position of the command in the sorted order.
+	 * @return the number of rings of the command.
+	 */
+	int getNumberOfRings(int index) {
+		return this.commands[this.order[index] * COMMAND_SIZE + NUMBER_OF_RINGS];
+	}
+
+	/**
+	 * @param index
+	 *            the position of the command in the sorted order.
+	 * @return the opcode of the command.
+	 */
+	int getOpcode(int index) {
+		return this.commands[this.order[index] * COMMAND_SIZE + OPCODE];
+	}
+
+	/**
+	 * @param index
+	 *            the position of the command in the sorted order.
+	 * @return the paint of the command.
+	 */
+	Paint getPaint(int index) {
+		return this.paints[this.commands[this.order[index] * COMMAND_SIZE + PAINT_ID]];
+	}
+
+	/**
+	 * Replaces the content of this list with a display list which has been written by
+	 * {@link #writeTo(DataOutput)}. The list is sorted afterwards.
+	 * 
+	 * @param in
+	 *            the input from which the display list should be read.
+	 * @throws IOException
+	 *             if the input cannot be read or does not contain a valid display list.
+	 */
+	void readFrom(DataInput in) throws IOException {
+		clear();
+		if (in.readInt() != VERSION) {
+			throw new IOException("unsupported display list version");
+		}
+		int commandsToRead = in.readInt();
+		if (commandsToRead < 0) {
+			throw new IOException("invalid number of commands: " + commandsToRead);
+		}
+		for (int i = 0; i < commandsToRead; ++i) {
+			int key = in.readInt();
+			int opcode = in.readInt();
+			int paintId = in.readInt();
+			int numberOfRings = in.readInt();
+			Paint paint = this.paintTable.getPaint(paintId);
+			if (key < 0 || key >= this.layers * this.levelsPerLayer) {
+				throw new IOException("invalid layer and level: " + key);
+			} else if (opcode != OPCODE_CIRCLE && opcode != OPCODE_PATH) {
+				throw new IOException("invalid opcode: " + opcode);
+			} else if (paint == null) {
+				throw new IOException("invalid paint id: " + paintId);
+			} else if (numberOfRings < 1) {
+				throw new IOException("invalid number of rings: " + numberOfRings);
+			}
+
+			int firstRing = -1;
+			for (int j = 0; j < numberOfRings; ++j) {
+				int ringLength = in.readInt();
+				if (ringLength < 0) {
+					throw new IOException("invalid ring length: " + ringLength);
+				}
+				int ring = this.geometryArena.addRing(ringLength);
+				if (j == 0) {
+					firstRing = ring;
+				}
+				float[] coordinates = this.geometryArena.coordinates;
+				int ringOffset = this.geometryArena.getRingOffset(ring);
+				for (int k = 0; k < ringLength; ++k) {
+					coordinates[ringOffset + k] = in.readFloat();
+				}
+			}
+			addCommand(key, opcode, paintId, paint, firstRing, numberOfRings);
+		}
+		sort();
+	}
+
+	/**
+	 * Removes all commands whose level is not flagged in the given array.
+	 * 
+	 * @param retainedLevels
+	 *            the flags of the levels to be kept, indexed by level.
+	 */
+	void retainLevels(boolean[] retainedLevels) {
+		int retainedCommands = 0;
+		for (int i = 0; i < this.numberOfCommands; ++i) {
+			int command = i * COMMAND_SIZE;
+			if (retainedLevels[this.commands[command + KEY] % this.levelsPerLayer]) {
+				if (retainedCommands != i) {
+					System.arraycopy(this.commands, command, this.commands, retainedCommands
+							* COMMAND_SIZE, COMMAND_SIZE);
+				}
+				++retainedCommands;
+			}
+		}
+		this.numberOfCommands = retainedCommands;
+	}
+
+	/**
+	 * Returns the number of commands in this list.
+	 * 
+	 * @return the number of commands.
+	 */
+	int size() {
+		return this.numberOfCommands;
+	}
+
+	/**
+	 * Sorts the commands by their layer and level. Commands with the same layer and level are
+	 * replayed in reverse order of their addition. This method must be called after the last command
+	 * has been added and before the commands are read.
+	 */
+	void sort() {
+		// count the commands of each layer and level
+		Arrays.fill(this.keyStarts, 0);
+		for (int i = 0; i < this.numberOfCommands; ++i) {
+			++this.keyStarts[this.commands[i * COMMAND_SIZE + KEY] + 1];
+		}
+
+		// calculate the position of the first command of each layer and level
+		for (int i = 1; i < this.keyStarts.length; ++i) {
+			this.keyStarts[i] += this.keyStarts[i - 1];
+		}
+
+		if (this.order.length < this.numberOfCommands) {
+			this.order = new int[this.commands.length / COMMAND_SIZE];
+		}
+		for (int i = this.numberOfCommands - 1; i >= 0; --i) {
+			this.order[this.keyStarts[this.commands[i * COMMAND_SIZE + KEY]]++] = i;
+		}
+	}
+
+	/**
+	 * Writes all commands and their rings to the given output.
+	 * 
+	 * @param out
+	 *            the output to which the display list should be written.
+	 * @throws IOException
+	 *             if the output cannot be written.
+	 */
+	void writeTo(DataOutput out) throws IOException {
+		out.writeInt(VERSION);
+		out.writeInt(this.numberOfCommands);
+		float[] coordinates = this.geometryArena.coordinates;
+		for (int i = 0; i < this.numberOfCommands; ++i) {
+			int command = i * COMMAND_SIZE;
+			int firstRing = this.commands[command + FIRST_RING];
+			int numberOfRings = this.commands[command + NUMBER_OF_RINGS];
+			out.writeInt(this.commands[command + KEY]);
+			out.writeInt(this.commands[command + OPCODE]);
+			out.writeInt(this.commands[command + PAINT_ID]);
+			out.writeInt(numberOfRings);
+			for (int ring = firstRing; ring < firstRing + numberOfRings; ++ring) {
+				int ringOffset = this.geometryArena.getRingOffset(ring);
+				int ringLength = this.geometryArena.getRingLength(ring);
+				out.writeInt(ringLength);
+				for (int j = 0; j < ringLength; ++j) {
+					out.writeFloat(coordinates[ringOffset + j]);
+				}
+			}
+		}
+	}
+}
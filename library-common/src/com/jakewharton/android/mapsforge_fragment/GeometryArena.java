@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * A reusable store for the shapes of all map objects of one job. The projected coordinates of all
+ * rings are kept in one growable array, so that decoding a tile creates no objects once the store
+ * has grown to the size of a busy tile. All rings stay valid until the store is cleared.
+ * <p>
+ * This class is not thread-safe.
+ */
+class GeometryArena {
+	/**
+	 * Initial number of coordinates, each point needs two.
+	 */
+	private static final int INITIAL_COORDINATES = 16384;
+
+	/**
+	 * Initial number of rings.
+	 */
+	private static final int INITIAL_RINGS = 1024;
+
+	private int numberOfCoordinates;
+	private int numberOfRings;
+	private int[] ringLengths;
+	private int[] ringOffsets;
+
+	/**
+	 * Coordinates of all rings as x and y pairs. The array is replaced when the store grows, so it
+	 * must be read again after each call of {@link #addRing(int)}.
+	 */
+	float[] coordinates;
+
+	/**
+	 * Constructs a new empty store.
+	 */
+	GeometryArena() {
+		this.coordinates = new float[INITIAL_COORDINATES];
+		this.ringOffsets = new int[INITIAL_RINGS];
+		this.ringLengths = new int[INITIAL_RINGS];
+	}
+
+	/**
+	 * Reserves space for a new ring at the end of the coordinates array.
+	 * 
+	 * @param length
+	 *            the number of coordinates of the ring.
+	 * @return the index of the new ring.
+	 */
+	int addRing(int length) {
+		if (this.numberOfCoordinates + length > this.coordinates.length) {
+			float[] newCoordinates = new float[Math.max(this.coordinates.length << 1,
+					this.numberOfCoordinates + length)];
+			System.arraycopy(this.coordinates, 0, newCoordinates, 0, this.numberOfCoordinates);
+			this.coordinates = newCoordinates;
+		}
+		if (this.numberOfRings == this.ringOffsets.length) {
+			int[] newRingOffsets = new int[this.numberOfRings << 1];
+			System.arraycopy(this.ringOffsets, 0, newRingOffsets, 0, this.numberOfRings);
+			this.ringOffsets = newRingOffsets;
+			int[] newRingLengths = new int[this.numberOfRings << 1];
+			System.arraycopy(this.ringLengths, 0, newRingLengths, 0, this.numberOfRings);
+			this.ringLengths = newRingLengths;
+		}
+		this.ringOffsets[this.numberOfRings] = this.numberOfCoordinates;
+		this.ringLengths[this.numberOfRings] = length;
+		this.numberOfCoordinates += length;
+		return this.numberOfRings++;
+	}
+
+	/**
+	 * Removes all rings. The allocated memory is kept.
+	 */
+	void clear() {
+		this.numberOfCoordinates = 0;
+		this.numberOfRings = 0;
+	}
+
+	/**
+	 * Removes the ring which has been added last, its coordinates are reused by the next ring.
+	 */
+	void removeLastRing() {
+		--this.numberOfRings;
+		this.numberOfCoordinates = this.ringOffsets[this.numberOfRings];
+	}
+
+	/**
+	 * Shortens the ring which has been added last, the released coordinates are reused by the next
+	 * ring.
+	 * 
+	 * @param length
+	 *            the new number of coordinates of the ring, not more than its current length.
+	 */
+	void setLastRingLength(int length) {
+		this.ringLengths[this.numberOfRings - 1] = length;
+		this.numberOfCoordinates = this.ringOffsets[this.numberOfRings - 1] + length;
+	}
+
+	/**
+	 * @param ring
+	 *            the index of the ring.
+	 * @return the number of coordinates of the ring.
+	 */
+	int getRingLength(int ring) {
+		return this.ringLengths[ring];
+	}
+
+	/**
+	 * @param ring
+	 *            the index of the ring.
+	 * @return the position of the first coordinate of the ring in the coordinates array.
+	 */
+	int getRingOffset(int ring) {
+		return this.ringOffsets[ring];
+	}
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * A thread-safe priority queue for MapGeneratorJobs which is shared by all MapGenerator threads of a
+ * MapView. Waiting MapGenerator threads synchronize on the queue object and get notified whenever new
+ * jobs can be processed.
+ * <p>
+ * The queue is a binary heap in which every job knows its own position. Queued and executing jobs
+ * are indexed by their packed {@link TileKey}, so that duplicates are detected without scanning the
+ * queue. New jobs get their priority when they are added. A scheduling request only recalculates
+ * the priorities if the visible area of the MapView has changed since the last scheduling, and
+ * restores the heap order in place afterwards.
+ * <p>
+ * The MapView announces the area of tiles it currently wants. Queued jobs outside of this area are
+ * purged during the next scheduling, and MapGenerator threads use {@link #isJobStale} to cancel jobs
+ * which are already being executed. While a zoom gesture is in progress, the tiles of the pending zoom
+ * level are wanted as well. Optionally, the parent and child tiles of the wanted area are wanted, so
+ * that they can be prepared for the next zoom level change.
+ */
+class JobQueue {
+	/**
+	 * Initial capacity of the internal heap.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final LongHashMap<MapGeneratorJob> executingJobs;
+	private MapGeneratorJob[] heap;
+	private MapView mapView;
+	private boolean pause;
+	private byte pendingZoomLevel;
+	private long pendingTileX1;
+	private long pendingTileX2;
+	private long pendingTileY1;
+	private long pendingTileY2;
+	private int prioritiesVersion;
+	private boolean purgeNeeded;
+	private final LongHashMap<MapGeneratorJob> queuedJobs;
+	private boolean requestMoreJobs;
+	private boolean scheduleNeeded;
+	private int size;
+	private boolean wantedAdjacentZoomLevels;
+	private boolean wantedArea;
+	private int wantedLabelRenderProfileId;
+	private int wantedRenderProfileId;
+	private long wantedTileX1;
+	private long wantedTileX2;
+	private long wantedTileY1;
+	private long wantedTileY2;
+	private byte wantedZoomLevel;
+
+	/**
+	 * Constructs a new empty JobQueue.
+	 */
+	JobQueue() {
+		this.executingJobs = new LongHashMap<MapGeneratorJob>(INITIAL_CAPACITY, false);
+		this.heap = new MapGeneratorJob[INITIAL_CAPACITY];
+		this.queuedJobs = new LongHashMap<MapGeneratorJob>(INITIAL_CAPACITY, false);
+		this.pendingZoomLevel = -1;
+		this.prioritiesVersion = -1;
+	}
+
+	/**
+	 * Puts the given job at the given position of the heap and updates the position of the job.
+	 * 
+	 * @param index
+	 *            the position in the heap.
+	 * @param mapGeneratorJob
+	 *            the job.
+	 */
+	private void place(int index, MapGeneratorJob mapGeneratorJob) {
+		this.heap[index] = mapGeneratorJob;
+		mapGeneratorJob.queueIndex = index;
+	}
+
+	/**
+	 * Checks if the given range of tiles at the wanted zoom level intersects the wanted area.
+	 * 
+	 * @param tileX1
+	 *            the X number of the leftmost tile.
+	 * @param tileY1
+	 *            the Y number of the topmost tile.
+	 * @param tileX2
+	 *            the X number of the rightmost tile.
+	 * @param tileY2
+	 *            the Y number of the bottommost tile.
+	 * @return true if at least one of the tiles is wanted, false otherwise.
+	 */
+	private boolean isInWantedArea(long tileX1, long tileY1, long tileX2, long tileY2) {
+		return tileX2 >= this.wantedTileX1 && tileX1 <= this.wantedTileX2
+				&& tileY2 >= this.wantedTileY1 && tileY1 <= this.wantedTileY2;
+	}
+
+	/**
+	 * Removes the job at the given position from the heap.
+	 * 
+	 * @param index
+	 *            the position in the heap.
+	 * @return the removed job.
+	 */
+	private MapGeneratorJob removeAt(int index) {
+		MapGeneratorJob mapGeneratorJob = this.heap[index];
+		this.queuedJobs.remove(mapGeneratorJob.key);
+		mapGeneratorJob.queueIndex = -1;
+
+		// fill the gap with the last job of the heap
+		--this.size;
+		MapGeneratorJob lastJob = this.heap[this.size];
+		this.heap[this.size] = null;
+		if (index < this.size) {
+			place(index, lastJob);
+			siftDown(index);
+			siftUp(lastJob.queueIndex);
+		}
+		return mapGeneratorJob;
+	}
+
+	/**
+	 * Removes all jobs which are no longer wanted and recalculates the priorities of the remaining jobs
+	 * if the visible area of the MapView has changed. The heap order is restored afterwards.
+	 */
+	private void schedule() {
+		if (this.mapView == null) {
+			return;
+		}
+		int currentVersion = this.mapView.getJobPrioritiesVersion();
+		boolean updatePriorities = currentVersion != this.prioritiesVersion;
+		if (!updatePriorities && !this.purgeNeeded) {
+			// the queue is still up to date
+			return;
+		}
+		this.prioritiesVersion = currentVersion;
+
+		// keep the wanted jobs at the beginning of the heap array
+		int newSize = 0;
+		MapGeneratorJob mapGeneratorJob;
+		for (int i = 0; i < this.size; ++i) {
+			mapGeneratorJob = this.heap[i];
+			this.heap[i] = null;
+			if (this.purgeNeeded && isJobStale(mapGeneratorJob)) {
+				this.queuedJobs.remove(mapGeneratorJob.key);
+				mapGeneratorJob.queueIndex = -1;
+			} else {
+				if (updatePriorities) {
+					this.mapView.setJobPriority(mapGeneratorJob);
+				}
+				place(newSize++, mapGeneratorJob);
+			}
+		}
+		this.size = newSize;
+		this.purgeNeeded = false;
+
+		for (int i = (this.size >> 1) - 1; i >= 0; --i) {
+			siftDown(i);
+		}
+	}
+
+	/**
+	 * Moves the job at the given position down in the heap until the heap order is restored.
+	 * 
+	 * @param index
+	 *            the position in the heap.
+	 */
+	private void siftDown(int index) {
+		MapGeneratorJob mapGeneratorJob = this.heap[index];
+		int half = this.size >> 1;
+		while (index < half) {
+			int child = (index << 1) + 1;
+			if (child + 1 < this.size && this.heap[child + 1].compareTo(this.heap[child]) < 0) {
+				++child;
+			}
+			if (mapGeneratorJob.compareTo(this.heap[child]) <= 0) {
+				break;
+			}
+			place(index, this.heap[child]);
+			index = child;
+		}
+		place(index, mapGeneratorJob);
+	}
+
+	/**
+	 * Moves the job at the given position up in the heap until the heap order is restored.
+	 * 
+	 * @param index
+	 *            the position in the heap.
+	 */
+	private void siftUp(int index) {
+		MapGeneratorJob mapGeneratorJob = this.heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >> 1;
+			if (this.heap[parent].compareTo(mapGeneratorJob) <= 0) {
+				break;
+			}
+			place(index, this.heap[parent]);
+			index = parent;
+		}
+		place(index, mapGeneratorJob);
+	}
+
+	/**
+	 * Adds the given job to the queue. A call to this method has no effect if the given job is already
+	 * in the queue or currently being executed by a MapGenerator thread.
+	 * 
+	 * @param mapGeneratorJob
+	 *            the job to be added to the queue.
+	 */
+	synchronized void addJob(MapGeneratorJob mapGeneratorJob) {
+		if (containsJob(mapGeneratorJob.key)) {
+			return;
+		}
+
+		if (this.mapView != null) {
+			this.mapView.setJobPriority(mapGeneratorJob);
+		}
+		if (this.size == this.heap.length) {
+			MapGeneratorJob[] newHeap = new MapGeneratorJob[this.heap.length << 1];
+			System.arraycopy(this.heap, 0, newHeap, 0, this.size);
+			this.heap = newHeap;
+		}
+		this.queuedJobs.put(mapGeneratorJob.key, mapGeneratorJob);
+		place(this.size, mapGeneratorJob);
+		++this.size;
+		siftUp(this.size - 1);
+	}
+
+	/**
+	 * Removes all jobs from the queue.
+	 */
+	synchronized void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			this.heap[i].queueIndex = -1;
+			this.heap[i] = null;
+		}
+		this.size = 0;
+		this.queuedJobs.clear();
+	}
+
+	/**
+	 * Checks if a job for the given key is in the queue or currently being executed by a MapGenerator
+	 * thread. This method does not create any objects, so that callers can avoid creating a job which
+	 * would be rejected anyway.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the job.
+	 * @return true if a job for the key is queued or executing, false otherwise.
+	 */
+	synchronized boolean containsJob(long key) {
+		return this.queuedJobs.containsKey(key) || this.executingJobs.containsKey(key);
+	}
+
+	/**
+	 * Must be called by a MapGenerator thread after it has finished the given job, regardless of
+	 * whether the job was executed successfully.
+	 * 
+	 * @param mapGeneratorJob
+	 *            the job that has been finished.
+	 */
+	synchronized void finishJob(MapGeneratorJob mapGeneratorJob) {
+		this.executingJobs.remove(mapGeneratorJob.key);
+	}
+
+	/**
+	 * Returns the number of jobs that are currently in the queue.
+	 * 
+	 * @return the number of jobs in the queue.
+	 */
+	synchronized int getNumberOfJobs() {
+		return this.size;
+	}
+
+	/**
+	 * Checks if a MapGenerator thread may take a job from the queue.
+	 * 
+	 * @return true if the queue is not paused and not empty, false otherwise.
+	 */
+	synchronized boolean hasExecutableJobs() {
+		return !this.pause && this.size > 0;
+	}
+
+	/**
+	 * Checks if the given job is outside of the area of tiles which the MapView currently wants. A
+	 * MapGenerator thread should cancel such a job as soon as possible.
+	 * 
+	 * @param mapGeneratorJob
+	 *            the job to be checked.
+	 * @return true if the job is no longer wanted, false otherwise.
+	 */
+	synchronized boolean isJobStale(MapGeneratorJob mapGeneratorJob) {
+		if (!this.wantedArea) {
+			return false;
+		}
+		int renderProfileId = TileKey.getRenderProfileId(mapGeneratorJob.key);
+		if (renderProfileId != this.wantedRenderProfileId
+				&& renderProfileId != this.wantedLabelRenderProfileId) {
+			return true;
+		}
+		Tile tile = mapGeneratorJob.tile;
+		int zoomLevelDiff = tile.zoomLevel - this.wantedZoomLevel;
+		if (zoomLevelDiff == 0) {
+			if (isInWantedArea(tile.x, tile.y, tile.x, tile.y)) {
+				return false;
+			}
+		} else if (this.wantedAdjacentZoomLevels && zoomLevelDiff == 1) {
+			// a child tile is wanted if its parent tile is wanted
+			if (isInWantedArea(tile.x >> 1, tile.y >> 1, tile.x >> 1, tile.y >> 1)) {
+				return false;
+			}
+		} else if (this.wantedAdjacentZoomLevels && zoomLevelDiff == -1) {
+			// a parent tile is wanted if one of its child tiles is wanted
+			if (isInWantedArea(tile.x << 1, tile.y << 1, (tile.x << 1) + 1, (tile.y << 1) + 1)) {
+				return false;
+			}
+		}
+		return tile.zoomLevel != this.pendingZoomLevel || tile.x < this.pendingTileX1
+				|| tile.x > this.pendingTileX2 || tile.y < this.pendingTileY1
+				|| tile.y > this.pendingTileY2;
+	}
+
+	/**
+	 * Request all MapGenerator threads to stop taking jobs from the queue.
+	 */
+	synchronized void pause() {
+		this.pause = true;
+	}
+
+	/**
+	 * Removes the job with the highest priority from the queue and marks it as being executed. A
+	 * pending scheduling request is processed before.
+	 * 
+	 * @return the next job or null, if the queue is empty.
+	 */
+	synchronized MapGeneratorJob poll() {
+		if (this.scheduleNeeded) {
+			schedule();
+			this.scheduleNeeded = false;
+		}
+		if (this.size == 0) {
+			return null;
+		}
+		MapGeneratorJob mapGeneratorJob = removeAt(0);
+		this.executingJobs.put(mapGeneratorJob.key, mapGeneratorJob);
+		return mapGeneratorJob;
+	}
+
+	/**
+	 * Removes the job for the given key from the queue. Jobs which are currently being executed are not
+	 * affected.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the job.
+	 * @return true if a queued job was removed, false otherwise.
+	 */
+	synchronized boolean removeJob(long key) {
+		MapGeneratorJob mapGeneratorJob = this.queuedJobs.get(key);
+		if (mapGeneratorJob == null) {
+			return false;
+		}
+		removeAt(mapGeneratorJob.queueIndex);
+		return true;
+	}
+
+	/**
+	 * Checks if the MapView should be asked for more jobs. Only one MapGenerator thread gets a positive
+	 * answer after the queue has run empty.
+	 * 
+	 * @return true if the caller should ask the MapView for more jobs, false otherwise.
+	 */
+	synchronized boolean requestMoreJobs() {
+		if (this.requestMoreJobs && this.size == 0) {
+			this.requestMoreJobs = false;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Request a scheduling of all jobs that are currently in the queue.
+	 * 
+	 * @param askForMoreJobs
+	 *            true if the MapGenerator threads may ask for more jobs, false otherwise.
+	 */
+	synchronized void requestSchedule(boolean askForMoreJobs) {
+		this.scheduleNeeded = true;
+		this.requestMoreJobs = askForMoreJobs;
+		notifyAll();
+	}
+
+	/**
+	 * Sets the MapView which calculates the priority of the jobs.
+	 * 
+	 * @param mapView
+	 *            the MapView.
+	 */
+	synchronized void setMapView(MapView mapView) {
+		this.mapView = mapView;
+		this.prioritiesVersion = -1;
+	}
+
+	/**
+	 * Sets the area of tiles at the zoom level which a running zoom gesture is going to show. These
+	 * tiles are wanted in addition to the area set by {@link #setWantedArea}.
+	 * 
+	 * @param zoomLevel
+	 *            the pending zoom level or -1, if no zoom gesture is in progress.
+	 * @param tileX1
+	 *            the X number of the leftmost wanted tile.
+	 * @param tileY1
+	 *            the Y number of the topmost wanted tile.
+	 * @param tileX2
+	 *            the X number of the rightmost wanted tile.
+	 * @param tileY2
+	 *            the Y number of the bottommost wanted tile.
+	 */
+	synchronized void setPendingZoomArea(byte zoomLevel, long tileX1, long tileY1, long tileX2,
+			long tileY2) {
+		if (this.pendingZoomLevel == zoomLevel && this.pendingTileX1 == tileX1
+				&& this.pendingTileY1 == tileY1 && this.pendingTileX2 == tileX2
+				&& this.pendingTileY2 == tileY2) {
+			return;
+		}
+		this.pendingZoomLevel = zoomLevel;
+		this.pendingTileX1 = tileX1;
+		this.pendingTileY1 = tileY1;
+		this.pendingTileX2 = tileX2;
+		this.pendingTileY2 = tileY2;
+		this.purgeNeeded = true;
+	}
+
+	/**
+	 * Sets the area of tiles which the MapView currently wants, including the tiles around the visible
+	 * area which should be prepared in advance. If the area has changed, queued jobs outside of it are
+	 * removed during the next scheduling.
+	 * 
+	 * @param renderProfileId
+	 *            the id of the current render profile.
+	 * @param labelRenderProfileId
+	 *            the id of the current render profile for labels or -1, if the labels are part of
+	 *            the map images.
+	 * @param zoomLevel
+	 *            the current zoom level.
+	 * @param tileX1
+	 *            the X number of the leftmost wanted tile.
+	 * @param tileY1
+	 *            the Y number of the topmost wanted tile.
+	 * @param tileX2
+	 *            the X number of the rightmost wanted tile.
+	 * @param tileY2
+	 *            the Y number of the bottommost wanted tile.
+	 * @param adjacentZoomLevels
+	 *            true if the parent and child tiles of the wanted area are wanted as well, false
+	 *            otherwise.
+	 */
+	synchronized void setWantedArea(int renderProfileId, int labelRenderProfileId,
+			byte zoomLevel, long tileX1, long tileY1, long tileX2, long tileY2,
+			boolean adjacentZoomLevels) {
+		if (this.wantedArea && this.wantedRenderProfileId == renderProfileId
+				&& this.wantedLabelRenderProfileId == labelRenderProfileId
+				&& this.wantedZoomLevel == zoomLevel && this.wantedTileX1 == tileX1
+				&& this.wantedTileY1 == tileY1 && this.wantedTileX2 == tileX2
+				&& this.wantedTileY2 == tileY2
+				&& this.wantedAdjacentZoomLevels == adjacentZoomLevels) {
+			return;
+		}
+		this.wantedAdjacentZoomLevels = adjacentZoomLevels;
+		this.wantedArea = true;
+		this.wantedLabelRenderProfileId = labelRenderProfileId;
+		this.wantedRenderProfileId = renderProfileId;
+		this.wantedZoomLevel = zoomLevel;
+		this.wantedTileX1 = tileX1;
+		this.wantedTileY1 = tileY1;
+		this.wantedTileX2 = tileX2;
+		this.wantedTileY2 = tileY2;
+		this.purgeNeeded = true;
+	}
+
+	/**
+	 * Request all MapGenerator threads to continue taking jobs from the queue.
+	 */
+	synchronized void unpause() {
+		this.pause = false;
+		notifyAll();
+	}
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+
+/**
+ * Draws the labels and symbols of the visible tiles on top of the map images. The labels of each tile
+ * are rendered once by a MapGenerator and do not depend on the neighbouring tiles. Overlapping labels
+ * are removed for the whole visible area at once, so that no labels are cut at the tile borders. The
+ * placement is repeated only if the set of visible tiles changes, all coordinates are relative to
+ * the upper left visible tile.
+ * <p>
+ * This class is thread-safe, the MapGenerator threads add the labels while the UI thread draws them.
+ */
+class LabelLayer {
+	/**
+	 * Minimum distance in pixels between two labels.
+	 */
+	private static final int LABEL_DISTANCE_TO_LABEL = 2;
+
+	/**
+	 * Maximum number of tiles whose labels are kept.
+	 */
+	private static final int MAXIMUM_TILES = 128;
+
+	/**
+	 * Distance in pixels between a symbol and its label.
+	 */
+	private static final int START_DISTANCE_TO_SYMBOLS = 4;
+
+	/**
+	 * Minimum distance in pixels between two symbols.
+	 */
+	private static final int SYMBOL_DISTANCE_TO_SYMBOL = 2;
+
+	/**
+	 * Vertical offset in pixels of a way name from its way.
+	 */
+	private static final float WAY_NAME_OFFSET = 3;
+
+	private final Paint bitmapFilterPaint;
+	private final List<Rect> occupiedAreas;
+	private long originPixelX;
+	private long originPixelY;
+	private final Path path;
+	private final List<PointTextContainer> placedLabels;
+	private final List<SymbolContainer> placedSymbols;
+	private final Map<SymbolContainer, SymbolContainer> placedSymbolsByTileSymbol;
+	private final List<WayTextContainer> placedWayNames;
+	private boolean placementNeeded;
+	private int renderProfileId;
+	private final Matrix symbolMatrix;
+	private final LongHashMap<TileLabels> tileLabels;
+	private long tileX1;
+	private long tileX2;
+	private long tileY1;
+	private long tileY2;
+	private final Set<String> wayNameKeys;
+	private byte zoomLevel;
+
+	/**
+	 * Constructs a new empty LabelLayer.
+	 */
+	LabelLayer() {
+		this.bitmapFilterPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+		this.occupiedAreas = new ArrayList<Rect>();
+		this.path = new Path();
+		this.placedLabels = new ArrayList<PointTextContainer>();
+		this.placedSymbols = new ArrayList<SymbolContainer>();
+		this.placedSymbolsByTileSymbol = new IdentityHashMap<SymbolContainer, SymbolContainer>();
+		this.placedWayNames = new ArrayList<WayTextContainer>();
+		this.renderProfileId = -1;
+		this.symbolMatrix = new Matrix();
+		this.tileLabels = new LongHashMap<TileLabels>(MAXIMUM_TILES, true);
+		this.wayNameKeys = new HashSet<String>();
+		this.zoomLevel = -1;
+	}
+
+	/**
+	 * Draws the given labels.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the labels should be drawn.
+	 * @param labels
+	 *            the labels to be drawn.
+	 */
+	private void drawLabels(Canvas canvas, List<PointTextContainer> labels) {
+		PointTextContainer label;
+		for (int i = labels.size() - 1; i >= 0; --i) {
+			label = labels.get(i);
+			if (label.paintBack != null) {
+				canvas.drawText(label.text, label.x, label.y, label.paintBack);
+			}
+			canvas.drawText(label.text, label.x, label.y, label.paintFront);
+		}
+	}
+
+	/**
+	 * Draws the given symbols.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the symbols should be drawn.
+	 * @param symbols
+	 *            the symbols to be drawn.
+	 */
+	private void drawSymbols(Canvas canvas, List<SymbolContainer> symbols) {
+		SymbolContainer symbol;
+		for (int i = symbols.size() - 1; i >= 0; --i) {
+			symbol = symbols.get(i);
+			// use the matrix for rotation and translation of the symbol
+			if (symbol.alignCenter) {
+				this.symbolMatrix.setRotate(symbol.rotation, symbol.symbol.getWidth() >> 1,
+						symbol.symbol.getHeight() >> 1);
+				this.symbolMatrix.postTranslate(symbol.x - (symbol.symbol.getWidth() >> 1),
+						symbol.y - (symbol.symbol.getHeight() >> 1));
+			} else {
+				this.symbolMatrix.setRotate(symbol.rotation);
+				this.symbolMatrix.postTranslate(symbol.x, symbol.y);
+			}
+			canvas.drawBitmap(symbol.symbol, this.symbolMatrix, this.bitmapFilterPaint);
+		}
+	}
+
+	/**
+	 * Draws the given way names along their ways.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the way names should be drawn.
+	 * @param wayNames
+	 *            the way names to be drawn.
+	 */
+	private void drawWayNames(Canvas canvas, List<WayTextContainer> wayNames) {
+		WayTextContainer wayName;
+		float[] coordinates;
+		for (int i = wayNames.size() - 1; i >= 0; --i) {
+			wayName = wayNames.get(i);
+			coordinates = wayName.coordinates;
+			this.path.rewind();
+			this.path.moveTo(coordinates[0], coordinates[1]);
+			for (int j = 2; j < coordinates.length; j += 2) {
+				this.path.lineTo(coordinates[j], coordinates[j + 1]);
+			}
+			canvas.drawTextOnPath(wayName.text, this.path, 0, WAY_NAME_OFFSET, wayName.paint);
+		}
+	}
+
+	/**
+	 * Checks if the given rectangle is free and marks it as occupied in this case.
+	 * 
+	 * @param left
+	 *            the left edge of the rectangle.
+	 * @param top
+	 *            the top edge of the rectangle.
+	 * @param right
+	 *            the right edge of the rectangle.
+	 * @param bottom
+	 *            the bottom edge of the rectangle.
+	 * @param distance
+	 *            the minimum distance to all occupied rectangles.
+	 * @return true if the rectangle has been occupied, false otherwise.
+	 */
+	private boolean occupyArea(float left, float top, float right, float bottom, int distance) {
+		Rect area = new Rect((int) left - distance, (int) top - distance, (int) right + distance,
+				(int) bottom + distance);
+		for (int i = this.occupiedAreas.size() - 1; i >= 0; --i) {
+			if (Rect.intersects(area, this.occupiedAreas.get(i))) {
+				return false;
+			}
+		}
+		area.set((int) left, (int) top, (int) right, (int) bottom);
+		this.occupiedAreas.add(area);
+		return true;
+	}
+
+	/**
+	 * Places the given label at the given position if the position is free.
+	 * 
+	 * @param label
+	 *            the label of a tile.
+	 * @param x
+	 *            the left edge of the label.
+	 * @param y
+	 *            the baseline of the label.
+	 * @param symbol
+	 *            the placed symbol of the label or null, if the label has no symbol.
+	 * @return true if the label has been placed, false otherwise.
+	 */
+	private boolean placeLabel(PointTextContainer label, float x, float y, SymbolContainer symbol) {
+		if (!occupyArea(x, y - label.boundary.height(), x + label.boundary.width(), y,
+				LABEL_DISTANCE_TO_LABEL)) {
+			return false;
+		}
+		this.placedLabels.add(new PointTextContainer(label, x, y, label.paintFront,
+				label.paintBack, symbol));
+		return true;
+	}
+
+	/**
+	 * Removes all overlapping labels and symbols of the visible tiles. Symbols are placed first, then
+	 * the area labels and the labels of the points of interest. A label is dropped together with its
+	 * symbol. Way names are drawn without checks, duplicates from adjacent tiles are dropped.
+	 */
+	private void placeLabels() {
+		this.occupiedAreas.clear();
+		this.placedLabels.clear();
+		this.placedSymbols.clear();
+		this.placedSymbolsByTileSymbol.clear();
+		this.placedWayNames.clear();
+		this.wayNameKeys.clear();
+
+		List<TileLabels> visibleTileLabels = new ArrayList<TileLabels>();
+		TileLabels labels;
+		for (long y = this.tileY1; y <= this.tileY2; ++y) {
+			for (long x = this.tileX1; x <= this.tileX2; ++x) {
+				labels = this.tileLabels.get(TileKey.pack(x, y, this.zoomLevel,
+						this.renderProfileId));
+				if (labels != null) {
+					visibleTileLabels.add(labels);
+				}
+			}
+		}
+
+		float offsetX;
+		float offsetY;
+		for (TileLabels visibleLabels : visibleTileLabels) {
+			offsetX = visibleLabels.tile.pixelX - this.originPixelX;
+			offsetY = visibleLabels.tile.pixelY - this.originPixelY;
+			for (SymbolContainer symbol : visibleLabels.pointSymbols) {
+				placeSymbol(symbol, symbol.x + offsetX, symbol.y + offsetY);
+			}
+		}
+
+		for (TileLabels visibleLabels : visibleTileLabels) {
+			offsetX = visibleLabels.tile.pixelX - this.originPixelX;
+			offsetY = visibleLabels.tile.pixelY - this.originPixelY;
+			for (PointTextContainer label : visibleLabels.areaLabels) {
+				placeLabel(label, label.x + offsetX - (label.boundary.width() / 2), label.y
+						+ offsetY, null);
+			}
+		}
+
+		for (TileLabels visibleLabels : visibleTileLabels) {
+			offsetX = visibleLabels.tile.pixelX - this.originPixelX;
+			offsetY = visibleLabels.tile.pixelY - this.originPixelY;
+			for (PointTextContainer label : visibleLabels.nodes) {
+				placeNodeLabel(label, label.x + offsetX, label.y + offsetY);
+			}
+			for (WayTextContainer wayName : visibleLabels.wayNames) {
+				placeWayName(wayName, offsetX, offsetY);
+			}
+		}
+		this.placementNeeded = false;
+	}
+
+	/**
+	 * Places the label of a point of interest above, below, left or right of its symbol, whichever
+	 * position is free first. A label without symbol is centered at its point.
+	 * 
+	 * @param label
+	 *            the label of a tile.
+	 * @param x
+	 *            the horizontal position of the point of interest.
+	 * @param y
+	 *            the vertical position of the point of interest.
+	 */
+	private void placeNodeLabel(PointTextContainer label, float x, float y) {
+		int width = label.boundary.width();
+		int height = label.boundary.height();
+		if (label.symbol == null) {
+			placeLabel(label, x - (width / 2), y, null);
+			return;
+		}
+
+		SymbolContainer symbol = this.placedSymbolsByTileSymbol.get(label.symbol);
+		if (symbol == null) {
+			// the symbol of the label has been removed
+			return;
+		}
+		int symbolWidth = symbol.symbol.getWidth();
+		int symbolHeight = symbol.symbol.getHeight();
+		if (!placeLabel(label, x - (width / 2), y - (symbolHeight / 2) - START_DISTANCE_TO_SYMBOLS,
+				symbol)
+				&& !placeLabel(label, x - (width / 2), y + (symbolHeight / 2) + height
+						+ START_DISTANCE_TO_SYMBOLS, symbol)
+				&& !placeLabel(label, x - (symbolWidth / 2) - width - START_DISTANCE_TO_SYMBOLS, y
+						+ (height / 2), symbol)) {
+			placeLabel(label, x + (symbolWidth / 2) + START_DISTANCE_TO_SYMBOLS, y + (height / 2),
+					symbol);
+		}
+	}
+
+	/**
+	 * Places the given symbol at the given position if the position is free.
+	 * 
+	 * @param symbol
+	 *            the symbol of a tile.
+	 * @param x
+	 *            the left edge of the symbol.
+	 * @param y
+	 *            the top edge of the symbol.
+	 */
+	private void placeSymbol(SymbolContainer symbol, float x, float y) {
+		if (!occupyArea(x, y, x + symbol.symbol.getWidth(), y + symbol.symbol.getHeight(),
+				SYMBOL_DISTANCE_TO_SYMBOL)) {
+			return;
+		}
+		SymbolContainer placedSymbol = new SymbolContainer(symbol.symbol, x, y,
+				symbol.alignCenter, symbol.rotation);
+		this.placedSymbols.add(placedSymbol);
+		this.placedSymbolsByTileSymbol.put(symbol, placedSymbol);
+	}
+
+	/**
+	 * Places the given way name unless the same way name has already been placed for another tile.
+	 * 
+	 * @param wayName
+	 *            the way name of a tile.
+	 * @param offsetX
+	 *            the horizontal offset of the tile.
+	 * @param offsetY
+	 *            the vertical offset of the tile.
+	 */
+	private void placeWayName(WayTextContainer wayName, float offsetX, float offsetY) {
+		float[] coordinates = new float[wayName.coordinates.length];
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = wayName.coordinates[i] + offsetX;
+			coordinates[i + 1] = wayName.coordinates[i + 1] + offsetY;
+		}
+
+		// the same way is part of all tiles it crosses
+		if (this.wayNameKeys.add(wayName.text + ':' + Math.round(coordinates[0]) + ':'
+				+ Math.round(coordinates[1]) + ':' + wayName.paint.getStyle())) {
+			this.placedWayNames.add(new WayTextContainer(coordinates, wayName.text,
+					wayName.paint));
+		}
+	}
+
+	/**
+	 * Removes the labels of all tiles.
+	 */
+	synchronized void clear() {
+		this.tileLabels.clear();
+		this.placementNeeded = true;
+	}
+
+	/**
+	 * Checks if the labels of the given tile are available.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the labels.
+	 * @return true if the labels are available, false otherwise.
+	 */
+	synchronized boolean containsKey(long key) {
+		return this.tileLabels.containsKey(key);
+	}
+
+	/**
+	 * Draws the labels of the visible tiles. The labels are placed again if the visible tiles have
+	 * changed since the last call.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the labels should be drawn.
+	 * @param pixelX
+	 *            the X coordinate of the upper left corner of the canvas.
+	 * @param pixelY
+	 *            the Y coordinate of the upper left corner of the canvas.
+	 * @param zoom
+	 *            the zoom level of the canvas.
+	 */
+	synchronized void draw(Canvas canvas, double pixelX, double pixelY, byte zoom) {
+		if (zoom != this.zoomLevel) {
+			// the labels do not fit to the map images on the canvas
+			return;
+		} else if (this.placementNeeded) {
+			placeLabels();
+		}
+
+		canvas.save();
+		canvas.translate((float) (this.originPixelX - pixelX), (float) (this.originPixelY - pixelY));
+		drawSymbols(canvas, this.placedSymbols);
+		drawWayNames(canvas, this.placedWayNames);
+		drawLabels(canvas, this.placedLabels);
+		canvas.restore();
+	}
+
+	/**
+	 * Adds the labels of a tile. The labels of the least recently used tile are removed if the
+	 * maximum number of tiles has been reached.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the labels.
+	 * @param labels
+	 *            the labels and symbols of the tile.
+	 */
+	synchronized void put(long key, TileLabels labels) {
+		if (this.tileLabels.size() >= MAXIMUM_TILES && !this.tileLabels.containsKey(key)) {
+			this.tileLabels.remove(this.tileLabels.keyAt(this.tileLabels.first()));
+		}
+		this.tileLabels.put(key, labels);
+
+		Tile tile = labels.tile;
+		if (TileKey.getRenderProfileId(key) == this.renderProfileId
+				&& tile.zoomLevel == this.zoomLevel && tile.x >= this.tileX1
+				&& tile.x <= this.tileX2 && tile.y >= this.tileY1 && tile.y <= this.tileY2) {
+			// the new labels are visible
+			this.placementNeeded = true;
+		}
+	}
+
+	/**
+	 * Sets the area of visible tiles whose labels should be drawn.
+	 * 
+	 * @param newRenderProfileId
+	 *            the id of the render profile of the labels.
+	 * @param zoom
+	 *            the zoom level of the visible tiles.
+	 * @param x1
+	 *            the X number of the leftmost visible tile.
+	 * @param y1
+	 *            the Y number of the topmost visible tile.
+	 * @param x2
+	 *            the X number of the rightmost visible tile.
+	 * @param y2
+	 *            the Y number of the bottommost visible tile.
+	 */
+	synchronized void setVisibleArea(int newRenderProfileId, byte zoom, long x1, long y1,
+			long x2, long y2) {
+		if (this.renderProfileId == newRenderProfileId && this.zoomLevel == zoom
+				&& this.tileX1 == x1 && this.tileY1 == y1 && this.tileX2 == x2
+				&& this.tileY2 == y2) {
+			return;
+		}
+		this.renderProfileId = newRenderProfileId;
+		this.zoomLevel = zoom;
+		this.tileX1 = x1;
+		this.tileY1 = y1;
+		this.tileX2 = x2;
+		this.tileY2 = y2;
+		this.originPixelX = x1 * Tile.TILE_SIZE;
+		this.originPixelY = y1 * Tile.TILE_SIZE;
+		this.placementNeeded = true;
+	}
+}
@@ -59,6 +59,7 @@ class LabelPlacement {
 	// distance adjustments
 	private int startDistanceToSymbols = 4;
 	private int symbolDistanceToSymbol = 2;
+	private int tileSize = Tile.TILE_SIZE;
 
 	final DependencyCache dependencyCache;
 	PointTextContainer label;
@@ -500,11 +501,11 @@ class LabelPlacement {
 		for (int i = 0; i < areaLabels.size(); i++) {
 			this.label = areaLabels.get(i);
 
-			if (this.label.x > Tile.TILE_SIZE) {
+			if (this.label.x > this.tileSize) {
 				areaLabels.remove(i);
 
 				i--;
-			} else if (this.label.y - this.label.boundary.height() > Tile.TILE_SIZE) {
+			} else if (this.label.y - this.label.boundary.height() > this.tileSize) {
 				areaLabels.remove(i);
 
 				i--;
@@ -530,10 +531,10 @@ class LabelPlacement {
 		for (int i = 0; i < labels.size();) {
 			this.label = labels.get(i);
 
-			if (this.label.x - this.label.boundary.width() / 2 > Tile.TILE_SIZE) {
+			if (this.label.x - this.label.boundary.width() / 2 > this.tileSize) {
 				labels.remove(i);
 				this.label = null;
-			} else if (this.label.y - this.label.boundary.height() > Tile.TILE_SIZE) {
+			} else if (this.label.y - this.label.boundary.height() > this.tileSize) {
 				labels.remove(i);
 				this.label = null;
 			} else if ((this.label.x - this.label.boundary.width() / 2 + this.label.boundary
@@ -559,10 +560,10 @@ class LabelPlacement {
 		for (int i = 0; i < symbols.size();) {
 			this.smb = symbols.get(i);
 
-			if (this.smb.x > Tile.TILE_SIZE) {
+			if (this.smb.x > this.tileSize) {
 				symbols.remove(i);
 
-			} else if (this.smb.y > Tile.TILE_SIZE) {
+			} else if (this.smb.y > this.tileSize) {
 				symbols.remove(i);
 
 			} else if (this.smb.x + this.smb.symbol.getWidth() < 0.0f) {
@@ -768,4 +769,15 @@ class LabelPlacement {
 	void setSymbolDistanceToSymbol(int symbolDistanceToSymbol) {
 		this.symbolDistanceToSymbol = symbolDistanceToSymbol;
 	}
+
+	/**
+	 * Sets the width and height in pixels of the tiles for which labels are placed.
+	 * 
+	 * @param tileSize
+	 *            the new tile size in pixels.
+	 */
+	void setTileSize(int tileSize) {
+		this.tileSize = tileSize;
+		this.dependencyCache.setTileSize(tileSize);
+	}
 }
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive long keys which uses open addressing with linear probing. Keys are
+ * stored without boxing, so that lookups do not create any objects. All entries are linked in their
+ * insertion order or, if requested, in their access order like in a LinkedHashMap. The entries can
+ * be traversed in this order by slot number with {@link #first()} and {@link #next(int)}.
+ * <p>
+ * This class is not thread-safe. Null values are not supported.
+ * 
+ * @param <V>
+ *            the type of the values.
+ */
+class LongHashMap<V> {
+	/**
+	 * Maximum fraction of used slots before the table grows.
+	 */
+	private static final float LOAD_FACTOR = 0.6f;
+
+	/**
+	 * Marks the absence of a slot in the linked list of entries.
+	 */
+	private static final int NO_SLOT = -1;
+
+	/**
+	 * Spreads the bits of the given key for the use as a table index.
+	 * 
+	 * @param key
+	 *            the key.
+	 * @return the hash value of the key.
+	 */
+	static int hash(long key) {
+		long hash = key * 0x9e3779b97f4a7c15L;
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * Returns the table length, a power of two, which is needed for the given number of entries.
+	 * 
+	 * @param numberOfEntries
+	 *            the maximum number of entries.
+	 * @return the table length.
+	 */
+	static int tableLength(int numberOfEntries) {
+		int length = 2;
+		while (length * LOAD_FACTOR < numberOfEntries + 1) {
+			length <<= 1;
+		}
+		return length;
+	}
+
+	private final boolean accessOrder;
+	private int[] after;
+	private int[] before;
+	private int head;
+	private long[] keys;
+	private int mask;
+	private int size;
+	private int tail;
+	private int threshold;
+	private Object[] values;
+
+	/**
+	 * Constructs a new empty map.
+	 * 
+	 * @param initialCapacity
+	 *            the number of entries which fit into the map without growing the table.
+	 * @param accessOrder
+	 *            true if the entries should be ordered by their last access, false for insertion
+	 *            order.
+	 * @throws IllegalArgumentException
+	 *             if the initial capacity is negative.
+	 */
+	LongHashMap(int initialCapacity, boolean accessOrder) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.accessOrder = accessOrder;
+		allocateTable(tableLength(initialCapacity));
+	}
+
+	/**
+	 * Replaces the table with an empty table of the given length.
+	 * 
+	 * @param length
+	 *            the number of slots, must be a power of two.
+	 */
+	private void allocateTable(int length) {
+		this.keys = new long[length];
+		this.values = new Object[length];
+		this.before = new int[length];
+		this.after = new int[length];
+		this.mask = length - 1;
+		this.threshold = (int) (length * LOAD_FACTOR);
+		this.head = NO_SLOT;
+		this.tail = NO_SLOT;
+		this.size = 0;
+	}
+
+	/**
+	 * Returns the slot of the given key.
+	 * 
+	 * @param key
+	 *            the key.
+	 * @return the slot of the key or -1, if the key is not in the map.
+	 */
+	private int findSlot(long key) {
+		for (int slot = hash(key) & this.mask; this.values[slot] != null; slot = (slot + 1)
+				& this.mask) {
+			if (this.keys[slot] == key) {
+				return slot;
+			}
+		}
+		return NO_SLOT;
+	}
+
+	/**
+	 * Adds a new entry to the table and appends it to the linked list. The key must not be in the
+	 * map and the table must have enough free slots.
+	 * 
+	 * @param key
+	 *            the key.
+	 * @param value
+	 *            the value.
+	 */
+	private void insert(long key, Object value) {
+		int slot = hash(key) & this.mask;
+		while (this.values[slot] != null) {
+			slot = (slot + 1) & this.mask;
+		}
+		this.keys[slot] = key;
+		this.values[slot] = value;
+		linkLast(slot);
+		++this.size;
+	}
+
+	/**
+	 * Appends the given slot to the end of the linked list.
+	 * 
+	 * @param slot
+	 *            the slot.
+	 */
+	private void linkLast(int slot) {
+		this.before[slot] = this.tail;
+		this.after[slot] = NO_SLOT;
+		if (this.tail == NO_SLOT) {
+			this.head = slot;
+		} else {
+			this.after[this.tail] = slot;
+		}
+		this.tail = slot;
+	}
+
+	/**
+	 * Moves an entry to another slot and updates the linked list accordingly.
+	 * 
+	 * @param from
+	 *            the current slot of the entry.
+	 * @param to
+	 *            the new slot of the entry, must be empty.
+	 */
+	private void moveSlot(int from, int to) {
+		this.keys[to] = this.keys[from];
+		this.values[to] = this.values[from];
+		this.before[to] = this.before[from];
+		this.after[to] = this.after[from];
+		if (this.before[to] == NO_SLOT) {
+			this.head = to;
+		} else {
+			this.after[this.before[to]] = to;
+		}
+		if (this.after[to] == NO_SLOT) {
+			this.tail = to;
+		} else {
+			this.before[this.after[to]] = to;
+		}
+	}
+
+	/**
+	 * Empties the given slot and moves following entries of the same probe sequence backwards, so
+	 * that no tombstones are needed.
+	 * 
+	 * @param slot
+	 *            the slot to be emptied.
+	 */
+	private void removeSlot(int slot) {
+		unlink(slot);
+		--this.size;
+
+		int hole = slot;
+		int next = (hole + 1) & this.mask;
+		while (this.values[next] != null) {
+			// an entry may fill the hole if the hole lies between its home slot and its slot
+			int home = hash(this.keys[next]) & this.mask;
+			if (((next - home) & this.mask) >= ((next - hole) & this.mask)) {
+				moveSlot(next, hole);
+				hole = next;
+			}
+			next = (next + 1) & this.mask;
+		}
+		this.values[hole] = null;
+	}
+
+	/**
+	 * Doubles the length of the table while keeping the order of the entries.
+	 */
+	private void resize() {
+		long[] oldKeys = this.keys;
+		Object[] oldValues = this.values;
+		int[] oldAfter = this.after;
+		int slot = this.head;
+		allocateTable(oldValues.length << 1);
+		while (slot != NO_SLOT) {
+			insert(oldKeys[slot], oldValues[slot]);
+			slot = oldAfter[slot];
+		}
+	}
+
+	/**
+	 * Removes the given slot from the linked list.
+	 * 
+	 * @param slot
+	 *            the slot.
+	 */
+	private void unlink(int slot) {
+		if (this.before[slot] == NO_SLOT) {
+			this.head = this.after[slot];
+		} else {
+			this.after[this.before[slot]] = this.after[slot];
+		}
+		if (this.after[slot] == NO_SLOT) {
+			this.tail = this.before[slot];
+		} else {
+			this.before[this.after[slot]] = this.before[slot];
+		}
+	}
+
+	/**
+	 * Removes all entries from the map.
+	 */
+	void clear() {
+		Arrays.fill(this.values, null);
+		this.head = NO_SLOT;
+		this.tail = NO_SLOT;
+		this.size = 0;
+	}
+
+	/**
+	 * @param key
+	 *            key whose presence in the map should be tested.
+	 * @return true if the map contains an entry for the specified key, false otherwise.
+	 */
+	boolean containsKey(long key) {
+		return findSlot(key) != NO_SLOT;
+	}
+
+	/**
+	 * Returns the slot of the first entry in the iteration order.
+	 * 
+	 * @return the slot of the first entry or -1, if the map is empty.
+	 */
+	int first() {
+		return this.head;
+	}
+
+	/**
+	 * Returns the value of the given key. In access order, the entry becomes the last entry.
+	 * 
+	 * @param key
+	 *            key whose value should be returned.
+	 * @return the value or null, if the map contains no entry for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	V get(long key) {
+		int slot = findSlot(key);
+		if (slot == NO_SLOT) {
+			return null;
+		} else if (this.accessOrder && slot != this.tail) {
+			unlink(slot);
+			linkLast(slot);
+		}
+		return (V) this.values[slot];
+	}
+
+	/**
+	 * Returns the key of the entry in the given slot.
+	 * 
+	 * @param slot
+	 *            a slot which contains an entry.
+	 * @return the key of the entry.
+	 */
+	long keyAt(int slot) {
+		return this.keys[slot];
+	}
+
+	/**
+	 * Returns the slot of the entry which follows the given slot in the iteration order. The map must
+	 * not be modified during an iteration.
+	 * 
+	 * @param slot
+	 *            a slot which contains an entry.
+	 * @return the slot of the next entry or -1, if the given entry is the last one.
+	 */
+	int next(int slot) {
+		return this.after[slot];
+	}
+
+	/**
+	 * Returns the value of the given key without changing the order of the entries.
+	 * 
+	 * @param key
+	 *            key whose value should be returned.
+	 * @return the value or null, if the map contains no entry for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	V peek(long key) {
+		int slot = findSlot(key);
+		if (slot == NO_SLOT) {
+			return null;
+		}
+		return (V) this.values[slot];
+	}
+
+	/**
+	 * Associates the given value with the given key. A new entry becomes the last entry, an existing
+	 * entry only in access order.
+	 * 
+	 * @param key
+	 *            key with which the value should be associated.
+	 * @param value
+	 *            the value, must not be null.
+	 * @return the previous value of the key or null, if the key was not in the map.
+	 */
+	@SuppressWarnings("unchecked")
+	V put(long key, V value) {
+		int slot = findSlot(key);
+		if (slot != NO_SLOT) {
+			V previousValue = (V) this.values[slot];
+			this.values[slot] = value;
+			if (this.accessOrder && slot != this.tail) {
+				unlink(slot);
+				linkLast(slot);
+			}
+			return previousValue;
+		}
+
+		if (this.size >= this.threshold) {
+			resize();
+		}
+		insert(key, value);
+		return null;
+	}
+
+	/**
+	 * Removes the entry of the given key.
+	 * 
+	 * @param key
+	 *            key whose entry should be removed.
+	 * @return the removed value or null, if the key was not in the map.
+	 */
+	@SuppressWarnings("unchecked")
+	V remove(long key) {
+		int slot = findSlot(key);
+		if (slot == NO_SLOT) {
+			return null;
+		}
+		V value = (V) this.values[slot];
+		removeSlot(slot);
+		return value;
+	}
+
+	/**
+	 * Returns the number of entries in the map.
+	 * 
+	 * @return the number of entries.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the value of the entry in the given slot without changing the order of the entries.
+	 * 
+	 * @param slot
+	 *            a slot which contains an entry.
+	 * @return the value of the entry.
+	 */
+	@SuppressWarnings("unchecked")
+	V valueAt(int slot) {
+		return (V) this.values[slot];
+	}
+}
@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -56,6 +57,11 @@ public class MapDatabase {
 	 */
 	private static final long BITMASK_INDEX_WATER = 0x8000000000L;
 
+	/**
+	 * Maximum amount of memory in bytes which the block cache may use.
+	 */
+	private static final int BLOCK_CACHE_SIZE = 2000000;
+
 	/**
 	 * Name of the UTF-8 character set, used to decode strings.
 	 */
@@ -225,13 +231,17 @@ public class MapDatabase {
 		return isValid;
 	}
 
+	private BlockCacheEntryKey blockCacheEntryKey;
 	private int blockEntriesTableOffset;
 	private String blockSignature;
 	private int bufferPosition;
+	private CachedBlock cachedBlock;
 	private String commentText;
 	private boolean currentBlockIsWater;
+	private MapDatabaseBlockCache databaseBlockCache;
 	private MapDatabaseIndexCache databaseIndexCache;
 	private boolean debugFile;
+	private int[] decodedTagIds;
 	private boolean[] defaultTagIds;
 	private int elementCounter;
 	private long fileSize;
@@ -251,8 +261,10 @@ public class MapDatabase {
 	private long mapDate;
 	private MapFileParameters mapFileParameters;
 	private MapFileParameters[] mapFilesLookupTable;
+	private MappedMapFile mappedMapFile;
 	private int maximumNodeTagId;
 	private int maximumWayTagId;
+	private boolean memoryMapped;
 	private long nextBlockPointer;
 	private String nodeElevation;
 	private byte nodeFeatureByte;
@@ -265,6 +277,7 @@ public class MapDatabase {
 	private int nodeLongitude;
 	private String nodeName;
 	private byte nodeNumberOfTags;
+	private boolean nodeRenderable;
 	private String nodeSignature;
 	private int nodesOnZoomLevel;
 	private byte nodeSpecialByte;
@@ -280,10 +293,14 @@ public class MapDatabase {
 	private boolean queryReadWayNames;
 	private int queryTileBitmask;
 	private int queryZoomLevel;
-	private byte[] readBuffer;
+	private ByteBuffer readBuffer;
+	private byte[] readBufferArray;
+	private boolean[] renderableNodeTags;
+	private boolean[] renderableWayTags;
 	private int startPositionLatitude;
 	private int startPositionLongitude;
 	private boolean stopCurrentQuery;
+	private byte[] stringBuffer;
 	private int stringLength;
 	private long subtileX;
 	private long subtileY;
@@ -314,11 +331,13 @@ public class MapDatabase {
 	private byte wayNumberOfTags;
 	private int wayNumberOfWayNodes;
 	private String wayRef;
+	private boolean wayRenderable;
 	private String waySignature;
 	private int waySize;
 	private int waysOnZoomLevel;
 	private byte waySpecialByte1;
 	private byte waySpecialByte2;
+	private int wayStartPosition;
 	private String wayTag;
 	private byte wayTagBitmap;
 	private int wayTagId;
@@ -344,12 +363,23 @@ public class MapDatabase {
 				this.databaseIndexCache = null;
 			}
 
+			if (this.databaseBlockCache != null) {
+				this.databaseBlockCache.destroy();
+				this.databaseBlockCache = null;
+			}
+
+			if (this.mappedMapFile != null) {
+				this.mappedMapFile.destroy();
+				this.mappedMapFile = null;
+			}
+
 			if (this.inputFile != null) {
 				this.inputFile.close();
 				this.inputFile = null;
 			}
 
 			this.readBuffer = null;
+			this.readBufferArray = null;
 		} catch (IOException e) {
 			Logger.exception(e);
 		}
@@ -478,6 +508,15 @@ public class MapDatabase {
 			this.inputFile = new RandomAccessFile(file, "r");
 			this.fileSize = this.inputFile.length();
 
+			if (this.memoryMapped) {
+				try {
+					// map the file into memory, fall back to normal reads if it fails
+					this.mappedMapFile = new MappedMapFile(this.inputFile, MAXIMUM_BLOCK_SIZE);
+				} catch (IOException e) {
+					Logger.debug("cannot map file into memory: " + e.getMessage());
+				}
+			}
+
 			// read the header data from the file
 			if (!processFileHeader()) {
 				closeFile();
@@ -494,23 +533,64 @@ public class MapDatabase {
 	}
 
 	/**
-	 * Reads a single block and calls the render functions on all map elements.
+	 * Returns a copy of the first tag IDs in the decoded tag IDs array.
+	 * 
+	 * @param numberOfTags
+	 *            the number of tag IDs to copy.
+	 * @return the copied tag IDs.
+	 */
+	private int[] copyDecodedTagIds(byte numberOfTags) {
+		int[] tagIds = new int[numberOfTags];
+		System.arraycopy(this.decodedTagIds, 0, tagIds, 0, numberOfTags);
+		return tagIds;
+	}
+
+	/**
+	 * Decodes the given amount of bytes from the read buffer to a UTF-8 string.
+	 * 
+	 * @param offset
+	 *            the offset of the first byte in the read buffer.
+	 * @param length
+	 *            the amount of bytes to decode.
+	 * @return the decoded string.
+	 * @throws UnsupportedEncodingException
+	 *             if string decoding fails.
+	 */
+	private String decodeString(int offset, int length) throws UnsupportedEncodingException {
+		if (this.readBuffer.hasArray()) {
+			return new String(this.readBuffer.array(), this.readBuffer.arrayOffset() + offset,
+					length, CHARSET_UTF8);
+		}
+
+		// copy the bytes out of the memory mapped buffer
+		if (this.stringBuffer == null || this.stringBuffer.length < length) {
+			this.stringBuffer = new byte[length];
+		}
+		this.readBuffer.position(offset);
+		this.readBuffer.get(this.stringBuffer, 0, length);
+		return new String(this.stringBuffer, 0, length, CHARSET_UTF8);
+	}
+
+	/**
+	 * Reads a single block and calls the render functions on all map elements. If the tile bitmask is
+	 * used, all map elements of the block are decoded and put in the block cache first.
 	 * 
 	 * @param databaseMapGenerator
 	 *            the DatabaseMapGenerator callback which handles the extracted map elements.
+	 * @return true if the block was processed successfully, false otherwise.
 	 * @throws UnsupportedEncodingException
 	 *             if string decoding fails.
 	 */
-	private void processBlock(DatabaseMapGenerator databaseMapGenerator)
+	private boolean processBlock(DatabaseMapGenerator databaseMapGenerator)
 			throws UnsupportedEncodingException {
+		this.cachedBlock = null;
 		if (this.debugFile) {
 			// get and check the block signature
-			this.blockSignature = new String(this.readBuffer, this.bufferPosition,
-					SIGNATURE_LENGTH_BLOCK, CHARSET_UTF8);
+			this.blockSignature = decodeString(this.bufferPosition, SIGNATURE_LENGTH_BLOCK);
 			this.bufferPosition += SIGNATURE_LENGTH_BLOCK;
 			if (!this.blockSignature.startsWith("###TileStart")) {
 				Logger.debug("invalid block signature: " + this.blockSignature);
-				return;
+				return false;
 			}
 		}
 
@@ -522,6 +602,11 @@ public class MapDatabase {
 		this.nodesOnZoomLevel = readShort();
 		this.waysOnZoomLevel = readShort();
 
+		if (this.useTileBitmask) {
+			// decode the complete block so that sibling tiles can reuse it
+			this.cachedBlock = new CachedBlock(this.nodesOnZoomLevel, this.waysOnZoomLevel);
+		}
+
 		// move the pointer to the end of the block entries table
 		this.bufferPosition += this.mapFileParameters.blockEntriesTableSize
 				- this.blockEntriesTableOffset - 4;
@@ -533,30 +618,29 @@ public class MapDatabase {
 			if (this.debugFile) {
 				Logger.debug("block signature: " + this.blockSignature);
 			}
-			return;
+			return false;
 		}
 
 		// add the current buffer position to the relative first way offset
 		this.firstWayOffset += this.bufferPosition;
-		if (this.firstWayOffset > this.readBuffer.length) {
+		if (this.firstWayOffset > this.readBuffer.limit()) {
 			Logger.debug("invalid first way offset: " + this.firstWayOffset);
 			if (this.debugFile) {
 				Logger.debug("block signature: " + this.blockSignature);
 			}
-			return;
+			return false;
 		}
 
 		// get the nodes
 		for (this.elementCounter = this.nodesOnZoomLevel; this.elementCounter != 0; --this.elementCounter) {
 			if (this.debugFile) {
 				// get and check the node signature
-				this.nodeSignature = new String(this.readBuffer, this.bufferPosition,
-						SIGNATURE_LENGTH_NODE, CHARSET_UTF8);
+				this.nodeSignature = decodeString(this.bufferPosition, SIGNATURE_LENGTH_NODE);
 				this.bufferPosition += SIGNATURE_LENGTH_NODE;
 				if (!this.nodeSignature.startsWith("***POIStart")) {
 					Logger.debug("invalid node signature: " + this.nodeSignature);
 					Logger.debug("block signature: " + this.blockSignature);
-					return;
+					return false;
 				}
 			}
 
@@ -576,6 +660,7 @@ public class MapDatabase {
 
 			// reset the node tag array
 			System.arraycopy(this.defaultTagIds, 0, this.nodeTagIds, 0, this.nodeTagIds.length);
+			this.nodeRenderable = false;
 			// get the node tag IDs (VBE-U)
 			for (this.tempByte = this.nodeNumberOfTags; this.tempByte != 0; --this.tempByte) {
 				this.nodeTagId = readVariableByteEncodedUnsignedInt();
@@ -585,9 +670,14 @@ public class MapDatabase {
 						Logger.debug("node signature: " + this.nodeSignature);
 						Logger.debug("block signature: " + this.blockSignature);
 					}
-					return;
+					return false;
 				}
 				this.nodeTagIds[this.nodeTagId] = true;
+				this.decodedTagIds[this.nodeNumberOfTags - this.tempByte] = this.nodeTagId;
+				if (this.nodeTagId < this.renderableNodeTags.length
+						&& this.renderableNodeTags[this.nodeTagId]) {
+					this.nodeRenderable = true;
+				}
 			}
 
 			// get the feature byte
@@ -598,6 +688,18 @@ public class MapDatabase {
 			this.nodeFeatureElevation = (this.nodeFeatureByte & NODE_FEATURE_BITMASK_ELEVATION) != 0;
 			this.nodeFeatureHouseNumber = (this.nodeFeatureByte & NODE_FEATURE_BITMASK_HOUSE_NUMBER) != 0;
 
+			// a node without rendered tags is only drawn if it has a house number
+			if (!this.nodeRenderable && !this.nodeFeatureHouseNumber) {
+				// skip the node name and elevation and continue with the next node
+				if (this.nodeFeatureName) {
+					readUTF8EncodedString(false);
+				}
+				if (this.nodeFeatureElevation) {
+					readVariableByteEncodedSignedInt();
+				}
+				continue;
+			}
+
 			// check if the node has a name
 			if (this.nodeFeatureName) {
 				this.nodeName = readUTF8EncodedString(true);
@@ -623,10 +725,18 @@ public class MapDatabase {
 				this.nodeHouseNumber = null;
 			}
 
-			// render the node
-			databaseMapGenerator.renderPointOfInterest(this.nodeLayer, this.nodeLatitude,
-					this.nodeLongitude, this.nodeName, this.nodeHouseNumber,
-					this.nodeElevation, this.nodeTagIds);
+			if (this.cachedBlock != null) {
+				// store the node
+				this.cachedBlock.addNode(new CachedNode(this.nodeLayer, this.nodeLatitude,
+						this.nodeLongitude, this.nodeName, this.nodeHouseNumber,
+						this.nodeElevation, copyDecodedTagIds(this.nodeNumberOfTags)));
+			} else {
+				// render the node
+				databaseMapGenerator.renderPointOfInterest(this.nodeLayer, this.nodeLatitude,
+						this.nodeLongitude, this.nodeName, this.nodeHouseNumber,
+						this.nodeElevation, this.nodeTagIds, this.decodedTagIds,
+						this.nodeNumberOfTags);
+			}
 		}
 
 		// finished reading nodes, check if the current buffer position is valid
@@ -636,7 +746,7 @@ public class MapDatabase {
 			if (this.debugFile) {
 				Logger.debug("block signature: " + this.blockSignature);
 			}
-			return;
+			return false;
 		}
 
 		// move the pointer to the first way
@@ -646,13 +756,12 @@ public class MapDatabase {
 		for (this.elementCounter = this.waysOnZoomLevel; this.elementCounter != 0; --this.elementCounter) {
 			if (this.debugFile) {
 				// get and check the way signature
-				this.waySignature = new String(this.readBuffer, this.bufferPosition,
-						SIGNATURE_LENGTH_WAY, CHARSET_UTF8);
+				this.waySignature = decodeString(this.bufferPosition, SIGNATURE_LENGTH_WAY);
 				this.bufferPosition += SIGNATURE_LENGTH_WAY;
 				if (!this.waySignature.startsWith("---WayStart")) {
 					Logger.debug("invalid way signature: " + this.waySignature);
 					Logger.debug("block signature: " + this.blockSignature);
-					return;
+					return false;
 				}
 			}
 
@@ -663,14 +772,15 @@ public class MapDatabase {
 				if (this.debugFile) {
 					Logger.debug("block signature: " + this.blockSignature);
 				}
-				return;
+				return false;
 			}
+			this.wayStartPosition = this.bufferPosition;
 
 			if (this.useTileBitmask) {
 				// get the way tile bitmask (2 bytes)
 				this.wayTileBitmask = readShort();
 				// check if the way is inside the requested tile
-				if ((this.queryTileBitmask & this.wayTileBitmask) == 0) {
+				if (this.cachedBlock == null && (this.queryTileBitmask & this.wayTileBitmask) == 0) {
 					// skip the rest of the way and continue with the next way
 					this.bufferPosition += this.waySize - 2;
 					continue;
@@ -699,6 +809,7 @@ public class MapDatabase {
 
 			// reset the way tag array
 			System.arraycopy(this.defaultTagIds, 0, this.wayTagIds, 0, this.wayTagIds.length);
+			this.wayRenderable = false;
 			// get the way tag IDs (VBE-U)
 			for (this.tempByte = this.wayNumberOfTags; this.tempByte != 0; --this.tempByte) {
 				this.wayTagId = readVariableByteEncodedUnsignedInt();
@@ -708,9 +819,21 @@ public class MapDatabase {
 						Logger.debug("way signature: " + this.waySignature);
 						Logger.debug("block signature: " + this.blockSignature);
 					}
-					return;
+					return false;
 				}
 				this.wayTagIds[this.wayTagId] = true;
+				this.decodedTagIds[this.wayNumberOfTags - this.tempByte] = this.wayTagId;
+				if (this.wayTagId < this.renderableWayTags.length
+						&& this.renderableWayTags[this.wayTagId]) {
+					this.wayRenderable = true;
+				}
+			}
+
+			// a way without rendered tags is never drawn
+			if (!this.wayRenderable) {
+				// skip the rest of the way and continue with the next way
+				this.bufferPosition = this.wayStartPosition + this.waySize;
+				continue;
 			}
 
 			// get and check the number of way nodes (VBE-U)
@@ -722,7 +845,7 @@ public class MapDatabase {
 					Logger.debug("way signature: " + this.waySignature);
 					Logger.debug("block signature: " + this.blockSignature);
 				}
-				return;
+				return false;
 			}
 
 			// each way node consists of latitude and longitude fields
@@ -767,7 +890,8 @@ public class MapDatabase {
 
 			// check if the way has a name
 			if (this.wayFeatureName) {
-				this.wayName = readUTF8EncodedString(this.queryReadWayNames);
+				this.wayName = readUTF8EncodedString(this.queryReadWayNames
+						|| this.cachedBlock != null);
 			} else {
 				// no way name
 				this.wayName = null;
@@ -775,7 +899,8 @@ public class MapDatabase {
 
 			// check if the way has a reference
 			if (this.wayFeatureRef) {
-				this.wayRef = readUTF8EncodedString(this.queryReadWayNames);
+				this.wayRef = readUTF8EncodedString(this.queryReadWayNames
+						|| this.cachedBlock != null);
 			} else {
 				// no reference
 				this.wayRef = null;
@@ -783,7 +908,7 @@ public class MapDatabase {
 
 			// check if the way has a label position
 			if (this.wayFeatureLabelPosition) {
-				if (this.queryReadWayNames) {
+				if (this.queryReadWayNames || this.cachedBlock != null) {
 					this.wayLabelPosition = new int[2];
 					// get the label position latitude offset (VBE-S)
 					this.wayLabelPosition[1] = this.wayNodesSequence[1]
@@ -824,7 +949,7 @@ public class MapDatabase {
 								Logger.debug("way signature: " + this.waySignature);
 								Logger.debug("block signature: " + this.blockSignature);
 							}
-							return;
+							return false;
 						}
 
 						// each inner way node consists of a latitude and a longitude field
@@ -867,19 +992,38 @@ public class MapDatabase {
 						Logger.debug("way signature: " + this.waySignature);
 						Logger.debug("block signature: " + this.blockSignature);
 					}
-					return;
+					return false;
 				}
 			} else {
 				// no multipolygon
 				this.wayInnerWays = null;
 			}
 
-			// render the way
-			databaseMapGenerator.renderWay(this.wayLayer, this.wayNumberOfRelevantTags,
-					this.wayName, this.wayRef, this.wayLabelPosition, this.wayTagIds,
-					this.wayTagBitmap, this.wayNodesSequenceLength, this.wayNodesSequence,
-					this.wayInnerWays);
+			if (this.cachedBlock != null) {
+				// store the way with a copy of its way nodes
+				int[] wayNodes = new int[this.wayNodesSequenceLength];
+				System.arraycopy(this.wayNodesSequence, 0, wayNodes, 0,
+						this.wayNodesSequenceLength);
+				this.cachedBlock.addWay(new CachedWay(this.wayTileBitmask, this.wayLayer,
+						this.wayNumberOfRelevantTags, this.wayName, this.wayRef,
+						this.wayLabelPosition, copyDecodedTagIds(this.wayNumberOfTags),
+						this.wayTagBitmap, wayNodes, this.wayInnerWays));
+			} else {
+				// render the way
+				databaseMapGenerator.renderWay(this.wayLayer, this.wayNumberOfRelevantTags,
+						this.wayName, this.wayRef, this.wayLabelPosition, this.wayTagIds,
+						this.decodedTagIds, this.wayNumberOfTags, this.wayTagBitmap,
+						this.wayNodesSequenceLength, this.wayNodesSequence, this.wayInnerWays);
+			}
+		}
+
+		if (this.cachedBlock != null) {
+			// cache the decoded block and render the map elements of the requested tile
+			this.databaseBlockCache.put(this.blockCacheEntryKey, this.cachedBlock);
+			renderCachedBlock(this.cachedBlock, databaseMapGenerator);
+			this.cachedBlock = null;
 		}
+		return true;
 	}
 
 	/**
@@ -891,14 +1035,13 @@ public class MapDatabase {
 	 */
 	private boolean processFileHeader() throws IOException {
 		// read the the magic byte and the file header size into the buffer
-		if (!readFromMapFile(BINARY_OSM_MAGIC_BYTE.length() + 4)) {
+		if (!readFromMapFile(0, BINARY_OSM_MAGIC_BYTE.length() + 4)) {
 			Logger.debug("reading magic byte has failed");
 			return false;
 		}
 
 		// get and check the magic byte
-		String magicByte = new String(this.readBuffer, this.bufferPosition, BINARY_OSM_MAGIC_BYTE
-				.length(), CHARSET_UTF8);
+		String magicByte = decodeString(this.bufferPosition, BINARY_OSM_MAGIC_BYTE.length());
 		this.bufferPosition += BINARY_OSM_MAGIC_BYTE.length();
 		if (!magicByte.equals(BINARY_OSM_MAGIC_BYTE)) {
 			Logger.debug("invalid magic byte: " + magicByte);
@@ -914,7 +1057,7 @@ public class MapDatabase {
 		}
 
 		// read the header data into the buffer
-		if (!readFromMapFile(remainingHeaderSize)) {
+		if (!readFromMapFile(BINARY_OSM_MAGIC_BYTE.length() + 4, remainingHeaderSize)) {
 			Logger.debug("reading header data has failed: " + remainingHeaderSize);
 			return false;
 		}
@@ -1181,7 +1324,7 @@ public class MapDatabase {
 	 * @return the byte value.
 	 */
 	private byte readByte() {
-		return this.readBuffer[this.bufferPosition++];
+		return this.readBuffer.get(this.bufferPosition++);
 	}
 
 	/**
@@ -1198,28 +1341,41 @@ public class MapDatabase {
 
 	/**
 	 * Reads the given amount of bytes from the map file into the read buffer and resets the internal
-	 * buffer position. If the capacity of the read buffer is too small, a larger read buffer is created
-	 * automatically.
+	 * buffer position. If the map file is memory mapped, the read buffer is set to the requested part
+	 * of the file without copying any data. Otherwise the data is read into a byte array and a larger
+	 * array is created automatically if the current one is too small.
 	 * 
+	 * @param position
+	 *            the position in the map file of the first byte to read.
 	 * @param length
 	 *            the amount of bytes to read from the map file.
 	 * @return true if the whole data was read successfully, false otherwise.
 	 * @throws IOException
 	 *             if an error occurs while reading the file.
 	 */
-	private boolean readFromMapFile(int length) throws IOException {
-		// ensure that the read buffer is large enough
-		if (this.readBuffer == null || this.readBuffer.length < length) {
-			// ensure that the read buffer is not too large
-			if (length > MAXIMUM_BLOCK_SIZE) {
-				return false;
-			}
-			this.readBuffer = new byte[length];
+	private boolean readFromMapFile(long position, int length) throws IOException {
+		// ensure that the read buffer is not too large
+		if (length > MAXIMUM_BLOCK_SIZE) {
+			return false;
 		}
 
-		// reset the buffer position and read the data into the buffer
+		// reset the buffer position
 		this.bufferPosition = 0;
-		return this.inputFile.read(this.readBuffer, 0, length) == length;
+
+		if (this.mappedMapFile != null) {
+			this.readBuffer = this.mappedMapFile.getSlice(position, length);
+			return this.readBuffer != null;
+		}
+
+		// ensure that the read buffer is large enough
+		if (this.readBufferArray == null || this.readBufferArray.length < length) {
+			this.readBufferArray = new byte[length];
+			this.readBuffer = ByteBuffer.wrap(this.readBufferArray);
+		}
+
+		// go to the position in the map file and read the data into the buffer
+		this.inputFile.seek(position);
+		return this.inputFile.read(this.readBufferArray, 0, length) == length;
 	}
 
 	/**
@@ -1272,12 +1428,11 @@ public class MapDatabase {
 		// get and check the length of string (VBE-U)
 		this.stringLength = readVariableByteEncodedUnsignedInt();
 		if (this.stringLength >= 0
-				&& this.bufferPosition + this.stringLength <= this.readBuffer.length) {
+				&& this.bufferPosition + this.stringLength <= this.readBuffer.limit()) {
 			this.bufferPosition += this.stringLength;
 			if (readString) {
 				// get the string
-				return new String(this.readBuffer, this.bufferPosition - this.stringLength,
-						this.stringLength, CHARSET_UTF8);
+				return decodeString(this.bufferPosition - this.stringLength, this.stringLength);
 			}
 			return null;
 		}
@@ -1298,19 +1453,19 @@ public class MapDatabase {
 		this.variableByteShift = 0;
 
 		// check if the continuation bit is set
-		while ((this.readBuffer[this.bufferPosition] & 0x80) != 0) {
-			this.variableByteDecode |= (this.readBuffer[this.bufferPosition++] & 0x7f) << this.variableByteShift;
+		while ((this.readBuffer.get(this.bufferPosition) & 0x80) != 0) {
+			this.variableByteDecode |= (this.readBuffer.get(this.bufferPosition++) & 0x7f) << this.variableByteShift;
 			this.variableByteShift += 7;
 		}
 
 		// read the six data bits from the last byte
-		if ((this.readBuffer[this.bufferPosition] & 0x40) != 0) {
+		if ((this.readBuffer.get(this.bufferPosition) & 0x40) != 0) {
 			// negative
-			return -(this.variableByteDecode | ((this.readBuffer[this.bufferPosition++] & 0x3f) << this.variableByteShift));
+			return -(this.variableByteDecode | ((this.readBuffer.get(this.bufferPosition++) & 0x3f) << this.variableByteShift));
 		}
 		// positive
 		return this.variableByteDecode
-				| ((this.readBuffer[this.bufferPosition++] & 0x3f) << this.variableByteShift);
+				| ((this.readBuffer.get(this.bufferPosition++) & 0x3f) << this.variableByteShift);
 	}
 
 	/**
@@ -1326,20 +1481,77 @@ public class MapDatabase {
 			this.variableByteShift = 0;
 
 			// check if the continuation bit is set
-			while ((this.readBuffer[this.bufferPosition] & 0x80) != 0) {
-				this.variableByteDecode |= (this.readBuffer[this.bufferPosition++] & 0x7f) << this.variableByteShift;
+			while ((this.readBuffer.get(this.bufferPosition) & 0x80) != 0) {
+				this.variableByteDecode |= (this.readBuffer.get(this.bufferPosition++) & 0x7f) << this.variableByteShift;
 				this.variableByteShift += 7;
 			}
 
 			// read the seven data bits from the last byte
 			return this.variableByteDecode
-					| (this.readBuffer[this.bufferPosition++] << this.variableByteShift);
-		} catch (ArrayIndexOutOfBoundsException e) {
+					| (this.readBuffer.get(this.bufferPosition++) << this.variableByteShift);
+		} catch (IndexOutOfBoundsException e) {
 			Logger.exception(e);
 			return -1;
 		}
 	}
 
+	/**
+	 * Calls the render functions on all map elements of the given decoded block which are inside the
+	 * requested tile.
+	 * 
+	 * @param block
+	 *            the decoded block.
+	 * @param databaseMapGenerator
+	 *            the DatabaseMapGenerator callback which handles the extracted map elements.
+	 */
+	private void renderCachedBlock(CachedBlock block, DatabaseMapGenerator databaseMapGenerator) {
+		CachedNode cachedNode;
+		for (this.tempInt = 0; this.tempInt < block.nodes.size(); ++this.tempInt) {
+			cachedNode = block.nodes.get(this.tempInt);
+
+			// reset and fill the node tag array
+			System.arraycopy(this.defaultTagIds, 0, this.nodeTagIds, 0, this.nodeTagIds.length);
+			for (int i = cachedNode.tagIds.length - 1; i >= 0; --i) {
+				this.nodeTagIds[cachedNode.tagIds[i]] = true;
+			}
+
+			// render the node
+			databaseMapGenerator.renderPointOfInterest(cachedNode.layer, cachedNode.latitude,
+					cachedNode.longitude, cachedNode.name, cachedNode.houseNumber,
+					cachedNode.elevation, this.nodeTagIds, cachedNode.tagIds,
+					(byte) cachedNode.tagIds.length);
+		}
+
+		CachedWay cachedWay;
+		for (this.tempInt = 0; this.tempInt < block.ways.size(); ++this.tempInt) {
+			cachedWay = block.ways.get(this.tempInt);
+
+			// check if the way is inside the requested tile
+			if ((this.queryTileBitmask & cachedWay.tileBitmask) == 0) {
+				continue;
+			}
+
+			// reset and fill the way tag array
+			System.arraycopy(this.defaultTagIds, 0, this.wayTagIds, 0, this.wayTagIds.length);
+			for (int i = cachedWay.tagIds.length - 1; i >= 0; --i) {
+				this.wayTagIds[cachedWay.tagIds[i]] = true;
+			}
+
+			// render the way, names are only passed if they were requested
+			if (this.queryReadWayNames) {
+				databaseMapGenerator.renderWay(cachedWay.layer, cachedWay.numberOfRelevantTags,
+						cachedWay.name, cachedWay.ref, cachedWay.labelPosition, this.wayTagIds,
+						cachedWay.tagIds, (byte) cachedWay.tagIds.length, cachedWay.tagBitmap,
+						cachedWay.nodes.length, cachedWay.nodes, cachedWay.innerWays);
+			} else {
+				databaseMapGenerator.renderWay(cachedWay.layer, cachedWay.numberOfRelevantTags,
+						null, null, null, this.wayTagIds, cachedWay.tagIds,
+						(byte) cachedWay.tagIds.length, cachedWay.tagBitmap, cachedWay.nodes.length,
+						cachedWay.nodes, cachedWay.innerWays);
+			}
+		}
+	}
+
 	/**
 	 * Starts a database query with the given parameters.
 	 * 
@@ -1351,28 +1563,51 @@ public class MapDatabase {
 	 *            the DatabaseMapGenerator callback which handles the extracted map elements.
 	 */
 	void executeQuery(Tile tile, boolean readWayNames, DatabaseMapGenerator databaseMapGenerator) {
+		executeQuery(tile, tile.zoomLevel, readWayNames, databaseMapGenerator);
+	}
+
+	/**
+	 * Starts a database query for the area of the given tile, which returns the map elements of
+	 * another zoom level. This allows to read a block of several adjacent tiles at once by querying
+	 * the area of their common parent tile.
+	 * 
+	 * @param tile
+	 *            the tile whose area should be read.
+	 * @param zoomLevel
+	 *            the zoom level for which the map elements should be read.
+	 * @param readWayNames
+	 *            if way names should be read.
+	 * @param databaseMapGenerator
+	 *            the DatabaseMapGenerator callback which handles the extracted map elements.
+	 */
+	void executeQuery(Tile tile, byte zoomLevel, boolean readWayNames,
+			DatabaseMapGenerator databaseMapGenerator) {
 		try {
 			// reset the stop execution flag
 			this.stopCurrentQuery = false;
 
 			// limit the zoom level of the requested tile for this query
-			if (tile.zoomLevel > this.globalMaximumZoomLevel) {
+			if (zoomLevel > this.globalMaximumZoomLevel) {
 				this.queryZoomLevel = this.globalMaximumZoomLevel;
-			} else if (tile.zoomLevel < this.globalMinimumZoomLevel) {
+			} else if (zoomLevel < this.globalMinimumZoomLevel) {
 				this.queryZoomLevel = this.globalMinimumZoomLevel;
 			} else {
-				this.queryZoomLevel = tile.zoomLevel;
+				this.queryZoomLevel = zoomLevel;
 			}
 
 			// get and check the map file for the query zoom level
 			this.mapFileParameters = this.mapFilesLookupTable[this.queryZoomLevel];
 			if (this.mapFileParameters == null) {
-				Logger.debug("no map file for zoom level: " + tile.zoomLevel);
+				Logger.debug("no map file for zoom level: " + zoomLevel);
 				return;
 			}
 
 			this.queryReadWayNames = readWayNames;
 
+			// get the tags which are rendered at the requested zoom level
+			this.renderableNodeTags = databaseMapGenerator.getRenderableNodeTags(zoomLevel);
+			this.renderableWayTags = databaseMapGenerator.getRenderableWayTags(zoomLevel);
+
 			// calculate the blocks that cover the area of the requested tile
 			if (tile.zoomLevel < this.mapFileParameters.baseZoomLevel) {
 				// calculate the XY numbers of the upper left and lower right subtiles
@@ -1516,8 +1751,8 @@ public class MapDatabase {
 			int currentBlockSize;
 			for (currentRow = fromBlockY; currentRow <= toBlockY; ++currentRow) {
 				for (currentColumn = fromBlockX; currentColumn <= toBlockX; ++currentColumn) {
-					// check if the query was interrupted
-					if (this.stopCurrentQuery) {
+					// check if the query was interrupted or the tile is no longer needed
+					if (this.stopCurrentQuery || databaseMapGenerator.isCurrentJobCancelled()) {
 						return;
 					}
 
@@ -1579,11 +1814,21 @@ public class MapDatabase {
 						return;
 					}
 
-					// go to the current block in the map file and read the data into the buffer
-					this.inputFile.seek(this.mapFileParameters.startAddress + currentBlockPointer);
+					if (this.useTileBitmask) {
+						// sibling tiles share the same block, check if it has been decoded before
+						this.blockCacheEntryKey = new BlockCacheEntryKey(this.mapFileParameters,
+								blockNumber, zoomLevel);
+						this.cachedBlock = this.databaseBlockCache.get(this.blockCacheEntryKey);
+						if (this.cachedBlock != null) {
+							renderCachedBlock(this.cachedBlock, databaseMapGenerator);
+							this.cachedBlock = null;
+							continue;
+						}
+					}
 
 					// read the current block into the buffer
-					if (!readFromMapFile(currentBlockSize)) {
+					if (!readFromMapFile(this.mapFileParameters.startAddress + currentBlockPointer,
+							currentBlockSize)) {
 						// skip the current block
 						Logger.debug("reading current block has failed: " + currentBlockSize);
 						return;
@@ -1645,12 +1890,23 @@ public class MapDatabase {
 	 */
 	void prepareExecution() {
 		// create the DatabaseIndexCache
-		this.databaseIndexCache = new MapDatabaseIndexCache(this.inputFile,
+		if (this.mappedMapFile != null) {
+			this.databaseIndexCache = new MapDatabaseIndexCache(this.mappedMapFile);
+		} else {
+			this.databaseIndexCache = new MapDatabaseIndexCache(this.inputFile,
 					INDEX_CACHE_SIZE);
+		}
+
+		// create the DatabaseBlockCache
+		this.databaseBlockCache = new MapDatabaseBlockCache(BLOCK_CACHE_SIZE);
 
 		// create an array for the way nodes coordinates
 		this.wayNodesSequence = new int[INITIAL_WAY_NODES_CAPACITY];
 
+		// create an array for the tag IDs of a single map element
+		this.decodedTagIds = new int[Math.max(NODE_NUMBER_OF_TAGS_BITMASK,
+				WAY_NUMBER_OF_TAGS_BITMASK) + 1];
+
 		// create the tag arrays
 		this.defaultTagIds = new boolean[Math.max(this.maximumNodeTagId,
 					this.maximumWayTagId) + 1];
@@ -1658,6 +1914,18 @@ public class MapDatabase {
 		this.wayTagIds = new boolean[this.maximumWayTagId + 1];
 	}
 
+	/**
+	 * Sets the read mode of the database. If enabled, the map file is mapped into memory and blocks are
+	 * parsed directly from the mapped buffer instead of being copied into a read buffer first. The new
+	 * mode takes effect when the next map file is opened.
+	 * 
+	 * @param memoryMapped
+	 *            true if map files should be mapped into memory, false otherwise.
+	 */
+	void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
 	/**
 	 * Notifies the database reader to stop the currently executed query.
 	 */
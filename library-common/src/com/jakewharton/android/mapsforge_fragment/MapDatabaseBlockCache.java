@@ -0,0 +1,108 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache for decoded map file blocks with a fixed memory budget and LRU policy.
+ * <p>
+ * All tiles above the base zoom level of a map file are read from the same parent block. Caching the
+ * decoded block allows sibling tiles to skip reading and parsing the block again.
+ */
+class MapDatabaseBlockCache {
+	/**
+	 * Initial capacity of the internal HashMap.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Load factor of the internal HashMap.
+	 */
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private final int capacity;
+	private Map<BlockCacheEntryKey, CachedBlock> map;
+	private int size;
+
+	/**
+	 * Constructs a block cache with a fixed memory budget and LRU policy.
+	 * 
+	 * @param capacity
+	 *            the maximum estimated size of all cached blocks in bytes.
+	 * @throws IllegalArgumentException
+	 *             if the capacity is negative.
+	 */
+	MapDatabaseBlockCache(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.capacity = capacity;
+		this.map = new LinkedHashMap<BlockCacheEntryKey, CachedBlock>(
+				(int) (INITIAL_CAPACITY / LOAD_FACTOR) + 2, LOAD_FACTOR, true);
+	}
+
+	/**
+	 * Destroy the cache at the end of its lifetime.
+	 */
+	void destroy() {
+		if (this.map != null) {
+			this.map.clear();
+			this.map = null;
+		}
+		this.size = 0;
+	}
+
+	/**
+	 * @param blockCacheEntryKey
+	 *            key of the block whose decoded content should be returned.
+	 * @return the decoded block or null, if the block is not in the cache.
+	 * @see Map#get(Object)
+	 */
+	CachedBlock get(BlockCacheEntryKey blockCacheEntryKey) {
+		return this.map.get(blockCacheEntryKey);
+	}
+
+	/**
+	 * Adds the given block to the cache and removes the least recently used blocks until the memory
+	 * budget is kept. Blocks which exceed the whole memory budget are not cached at all.
+	 * 
+	 * @param blockCacheEntryKey
+	 *            key of the block which should be added to the cache.
+	 * @param cachedBlock
+	 *            the decoded block.
+	 * @see Map#put(Object, Object)
+	 */
+	void put(BlockCacheEntryKey blockCacheEntryKey, CachedBlock cachedBlock) {
+		if (cachedBlock.getSize() > this.capacity) {
+			return;
+		}
+
+		CachedBlock replacedBlock = this.map.put(blockCacheEntryKey, cachedBlock);
+		if (replacedBlock != null) {
+			this.size -= replacedBlock.getSize();
+		}
+		this.size += cachedBlock.getSize();
+
+		// remove the least recently used blocks until the budget is kept
+		Iterator<CachedBlock> iterator = this.map.values().iterator();
+		while (this.size > this.capacity && iterator.hasNext()) {
+			this.size -= iterator.next().getSize();
+			iterator.remove();
+		}
+	}
+}
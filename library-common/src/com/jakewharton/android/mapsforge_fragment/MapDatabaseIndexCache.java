@@ -16,11 +16,13 @@ package com.jakewharton.android.mapsforge_fragment;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * A cache for database index blocks with a fixed size and LRU policy.
+ * A cache for database index blocks with a fixed size and LRU policy. If the map file is mapped into
+ * memory, index entries are read directly from the mapped file and nothing is cached.
  */
 class MapDatabaseIndexCache {
 	/**
@@ -46,6 +48,17 @@ class MapDatabaseIndexCache {
 
 	private RandomAccessFile inputFile;
 	private Map<IndexCacheEntryKey, byte[]> map;
+	private MappedMapFile mappedMapFile;
+
+	/**
+	 * Constructs a database index cache which reads the index entries from a memory mapped map file.
+	 * 
+	 * @param mappedMapFile
+	 *            the memory mapped map file from which the index should be read.
+	 */
+	MapDatabaseIndexCache(MappedMapFile mappedMapFile) {
+		this.mappedMapFile = mappedMapFile;
+	}
 
 	/**
 	 * Constructs an database index cache with a fixes size and LRU policy.
@@ -82,6 +95,7 @@ class MapDatabaseIndexCache {
 	 */
 	void destroy() {
 		this.inputFile = null;
+		this.mappedMapFile = null;
 		if (this.map != null) {
 			this.map.clear();
 			this.map = null;
@@ -105,6 +119,18 @@ class MapDatabaseIndexCache {
 				return -1;
 			}
 
+			if (this.mappedMapFile != null) {
+				// read the index entry directly from the mapped file
+				ByteBuffer indexEntry = this.mappedMapFile.getSlice(
+						mapFileParameters.indexStartAddress + blockNumber * BYTES_PER_INDEX_ENTRY,
+						BYTES_PER_INDEX_ENTRY);
+				if (indexEntry == null) {
+					Logger.debug("reading the current index entry has failed");
+					return -1;
+				}
+				return Deserializer.getFiveBytesLong(indexEntry, 0);
+			}
+
 			// calculate the index block number
 			long indexBlockNumber = blockNumber / INDEX_ENTRIES_PER_CACHE_BLOCK;
 
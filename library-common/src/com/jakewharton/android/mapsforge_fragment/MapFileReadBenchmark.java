@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Compares the two read modes of the {@link MapDatabase}. Blocks at random positions of a map file
+ * are read like in {@code MapDatabase.readFromMapFile}, either with a seek and a read into a byte
+ * array or as a slice of the {@link MappedMapFile}, and every block is parsed with the
+ * {@link Deserializer} helpers afterwards. Each mode reads the same blocks once before it is
+ * measured, so that both modes are measured with a warm page cache and the difference is the cost
+ * of the system calls and the copies.
+ * <p>
+ * This class is a debugging aid. It is not used by the MapView, but can be run on a device with a
+ * large map file, for example a country file of several hundred megabytes.
+ */
+final class MapFileReadBenchmark {
+	/**
+	 * Seed of the random block positions, so that repeated runs read the same blocks.
+	 */
+	private static final long RANDOM_SEED = 42;
+
+	/**
+	 * Reads all blocks and parses them as big-endian ints.
+	 * 
+	 * @param inputFile
+	 *            the opened map file.
+	 * @param mappedMapFile
+	 *            the mapped map file, or null if the blocks should be copied into a byte array.
+	 * @param positions
+	 *            the positions of the blocks in the file.
+	 * @param blockSize
+	 *            the number of bytes of each block.
+	 * @return a checksum of the parsed values, which keeps the parsing from being optimized away.
+	 * @throws IOException
+	 *             if an error occurs while reading the file.
+	 */
+	private static long readBlocks(RandomAccessFile inputFile, MappedMapFile mappedMapFile,
+			long[] positions, int blockSize) throws IOException {
+		byte[] readBufferArray = new byte[blockSize];
+		ByteBuffer readBuffer = ByteBuffer.wrap(readBufferArray);
+		long checksum = 0;
+		for (int i = 0; i < positions.length; ++i) {
+			if (mappedMapFile != null) {
+				readBuffer = mappedMapFile.getSlice(positions[i], blockSize);
+			} else {
+				inputFile.seek(positions[i]);
+				inputFile.readFully(readBufferArray, 0, blockSize);
+			}
+			for (int offset = 0; offset <= blockSize - 4; offset += 4) {
+				checksum += Deserializer.getInt(readBuffer, offset);
+			}
+		}
+		return checksum;
+	}
+
+	/**
+	 * Runs the benchmark for both read modes with the given map file and logs the report.
+	 * 
+	 * @param mapFile
+	 *            the map file which should be read.
+	 * @param numberOfBlocks
+	 *            the number of blocks which should be read in each mode.
+	 * @param blockSize
+	 *            the number of bytes of each block.
+	 * @return the report with the average time per block for each read mode.
+	 * @throws IOException
+	 *             if an error occurs while reading or mapping the map file.
+	 */
+	static String run(File mapFile, int numberOfBlocks, int blockSize) throws IOException {
+		RandomAccessFile inputFile = new RandomAccessFile(mapFile, "r");
+		try {
+			long fileSize = inputFile.length();
+			if (blockSize <= 0 || numberOfBlocks <= 0 || fileSize < blockSize) {
+				throw new IllegalArgumentException();
+			}
+
+			// calculate the random block positions
+			Random random = new Random(RANDOM_SEED);
+			long[] positions = new long[numberOfBlocks];
+			for (int i = 0; i < numberOfBlocks; ++i) {
+				positions[i] = (long) (random.nextDouble() * (fileSize - blockSize));
+			}
+
+			readBlocks(inputFile, null, positions, blockSize);
+			long startTime = System.nanoTime();
+			long checksum = readBlocks(inputFile, null, positions, blockSize);
+			long readTime = System.nanoTime() - startTime;
+
+			MappedMapFile mappedMapFile = new MappedMapFile(inputFile, blockSize);
+			readBlocks(inputFile, mappedMapFile, positions, blockSize);
+			startTime = System.nanoTime();
+			long mappedChecksum = readBlocks(inputFile, mappedMapFile, positions, blockSize);
+			long mappedTime = System.nanoTime() - startTime;
+			mappedMapFile.destroy();
+
+			StringBuilder report = new StringBuilder(256);
+			report.append(mapFile.getName()).append(": ").append(fileSize >> 20).append(" MB, ");
+			report.append(numberOfBlocks).append(" blocks of ").append(blockSize);
+			report.append(" bytes\n");
+			report.append("read: ").append(readTime / numberOfBlocks / 1000).append(" us\n");
+			report.append("mapped: ").append(mappedTime / numberOfBlocks / 1000).append(" us\n");
+			if (checksum != mappedChecksum) {
+				report.append("the read modes returned different data\n");
+			}
+			Logger.debug(report.toString());
+			return report.toString();
+		} finally {
+			inputFile.close();
+		}
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private MapFileReadBenchmark() {
+		// do nothing
+	}
+}
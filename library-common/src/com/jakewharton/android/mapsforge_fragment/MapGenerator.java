@@ -14,26 +14,20 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
-import java.util.PriorityQueue;
-
 import android.graphics.Bitmap;
 
 /**
- * A MapGenerator provides map images. This abstract base class handles all thread specific actions and
- * provides the queue for jobs, which need to be processed and scheduled.
+ * A MapGenerator provides map images. This abstract base class handles all thread specific actions.
+ * Several MapGenerator threads may take their jobs from the same {@link JobQueue}, each of them
+ * works with its own tile bitmap.
  */
 abstract class MapGenerator extends Thread {
 	private static final GeoPoint DEFAULT_START_POINT = new GeoPoint(51.33, 10.45);
 	private static final byte DEFAULT_ZOOM_LEVEL = 5;
 
-	private PriorityQueue<MapGeneratorJob> jobQueue1;
-	private PriorityQueue<MapGeneratorJob> jobQueue2;
+	private JobQueue jobQueue;
 	private MapView mapView;
-	private boolean pause;
-	private boolean ready;
-	private boolean requestMoreJobs;
-	private boolean scheduleNeeded;
-	private PriorityQueue<MapGeneratorJob> tempQueue;
+	private volatile boolean ready;
 	private TileMemoryCardCache tileMemoryCardCache;
 	private TileRAMCache tileRAMCache;
 
@@ -42,8 +36,6 @@ abstract class MapGenerator extends Thread {
 	 */
 	MapGenerator() {
 		super();
-		this.jobQueue1 = new PriorityQueue<MapGeneratorJob>(64);
-		this.jobQueue2 = new PriorityQueue<MapGeneratorJob>(64);
 	}
 
 	@Override
@@ -58,55 +50,48 @@ abstract class MapGenerator extends Thread {
 		while (!isInterrupted()) {
 			prepareMapGeneration();
 
-			synchronized (this) {
-				while (!isInterrupted() && (this.jobQueue1.isEmpty() || this.pause)) {
-					try {
-						this.ready = true;
-						wait();
-					} catch (InterruptedException e) {
-						// restore the interrupted status
-						interrupt();
-					}
-				}
-				this.ready = false;
-			}
-
-			if (isInterrupted()) {
+			// get the next tile that needs to be processed
+			currentMapGeneratorJob = nextJob();
+			if (currentMapGeneratorJob == null) {
 				break;
 			}
 
-			// get the next tile from the job queue that needs to be processed
-			synchronized (this) {
-				if (this.scheduleNeeded) {
-					schedule();
-					this.scheduleNeeded = false;
+			boolean tileGenerated = false;
+			try {
+				// check if the current job can be skipped or must be processed
+				if (!isJobCancelled(currentMapGeneratorJob)
+						&& !isTileCached(currentMapGeneratorJob.key)) {
+					// check if the tile was generated successfully
+					if (executeJob(currentMapGeneratorJob)) {
+						if (isInterrupted()) {
+							break;
+						}
+						tileGenerated = true;
+						if (currentMapGeneratorJob.draft) {
+							// a draft is only displayed
+							if (this.mapView != null) {
+								this.mapView.putDraft(currentMapGeneratorJob.tile,
+										currentMapGeneratorJob.key, currentTileBitmap);
+							}
+						} else {
+							putTile(currentMapGeneratorJob.tile, currentMapGeneratorJob.key,
+									currentTileBitmap);
+						}
+					}
 				}
-				currentMapGeneratorJob = this.jobQueue1.poll();
+			} finally {
+				// the job must be finished even if the thread was interrupted
+				this.jobQueue.finishJob(currentMapGeneratorJob);
 			}
 
-			// check if the current job can be skipped or must be processed
-			if (!this.tileRAMCache.containsKey(currentMapGeneratorJob)
-					&& !this.tileMemoryCardCache.containsKey(currentMapGeneratorJob)) {
-				// check if the tile was generated successfully
-				if (executeJob(currentMapGeneratorJob)) {
-					if (isInterrupted()) {
-						break;
-					}
-
-					if (this.mapView != null) {
-						// copy the tile to the MapView
-						this.mapView.putTileOnBitmap(currentMapGeneratorJob, currentTileBitmap);
-						this.mapView.postInvalidate();
-					}
-
-					// put the tile image in the cache
-					this.tileMemoryCardCache.put(currentMapGeneratorJob, currentTileBitmap);
-				}
+			if (tileGenerated && currentMapGeneratorJob.draft) {
+				// the full quality image follows the drafts of the other visible tiles
+				currentMapGeneratorJob.draft = false;
+				this.jobQueue.addJob(currentMapGeneratorJob);
 			}
 
 			// if the job queue is empty, ask the MapView for more jobs
-			if (!isInterrupted() && this.jobQueue1.isEmpty() && this.requestMoreJobs
-					&& this.mapView != null) {
+			if (!isInterrupted() && this.mapView != null && this.jobQueue.requestMoreJobs()) {
 				this.mapView.requestMoreJobs();
 			}
 		}
@@ -123,46 +108,7 @@ abstract class MapGenerator extends Thread {
 		this.mapView = null;
 		this.tileRAMCache = null;
 		this.tileMemoryCardCache = null;
-
-		if (this.jobQueue1 != null) {
-			this.jobQueue1.clear();
-			this.jobQueue1 = null;
-		}
-
-		if (this.jobQueue2 != null) {
-			this.jobQueue2.clear();
-			this.jobQueue2 = null;
-		}
-
-		this.tempQueue = null;
-	}
-
-	/**
-	 * Schedules all jobs in the queue.
-	 */
-	private void schedule() {
-		if (this.mapView != null) {
-			while (!this.jobQueue1.isEmpty()) {
-				this.jobQueue2.offer(this.mapView.setJobPriority(this.jobQueue1.poll()));
-			}
-			// swap the two job queues
-			this.tempQueue = this.jobQueue1;
-			this.jobQueue1 = this.jobQueue2;
-			this.jobQueue2 = this.tempQueue;
-		}
-	}
-
-	/**
-	 * Adds the given job to the queue. A call to this method has no effect if the given job is already
-	 * in the queue.
-	 * 
-	 * @param mapGeneratorJob
-	 *            the job to be added to the queue.
-	 */
-	final synchronized void addJob(MapGeneratorJob mapGeneratorJob) {
-		if (!this.jobQueue1.contains(mapGeneratorJob)) {
-			this.jobQueue1.offer(mapGeneratorJob);
-		}
+		this.jobQueue = null;
 	}
 
 	/**
@@ -171,13 +117,6 @@ abstract class MapGenerator extends Thread {
 	 */
 	abstract void cleanup();
 
-	/**
-	 * Clears the job queue.
-	 */
-	final synchronized void clearJobs() {
-		this.jobQueue1.clear();
-	}
-
 	/**
 	 * This method will by called when a job needs to be executed.
 	 * 
@@ -213,30 +152,58 @@ abstract class MapGenerator extends Thread {
 	abstract byte getMaxZoomLevel();
 
 	/**
-	 * Returns the number of jobs that are already in the queue.
+	 * Returns the name of the MapGenerator. It will be used as the name for the thread.
 	 * 
-	 * @return the number of jobs in the queue.
+	 * @return the name of the MapGenerator.
 	 */
-	final synchronized int getNumberOfJobs() {
-		return this.jobQueue1.size();
+	abstract String getThreadName();
+
+	/**
+	 * Checks if the given job should be cancelled, either because the thread was interrupted or because
+	 * the tile of the job is no longer wanted by the MapView. Subclasses should call this method
+	 * between the stages of a job.
+	 * 
+	 * @param mapGeneratorJob
+	 *            the job that is being executed.
+	 * @return true if the job should be cancelled, false otherwise.
+	 */
+	final boolean isJobCancelled(MapGeneratorJob mapGeneratorJob) {
+		return isInterrupted() || this.jobQueue.isJobStale(mapGeneratorJob);
 	}
 
 	/**
-	 * Returns the name of the MapGenerator. It will be used as the name for the thread.
+	 * Checks if the tile with the given key is already in one of the caches.
 	 * 
-	 * @return the name of the MapGenerator.
+	 * @param key
+	 *            the packed {@link TileKey} of the tile.
+	 * @return true if the tile does not need to be generated, false otherwise.
 	 */
-	abstract String getThreadName();
+	final boolean isTileCached(long key) {
+		return this.tileRAMCache.containsKey(key) || this.tileMemoryCardCache.containsKey(key);
+	}
 
 	/**
-	 * Returns the status of the MapGenerator.
+	 * Returns the status of the MapGenerator. May be overridden by subclasses which take their jobs
+	 * in a helper thread, the default implementation checks if a thread waits in {@link #takeJob()}.
 	 * 
 	 * @return true if the MapGenerator is not working, false otherwise.
 	 */
-	final boolean isReady() {
+	boolean isReady() {
 		return this.ready;
 	}
 
+	/**
+	 * Returns the next job which should be executed. May be overridden by subclasses which take their
+	 * jobs from the job queue in advance.
+	 * <p>
+	 * The default implementation of this method calls {@link #takeJob()}.
+	 * 
+	 * @return the next job or null, if the thread was interrupted.
+	 */
+	MapGeneratorJob nextJob() {
+		return takeJob();
+	}
+
 	/**
 	 * This method is called each time the MapView gets attached to the window. May be overridden by
 	 * subclasses to react on this event.
@@ -258,28 +225,58 @@ abstract class MapGenerator extends Thread {
 	}
 
 	/**
-	 * Request the MapGenerator to stop working.
+	 * This method is called each time before a tile needs to be processed. It can be used to clear any
+	 * data structures that will be needed when the next map tile will be processed.
+	 */
+	abstract void prepareMapGeneration();
+
+	/**
+	 * Passes the labels and symbols of a tile to the label layer of the MapView.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the labels.
+	 * @param tileLabels
+	 *            the labels and symbols of the tile.
 	 */
-	final synchronized void pause() {
-		this.pause = true;
+	final void putLabels(long key, TileLabels tileLabels) {
+		if (this.mapView != null) {
+			this.mapView.putTileLabels(key, tileLabels);
+			this.mapView.postInvalidate();
+		}
 	}
 
 	/**
-	 * This method is called each time before a tile needs to be processed. It can be used to clear any
-	 * data structures that will be needed when the next map tile will be processed.
+	 * Passes a generated tile to the MapView and puts it in the memory card cache. Subclasses which
+	 * generate several tiles per job call this method for each additional tile, a queued job for such
+	 * a tile is removed.
+	 * 
+	 * @param tile
+	 *            the generated tile.
+	 * @param key
+	 *            the packed {@link TileKey} of the tile.
+	 * @param bitmap
+	 *            the image of the tile.
 	 */
-	abstract void prepareMapGeneration();
+	final void putTile(Tile tile, long key, Bitmap bitmap) {
+		this.jobQueue.removeJob(key);
+
+		if (this.mapView != null) {
+			// a visible tile is composited from the RAM cache
+			this.mapView.putTile(tile, key, bitmap);
+		}
+
+		// put the tile image in the cache
+		this.tileMemoryCardCache.put(key, bitmap);
+	}
 
 	/**
-	 * Request a scheduling of all jobs that are currently in the queue.
+	 * Sets the shared queue from which the MapGenerator takes its jobs.
 	 * 
-	 * @param askForMoreJobs
-	 *            true if the MapGenerator may ask for more jobs, false otherwise.
+	 * @param jobQueue
+	 *            the JobQueue.
 	 */
-	final synchronized void requestSchedule(boolean askForMoreJobs) {
-		this.scheduleNeeded = true;
-		this.requestMoreJobs = askForMoreJobs;
-		notify();
+	final void setJobQueue(JobQueue jobQueue) {
+		this.jobQueue = jobQueue;
 	}
 
 	/**
@@ -315,10 +312,34 @@ abstract class MapGenerator extends Thread {
 	abstract void setupMapGenerator(Bitmap bitmap);
 
 	/**
-	 * Request the MapGenerator to continue working.
+	 * Takes the next job from the shared job queue and waits until an executable job is available.
+	 * The MapGenerator counts as ready while it waits. This method may also be called by a helper
+	 * thread of the MapGenerator, in which case the interrupted status of the calling thread is
+	 * checked.
+	 * 
+	 * @return the next job or null, if the calling thread was interrupted.
 	 */
-	final synchronized void unpause() {
-		this.pause = false;
-		notify();
+	final MapGeneratorJob takeJob() {
+		Thread currentThread = Thread.currentThread();
+		MapGeneratorJob mapGeneratorJob = null;
+		synchronized (this.jobQueue) {
+			while (mapGeneratorJob == null && !currentThread.isInterrupted()) {
+				if (this.jobQueue.hasExecutableJobs()) {
+					// the queue may run empty when its stale jobs are purged, then wait again
+					mapGeneratorJob = this.jobQueue.poll();
+					continue;
+				}
+				try {
+					this.ready = true;
+					this.jobQueue.wait();
+				} catch (InterruptedException e) {
+					// restore the interrupted status
+					currentThread.interrupt();
+				}
+			}
+			this.ready = false;
+		}
+		return mapGeneratorJob;
 	}
-}
\ No newline at end of file
+
+}
@@ -26,9 +26,10 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Stores the hash value of this object.
+	 * Flag if only a draft of the map image should be generated. A draft is displayed by the MapView
+	 * but never cached, the job is queued again for the full quality image afterwards.
 	 */
-	private transient int hashCode;
+	transient boolean draft;
 
 	/**
 	 * Flag if the tile coordinates should be drawn on the image for debugging.
@@ -45,6 +46,11 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 	 */
 	final boolean highlightWater;
 
+	/**
+	 * Packed {@link TileKey} of the map image.
+	 */
+	transient long key;
+
 	/**
 	 * Map file used to render the map image (may be null).
 	 */
@@ -60,11 +66,21 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 	 */
 	transient int priority;
 
+	/**
+	 * Position of this job in the heap of the {@link JobQueue} or -1, if the job is not queued.
+	 */
+	transient int queueIndex;
+
 	/**
 	 * Text scale for the map rendering.
 	 */
 	final float textScale;
 
+	/**
+	 * Map objects which are drawn on the map image.
+	 */
+	final TileContent tileContent;
+
 	/**
 	 * Tile that is rendered to a map image.
 	 */
@@ -87,9 +103,12 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 	 *            flag to enable tile coordinates.
 	 * @param highlightWater
 	 *            flag to enable water tile highlighting.
+	 * @param tileContent
+	 *            the map objects which are drawn on the map image.
 	 */
 	MapGeneratorJob(Tile tile, MapViewMode mapViewMode, String mapFile, float textScale,
-			boolean drawTileFrames, boolean drawTileCoordinates, boolean highlightWater) {
+			boolean drawTileFrames, boolean drawTileCoordinates, boolean highlightWater,
+			TileContent tileContent) {
 		this.tile = tile;
 		this.mapViewMode = mapViewMode;
 		this.mapFile = mapFile;
@@ -97,7 +116,29 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 		this.drawTileFrames = drawTileFrames;
 		this.drawTileCoordinates = drawTileCoordinates;
 		this.highlightWater = highlightWater;
-		calculateTransientValues();
+		this.tileContent = tileContent;
+		calculateTransientValues(RenderProfile.get(mapViewMode, mapFile, textScale,
+				drawTileFrames, drawTileCoordinates, highlightWater, tileContent).id);
+	}
+
+	/**
+	 * Creates a new job for the MapGenerator with the settings of the given render profile.
+	 * 
+	 * @param tile
+	 *            the tile to be rendered as a map image.
+	 * @param renderProfile
+	 *            the settings for the map rendering.
+	 */
+	MapGeneratorJob(Tile tile, RenderProfile renderProfile) {
+		this.tile = tile;
+		this.mapViewMode = renderProfile.mapViewMode;
+		this.mapFile = renderProfile.mapFile;
+		this.textScale = renderProfile.textScale;
+		this.drawTileFrames = renderProfile.drawTileFrames;
+		this.drawTileCoordinates = renderProfile.drawTileCoordinates;
+		this.highlightWater = renderProfile.highlightWater;
+		this.tileContent = renderProfile.tileContent;
+		calculateTransientValues(renderProfile.id);
 	}
 
 	@Override
@@ -112,59 +153,31 @@ class MapGeneratorJob implements Comparable<MapGeneratorJob>, Serializable {
 		} else if (!(obj instanceof MapGeneratorJob)) {
 			return false;
 		}
-		MapGeneratorJob other = (MapGeneratorJob) obj;
-		if (!this.tile.equals(other.tile)) {
-			return false;
-		} else if (this.mapViewMode != other.mapViewMode) {
-			return false;
-		} else if (this.mapFile == null && other.mapFile != null) {
-			return false;
-		} else if (this.mapFile != null && !this.mapFile.equals(other.mapFile)) {
-			return false;
-		} else if (this.textScale != other.textScale) {
-			return false;
-		} else if (this.drawTileFrames != other.drawTileFrames) {
-			return false;
-		} else if (this.drawTileCoordinates != other.drawTileCoordinates) {
-			return false;
-		} else if (this.highlightWater != other.highlightWater) {
-			return false;
-		}
-		return true;
+		// equal keys imply equal tiles and equal rendering parameters
+		return this.key == ((MapGeneratorJob) obj).key;
 	}
 
 	@Override
 	public int hashCode() {
-		return this.hashCode;
-	}
-
-	/**
-	 * Calculates the hash value of this object.
-	 * 
-	 * @return the hash value of this object.
-	 */
-	private int calculateHashCode() {
-		int result = 7;
-		result = 31 * result + ((this.tile == null) ? 0 : this.tile.hashCode());
-		result = 31 * result + ((this.mapViewMode == null) ? 0 : this.mapViewMode.hashCode());
-		result = 31 * result + ((this.mapFile == null) ? 0 : this.mapFile.hashCode());
-		result = 31 * result + Float.floatToIntBits(this.textScale);
-		result = 31 * result + (this.drawTileFrames ? 1231 : 1237);
-		result = 31 * result + (this.drawTileCoordinates ? 1231 : 1237);
-		result = 31 * result + (this.highlightWater ? 1231 : 1237);
-		return result;
+		return LongHashMap.hash(this.key);
 	}
 
 	/**
 	 * Calculates the values of some transient variables.
+	 * 
+	 * @param renderProfileId
+	 *            the id of the render profile of this job.
 	 */
-	private void calculateTransientValues() {
-		this.hashCode = calculateHashCode();
+	private void calculateTransientValues(int renderProfileId) {
+		this.key = TileKey.pack(this.tile.x, this.tile.y, this.tile.zoomLevel, renderProfileId);
+		this.queueIndex = -1;
 	}
 
 	private void readObject(ObjectInputStream objectInputStream) throws IOException,
 			ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		calculateTransientValues();
+		calculateTransientValues(RenderProfile.get(this.mapViewMode, this.mapFile,
+				this.textScale, this.drawTileFrames, this.drawTileCoordinates,
+				this.highlightWater, this.tileContent).id);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A container for all map objects of one job, after they have been read from the database and
+ * projected onto the tile. The {@link DatabaseMapGenerator} fills one buffer while the map objects of
+ * another buffer are being drawn.
+ */
+class MapObjectBuffer {
+	/**
+	 * Labels of the areas.
+	 */
+	final List<PointTextContainer> areaLabels;
+
+	/**
+	 * Flag if all map objects of the job have been decoded.
+	 */
+	boolean decoded;
+
+	/**
+	 * Number of decoded way points before the simplification, only counted for the debug log.
+	 */
+	int decodedWayPoints;
+
+	/**
+	 * Drawing commands and coordinates of the ways.
+	 */
+	final DisplayList displayList;
+
+	/**
+	 * Job whose map objects are stored in this buffer.
+	 */
+	MapGeneratorJob job;
+
+	/**
+	 * Number of tiles per side which are rendered at once.
+	 */
+	int metatileSize;
+
+	/**
+	 * Number of tiles per side of the metatiles which was requested when the job was decoded.
+	 */
+	int requestedMetatileSize;
+
+	/**
+	 * Labels of the nodes.
+	 */
+	List<PointTextContainer> nodes;
+
+	/**
+	 * Symbols of the nodes.
+	 */
+	final List<SymbolContainer> pointSymbols;
+
+	/**
+	 * Number of way points after the simplification, only counted for the debug log.
+	 */
+	int projectedWayPoints;
+
+	/**
+	 * Upper left tile of the rendered area, all coordinates are relative to this tile.
+	 */
+	Tile tile;
+
+	/**
+	 * Names of the ways.
+	 */
+	final List<WayTextContainer> wayNames;
+
+	/**
+	 * Symbols of the ways.
+	 */
+	final List<SymbolContainer> waySymbols;
+
+	/**
+	 * Constructs a new empty buffer.
+	 * 
+	 * @param layers
+	 *            the number of layers.
+	 * @param levelsPerLayer
+	 *            the amount of levels per layer.
+	 * @param paintTable
+	 *            the table which assigns the paint ids of the drawing commands.
+	 */
+	MapObjectBuffer(byte layers, byte levelsPerLayer, PaintTable paintTable) {
+		this.displayList = new DisplayList(layers, levelsPerLayer, paintTable);
+		this.wayNames = new ArrayList<WayTextContainer>(64);
+		this.nodes = new ArrayList<PointTextContainer>(64);
+		this.areaLabels = new ArrayList<PointTextContainer>(64);
+		this.waySymbols = new ArrayList<SymbolContainer>(64);
+		this.pointSymbols = new ArrayList<SymbolContainer>(64);
+	}
+
+	/**
+	 * Removes all map objects from the buffer.
+	 */
+	void clear() {
+		this.displayList.clear();
+		this.wayNames.clear();
+		this.nodes.clear();
+		this.areaLabels.clear();
+		this.waySymbols.clear();
+		this.pointSymbols.clear();
+		this.decoded = false;
+		this.decodedWayPoints = 0;
+		this.projectedWayPoints = 0;
+		this.job = null;
+		this.tile = null;
+	}
+}
@@ -14,6 +14,7 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -21,7 +22,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Bitmap;
@@ -29,6 +29,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.Paint;
+import android.graphics.Rect;
 import android.graphics.Typeface;
 import android.graphics.Bitmap.CompressFormat;
 import android.os.Build;
@@ -63,7 +64,7 @@ import android.widget.ZoomControls;
  * about the map file, use the {@link #getMapDatabase()} method.
  * <p>
  * Map tiles are automatically cached in a separate directory on the memory card. The size of this cache
- * may be adjusted via the {@link #setMemoryCardCacheSize(int)} method. The
+ * in bytes may be adjusted via the {@link #setMemoryCardCacheSize(int)} method. The
  * {@link MapView#setMemoryCardCachePersistence(boolean)} method sets the cache persistence.
  * <p>
  * {@link Overlay Overlays} can be used to display geographical data such as points and ways. To draw an
@@ -278,6 +279,9 @@ public class MapView extends ViewGroup {
 			this.scaleFactorApplied *= this.scaleFactor;
 			this.mapView.matrixPostScale(this.scaleFactor, this.scaleFactor, this.focusX, this.focusY);
 			this.mapView.invalidateOnUiThread();
+
+			// prepare the tiles of the zoom level which the gesture would select
+			this.mapView.setPendingZoomLevelDiff(getZoomLevelDiff());
 			return true;
 		}
 
@@ -295,8 +299,17 @@ public class MapView extends ViewGroup {
 		@Override
 		public void onScaleEnd(ScaleGestureDetector detector) {
 			// change the zoom level according to the scale gesture
-			this.mapView.zoom((byte) Math.round(Math.log(this.scaleFactorApplied) / Math.log(2)),
-					this.scaleFactorApplied);
+			this.mapView.setPendingZoomLevelDiff((byte) 0);
+			this.mapView.zoom(getZoomLevelDiff(), this.scaleFactorApplied);
+		}
+
+		/**
+		 * Calculates the zoom level change which corresponds to the applied scale factor.
+		 * 
+		 * @return the zoom level change.
+		 */
+		private byte getZoomLevelDiff() {
+			return (byte) Math.round(Math.log(this.scaleFactorApplied) / Math.log(2));
 		}
 	}
 
@@ -677,9 +690,15 @@ public class MapView extends ViewGroup {
 	private static final float DEFAULT_TEXT_SCALE = 1;
 
 	/**
-	 * Default capacity of the memory card cache.
+	 * Default number of threads which render map tiles in parallel.
 	 */
-	private static final int DEFAULT_TILE_MEMORY_CARD_CACHE_SIZE = 100;
+	private static final int DEFAULT_RENDER_THREADS = Math.min(Runtime.getRuntime()
+			.availableProcessors(), 4);
+
+	/**
+	 * Default capacity of the memory card cache in bytes, the space of 100 uncompressed tiles.
+	 */
+	private static final int DEFAULT_TILE_MEMORY_CARD_CACHE_SIZE = 100 * Tile.TILE_SIZE_IN_BYTES;
 
 	/**
 	 * Default minimum zoom level.
@@ -701,6 +720,12 @@ public class MapView extends ViewGroup {
 	 */
 	private static final int MAP_VIEW_BACKGROUND = Color.rgb(238, 238, 238);
 
+	/**
+	 * Maximum number of placeholder images which are read from the memory card cache per call of
+	 * {@link #handleTiles()}.
+	 */
+	private static final int MAXIMUM_PLACEHOLDER_LOADS = 4;
+
 	/**
 	 * Message code for the handler to hide the zoom controls.
 	 */
@@ -718,9 +743,20 @@ public class MapView extends ViewGroup {
 	private static final int SCALE_BAR_WIDTH = 130;
 
 	/**
-	 * Capacity of the RAM cache.
+	 * Number of tiles around the visible and the predicted area which are prepared in advance. Jobs
+	 * for tiles outside of this margin are cancelled.
+	 */
+	private static final int TILE_PREFETCH_MARGIN = 1;
+
+	/**
+	 * Divisor of the maximum heap size which limits the capacity of the RAM cache.
 	 */
-	private static final int TILE_RAM_CACHE_SIZE = 16;
+	private static final int TILE_RAM_CACHE_MEMORY_DIVISOR = 8;
+
+	/**
+	 * Number of times the tiles needed to fill the MapView fit into the RAM cache.
+	 */
+	private static final int TILE_RAM_CACHE_SCREENS = 4;
 
 	/**
 	 * Constant move speed factor for trackball events.
@@ -738,6 +774,12 @@ public class MapView extends ViewGroup {
 	 */
 	private static final byte ZOOM_LEVEL_MIN = 0;
 
+	/**
+	 * Priority offset of a job per zoom level between the job and the current zoom level. It is
+	 * larger than the priority of any job at the current zoom level.
+	 */
+	private static final int ZOOM_LEVEL_PRIORITY = 1 << 24;
+
 	/**
 	 * Maximum possible latitude value of the map.
 	 */
@@ -793,22 +835,35 @@ public class MapView extends ViewGroup {
 	}
 
 	private boolean attachedToWindow;
-	private MapGeneratorJob currentJob;
-	private Tile currentTile;
+	private boolean crossZoomPrefetch;
 	private long currentTime;
+	private TileRAMCache draftCache;
+	private boolean draftRendering;
+	private Rect drawClipRect;
+	private double drawnPixelX;
+	private double drawnPixelY;
+	private int drawnRenderProfileId;
+	private byte drawnZoomLevel;
 	private boolean drawTileCoordinates;
 	private boolean drawTileFrames;
 	private int fps;
 	private Paint fpsPaint;
 	private int frameCounter;
 	private boolean highlightWaterTiles;
+	private volatile int jobPrioritiesVersion;
+	private JobQueue jobQueue;
+	private LabelLayer labelLayer;
+	private RenderProfile labelRenderProfile;
 	private double latitude;
 	private double longitude;
 	private final Activity activity;
 	private MapController mapController;
 	private MapDatabase mapDatabase;
+	private MapDatabase[] mapDatabases;
 	private String mapFile;
+	private boolean mapFileMemoryMapped;
 	private MapGenerator mapGenerator;
+	private MapGenerator[] mapGenerators;
 	private MapMover mapMover;
 	private float mapMoveX;
 	private float mapMoveY;
@@ -816,9 +871,6 @@ public class MapView extends ViewGroup {
 	private Canvas mapScaleCanvas;
 	private double mapScalePreviousLatitude;
 	private byte mapScalePreviousZoomLevel;
-	private Bitmap mapViewBitmap1;
-	private Bitmap mapViewBitmap2;
-	private Canvas mapViewCanvas;
 	private MapViewMode mapViewMode;
 	private double mapViewPixelX;
 	private double mapViewPixelY;
@@ -830,11 +882,35 @@ public class MapView extends ViewGroup {
 	private float matrixScaleFactor;
 	private float matrixTranslateX;
 	private float matrixTranslateY;
+	private float[] matrixValues;
+	private volatile int metatileSize;
 	private float moveSpeedFactor;
 	private int numberOfTiles;
+	private long pendingTileX1;
+	private long pendingTileX2;
+	private long pendingTileY1;
+	private long pendingTileY2;
+	private byte pendingZoomLevel;
+	private byte pendingZoomLevelDiff;
 	private boolean persistence;
+	private boolean pipelinedRendering;
+	private TileRAMCache placeholderCache;
+	private int placeholderLoads;
+	private Paint placeholderPaint;
+	private Rect placeholderSourceRect;
+	private Rect placeholderTargetRect;
+	private long predictedTileX;
+	private long predictedTileY;
+	private PrefetchPlanner prefetchPlanner;
+	private long prefetchTileX1;
+	private long prefetchTileX2;
+	private long prefetchTileY1;
+	private long prefetchTileY2;
 	private long previousTime;
 	private Projection projection;
+	private RenderProfile renderProfile;
+	private int renderThreads;
+	private boolean separateLabels;
 	private boolean showFpsCounter;
 	private boolean showScaleBar;
 	private boolean showZoomControls;
@@ -844,6 +920,7 @@ public class MapView extends ViewGroup {
 	private Bitmap tileBitmap;
 	private ByteBuffer tileBuffer;
 	private TileMemoryCardCache tileMemoryCardCache;
+	private String tileMemoryCardCacheDirectory;
 	private int tileMemoryCardCacheSize;
 	private TileRAMCache tileRAMCache;
 	private long tileX;
@@ -995,6 +1072,15 @@ public class MapView extends ViewGroup {
 		return this.mapGenerator.getMaxZoomLevel();
 	}
 
+	/**
+	 * Returns the number of tiles per side which are rendered at once.
+	 * 
+	 * @return the metatile size.
+	 */
+	public int getMetatileSize() {
+		return this.metatileSize;
+	}
+
 	/**
 	 * Returns the move speed of the map, used for trackball and keyboard events.
 	 * 
@@ -1014,6 +1100,16 @@ public class MapView extends ViewGroup {
 		return this.overlays;
 	}
 
+	/**
+	 * Returns the prefetch counters of this MapView. A tile counts as a prefetch hit if it was
+	 * prepared in advance and found in one of the caches when it became visible.
+	 * 
+	 * @return a snapshot of the current prefetch counters.
+	 */
+	public synchronized PrefetchStatistics getPrefetchStatistics() {
+		return this.prefetchPlanner.getStatistics();
+	}
+
 	/**
 	 * Returns the projection that is currently in use to convert pixel coordinates to geographical
 	 * coordinates on the map.
@@ -1024,6 +1120,15 @@ public class MapView extends ViewGroup {
 		return this.projection;
 	}
 
+	/**
+	 * Returns the number of threads which render map tiles in parallel.
+	 * 
+	 * @return the number of render threads.
+	 */
+	public int getRenderThreads() {
+		return this.renderThreads;
+	}
+
 	/**
 	 * Returns the current zoom level of the map.
 	 * 
@@ -1047,9 +1152,19 @@ public class MapView extends ViewGroup {
 		return this.mapFile != null;
 	}
 
+	/**
+	 * Checks if the render threads decode and draw their jobs in a pipeline.
+	 * 
+	 * @return true if pipelined rendering is enabled, false otherwise.
+	 */
+	public boolean isPipelinedRendering() {
+		return this.pipelinedRendering;
+	}
+
 	/**
 	 * Makes a screenshot of the currently visible map and saves it as compressed image. Zoom buttons,
-	 * scale bar, overlays, menus and the title bar are not included in the screenshot.
+	 * scale bar, overlays, menus and the title bar are not included in the screenshot. The map is
+	 * composited from the cached tiles into a temporary bitmap.
 	 * 
 	 * @param fileName
 	 *            the name of the image file. If the file exists, it will be overwritten.
@@ -1063,12 +1178,13 @@ public class MapView extends ViewGroup {
 	 */
 	public boolean makeScreenshot(CompressFormat format, int quality, String fileName)
 			throws IOException {
+		Bitmap screenshotBitmap = Bitmap.createBitmap(getWidth(), getHeight(),
+				Bitmap.Config.RGB_565);
+		drawMap(new Canvas(screenshotBitmap));
 		FileOutputStream outputStream = new FileOutputStream(fileName);
-		boolean success;
-		synchronized (this.matrix) {
-			success = this.mapViewBitmap1.compress(format, quality, outputStream);
-		}
+		boolean success = screenshotBitmap.compress(format, quality, outputStream);
 		outputStream.close();
+		screenshotBitmap.recycle();
 		return success;
 	}
 
@@ -1107,6 +1223,18 @@ public class MapView extends ViewGroup {
 		}
 		return false;
 	}
+
+	/**
+	 * Reduces the memory usage of the MapView. Should be called when the system is running low on
+	 * memory. The RAM cache is shrunk to the tiles needed to fill the MapView once, until the
+	 * dimensions of the MapView change.
+	 */
+	public void onLowMemory() {
+		if (this.tileRAMCache != null) {
+			this.tileRAMCache.setCapacity(Math.min(this.tileRAMCache.getCapacity(),
+					this.numberOfTiles * Tile.TILE_SIZE_IN_BYTES));
+		}
+	}
 	
 	@Override
 	public boolean onTouchEvent(MotionEvent event) {
@@ -1150,6 +1278,15 @@ public class MapView extends ViewGroup {
 		return false;
 	}
 
+	/**
+	 * Resets the prefetch counters of this MapView.
+	 * 
+	 * @see #getPrefetchStatistics()
+	 */
+	public synchronized void resetPrefetchStatistics() {
+		this.prefetchPlanner.resetStatistics();
+	}
+
 	/**
 	 * Sets the visibility of the zoom controls.
 	 * 
@@ -1160,6 +1297,37 @@ public class MapView extends ViewGroup {
 		this.showZoomControls = showZoomControls;
 	}
 
+	/**
+	 * Enables the prefetching of the next higher and lower zoom level. While the MapGenerator threads
+	 * are idle, the tiles around the center of the map are prepared at both adjacent zoom levels, so
+	 * that they are available immediately after a zoom level change. These jobs have a lower priority
+	 * than all jobs at the current zoom level. Disabled by default.
+	 * 
+	 * @param crossZoomPrefetch
+	 *            true if the adjacent zoom levels should be prefetched, false otherwise.
+	 */
+	public void setCrossZoomPrefetch(boolean crossZoomPrefetch) {
+		synchronized (this) {
+			this.crossZoomPrefetch = crossZoomPrefetch;
+		}
+		handleTiles();
+	}
+
+	/**
+	 * Enables the draft rendering. A visible tile which is not cached is rendered twice: a draft with
+	 * only the areas and the major ways, without anti-aliasing and labels, is displayed as fast as
+	 * possible, and the full quality image follows after the drafts of all other visible tiles. Only
+	 * the full quality images are cached. Disabled by default, has no effect in downloading mode.
+	 * 
+	 * @param draftRendering
+	 *            true if visible tiles should be rendered as a draft first, false otherwise.
+	 */
+	public void setDraftRendering(boolean draftRendering) {
+		synchronized (this) {
+			this.draftRendering = draftRendering;
+		}
+	}
+
 	/**
 	 * Sets the visibility of the frame rate.
 	 * <p>
@@ -1197,23 +1365,26 @@ public class MapView extends ViewGroup {
 		}
 
 		this.mapMover.pause();
-		this.mapGenerator.pause();
+		this.jobQueue.pause();
 
 		waitForZoomAnimator();
 		waitForMapMover();
 		waitForMapGenerator();
 
 		this.mapMover.stopMove();
-		this.mapGenerator.clearJobs();
+		this.jobQueue.clear();
+
+		// open the map file and switch to its cache while all threads are paused
+		boolean mapFileOpened = openMapFile(newMapFile);
+		if (mapFileOpened) {
+			this.mapFile = newMapFile;
+			setupTileMemoryCardCache();
+		}
 
 		this.mapMover.unpause();
-		this.mapGenerator.unpause();
+		this.jobQueue.unpause();
 
-		this.mapDatabase.closeFile();
-		if (this.mapDatabase.openFile(newMapFile)) {
-			this.mapDatabase.prepareExecution();
-			((DatabaseMapGenerator) this.mapGenerator).onMapFileChange();
-			this.mapFile = newMapFile;
+		if (mapFileOpened) {
 			clearMapView();
 			setCenter(getDefaultStartPoint());
 			handleTiles();
@@ -1224,6 +1395,38 @@ public class MapView extends ViewGroup {
 		}
 	}
 
+	/**
+	 * Sets the read mode for map files. If enabled, map files are mapped into memory and map blocks are
+	 * parsed without copying them into a read buffer first. If the map file cannot be mapped, it is read
+	 * normally. The default value is false.
+	 * 
+	 * @param memoryMapped
+	 *            true if map files should be mapped into memory, false otherwise.
+	 */
+	public void setMapFileMemoryMapped(boolean memoryMapped) {
+		if (this.mapFileMemoryMapped == memoryMapped) {
+			return;
+		}
+		this.mapFileMemoryMapped = memoryMapped;
+
+		this.jobQueue.pause();
+		waitForMapGenerator();
+
+		for (MapDatabase database : this.mapDatabases) {
+			database.setMemoryMapped(memoryMapped);
+		}
+
+		// reopen the current map file with the new read mode
+		if (this.mapFile != null && !this.mapViewMode.requiresInternetConnection()
+				&& !openMapFile(this.mapFile)) {
+			this.mapFile = null;
+			clearMapView();
+		}
+
+		this.jobQueue.unpause();
+		handleTiles();
+	}
+
 	/**
 	 * Sets a new operation mode for the MapView.
 	 * 
@@ -1235,6 +1438,7 @@ public class MapView extends ViewGroup {
 		if (this.mapViewMode != newMapViewMode) {
 			stopMapGeneratorThread();
 			this.mapViewMode = newMapViewMode;
+			setupTileMemoryCardCache();
 			startMapGeneratorThread();
 			clearMapView();
 			handleTiles();
@@ -1253,11 +1457,13 @@ public class MapView extends ViewGroup {
 	}
 
 	/**
-	 * Sets the new size of the memory card cache. If the cache already contains more items than the new
-	 * capacity allows, items are discarded based on the cache policy.
+	 * Sets the new size of the memory card cache in bytes. The size limits the space of the encoded
+	 * tiles, a compressed tile needs only a fraction of the 128 KB of an uncompressed tile. If the
+	 * cache already uses more space than the new capacity allows, items are discarded based on the
+	 * cache policy.
 	 * 
 	 * @param newCacheSize
-	 *            the new capacity of the memory card cache.
+	 *            the new capacity of the memory card cache in bytes.
 	 * @throws IllegalArgumentException
 	 *             if the new capacity is negative.
 	 */
@@ -1269,6 +1475,31 @@ public class MapView extends ViewGroup {
 		this.tileMemoryCardCache.setCapacity(this.tileMemoryCardCacheSize);
 	}
 
+	/**
+	 * Sets the number of tiles per side which are rendered at once. A block of 2x2 or 4x4 tiles is
+	 * read from the map file, rendered and labelled as one large image, which is then cut into single
+	 * tiles for the caches. This saves the overhead of rendering each tile on its own and avoids label
+	 * seams inside the block, but a render thread needs more memory and takes longer until the first
+	 * tile of a block is available. Has no effect in downloading mode.
+	 * 
+	 * @param metatileSize
+	 *            the number of tiles per side, either 1, 2 or 4. A value of 1 renders every tile on
+	 *            its own.
+	 * @throws IllegalArgumentException
+	 *             if the metatile size is not 1, 2 or 4.
+	 */
+	public void setMetatileSize(int metatileSize) {
+		if (metatileSize != 1 && metatileSize != 2 && metatileSize != 4) {
+			throw new IllegalArgumentException();
+		}
+		this.metatileSize = metatileSize;
+		if (this.mapViewMode == MapViewMode.CANVAS_RENDERER) {
+			for (MapGenerator renderer : this.mapGenerators) {
+				((DatabaseMapGenerator) renderer).setMetatileSize(metatileSize);
+			}
+		}
+	}
+
 	/**
 	 * Sets the move speed of the map, used for trackball and keyboard events.
 	 * 
@@ -1284,6 +1515,51 @@ public class MapView extends ViewGroup {
 		this.moveSpeedFactor = moveSpeedFactor;
 	}
 
+	/**
+	 * Enables the pipelined rendering. Each render thread gets a second thread which reads and
+	 * projects the map objects of the next tile while the map objects of the current tile are drawn,
+	 * so that the time spent reading the map file overlaps with the time spent drawing. This needs
+	 * more memory for the map objects of the second tile. Disabled by default, has no effect in
+	 * downloading mode.
+	 * 
+	 * @param pipelinedRendering
+	 *            true if the render threads should decode the next tile in advance, false otherwise.
+	 */
+	public void setPipelinedRendering(boolean pipelinedRendering) {
+		if (this.pipelinedRendering != pipelinedRendering) {
+			this.pipelinedRendering = pipelinedRendering;
+			if (!this.mapViewMode.requiresInternetConnection()) {
+				stopMapGeneratorThread();
+				startMapGeneratorThread();
+				handleTiles();
+			}
+		}
+	}
+
+	/**
+	 * Sets the number of threads which render map tiles in parallel. Each thread reads the map file
+	 * with its own {@link MapDatabase} and needs its own tile bitmap. Has no effect in downloading
+	 * mode.
+	 * 
+	 * @param renderThreads
+	 *            the new number of render threads.
+	 * @throws IllegalArgumentException
+	 *             if the new number of render threads is smaller than one.
+	 */
+	public void setRenderThreads(int renderThreads) {
+		if (renderThreads < 1) {
+			throw new IllegalArgumentException();
+		}
+		if (this.renderThreads != renderThreads) {
+			this.renderThreads = renderThreads;
+			if (!this.mapViewMode.requiresInternetConnection()) {
+				stopMapGeneratorThread();
+				startMapGeneratorThread();
+				handleTiles();
+			}
+		}
+	}
+
 	/**
 	 * Sets the visibility of the scale bar.
 	 * 
@@ -1298,6 +1574,25 @@ public class MapView extends ViewGroup {
 		invalidateOnUiThread();
 	}
 
+	/**
+	 * Enables the separate rendering of labels. The rendered map images contain only the areas, the
+	 * ways and their symbols, so that they do not depend on the text scale and stay cached when it
+	 * changes. The labels and symbols of the points of interest are rendered for each visible tile
+	 * without an image and drawn on top of the map. Overlapping labels are removed for all visible
+	 * tiles at once instead of per tile. Disabled by default, has no effect in downloading mode.
+	 * 
+	 * @param separateLabels
+	 *            true if the labels should be drawn separately from the map images, false otherwise.
+	 */
+	public void setSeparateLabels(boolean separateLabels) {
+		if (this.separateLabels != separateLabels) {
+			this.separateLabels = separateLabels;
+			this.jobQueue.clear();
+			clearMapView();
+			handleTiles();
+		}
+	}
+
 	/**
 	 * Overrides the specified text field with the given string.
 	 * 
@@ -1325,8 +1620,11 @@ public class MapView extends ViewGroup {
 	 */
 	public void setTextScale(float textScale) {
 		this.textScale = textScale;
-		this.mapGenerator.clearJobs();
-		clearMapView();
+		if (!hasLabelLayer()) {
+			// the text is part of the map images
+			this.jobQueue.clear();
+			clearMapView();
+		}
 		handleTiles();
 	}
 
@@ -1340,7 +1638,7 @@ public class MapView extends ViewGroup {
 	 */
 	public void setTileCoordinates(boolean drawTileCoordinates) {
 		this.drawTileCoordinates = drawTileCoordinates;
-		this.mapGenerator.clearJobs();
+		this.jobQueue.clear();
 		clearMapView();
 		handleTiles();
 	}
@@ -1355,7 +1653,7 @@ public class MapView extends ViewGroup {
 	 */
 	public void setTileFrames(boolean drawTileFrames) {
 		this.drawTileFrames = drawTileFrames;
-		this.mapGenerator.clearJobs();
+		this.jobQueue.clear();
 		clearMapView();
 		handleTiles();
 	}
@@ -1370,7 +1668,7 @@ public class MapView extends ViewGroup {
 	 */
 	public void setWaterTiles(boolean highlightWaterTiles) {
 		this.highlightWaterTiles = highlightWaterTiles;
-		this.mapGenerator.clearJobs();
+		this.jobQueue.clear();
 		clearMapView();
 		handleTiles();
 	}
@@ -1409,16 +1707,257 @@ public class MapView extends ViewGroup {
 		this.zoomLevelMin = (byte) Math.max(zoomLevelMin, ZOOM_LEVEL_MIN);
 	}
 
+	/**
+	 * Adds a job for the labels of the given visible tile to the job queue, unless the labels are
+	 * already available or a job for them is already queued.
+	 * 
+	 * @param x
+	 *            the X number of the tile.
+	 * @param y
+	 *            the Y number of the tile.
+	 * @param currentLabelRenderProfile
+	 *            the render profile for the labels.
+	 */
+	private void addLabelJob(long x, long y, RenderProfile currentLabelRenderProfile) {
+		long key = TileKey.pack(x, y, this.zoomLevel, currentLabelRenderProfile.id);
+		if (!this.labelLayer.containsKey(key) && !this.jobQueue.containsJob(key)) {
+			this.jobQueue.addJob(new MapGeneratorJob(new Tile(x, y, this.zoomLevel),
+					currentLabelRenderProfile));
+		}
+	}
+
+	/**
+	 * Adds a prefetch job for the given tile to the job queue, unless the tile is already in one of
+	 * the caches or a job for it is already queued. The job is only created if it is needed.
+	 * 
+	 * @param x
+	 *            the X number of the tile.
+	 * @param y
+	 *            the Y number of the tile.
+	 * @param zoom
+	 *            the zoom level of the tile.
+	 * @param currentRenderProfile
+	 *            the render profile for the current rendering settings.
+	 * @return true if a job has been added, false otherwise.
+	 */
+	private boolean addPrefetchJob(long x, long y, byte zoom, RenderProfile currentRenderProfile) {
+		long key = TileKey.pack(x, y, zoom, currentRenderProfile.id);
+		if (this.tileRAMCache.containsKey(key) || this.tileMemoryCardCache.containsKey(key)
+				|| this.jobQueue.containsJob(key)) {
+			return false;
+		}
+		// cache miss
+		this.jobQueue.addJob(new MapGeneratorJob(new Tile(x, y, zoom), currentRenderProfile));
+		this.prefetchPlanner.onPrefetch(key);
+		return true;
+	}
+
+	/**
+	 * Aligns the composited tiles to the current position, zoom level and render profile and resets
+	 * the matrix of the MapView. Nothing is changed during a zoom animation and while the matrix is
+	 * scaled by a pinch gesture at the current zoom level, so that the transformed tiles stay in place.
+	 * 
+	 * @param renderProfileId
+	 *            the id of the current render profile.
+	 */
+	private synchronized void alignDrawnTiles(int renderProfileId) {
+		if (this.zoomAnimator.isExecuting()) {
+			// do not disturb the ongoing animation
+			return;
+		}
+
+		synchronized (this.matrix) {
+			this.matrix.getValues(this.matrixValues);
+			if (this.matrixValues[Matrix.MSCALE_X] != 1 && this.drawnZoomLevel == this.zoomLevel
+					&& this.drawnRenderProfileId == renderProfileId) {
+				// the scale gesture has not been finished yet
+				return;
+			}
+			this.matrix.reset();
+			this.drawnPixelX = this.mapViewPixelX;
+			this.drawnPixelY = this.mapViewPixelY;
+			this.drawnZoomLevel = this.zoomLevel;
+			this.drawnRenderProfileId = renderProfileId;
+		}
+	}
+
 	private synchronized void clearMapView() {
-		// clear the MapView bitmaps
-		if (this.mapViewBitmap1 != null) {
-			this.mapViewBitmap1.eraseColor(MAP_VIEW_BACKGROUND);
+		// no tiles are composited until they are aligned again
+		synchronized (this.matrix) {
+			this.drawnRenderProfileId = -1;
+		}
+	}
+
+	/**
+	 * Calculates the capacity of the RAM cache. The cache holds the tiles needed to fill the MapView
+	 * several times, but never more than a fraction of the maximum heap size. If the dimensions of the
+	 * MapView are not yet known, only the heap size is taken into account.
+	 * 
+	 * @return the capacity of the RAM cache in bytes.
+	 */
+	private int calculateTileRAMCacheSize() {
+		int memoryLimit = (int) Math.min(Runtime.getRuntime().maxMemory()
+				/ TILE_RAM_CACHE_MEMORY_DIVISOR, Integer.MAX_VALUE);
+		if (this.numberOfTiles == 0) {
+			return memoryLimit;
+		}
+		return Math.min(memoryLimit, this.numberOfTiles * TILE_RAM_CACHE_SCREENS
+				* Tile.TILE_SIZE_IN_BYTES);
+	}
+
+	/**
+	 * Composites the visible tiles from the RAM cache on the given canvas. Each tile is drawn at its
+	 * offset to the aligned position, the matrix of the MapView transforms this position to the
+	 * screen. Only tiles which intersect the clip of the canvas are drawn. A missing tile is replaced
+	 * by its draft or by a scaled image of an adjacent zoom level. Both tile caches are pinned while
+	 * their bitmaps are drawn, so that no cached bitmap is overwritten or recycled during the frame.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the map should be drawn.
+	 */
+	private void drawMap(Canvas canvas) {
+		canvas.drawColor(MAP_VIEW_BACKGROUND);
+		synchronized (this.matrix) {
+			if (this.drawnRenderProfileId < 0) {
+				// no tiles have been aligned yet
+				return;
+			}
+
+			canvas.save();
+			canvas.concat(this.matrix);
+			this.tileRAMCache.pin();
+			this.draftCache.pin();
+			this.placeholderCache.pin();
+			try {
+				drawTiles(canvas);
+			} finally {
+				this.placeholderCache.unpin();
+				this.draftCache.unpin();
+				this.tileRAMCache.unpin();
+			}
+
+			if (hasLabelLayer()) {
+				// draw the labels at the position of the composited tiles
+				this.labelLayer.draw(canvas, this.drawnPixelX, this.drawnPixelY,
+						this.drawnZoomLevel);
+			}
+			canvas.restore();
 		}
-		if (this.mapViewBitmap2 != null) {
-			this.mapViewBitmap2.eraseColor(MAP_VIEW_BACKGROUND);
+	}
+
+	/**
+	 * Draws a scaled image of a cached tile at an adjacent zoom level as a placeholder for a tile which
+	 * has not been generated yet. The matching quadrant of the parent tile is preferred, otherwise all
+	 * cached child tiles are drawn. The caller must hold the lock on the matrix.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the placeholder should be drawn.
+	 * @param x
+	 *            the X number of the missing tile at the aligned zoom level.
+	 * @param y
+	 *            the Y number of the missing tile at the aligned zoom level.
+	 */
+	private void drawPlaceholder(Canvas canvas, long x, long y) {
+		double tileOffsetX = x * Tile.TILE_SIZE - this.drawnPixelX;
+		double tileOffsetY = y * Tile.TILE_SIZE - this.drawnPixelY;
+		int halfTileSize = Tile.TILE_SIZE >> 1;
+		Bitmap cachedBitmap;
+
+		if (this.drawnZoomLevel > 0) {
+			cachedBitmap = getPlaceholderBitmap(TileKey.pack(x >> 1, y >> 1,
+					(byte) (this.drawnZoomLevel - 1), this.drawnRenderProfileId));
+			if (cachedBitmap != null) {
+				// enlarge the quadrant of the parent tile which covers the tile
+				int left = (int) (x & 1) * halfTileSize;
+				int top = (int) (y & 1) * halfTileSize;
+				this.placeholderSourceRect.set(left, top, left + halfTileSize, top + halfTileSize);
+				this.placeholderTargetRect.set((int) tileOffsetX, (int) tileOffsetY,
+						(int) tileOffsetX + Tile.TILE_SIZE, (int) tileOffsetY + Tile.TILE_SIZE);
+				canvas.drawBitmap(cachedBitmap, this.placeholderSourceRect,
+						this.placeholderTargetRect, this.placeholderPaint);
+				return;
+			}
+		}
+
+		if (this.drawnZoomLevel >= getMaximumPossibleZoomLevel()) {
+			return;
+		}
+
+		// shrink each cached child tile into its quadrant of the tile
+		int childOffsetX;
+		int childOffsetY;
+		for (int i = 0; i < 4; ++i) {
+			cachedBitmap = getPlaceholderBitmap(TileKey.pack((x << 1) + (i & 1), (y << 1)
+					+ (i >> 1), (byte) (this.drawnZoomLevel + 1), this.drawnRenderProfileId));
+			if (cachedBitmap == null) {
+				continue;
+			}
+			childOffsetX = (int) tileOffsetX + (i & 1) * halfTileSize;
+			childOffsetY = (int) tileOffsetY + (i >> 1) * halfTileSize;
+			this.placeholderTargetRect.set(childOffsetX, childOffsetY, childOffsetX
+					+ halfTileSize, childOffsetY + halfTileSize);
+			canvas.drawBitmap(cachedBitmap, null, this.placeholderTargetRect,
+					this.placeholderPaint);
+		}
+	}
+
+	/**
+	 * Draws the tiles which intersect the clip of the canvas from the pinned tile caches. The caller
+	 * must hold the lock on the matrix.
+	 * 
+	 * @param canvas
+	 *            the canvas on which the tiles should be drawn.
+	 */
+	private void drawTiles(Canvas canvas) {
+		// find the tiles which intersect the area that needs to be redrawn
+		canvas.getClipBounds(this.drawClipRect);
+		long tileX1 = MercatorProjection.pixelXToTileX(this.drawnPixelX
+				+ this.drawClipRect.left, this.drawnZoomLevel);
+		long tileY1 = MercatorProjection.pixelYToTileY(this.drawnPixelY
+				+ this.drawClipRect.top, this.drawnZoomLevel);
+		long tileX2 = MercatorProjection.pixelXToTileX(this.drawnPixelX
+				+ this.drawClipRect.right, this.drawnZoomLevel);
+		long tileY2 = MercatorProjection.pixelYToTileY(this.drawnPixelY
+				+ this.drawClipRect.bottom, this.drawnZoomLevel);
+
+		long tileKey;
+		Bitmap cachedBitmap;
+		for (long y = tileY1; y <= tileY2; ++y) {
+			for (long x = tileX1; x <= tileX2; ++x) {
+				tileKey = TileKey.pack(x, y, this.drawnZoomLevel, this.drawnRenderProfileId);
+				cachedBitmap = this.tileRAMCache.get(tileKey);
+				if (cachedBitmap == null) {
+					cachedBitmap = this.draftCache.get(tileKey);
+				}
+				if (cachedBitmap != null) {
+					canvas.drawBitmap(cachedBitmap, (float) (x * Tile.TILE_SIZE
+							- this.drawnPixelX), (float) (y * Tile.TILE_SIZE - this.drawnPixelY),
+							null);
+				} else {
+					drawPlaceholder(canvas, x, y);
+				}
+			}
 		}
 	}
 
+	/**
+	 * Returns the render profile for the labels which are drawn separately from the map images. The
+	 * render profile is cached, so that no objects are created as long as the settings do not change.
+	 * 
+	 * @return the current render profile for labels or null, if the labels are part of the map images.
+	 */
+	private RenderProfile getLabelRenderProfile() {
+		if (!hasLabelLayer()) {
+			return null;
+		} else if (this.labelRenderProfile == null
+				|| !this.labelRenderProfile.matches(this.mapViewMode, this.mapFile, this.textScale,
+						false, false, false, TileContent.LABELS)) {
+			this.labelRenderProfile = RenderProfile.get(this.mapViewMode, this.mapFile,
+					this.textScale, false, false, false, TileContent.LABELS);
+		}
+		return this.labelRenderProfile;
+	}
+
 	/**
 	 * Returns the minimum of the maximum zoom level set via {@link #setZoomMax(byte)} and the maximum
 	 * zoom level which is supported by the currently selected {@link MapViewMode}.
@@ -1429,6 +1968,101 @@ public class MapView extends ViewGroup {
 		return (byte) Math.min(this.zoomLevelMax, this.mapGenerator.getMaxZoomLevel());
 	}
 
+	/**
+	 * Counts the MapGenerator threads which are currently waiting for jobs.
+	 * 
+	 * @return the number of idle MapGenerator threads.
+	 */
+	private int getNumberOfIdleMapGenerators() {
+		int idleMapGenerators = 0;
+		MapGenerator[] currentMapGenerators = this.mapGenerators;
+		if (currentMapGenerators == null) {
+			return idleMapGenerators;
+		}
+		for (MapGenerator mapGenerator : currentMapGenerators) {
+			if (mapGenerator != null && mapGenerator.isReady()) {
+				++idleMapGenerators;
+			}
+		}
+		return idleMapGenerators;
+	}
+
+	/**
+	 * Returns the image of a tile which can be drawn as a placeholder, either from the RAM cache or
+	 * from the placeholder cache. The caller must pin both caches.
+	 * 
+	 * @param tileKey
+	 *            the packed {@link TileKey} of the tile.
+	 * @return the image of the tile or null, if the tile is not cached.
+	 */
+	private Bitmap getPlaceholderBitmap(long tileKey) {
+		Bitmap cachedBitmap = this.tileRAMCache.get(tileKey);
+		if (cachedBitmap == null) {
+			cachedBitmap = this.placeholderCache.get(tileKey);
+		}
+		return cachedBitmap;
+	}
+
+	/**
+	 * Returns the render profile for the current rendering settings. The render profile is cached, so
+	 * that no objects are created as long as the settings do not change.
+	 * 
+	 * @return the current render profile.
+	 */
+	private RenderProfile getRenderProfile() {
+		TileContent tileContent = TileContent.ALL;
+		float tileTextScale = this.textScale;
+		if (hasLabelLayer()) {
+			// map images without labels do not depend on the text scale
+			tileContent = TileContent.BASE;
+			tileTextScale = DEFAULT_TEXT_SCALE;
+		}
+		if (this.renderProfile == null
+				|| !this.renderProfile.matches(this.mapViewMode, this.mapFile, tileTextScale,
+						this.drawTileFrames, this.drawTileCoordinates, this.highlightWaterTiles,
+						tileContent)) {
+			this.renderProfile = RenderProfile.get(this.mapViewMode, this.mapFile,
+					tileTextScale, this.drawTileFrames, this.drawTileCoordinates,
+					this.highlightWaterTiles, tileContent);
+		}
+		return this.renderProfile;
+	}
+
+	/**
+	 * Returns the directory of the memory card cache for the current map. Downloaded tiles are cached
+	 * per MapViewMode. Rendered tiles are cached per map file, which is identified by its path, its
+	 * date and its size, so that a modified map file gets a new directory.
+	 * 
+	 * @return the path of the cache directory.
+	 */
+	private String getTileMemoryCardCacheDirectory() {
+		StringBuilder directory = new StringBuilder(Environment.getExternalStorageDirectory()
+				.getAbsolutePath());
+		directory.append(EXTERNAL_STORAGE_DIRECTORY);
+		directory.append(getTileMemoryCardCachePrefix());
+		if (!this.mapViewMode.requiresInternetConnection() && this.mapFile != null) {
+			directory.append(this.mapDatabase.getMapDate());
+			directory.append('-');
+			directory.append(this.mapDatabase.getFileSize());
+		}
+		return directory.toString();
+	}
+
+	/**
+	 * Returns the part of the cache directory name which does not depend on the content of the current
+	 * map file. It consists of the MapViewMode and, if a map file is used, the name and a hash of the
+	 * path of the map file.
+	 * 
+	 * @return the prefix of the cache directory name.
+	 */
+	private String getTileMemoryCardCachePrefix() {
+		if (this.mapViewMode.requiresInternetConnection() || this.mapFile == null) {
+			return this.mapViewMode.name();
+		}
+		return this.mapViewMode.name() + '-' + new File(this.mapFile).getName() + '-'
+				+ Integer.toHexString(this.mapFile.hashCode()) + '-';
+	}
+
 	/**
 	 * Returns the given zoom level limited to the minimum and maximum possible zoom level.
 	 * 
@@ -1445,6 +2079,200 @@ public class MapView extends ViewGroup {
 		return zoom;
 	}
 
+	/**
+	 * Checks if the labels are drawn separately from the map images. Only rendered map images can be
+	 * separated from their labels.
+	 * 
+	 * @return true if the label layer is used, false otherwise.
+	 */
+	private boolean hasLabelLayer() {
+		return this.separateLabels && this.mapViewMode == MapViewMode.CANVAS_RENDERER;
+	}
+
+	/**
+	 * Checks if the given tile belongs to the current zoom level and intersects the MapView.
+	 * 
+	 * @param tile
+	 *            the tile.
+	 * @return true if the tile is visible, false otherwise.
+	 */
+	private synchronized boolean isTileVisible(Tile tile) {
+		return tile.zoomLevel == this.zoomLevel && tile.x >= this.mapViewTileX1
+				&& tile.x <= this.mapViewTileX2 && tile.y >= this.mapViewTileY1
+				&& tile.y <= this.mapViewTileY2;
+	}
+
+	/**
+	 * Makes sure that the image of the given tile is in the RAM cache, from which the visible tiles are
+	 * composited. An image from the memory card cache is copied to the RAM cache.
+	 * 
+	 * @param tileKey
+	 *            the packed {@link TileKey} of the tile.
+	 * @return true if the image is in the RAM cache, false if the tile is not cached.
+	 */
+	private boolean loadCachedTile(long tileKey) {
+		if (this.tileRAMCache.get(tileKey) != null) {
+			return true;
+		} else if (this.tileMemoryCardCache.get(tileKey, this.tileBuffer)) {
+			this.tileBitmap.copyPixelsFromBuffer(this.tileBuffer);
+			this.tileRAMCache.put(tileKey, this.tileBitmap);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Loads the cached images of an adjacent zoom level which replace a tile that has not been
+	 * generated yet. The parent tile is preferred, otherwise all cached child tiles are loaded. The
+	 * images are loaded into the placeholder cache, so that they do not evict the visible tiles.
+	 * 
+	 * @param x
+	 *            the X number of the missing tile.
+	 * @param y
+	 *            the Y number of the missing tile.
+	 * @param zoom
+	 *            the zoom level of the missing tile.
+	 * @param renderProfileId
+	 *            the id of the render profile of the missing tile.
+	 */
+	private void loadPlaceholder(long x, long y, byte zoom, int renderProfileId) {
+		if (zoom > 0 && loadPlaceholderTile(TileKey.pack(x >> 1, y >> 1, (byte) (zoom - 1),
+				renderProfileId))) {
+			return;
+		} else if (zoom >= getMaximumPossibleZoomLevel()) {
+			return;
+		}
+
+		for (int i = 0; i < 4; ++i) {
+			loadPlaceholderTile(TileKey.pack((x << 1) + (i & 1), (y << 1) + (i >> 1),
+					(byte) (zoom + 1), renderProfileId));
+		}
+	}
+
+	/**
+	 * Makes sure that the image of the given tile can be drawn as a placeholder. An image from the
+	 * memory card cache is copied to the placeholder cache, unless the limit of memory card reads
+	 * for the current call of {@link #handleTiles()} has been reached.
+	 * 
+	 * @param tileKey
+	 *            the packed {@link TileKey} of the tile.
+	 * @return true if the image is in the RAM cache or the placeholder cache, false otherwise.
+	 */
+	private boolean loadPlaceholderTile(long tileKey) {
+		if (this.tileRAMCache.containsKey(tileKey) || this.placeholderCache.containsKey(tileKey)) {
+			return true;
+		} else if (this.placeholderLoads >= MAXIMUM_PLACEHOLDER_LOADS
+				|| !this.tileMemoryCardCache.containsKey(tileKey)) {
+			return false;
+		}
+
+		++this.placeholderLoads;
+		if (this.tileMemoryCardCache.get(tileKey, this.tileBuffer)) {
+			this.tileBitmap.copyPixelsFromBuffer(this.tileBuffer);
+			this.placeholderCache.put(tileKey, this.tileBitmap);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Invalidates the area of the MapView which is covered by the given tile. The whole MapView is
+	 * invalidated while its matrix is not the identity matrix.
+	 * 
+	 * @param tile
+	 *            the tile.
+	 */
+	private void postInvalidateTile(Tile tile) {
+		int left;
+		int top;
+		synchronized (this.matrix) {
+			if (tile.zoomLevel != this.drawnZoomLevel || !this.matrix.isIdentity()) {
+				postInvalidate();
+				return;
+			}
+			left = (int) Math.floor(tile.pixelX - this.drawnPixelX);
+			top = (int) Math.floor(tile.pixelY - this.drawnPixelY);
+		}
+		postInvalidate(left, top, left + Tile.TILE_SIZE + 1, top + Tile.TILE_SIZE + 1);
+	}
+
+	/**
+	 * Adds prefetch jobs for the tiles which would be visible at the given zoom level, beginning with
+	 * the tiles closest to the center of the map.
+	 * 
+	 * @param zoom
+	 *            the zoom level of the tiles.
+	 * @param budget
+	 *            the maximum number of jobs which may be added.
+	 * @param currentRenderProfile
+	 *            the render profile for the current rendering settings.
+	 * @return the remaining number of jobs which may be added.
+	 */
+	private int prefetchZoomLevel(byte zoom, int budget, RenderProfile currentRenderProfile) {
+		double pixelX = MercatorProjection.longitudeToPixelX(this.longitude, zoom)
+				- (getWidth() >> 1);
+		double pixelY = MercatorProjection.latitudeToPixelY(this.latitude, zoom)
+				- (getHeight() >> 1);
+		long tileX1 = MercatorProjection.pixelXToTileX(pixelX, zoom);
+		long tileY1 = MercatorProjection.pixelYToTileY(pixelY, zoom);
+		long tileX2 = MercatorProjection.pixelXToTileX(pixelX + getWidth(), zoom);
+		long tileY2 = MercatorProjection.pixelYToTileY(pixelY + getHeight(), zoom);
+		return prefetchTiles(zoom, tileX1, tileY1, tileX2, tileY2, (tileX1 + tileX2) >> 1,
+				(tileY1 + tileY2) >> 1, budget, currentRenderProfile);
+	}
+
+	/**
+	 * Adds prefetch jobs for the tiles of the given area, beginning with the tiles closest to the
+	 * given center tile. The visible tiles of the current zoom level are skipped, they are handled by
+	 * {@link #handleTiles()}.
+	 * 
+	 * @param zoom
+	 *            the zoom level of the tiles.
+	 * @param tileX1
+	 *            the X number of the leftmost tile.
+	 * @param tileY1
+	 *            the Y number of the topmost tile.
+	 * @param tileX2
+	 *            the X number of the rightmost tile.
+	 * @param tileY2
+	 *            the Y number of the bottommost tile.
+	 * @param centerTileX
+	 *            the X number of the tile which should be prefetched first.
+	 * @param centerTileY
+	 *            the Y number of the tile which should be prefetched first.
+	 * @param budget
+	 *            the maximum number of jobs which may be added.
+	 * @param currentRenderProfile
+	 *            the render profile for the current rendering settings.
+	 * @return the remaining number of jobs which may be added.
+	 */
+	private int prefetchTiles(byte zoom, long tileX1, long tileY1, long tileX2, long tileY2,
+			long centerTileX, long centerTileY, int budget, RenderProfile currentRenderProfile) {
+		int remainingBudget = budget;
+		long maximumRadius = Math.max(Math.max(centerTileX - tileX1, tileX2 - centerTileX), Math
+				.max(centerTileY - tileY1, tileY2 - centerTileY));
+		for (long radius = 0; radius <= maximumRadius && remainingBudget > 0; ++radius) {
+			for (long y = centerTileY - radius; y <= centerTileY + radius; ++y) {
+				// only the border of each ring has to be visited
+				long step = (y == centerTileY - radius || y == centerTileY + radius) ? 1 : Math.max(
+						1, 2 * radius);
+				for (long x = centerTileX - radius; x <= centerTileX + radius; x += step) {
+					if (x < tileX1 || x > tileX2 || y < tileY1 || y > tileY2) {
+						continue;
+					} else if (zoom == this.zoomLevel && x >= this.mapViewTileX1
+							&& x <= this.mapViewTileX2 && y >= this.mapViewTileY1
+							&& y <= this.mapViewTileY2) {
+						continue;
+					} else if (addPrefetchJob(x, y, zoom, currentRenderProfile)
+							&& --remainingBudget == 0) {
+						return 0;
+					}
+				}
+			}
+		}
+		return remainingBudget;
+	}
+
 	/**
 	 * Displays the zoom controls for a short time.
 	 */
@@ -1580,6 +2408,7 @@ public class MapView extends ViewGroup {
 
 		// create the transformation matrix
 		this.matrix = new Matrix();
+		this.matrixValues = new float[9];
 
 		// create the thread-safe overlay list
 		this.overlays = Collections.synchronizedList(new ArrayList<Overlay>(4) {
@@ -1682,13 +2511,33 @@ public class MapView extends ViewGroup {
 				Bitmap.Config.RGB_565);
 		this.tileBuffer = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
 
+		// create the cache for the drafts of the visible tiles, sized in onSizeChanged
+		this.draftCache = new TileRAMCache(0);
+
+		// create the cache for the placeholders of the visible tiles, sized in onSizeChanged
+		this.placeholderCache = new TileRAMCache(0);
+
+		// no tiles are composited before the first alignment
+		this.drawClipRect = new Rect();
+		this.drawnRenderProfileId = -1;
+
+		// create the layer for the separately rendered labels
+		this.labelLayer = new LabelLayer();
+
+		// create the objects for drawing scaled placeholder tiles
+		this.placeholderPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+		this.placeholderSourceRect = new Rect();
+		this.placeholderTargetRect = new Rect();
+
 		// create the image bitmap cache
-		this.tileRAMCache = new TileRAMCache(TILE_RAM_CACHE_SIZE);
+		this.tileRAMCache = new TileRAMCache(calculateTileRAMCacheSize());
 
-		// create the image file cache with a unique directory
-		this.tileMemoryCardCache = new TileMemoryCardCache(Environment
-				.getExternalStorageDirectory().getAbsolutePath()
-				+ EXTERNAL_STORAGE_DIRECTORY + UUID.randomUUID().toString(), this.tileMemoryCardCacheSize);
+		// create the prefetch planner which follows the map movements
+		this.prefetchPlanner = new PrefetchPlanner();
+		this.pendingZoomLevel = -1;
+
+		// create the image file cache for the current map
+		setupTileMemoryCardCache();
 
 		// create the MapController for this MapView
 		this.mapController = new MapController(this);
@@ -1696,6 +2545,8 @@ public class MapView extends ViewGroup {
 		// create the database
 		this.mapDatabase = new MapDatabase();
 
+		this.renderThreads = DEFAULT_RENDER_THREADS;
+		this.metatileSize = 1;
 		startMapGeneratorThread();
 
 		// set the default position and zoom level of the map
@@ -1717,6 +2568,45 @@ public class MapView extends ViewGroup {
 		this.zoomAnimator.start();
 	}
 
+	/**
+	 * Creates the memory card cache for the current map, if the MapView does not use it already. The
+	 * previous cache is destroyed and caches of previous versions of the current map file are deleted.
+	 * Must only be called while no MapGenerator thread is executing a job.
+	 */
+	private void setupTileMemoryCardCache() {
+		String directory = getTileMemoryCardCacheDirectory();
+		if (directory.equals(this.tileMemoryCardCacheDirectory)) {
+			return;
+		}
+
+		if (this.tileMemoryCardCache != null) {
+			this.tileMemoryCardCache.destroy(this.persistence);
+		}
+
+		// delete the stale caches of modified map files, unless they are used by another cache
+		if (!this.mapViewMode.requiresInternetConnection() && this.mapFile != null) {
+			String prefix = getTileMemoryCardCachePrefix();
+			File[] cacheDirectories = new File(directory).getParentFile().listFiles();
+			if (cacheDirectories != null) {
+				for (File cacheDirectory : cacheDirectories) {
+					if (cacheDirectory.getName().startsWith(prefix)
+							&& !cacheDirectory.getPath().equals(directory)) {
+						TileMemoryCardCache.deleteUnusedCacheDirectory(cacheDirectory);
+					}
+				}
+			}
+		}
+
+		this.tileMemoryCardCacheDirectory = directory;
+		this.tileMemoryCardCache = new TileMemoryCardCache(directory,
+				this.tileMemoryCardCacheSize, new DeflateTileCodec());
+		if (this.mapGenerators != null) {
+			for (MapGenerator worker : this.mapGenerators) {
+				worker.setTileCaches(this.tileRAMCache, this.tileMemoryCardCache);
+			}
+		}
+	}
+
 	private void setupZoomControls() {
 		// create the ZoomControls and set the click listeners
 		this.zoomControls = new ZoomControls(this.activity);
@@ -1761,56 +2651,181 @@ public class MapView extends ViewGroup {
 	}
 
 	/**
-	 * Creates and starts the MapGenerator thread.
+	 * Creates and starts the MapGenerator threads. In rendering mode, each thread gets its own
+	 * MapDatabase which reads the current map file.
 	 */
 	private void startMapGeneratorThread() {
-		switch (this.mapViewMode) {
-			case CANVAS_RENDERER:
-				this.mapGenerator = new CanvasRenderer();
-				((DatabaseMapGenerator) this.mapGenerator).setDatabase(this.mapDatabase);
-				break;
-			case MAPNIK_TILE_DOWNLOAD:
-				this.mapGenerator = new MapnikTileDownload();
-				break;
-			case OPENCYCLEMAP_TILE_DOWNLOAD:
-				this.mapGenerator = new OpenCycleMapTileDownload();
-				break;
-			case OSMARENDER_TILE_DOWNLOAD:
-				this.mapGenerator = new OsmarenderTileDownload();
-				break;
+		this.jobQueue = new JobQueue();
+		this.jobQueue.setMapView(this);
+
+		if (this.mapViewMode == MapViewMode.CANVAS_RENDERER) {
+			this.mapGenerators = new MapGenerator[this.renderThreads];
+			this.mapDatabases = new MapDatabase[this.renderThreads];
+			this.mapDatabases[0] = this.mapDatabase;
+			for (int i = 0; i < this.renderThreads; ++i) {
+				if (i > 0) {
+					this.mapDatabases[i] = new MapDatabase();
+					this.mapDatabases[i].setMemoryMapped(this.mapFileMemoryMapped);
+					if (this.mapFile != null && this.mapDatabases[i].openFile(this.mapFile)) {
+						this.mapDatabases[i].prepareExecution();
+					}
+				}
+				this.mapGenerators[i] = new CanvasRenderer();
+				((DatabaseMapGenerator) this.mapGenerators[i]).setDatabase(this.mapDatabases[i]);
+				((DatabaseMapGenerator) this.mapGenerators[i]).setMetatileSize(this.metatileSize);
+				((DatabaseMapGenerator) this.mapGenerators[i]).setPipelined(this.pipelinedRendering);
+			}
+		} else {
+			this.mapGenerators = new MapGenerator[1];
+			this.mapDatabases = new MapDatabase[] { this.mapDatabase };
+			switch (this.mapViewMode) {
+				case MAPNIK_TILE_DOWNLOAD:
+					this.mapGenerators[0] = new MapnikTileDownload();
+					break;
+				case OPENCYCLEMAP_TILE_DOWNLOAD:
+					this.mapGenerators[0] = new OpenCycleMapTileDownload();
+					break;
+				case OSMARENDER_TILE_DOWNLOAD:
+					this.mapGenerators[0] = new OsmarenderTileDownload();
+					break;
+			}
 		}
+		this.mapGenerator = this.mapGenerators[0];
 
-		if (this.attachedToWindow) {
-			this.mapGenerator.onAttachedToWindow();
+		for (MapGenerator worker : this.mapGenerators) {
+			if (this.attachedToWindow) {
+				worker.onAttachedToWindow();
+			}
+			worker.setTileCaches(this.tileRAMCache, this.tileMemoryCardCache);
+			worker.setJobQueue(this.jobQueue);
+			worker.setMapView(this);
+			worker.start();
 		}
-		this.mapGenerator.setTileCaches(this.tileRAMCache, this.tileMemoryCardCache);
-		this.mapGenerator.setMapView(this);
-		this.mapGenerator.start();
 	}
 
 	private void stopMapGeneratorThread() {
-		// stop the MapGenerator thread
-		if (this.mapGenerator != null) {
-			this.mapGenerator.interrupt();
-			try {
-				this.mapGenerator.join();
-			} catch (InterruptedException e) {
-				// restore the interrupted status
-				Thread.currentThread().interrupt();
+		// stop the MapGenerator threads
+		if (this.mapGenerators != null) {
+			for (MapGenerator worker : this.mapGenerators) {
+				worker.interrupt();
+			}
+			for (MapGenerator worker : this.mapGenerators) {
+				try {
+					worker.join();
+				} catch (InterruptedException e) {
+					// restore the interrupted status
+					Thread.currentThread().interrupt();
+				}
+				worker.onDetachedFromWindow();
 			}
-			this.mapGenerator.onDetachedFromWindow();
+			this.mapGenerators = null;
 			this.mapGenerator = null;
+
+			// the labels refer to the symbols of the stopped MapGenerator threads
+			this.labelLayer.clear();
+		}
+
+		// close the map file in all additional databases
+		if (this.mapDatabases != null) {
+			for (int i = 1; i < this.mapDatabases.length; ++i) {
+				this.mapDatabases[i].closeFile();
+			}
+			this.mapDatabases = null;
 		}
 	}
 
+	/**
+	 * Calculates the area of tiles which should be prepared in advance and passes it to the job
+	 * queue. The area covers the visible area, the area where the map movement is predicted to lead
+	 * and, during a zoom gesture, the visible area at the pending zoom level. Must be called after the
+	 * visible area has been calculated.
+	 * 
+	 * @param currentRenderProfile
+	 *            the render profile for the current rendering settings.
+	 * @param currentLabelRenderProfile
+	 *            the render profile for the labels or null, if the labels are part of the map images.
+	 */
+	private void updateWantedArea(RenderProfile currentRenderProfile,
+			RenderProfile currentLabelRenderProfile) {
+		long time = SystemClock.uptimeMillis();
+		double predictedPixelX = this.mapViewPixelX + this.prefetchPlanner.getPredictedOffsetX(time);
+		double predictedPixelY = this.mapViewPixelY + this.prefetchPlanner.getPredictedOffsetY(time);
+		long maximumTileNumber = (1L << this.zoomLevel) - 1;
+
+		this.predictedTileX = MercatorProjection.pixelXToTileX(predictedPixelX
+				+ (getWidth() >> 1), this.zoomLevel);
+		this.predictedTileY = MercatorProjection.pixelYToTileY(predictedPixelY
+				+ (getHeight() >> 1), this.zoomLevel);
+		this.prefetchTileX1 = Math.max(0, Math.min(this.mapViewTileX1, MercatorProjection
+				.pixelXToTileX(predictedPixelX, this.zoomLevel))
+				- TILE_PREFETCH_MARGIN);
+		this.prefetchTileY1 = Math.max(0, Math.min(this.mapViewTileY1, MercatorProjection
+				.pixelYToTileY(predictedPixelY, this.zoomLevel))
+				- TILE_PREFETCH_MARGIN);
+		this.prefetchTileX2 = Math.min(maximumTileNumber, Math.max(this.mapViewTileX2,
+				MercatorProjection.pixelXToTileX(predictedPixelX + getWidth(), this.zoomLevel))
+				+ TILE_PREFETCH_MARGIN);
+		this.prefetchTileY2 = Math.min(maximumTileNumber, Math.max(this.mapViewTileY2,
+				MercatorProjection.pixelYToTileY(predictedPixelY + getHeight(), this.zoomLevel))
+				+ TILE_PREFETCH_MARGIN);
+
+		// jobs for tiles which are neither visible nor prepared in advance are cancelled
+		this.jobQueue.setWantedArea(currentRenderProfile.id,
+				currentLabelRenderProfile == null ? -1 : currentLabelRenderProfile.id,
+				this.zoomLevel, this.prefetchTileX1, this.prefetchTileY1, this.prefetchTileX2,
+				this.prefetchTileY2, this.crossZoomPrefetch);
+
+		byte zoom = getValidZoomLevel((byte) (this.zoomLevel + this.pendingZoomLevelDiff));
+		if (zoom == this.zoomLevel) {
+			this.pendingZoomLevel = -1;
+			this.jobQueue.setPendingZoomArea(this.pendingZoomLevel, 0, 0, 0, 0);
+			return;
+		}
+
+		// the zoom gesture scales the map around the center of the MapView
+		double pendingPixelX = MercatorProjection.longitudeToPixelX(this.longitude, zoom)
+				- (getWidth() >> 1);
+		double pendingPixelY = MercatorProjection.latitudeToPixelY(this.latitude, zoom)
+				- (getHeight() >> 1);
+		this.pendingZoomLevel = zoom;
+		this.pendingTileX1 = MercatorProjection.pixelXToTileX(pendingPixelX, zoom);
+		this.pendingTileY1 = MercatorProjection.pixelYToTileY(pendingPixelY, zoom);
+		this.pendingTileX2 = MercatorProjection.pixelXToTileX(pendingPixelX + getWidth(), zoom);
+		this.pendingTileY2 = MercatorProjection.pixelYToTileY(pendingPixelY + getHeight(), zoom);
+		this.jobQueue.setPendingZoomArea(zoom, this.pendingTileX1, this.pendingTileY1,
+				this.pendingTileX2, this.pendingTileY2);
+	}
+
+	/**
+	 * Opens the given map file in the databases of all MapGenerator threads.
+	 * 
+	 * @param newMapFile
+	 *            the path to the new map file.
+	 * @return true if the map file was opened successfully, false otherwise.
+	 */
+	private boolean openMapFile(String newMapFile) {
+		for (MapDatabase database : this.mapDatabases) {
+			if (!database.openFile(newMapFile)) {
+				return false;
+			}
+			database.prepareExecution();
+		}
+		for (MapGenerator worker : this.mapGenerators) {
+			((DatabaseMapGenerator) worker).onMapFileChange();
+		}
+		return true;
+	}
+
 	private void waitForMapGenerator() {
 		synchronized (this) {
-			while (!this.mapGenerator.isReady()) {
-				try {
-					wait(50);
-				} catch (InterruptedException e) {
-					// restore the interrupted status
-					Thread.currentThread().interrupt();
+			for (MapGenerator worker : this.mapGenerators) {
+				while (!worker.isReady()) {
+					try {
+						wait(50);
+					} catch (InterruptedException e) {
+						// restore the interrupted status
+						Thread.currentThread().interrupt();
+					}
 				}
 			}
 		}
@@ -1845,28 +2860,32 @@ public class MapView extends ViewGroup {
 	@Override
 	protected void onAttachedToWindow() {
 		this.attachedToWindow = true;
-		if (this.mapGenerator != null) {
-			this.mapGenerator.onAttachedToWindow();
+		if (this.mapGenerators != null) {
+			for (MapGenerator worker : this.mapGenerators) {
+				worker.onAttachedToWindow();
+			}
 		}
 	}
 
 	@Override
 	protected void onDetachedFromWindow() {
 		this.attachedToWindow = false;
-		if (this.mapGenerator != null) {
-			this.mapGenerator.onDetachedFromWindow();
+		if (this.mapGenerators != null) {
+			for (MapGenerator worker : this.mapGenerators) {
+				worker.onDetachedFromWindow();
+			}
 		}
 	}
 
 	@Override
 	protected final void onDraw(Canvas canvas) {
-		if (this.mapViewBitmap1 == null) {
+		if (this.tileRAMCache == null || getWidth() == 0) {
 			return;
 		}
 
 		// draw the map
 		synchronized (this.matrix) {
-			canvas.drawBitmap(this.mapViewBitmap1, this.matrix, null);
+			drawMap(canvas);
 			// draw the overlays
 			synchronized (this.overlays) {
 				for (Overlay overlay : this.overlays) {
@@ -1919,26 +2938,19 @@ public class MapView extends ViewGroup {
 
 	@Override
 	protected synchronized void onSizeChanged(int w, int h, int oldw, int oldh) {
-		// check if the previous MapView bitmaps must be recycled
-		if (this.mapViewBitmap1 != null) {
-			this.mapViewBitmap1.recycle();
-		}
-		if (this.mapViewBitmap2 != null) {
-			this.mapViewBitmap2.recycle();
-		}
-
 		// check if the new dimensions are positive
 		if (w > 0 && h > 0) {
 			// calculate how many tiles are needed to fill the MapView completely
 			this.numberOfTiles = ((w / Tile.TILE_SIZE) + 1) * ((h / Tile.TILE_SIZE) + 1);
 
-			// create the new MapView bitmaps
-			this.mapViewBitmap1 = Bitmap.createBitmap(w, h, Bitmap.Config.RGB_565);
-			this.mapViewBitmap2 = Bitmap.createBitmap(w, h, Bitmap.Config.RGB_565);
+			// adjust the capacity of the RAM cache to the new dimensions
+			this.tileRAMCache.setCapacity(calculateTileRAMCacheSize());
+
+			// the drafts of one screen are kept until the full quality images replace them
+			this.draftCache.setCapacity(this.numberOfTiles * Tile.TILE_SIZE_IN_BYTES);
 
-			// create the canvas
-			this.mapViewBitmap1.eraseColor(MAP_VIEW_BACKGROUND);
-			this.mapViewCanvas = new Canvas(this.mapViewBitmap1);
+			// the placeholders are only needed for one screen as well
+			this.placeholderCache.setCapacity(this.numberOfTiles * Tile.TILE_SIZE_IN_BYTES);
 			handleTiles();
 
 			// set up the overlays
@@ -1991,18 +3003,6 @@ public class MapView extends ViewGroup {
 		// destroy the map controller to avoid memory leaks
 		this.mapController = null;
 
-		// free the mapViewBitmap1 memory
-		if (this.mapViewBitmap1 != null) {
-			this.mapViewBitmap1.recycle();
-			this.mapViewBitmap1 = null;
-		}
-
-		// free the mapViewBitmap2 memory
-		if (this.mapViewBitmap2 != null) {
-			this.mapViewBitmap2.recycle();
-			this.mapViewBitmap2 = null;
-		}
-
 		// free the mapScaleBitmap memory
 		if (this.mapScaleBitmap != null) {
 			this.mapScaleBitmap.recycle();
@@ -2021,6 +3021,18 @@ public class MapView extends ViewGroup {
 			this.tileRAMCache = null;
 		}
 
+		// destroy the draft cache
+		if (this.draftCache != null) {
+			this.draftCache.destroy();
+			this.draftCache = null;
+		}
+
+		// destroy the placeholder cache
+		if (this.placeholderCache != null) {
+			this.placeholderCache.destroy();
+			this.placeholderCache = null;
+		}
+
 		// destroy the image file cache
 		if (this.tileMemoryCardCache != null) {
 			this.tileMemoryCardCache.destroy(this.persistence);
@@ -2098,6 +3110,16 @@ public class MapView extends ViewGroup {
 		return lat;
 	}
 
+	/**
+	 * Returns a counter which changes whenever the visible area of the MapView moves, so that the
+	 * priorities of queued jobs only need to be recalculated if the counter has changed.
+	 * 
+	 * @return the current version of the job priorities.
+	 */
+	int getJobPrioritiesVersion() {
+		return this.jobPrioritiesVersion;
+	}
+
 	/**
 	 * Returns the ZoomAnimator of this MapView.
 	 * 
@@ -2127,12 +3149,19 @@ public class MapView extends ViewGroup {
 
 		synchronized (this) {
 			// calculate the XY position of the MapView
+			double previousMapViewPixelX = this.mapViewPixelX;
+			double previousMapViewPixelY = this.mapViewPixelY;
 			this.mapViewPixelX = MercatorProjection.longitudeToPixelX(this.longitude,
 					this.zoomLevel)
 					- (getWidth() >> 1);
 			this.mapViewPixelY = MercatorProjection.latitudeToPixelY(this.latitude,
 					this.zoomLevel)
 					- (getHeight() >> 1);
+			if (this.mapViewPixelX != previousMapViewPixelX
+					|| this.mapViewPixelY != previousMapViewPixelY) {
+				// the priorities of all queued jobs have to be recalculated
+				++this.jobPrioritiesVersion;
+			}
 
 			this.mapViewTileX1 = MercatorProjection.pixelXToTileX(this.mapViewPixelX,
 					this.zoomLevel);
@@ -2143,29 +3172,50 @@ public class MapView extends ViewGroup {
 			this.mapViewTileY2 = MercatorProjection.pixelYToTileY(this.mapViewPixelY
 					+ getHeight(), this.zoomLevel);
 
+			RenderProfile currentRenderProfile = getRenderProfile();
+			RenderProfile currentLabelRenderProfile = getLabelRenderProfile();
+			updateWantedArea(currentRenderProfile, currentLabelRenderProfile);
+			alignDrawnTiles(currentRenderProfile.id);
+			if (currentLabelRenderProfile != null) {
+				this.labelLayer.setVisibleArea(currentLabelRenderProfile.id, this.zoomLevel,
+						this.mapViewTileX1, this.mapViewTileY1, this.mapViewTileX2,
+						this.mapViewTileY2);
+			}
+
 			// go through all tiles that intersect the screen rectangle
+			long tileKey;
+			MapGeneratorJob mapGeneratorJob;
+			this.placeholderLoads = 0;
 			for (this.tileY = this.mapViewTileY2; this.tileY >= this.mapViewTileY1; --this.tileY) {
 				for (this.tileX = this.mapViewTileX2; this.tileX >= this.mapViewTileX1; --this.tileX) {
-					this.currentTile = new Tile(this.tileX, this.tileY, this.zoomLevel);
-					this.currentJob = new MapGeneratorJob(this.currentTile, this.mapViewMode,
-							this.mapFile, this.textScale, this.drawTileFrames,
-							this.drawTileCoordinates, this.highlightWaterTiles);
-					if (this.tileRAMCache.containsKey(this.currentJob)) {
-						// bitmap cache hit
-						putTileOnBitmap(this.currentJob, this.tileRAMCache.get(this.currentJob));
-					} else if (this.tileMemoryCardCache.containsKey(this.currentJob)) {
-						// memory card cache hit
-						if (this.tileMemoryCardCache.get(this.currentJob, this.tileBuffer)) {
-							this.tileBitmap.copyPixelsFromBuffer(this.tileBuffer);
-							putTileOnBitmap(this.currentJob, this.tileBitmap);
-							this.tileRAMCache.put(this.currentJob, this.tileBitmap);
-						} else {
-							// the image data could not be read from the cache
-							this.mapGenerator.addJob(this.currentJob);
-						}
+					if (currentLabelRenderProfile != null) {
+						addLabelJob(this.tileX, this.tileY, currentLabelRenderProfile);
+					}
+
+					tileKey = TileKey.pack(this.tileX, this.tileY, this.zoomLevel,
+							currentRenderProfile.id);
+					if (loadCachedTile(tileKey)) {
+						// bitmap cache or memory card cache hit
+						this.prefetchPlanner.onTileVisible(tileKey, true);
+						continue;
+					}
+
+					if (!this.draftCache.containsKey(tileKey)) {
+						// show a scaled tile of an adjacent zoom level until the tile is available
+						loadPlaceholder(this.tileX, this.tileY, this.zoomLevel,
+								currentRenderProfile.id);
+					}
+
+					if (this.jobQueue.containsJob(tileKey)) {
+						// a prefetch job for the tile has not been finished in time
+						this.prefetchPlanner.onTileVisible(tileKey, false);
 					} else {
-						// cache miss
-						this.mapGenerator.addJob(this.currentJob);
+						// cache miss, the job is only created if it is not queued already
+						mapGeneratorJob = new MapGeneratorJob(new Tile(this.tileX, this.tileY,
+								this.zoomLevel), currentRenderProfile);
+						mapGeneratorJob.draft = this.draftRendering
+								&& this.mapViewMode == MapViewMode.CANVAS_RENDERER;
+						this.jobQueue.addJob(mapGeneratorJob);
 					}
 				}
 			}
@@ -2177,8 +3227,13 @@ public class MapView extends ViewGroup {
 
 		invalidateOnUiThread();
 
-		// notify the MapGenerator to process the job list
-		this.mapGenerator.requestSchedule(true);
+		if (this.jobQueue.getNumberOfJobs() == 0) {
+			// all visible tiles are available, use the idle MapGenerator threads for prefetching
+			requestMoreJobs();
+		} else {
+			// notify the MapGenerator to process the job list
+			this.jobQueue.requestSchedule(true);
+		}
 	}
 
 	/**
@@ -2223,15 +3278,6 @@ public class MapView extends ViewGroup {
 		}
 	}
 
-	/**
-	 * @return true if the matrix is the identity matrix, false otherwise.
-	 */
-	boolean matrixIsIdentity() {
-		synchronized (this.matrix) {
-			return this.matrix.isIdentity();
-		}
-	}
-
 	/**
 	 * Scales the matrix of the MapView and all its overlays.
 	 * 
@@ -2289,6 +3335,7 @@ public class MapView extends ViewGroup {
 		this.latitude = getValidLatitude(MercatorProjection.pixelYToLatitude(MercatorProjection
 				.latitudeToPixelY(this.latitude, this.zoomLevel)
 				- moveVertical, this.zoomLevel));
+		this.prefetchPlanner.onMove(moveHorizontal, moveVertical, SystemClock.uptimeMillis());
 	}
 
 	/**
@@ -2300,9 +3347,9 @@ public class MapView extends ViewGroup {
 			this.mapMover.pause();
 		}
 
-		// pause the MapGenerator thread
-		if (this.mapGenerator != null) {
-			this.mapGenerator.pause();
+		// pause the MapGenerator threads
+		if (this.jobQueue != null) {
+			this.jobQueue.pause();
 		}
 	}
 
@@ -2315,125 +3362,142 @@ public class MapView extends ViewGroup {
 			this.mapMover.unpause();
 		}
 
-		// unpause the MapGenerator thread
-		if (this.mapGenerator != null) {
-			this.mapGenerator.unpause();
+		// unpause the MapGenerator threads
+		if (this.jobQueue != null) {
+			this.jobQueue.unpause();
 		}
 	}
 
 	/**
-	 * Draws a tile bitmap at the right position on the MapView bitmap.
+	 * Puts the draft of a visible tile in the draft cache and invalidates the area of the tile. No
+	 * placeholder is loaded for a tile with a cached draft.
 	 * 
-	 * @param mapGeneratorJob
-	 *            the job with the tile.
+	 * @param tile
+	 *            the tile.
+	 * @param key
+	 *            the packed {@link TileKey} of the tile.
 	 * @param bitmap
-	 *            the bitmap to be drawn.
+	 *            the draft of the tile.
 	 */
-	synchronized void putTileOnBitmap(MapGeneratorJob mapGeneratorJob, Bitmap bitmap) {
-		// check if the tile and the current MapView rectangle intersect
-		if (this.mapViewPixelX - mapGeneratorJob.tile.pixelX > Tile.TILE_SIZE
-				|| this.mapViewPixelX + getWidth() < mapGeneratorJob.tile.pixelX) {
-			// no intersection in x direction
-			return;
-		} else if (this.mapViewPixelY - mapGeneratorJob.tile.pixelY > Tile.TILE_SIZE
-				|| this.mapViewPixelY + getHeight() < mapGeneratorJob.tile.pixelY) {
-			// no intersection in y direction
-			return;
-		} else if (mapGeneratorJob.tile.zoomLevel != this.zoomLevel) {
-			// the tile doesn't fit to the current zoom level
-			return;
+	void putDraft(Tile tile, long key, Bitmap bitmap) {
+		if (isTileVisible(tile)) {
+			this.draftCache.put(key, bitmap);
+			postInvalidateTile(tile);
 		}
+	}
 
-		if (this.zoomAnimator.isExecuting()) {
-			// do not disturb the ongoing animation
-			return;
-		}
-
-		if (!matrixIsIdentity()) {
-			// change the current MapView bitmap
-			this.mapViewBitmap2.eraseColor(MAP_VIEW_BACKGROUND);
-			this.mapViewCanvas.setBitmap(this.mapViewBitmap2);
-
-			// draw the previous MapView bitmap on the current MapView bitmap
-			synchronized (this.matrix) {
-				this.mapViewCanvas.drawBitmap(this.mapViewBitmap1, this.matrix, null);
-				this.matrix.reset();
-			}
-
-			// swap the two MapView bitmaps
-			Bitmap mapViewBitmapSwap = this.mapViewBitmap1;
-			this.mapViewBitmap1 = this.mapViewBitmap2;
-			this.mapViewBitmap2 = mapViewBitmapSwap;
+	/**
+	 * Puts the image of a visible tile in the RAM cache, from which it is composited, and invalidates
+	 * the area of the tile. Images of other tiles are only put in the memory card cache by the
+	 * MapGenerator, so that they do not push the visible tiles out of the RAM cache.
+	 * 
+	 * @param tile
+	 *            the tile.
+	 * @param key
+	 *            the packed {@link TileKey} of the tile.
+	 * @param bitmap
+	 *            the image of the tile.
+	 */
+	void putTile(Tile tile, long key, Bitmap bitmap) {
+		if (isTileVisible(tile)) {
+			this.tileRAMCache.put(key, bitmap);
+			postInvalidateTile(tile);
 		}
+	}
 
-		// draw the tile bitmap at the correct position
-		this.mapViewCanvas.drawBitmap(bitmap,
-				(float) (mapGeneratorJob.tile.pixelX - this.mapViewPixelX),
-				(float) (mapGeneratorJob.tile.pixelY - this.mapViewPixelY), null);
+	/**
+	 * Passes the labels of a tile to the label layer.
+	 * 
+	 * @param key
+	 *            the packed {@link TileKey} of the labels.
+	 * @param tileLabels
+	 *            the labels and symbols of the tile.
+	 */
+	void putTileLabels(long key, TileLabels tileLabels) {
+		this.labelLayer.put(key, tileLabels);
 	}
 
 	/**
-	 * This method is called by the MapGenerator when its job queue is empty.
+	 * This method is called by the MapGenerator when its job queue is empty. Prefetch jobs are added
+	 * for the tiles of a pending zoom level first and then for the tiles in the direction of the map
+	 * movement. The number of jobs depends on the number of idle MapGenerator threads.
 	 */
 	void requestMoreJobs() {
 		if (!this.mapViewMode.requiresInternetConnection() && this.mapFile == null) {
 			return;
 		} else if (this.getWidth() == 0) {
 			return;
-		} else if (this.tileMemoryCardCacheSize < this.numberOfTiles * 3) {
-			// the capacity of the file cache is to small, skip preprocessing
-			return;
-		} else if (this.zoomLevel == 0) {
-			// there are no surrounding tiles on zoom level 0
-			return;
 		}
 
+		// the number of tiles in the memory card cache depends on how well they are compressed
+		int cachedTiles = this.tileMemoryCardCache.getEstimatedTileCapacity();
+		boolean askForMoreJobs;
 		synchronized (this) {
-			// tiles below and above the visible area
-			for (this.tileX = this.mapViewTileX2 + 1; this.tileX >= this.mapViewTileX1 - 1; --this.tileX) {
-				this.currentTile = new Tile(this.tileX, this.mapViewTileY2 + 1, this.zoomLevel);
-				this.currentJob = new MapGeneratorJob(this.currentTile, this.mapViewMode,
-						this.mapFile, this.textScale, this.drawTileFrames,
-						this.drawTileCoordinates, this.highlightWaterTiles);
-				if (!this.tileMemoryCardCache.containsKey(this.currentJob)) {
-					// cache miss
-					this.mapGenerator.addJob(this.currentJob);
-				}
-
-				this.currentTile = new Tile(this.tileX, this.mapViewTileY1 - 1, this.zoomLevel);
-				this.currentJob = new MapGeneratorJob(this.currentTile, this.mapViewMode,
-						this.mapFile, this.textScale, this.drawTileFrames,
-						this.drawTileCoordinates, this.highlightWaterTiles);
-				if (!this.tileMemoryCardCache.containsKey(this.currentJob)) {
-					// cache miss
-					this.mapGenerator.addJob(this.currentJob);
-				}
+			// the prefetched tiles must not push the visible tiles out of the memory card cache
+			int budget = Math.min(this.prefetchPlanner.getBudget(getNumberOfIdleMapGenerators()),
+					cachedTiles - this.numberOfTiles);
+			if (budget <= 0) {
+				return;
 			}
 
-			// tiles left and right from the visible area
-			for (this.tileY = this.mapViewTileY2; this.tileY >= this.mapViewTileY1; --this.tileY) {
-				this.currentTile = new Tile(this.mapViewTileX2 + 1, this.tileY, this.zoomLevel);
-				this.currentJob = new MapGeneratorJob(this.currentTile, this.mapViewMode,
-						this.mapFile, this.textScale, this.drawTileFrames,
-						this.drawTileCoordinates, this.highlightWaterTiles);
-				if (!this.tileMemoryCardCache.containsKey(this.currentJob)) {
-					// cache miss
-					this.mapGenerator.addJob(this.currentJob);
+			RenderProfile currentRenderProfile = getRenderProfile();
+			updateWantedArea(currentRenderProfile, getLabelRenderProfile());
+			long wantedTiles = (this.prefetchTileX2 - this.prefetchTileX1 + 1)
+					* (this.prefetchTileY2 - this.prefetchTileY1 + 1);
+
+			if (this.pendingZoomLevel >= 0) {
+				budget = prefetchTiles(this.pendingZoomLevel, this.pendingTileX1,
+						this.pendingTileY1, this.pendingTileX2, this.pendingTileY2,
+						(this.pendingTileX1 + this.pendingTileX2) >> 1,
+						(this.pendingTileY1 + this.pendingTileY2) >> 1, budget,
+						currentRenderProfile);
+				wantedTiles += (this.pendingTileX2 - this.pendingTileX1 + 1)
+						* (this.pendingTileY2 - this.pendingTileY1 + 1);
+			}
+			budget = prefetchTiles(this.zoomLevel, this.prefetchTileX1, this.prefetchTileY1,
+					this.prefetchTileX2, this.prefetchTileY2, this.predictedTileX,
+					this.predictedTileY, budget, currentRenderProfile);
+
+			// the adjacent zoom levels are only prepared when the current one is complete
+			if (this.crossZoomPrefetch && budget > 0
+					&& wantedTiles + 2 * this.numberOfTiles <= cachedTiles) {
+				byte zoomLevelIn = getValidZoomLevel((byte) (this.zoomLevel + 1));
+				if (zoomLevelIn != this.zoomLevel && zoomLevelIn != this.pendingZoomLevel) {
+					budget = prefetchZoomLevel(zoomLevelIn, budget, currentRenderProfile);
 				}
-
-				this.currentTile = new Tile(this.mapViewTileX1 - 1, this.tileY, this.zoomLevel);
-				this.currentJob = new MapGeneratorJob(this.currentTile, this.mapViewMode,
-						this.mapFile, this.textScale, this.drawTileFrames,
-						this.drawTileCoordinates, this.highlightWaterTiles);
-				if (!this.tileMemoryCardCache.containsKey(this.currentJob)) {
-					// cache miss
-					this.mapGenerator.addJob(this.currentJob);
+				byte zoomLevelOut = getValidZoomLevel((byte) (this.zoomLevel - 1));
+				if (zoomLevelOut != this.zoomLevel && zoomLevelOut != this.pendingZoomLevel) {
+					budget = prefetchZoomLevel(zoomLevelOut, budget, currentRenderProfile);
 				}
+				wantedTiles += 2 * this.numberOfTiles;
 			}
+
+			// continue with the next jobs when the MapGenerator threads are idle again, unless the
+			// wanted tiles would replace each other in the memory card cache
+			askForMoreJobs = budget == 0 && wantedTiles <= cachedTiles;
 		}
 
 		// notify the MapGenerator to process the job list
-		this.mapGenerator.requestSchedule(false);
+		this.jobQueue.requestSchedule(askForMoreJobs);
+	}
+
+	/**
+	 * Sets the zoom level change which a running zoom gesture would apply, so that the tiles of the
+	 * pending zoom level can be prepared in advance.
+	 * 
+	 * @param zoomLevelDiff
+	 *            the pending zoom level change or 0, if no zoom gesture is in progress.
+	 */
+	void setPendingZoomLevelDiff(byte zoomLevelDiff) {
+		synchronized (this) {
+			if (this.pendingZoomLevelDiff == zoomLevelDiff) {
+				return;
+			}
+			this.pendingZoomLevelDiff = zoomLevelDiff;
+		}
+		if (zoomLevelDiff != 0) {
+			requestMoreJobs();
+		}
 	}
 
 	/**
@@ -2502,22 +3566,27 @@ public class MapView extends ViewGroup {
 	 * @return the MapGeneratorJob with updated priority.
 	 */
 	MapGeneratorJob setJobPriority(MapGeneratorJob mapGeneratorJob) {
-		if (mapGeneratorJob.tile.zoomLevel != this.zoomLevel) {
-			mapGeneratorJob.priority = 1000 * Math.abs(mapGeneratorJob.tile.zoomLevel
-					- this.zoomLevel);
-		} else {
-			// calculate the center of the MapView
-			double mapViewCenterX = this.mapViewPixelX + (getWidth() >> 1);
-			double mapViewCenterY = this.mapViewPixelY + (getHeight() >> 1);
-
-			// calculate the center of the tile
-			long tileCenterX = mapGeneratorJob.tile.pixelX + (Tile.TILE_SIZE >> 1);
-			long tileCenterY = mapGeneratorJob.tile.pixelY + (Tile.TILE_SIZE >> 1);
-
-			// set tile priority to the distance from the MapView center
-			double diffX = mapViewCenterX - tileCenterX;
-			double diffY = mapViewCenterY - tileCenterY;
-			mapGeneratorJob.priority = (int) Math.sqrt(diffX * diffX + diffY * diffY);
+		// calculate the center of the MapView at the zoom level of the tile
+		int zoomLevelDiff = mapGeneratorJob.tile.zoomLevel - this.zoomLevel;
+		double scale = Math.pow(2, zoomLevelDiff);
+		double mapViewCenterX = (this.mapViewPixelX + (getWidth() >> 1)) * scale;
+		double mapViewCenterY = (this.mapViewPixelY + (getHeight() >> 1)) * scale;
+
+		// calculate the center of the tile
+		long tileCenterX = mapGeneratorJob.tile.pixelX + (Tile.TILE_SIZE >> 1);
+		long tileCenterY = mapGeneratorJob.tile.pixelY + (Tile.TILE_SIZE >> 1);
+
+		// set tile priority to the distance from the MapView center
+		double diffX = mapViewCenterX - tileCenterX;
+		double diffY = mapViewCenterY - tileCenterY;
+		mapGeneratorJob.priority = (int) Math.min(Math.sqrt(diffX * diffX + diffY * diffY),
+				ZOOM_LEVEL_PRIORITY - 1);
+		if (mapGeneratorJob.draft) {
+			// drafts come before all other jobs
+			mapGeneratorJob.priority -= ZOOM_LEVEL_PRIORITY;
+		} else if (zoomLevelDiff != 0 && mapGeneratorJob.tile.zoomLevel != this.pendingZoomLevel) {
+			// tiles of other zoom levels come after all tiles of the current zoom level
+			mapGeneratorJob.priority += ZOOM_LEVEL_PRIORITY * Math.abs(zoomLevelDiff);
 		}
 		return mapGeneratorJob;
 	}
@@ -2534,11 +3603,9 @@ public class MapView extends ViewGroup {
 		if (this.mapViewMode.requiresInternetConnection()) {
 			throw new UnsupportedOperationException();
 		}
-		if (newMapFile != null && this.mapDatabase != null
-				&& this.mapDatabase.openFile(newMapFile)) {
-			this.mapDatabase.prepareExecution();
-			((DatabaseMapGenerator) this.mapGenerator).onMapFileChange();
+		if (newMapFile != null && this.mapDatabase != null && openMapFile(newMapFile)) {
 			this.mapFile = newMapFile;
+			setupTileMemoryCardCache();
 		} else {
 			this.mapFile = null;
 		}
@@ -2571,19 +3638,18 @@ public class MapView extends ViewGroup {
 			this.matrixScaleFactor = 1;
 		}
 
-		// change the zoom level
+		// change the zoom level, the tiles stay aligned to the previous one during the animation
 		synchronized (this) {
 			this.zoomLevel += zoomLevelDiff;
+			this.zoomAnimator.setParameters(zoomStart, this.matrixScaleFactor, getWidth() >> 1,
+					getHeight() >> 1);
+			this.zoomAnimator.startAnimation();
 		}
 
 		// enable or disable the zoom buttons if necessary
 		this.zoomControls.setIsZoomInEnabled(this.zoomLevel < getMaximumPossibleZoomLevel());
 		this.zoomControls.setIsZoomOutEnabled(this.zoomLevel > this.zoomLevelMin);
 		hideZoomControlsDelayed();
-
-		this.zoomAnimator.setParameters(zoomStart, this.matrixScaleFactor, getWidth() >> 1,
-				getHeight() >> 1);
-		this.zoomAnimator.startAnimation();
 		return true;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Provides read access to a map file which is mapped into memory. Files which are larger than the
+ * maximum size of a single mapping are split into overlapping windows, so that every read of at most
+ * the maximum read length lies completely inside one window. Windows are mapped on first access.
+ */
+class MappedMapFile {
+	private final FileChannel fileChannel;
+	private final long fileSize;
+	private final int maximumReadLength;
+	private final long windowStep;
+	private MappedByteBuffer[] windows;
+
+	/**
+	 * Maps the given map file into memory. The first window is mapped immediately so that a failure of
+	 * the memory mapping is reported here.
+	 * 
+	 * @param inputFile
+	 *            the opened map file.
+	 * @param maximumReadLength
+	 *            the maximum number of bytes which can be read at once.
+	 * @throws IOException
+	 *             if the file cannot be mapped into memory.
+	 * @throws IllegalArgumentException
+	 *             if the maximum read length is not positive.
+	 */
+	MappedMapFile(RandomAccessFile inputFile, int maximumReadLength) throws IOException {
+		if (maximumReadLength <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.fileChannel = inputFile.getChannel();
+		this.fileSize = this.fileChannel.size();
+		this.maximumReadLength = maximumReadLength;
+
+		// consecutive windows overlap by the maximum read length
+		this.windowStep = Integer.MAX_VALUE - maximumReadLength;
+		this.windows = new MappedByteBuffer[(int) (this.fileSize / this.windowStep) + 1];
+		mapWindow(0);
+	}
+
+	/**
+	 * Maps the window with the given index into memory.
+	 * 
+	 * @param windowIndex
+	 *            the index of the window.
+	 * @return the mapped window.
+	 * @throws IOException
+	 *             if the window cannot be mapped into memory.
+	 */
+	private MappedByteBuffer mapWindow(int windowIndex) throws IOException {
+		long windowStart = windowIndex * this.windowStep;
+		long windowSize = Math.min(this.windowStep + this.maximumReadLength, this.fileSize
+				- windowStart);
+		this.windows[windowIndex] = this.fileChannel.map(FileChannel.MapMode.READ_ONLY,
+				windowStart, windowSize);
+		return this.windows[windowIndex];
+	}
+
+	/**
+	 * Releases the references to all mapped windows. The memory is unmapped as soon as the buffers are
+	 * garbage collected.
+	 */
+	void destroy() {
+		this.windows = null;
+	}
+
+	/**
+	 * Returns a part of the map file without copying its data. The returned buffer starts at index
+	 * zero and its limit is the requested length.
+	 * 
+	 * @param position
+	 *            the position in the file of the first byte.
+	 * @param length
+	 *            the number of bytes.
+	 * @return a buffer with the requested bytes or null, if the requested part is invalid.
+	 * @throws IOException
+	 *             if the needed window cannot be mapped into memory.
+	 */
+	ByteBuffer getSlice(long position, int length) throws IOException {
+		if (position < 0 || length < 0 || length > this.maximumReadLength
+				|| position + length > this.fileSize) {
+			return null;
+		}
+
+		int windowIndex = (int) (position / this.windowStep);
+		MappedByteBuffer window = this.windows[windowIndex];
+		if (window == null) {
+			window = mapWindow(windowIndex);
+		}
+
+		int offset = (int) (position - windowIndex * this.windowStep);
+		ByteBuffer slice = window.duplicate();
+		slice.limit(offset + length);
+		slice.position(offset);
+		return slice.slice();
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * Render rules for points of interest. All rules belong to the same rule class, so that at most
+ * one rule is applied to a point of interest.
+ */
+final class NodeRules {
+	static final int AEROWAY$AERODROME = 0;
+	static final int AEROWAY$HELIPAD = 1;
+	static final int AMENITY$ATM = 10;
+	static final int AMENITY$BANK = 16;
+	static final int AMENITY$BICYCLE_RENTAL = 27;
+	static final int AMENITY$BUS_STATION = 19;
+	static final int AMENITY$CAFE = 17;
+	static final int AMENITY$CINEMA = 3;
+	static final int AMENITY$FAST_FOOD = 12;
+	static final int AMENITY$FIRE_STATION = 5;
+	static final int AMENITY$FOUNTAIN = 23;
+	static final int AMENITY$FUEL = 18;
+	static final int AMENITY$HOSPITAL = 14;
+	static final int AMENITY$LIBRARY = 11;
+	static final int AMENITY$PARKING = 13;
+	static final int AMENITY$PHARMACY = 22;
+	static final int AMENITY$PLACE_OF_WORSHIP = 9;
+	static final int AMENITY$POST_BOX = 20;
+	static final int AMENITY$POST_OFFICE = 21;
+	static final int AMENITY$PUB = 2;
+	static final int AMENITY$RECYCLING = 24;
+	static final int AMENITY$RESTAURANT = 15;
+	static final int AMENITY$SCHOOL = 7;
+	static final int AMENITY$SHELTER = 6;
+	static final int AMENITY$TELEPHONE = 25;
+	static final int AMENITY$THEATRE = 4;
+	static final int AMENITY$TOILETS = 26;
+	static final int AMENITY$UNIVERSITY = 8;
+	static final int BARRIER$BOLLARD = 28;
+	static final int HIGHWAY$BUS_STOP = 29;
+	static final int HIGHWAY$TRAFFIC_SIGNALS = 30;
+	static final int HISTORIC$MEMORIAL = 31;
+	static final int LEISURE$PLAYGROUND = 32;
+	static final int MAN_MADE$WINDMILL = 33;
+	static final int NATURAL$CAVE_ENTRANCE = 34;
+	static final int NATURAL$PEAK = 35;
+	static final int NATURAL$VOLCANO = 36;
+	static final int NUMBER_OF_CLASSES = 1;
+	static final int PLACE$CITY = 37;
+	static final int PLACE$COUNTRY = 38;
+	static final int PLACE$ISLAND = 39;
+	static final int PLACE$SUBURB = 40;
+	static final int POI = 0;
+	static final int RAILWAY$HALT = 43;
+	static final int RAILWAY$LEVEL_CROSSING = 41;
+	static final int RAILWAY$STATION = 42;
+	static final int SHOP$BAKERY = 44;
+	static final int SHOP$ORGANIC = 45;
+	static final int SHOP$SUPERMARKET = 46;
+	static final int TOURISM$ATTRACTION = 51;
+	static final int TOURISM$HOSTEL = 49;
+	static final int TOURISM$HOTEL = 50;
+	static final int TOURISM$INFORMATION = 47;
+	static final int TOURISM$MUSEUM = 48;
+	static final int TOURISM$VIEWPOINT = 52;
+
+	/**
+	 * Rules in the order of their priority, each rule at the index of its id.
+	 */
+	static final RenderRule[] RULES = {
+			new RenderRule(AEROWAY$AERODROME, POI, 0, 14, "aeroway=aerodrome"),
+			new RenderRule(AEROWAY$HELIPAD, POI, "aeroway=helipad"),
+			new RenderRule(AMENITY$PUB, POI, "amenity=pub"),
+			new RenderRule(AMENITY$CINEMA, POI, "amenity=cinema"),
+			new RenderRule(AMENITY$THEATRE, POI, "amenity=theatre"),
+			new RenderRule(AMENITY$FIRE_STATION, POI, "amenity=fire_station"),
+			new RenderRule(AMENITY$SHELTER, POI, "amenity=shelter"),
+			new RenderRule(AMENITY$SCHOOL, POI, "amenity=school"),
+			new RenderRule(AMENITY$UNIVERSITY, POI, "amenity=university"),
+			new RenderRule(AMENITY$PLACE_OF_WORSHIP, POI, "amenity=place_of_worship"),
+			new RenderRule(AMENITY$ATM, POI, 17, Byte.MAX_VALUE, "amenity=atm"),
+			new RenderRule(AMENITY$LIBRARY, POI, "amenity=library"),
+			new RenderRule(AMENITY$FAST_FOOD, POI, "amenity=fast_food"),
+			new RenderRule(AMENITY$PARKING, POI, "amenity=parking"),
+			new RenderRule(AMENITY$HOSPITAL, POI, "amenity=hospital"),
+			new RenderRule(AMENITY$RESTAURANT, POI, "amenity=restaurant"),
+			new RenderRule(AMENITY$BANK, POI, "amenity=bank"),
+			new RenderRule(AMENITY$CAFE, POI, "amenity=cafe"),
+			new RenderRule(AMENITY$FUEL, POI, "amenity=fuel"),
+			new RenderRule(AMENITY$BUS_STATION, POI, "amenity=bus_station"),
+			new RenderRule(AMENITY$POST_BOX, POI, "amenity=post_box"),
+			new RenderRule(AMENITY$POST_OFFICE, POI, "amenity=post_office"),
+			new RenderRule(AMENITY$PHARMACY, POI, "amenity=pharmacy"),
+			new RenderRule(AMENITY$FOUNTAIN, POI, "amenity=fountain"),
+			new RenderRule(AMENITY$RECYCLING, POI, "amenity=recycling"),
+			new RenderRule(AMENITY$TELEPHONE, POI, "amenity=telephone"),
+			new RenderRule(AMENITY$TOILETS, POI, "amenity=toilets"),
+			new RenderRule(AMENITY$BICYCLE_RENTAL, POI, "amenity=bicycle_rental"),
+			new RenderRule(BARRIER$BOLLARD, POI, "barrier=bollard"),
+			new RenderRule(HIGHWAY$BUS_STOP, POI, "highway=bus_stop"),
+			new RenderRule(HIGHWAY$TRAFFIC_SIGNALS, POI, 17, Byte.MAX_VALUE,
+					"highway=traffic_signals"),
+			new RenderRule(HISTORIC$MEMORIAL, POI, "historic=memorial", "historic=monument"),
+			new RenderRule(LEISURE$PLAYGROUND, POI, "leisure=playground"),
+			new RenderRule(MAN_MADE$WINDMILL, POI, "man_made=windmill"),
+			new RenderRule(NATURAL$CAVE_ENTRANCE, POI, "natural=cave_entrance"),
+			new RenderRule(NATURAL$PEAK, POI, "natural=peak"),
+			new RenderRule(NATURAL$VOLCANO, POI, "natural=volcano"),
+			new RenderRule(PLACE$CITY, POI, "place=city"),
+			new RenderRule(PLACE$COUNTRY, POI, "place=country"),
+			new RenderRule(PLACE$ISLAND, POI, "place=island"),
+			new RenderRule(PLACE$SUBURB, POI, "place=suburb", "place=town", "place=village"),
+			new RenderRule(RAILWAY$LEVEL_CROSSING, POI, "railway=level_crossing"),
+			new RenderRule(RAILWAY$STATION, POI, "railway=station"),
+			new RenderRule(RAILWAY$HALT, POI, "railway=halt", "railway=tram_stop"),
+			new RenderRule(SHOP$BAKERY, POI, "shop=bakery"),
+			new RenderRule(SHOP$ORGANIC, POI, "shop=organic"),
+			new RenderRule(SHOP$SUPERMARKET, POI, "shop=supermarket"),
+			new RenderRule(TOURISM$INFORMATION, POI, "tourism=information"),
+			new RenderRule(TOURISM$MUSEUM, POI, "tourism=museum"),
+			new RenderRule(TOURISM$HOSTEL, POI, "tourism=hostel"),
+			new RenderRule(TOURISM$HOTEL, POI, "tourism=hotel"),
+			new RenderRule(TOURISM$ATTRACTION, POI, "tourism=attraction"),
+			new RenderRule(TOURISM$VIEWPOINT, POI, "tourism=viewpoint") };
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private NodeRules() {
+		// do nothing
+	}
+}
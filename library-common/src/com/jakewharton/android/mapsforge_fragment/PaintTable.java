@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.graphics.Paint;
+
+/**
+ * Assigns small ids to the paints of a MapGenerator, so that display lists can refer to a paint by
+ * a number. A paint keeps its id when its properties are changed. Ids are assigned in the order in
+ * which the paints are used first, so they are only valid for the lifetime of the MapGenerator.
+ * <p>
+ * This class is not thread-safe, it must only be used by the thread which fills the display lists.
+ */
+class PaintTable {
+	private final Map<Paint, Integer> ids;
+	private final List<Paint> paints;
+
+	/**
+	 * Constructs a new empty paint table.
+	 */
+	PaintTable() {
+		this.ids = new IdentityHashMap<Paint, Integer>(256);
+		this.paints = new ArrayList<Paint>(256);
+	}
+
+	/**
+	 * Returns the id of the given paint. A new id is assigned if the paint has not been used before.
+	 * 
+	 * @param paint
+	 *            the paint.
+	 * @return the id of the paint.
+	 */
+	int getId(Paint paint) {
+		Integer id = this.ids.get(paint);
+		if (id == null) {
+			id = Integer.valueOf(this.paints.size());
+			this.ids.put(paint, id);
+			this.paints.add(paint);
+		}
+		return id.intValue();
+	}
+
+	/**
+	 * Returns the paint with the given id.
+	 * 
+	 * @param id
+	 *            the id of the paint.
+	 * @return the paint or null, if no paint with the given id exists.
+	 */
+	Paint getPaint(int id) {
+		if (id < 0 || id >= this.paints.size()) {
+			return null;
+		}
+		return this.paints.get(id);
+	}
+}
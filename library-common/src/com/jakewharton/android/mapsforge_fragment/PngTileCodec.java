@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+
+/**
+ * A TileCodec which stores tiles as PNG images. Compresses better than {@link DeflateTileCodec} but
+ * encoding and decoding are slower.
+ */
+class PngTileCodec implements TileCodec {
+	/**
+	 * Name of the encoding.
+	 */
+	private static final String NAME = "png";
+
+	private Bitmap bitmap;
+	private final BitmapFactory.Options bitmapFactoryOptions;
+	private final ByteArrayOutputStream outputStream;
+
+	/**
+	 * Constructs a new PngTileCodec.
+	 */
+	PngTileCodec() {
+		this.bitmapFactoryOptions = new BitmapFactory.Options();
+		this.bitmapFactoryOptions.inPreferredConfig = Bitmap.Config.RGB_565;
+		this.outputStream = new ByteArrayOutputStream(Tile.TILE_SIZE_IN_BYTES / 4);
+	}
+
+	@Override
+	public boolean decode(byte[] data, int length, ByteBuffer pixels) {
+		Bitmap bitmap = BitmapFactory.decodeByteArray(data, 0, length, this.bitmapFactoryOptions);
+		if (bitmap == null) {
+			Logger.debug("invalid PNG tile");
+			return false;
+		} else if (bitmap.getWidth() != Tile.TILE_SIZE || bitmap.getHeight() != Tile.TILE_SIZE
+				|| bitmap.getConfig() != Bitmap.Config.RGB_565) {
+			Logger.debug("invalid PNG tile format");
+			bitmap.recycle();
+			return false;
+		}
+		bitmap.copyPixelsToBuffer(pixels);
+		pixels.rewind();
+		bitmap.recycle();
+		return true;
+	}
+
+	@Override
+	public int encode(ByteBuffer pixels, byte[] data) {
+		if (this.bitmap == null) {
+			this.bitmap = Bitmap.createBitmap(Tile.TILE_SIZE, Tile.TILE_SIZE,
+					Bitmap.Config.RGB_565);
+		}
+		this.bitmap.copyPixelsFromBuffer(pixels);
+		pixels.rewind();
+
+		this.outputStream.reset();
+		if (!this.bitmap.compress(Bitmap.CompressFormat.PNG, 100, this.outputStream)
+				|| this.outputStream.size() > data.length) {
+			return -1;
+		}
+		byte[] pngData = this.outputStream.toByteArray();
+		System.arraycopy(pngData, 0, data, 0, pngData.length);
+		return pngData.length;
+	}
+
+	@Override
+	public int getMaximumEncodedLength() {
+		// PNG encoding of incompressible data is slightly larger than the raw pixels
+		return Tile.TILE_SIZE_IN_BYTES * 2;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+}
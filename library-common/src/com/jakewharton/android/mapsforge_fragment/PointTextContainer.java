@@ -101,18 +101,63 @@ class PointTextContainer {
 	 */
 	PointTextContainer(String text, float x, float y, Paint paintFront, Paint paintBack,
 			SymbolContainer symbol) {
+		this(text, x, y, paintFront, paintBack, symbol, new Rect());
+		if (paintBack != null) {
+			paintBack.getTextBounds(text, 0, text.length(), this.boundary);
+		} else {
+			paintFront.getTextBounds(text, 0, text.length(), this.boundary);
+		}
+	}
+
+	/**
+	 * Create a copy of the given point container with another position, other paint objects and
+	 * another symbol. The text is not measured again, the boundary is shared with the given container.
+	 * 
+	 * @param pointTextContainer
+	 *            the point container to be copied.
+	 * @param x
+	 *            the x coordinate of the point.
+	 * @param y
+	 *            the y coordinate of the point.
+	 * @param paintFront
+	 *            the paintFront for the point.
+	 * @param paintBack
+	 *            the paintBack for the point.
+	 * @param symbol
+	 *            the connected Symbol.
+	 */
+	PointTextContainer(PointTextContainer pointTextContainer, float x, float y, Paint paintFront,
+			Paint paintBack, SymbolContainer symbol) {
+		this(pointTextContainer.text, x, y, paintFront, paintBack, symbol,
+				pointTextContainer.boundary);
+	}
+
+	/**
+	 * Create a new point container with the given boundary of the text.
+	 * 
+	 * @param text
+	 *            the text of the point.
+	 * @param x
+	 *            the x coordinate of the point.
+	 * @param y
+	 *            the y coordinate of the point.
+	 * @param paintFront
+	 *            the paintFront for the point.
+	 * @param paintBack
+	 *            the paintBack for the point.
+	 * @param symbol
+	 *            the connected Symbol.
+	 * @param boundary
+	 *            the boundary of the text.
+	 */
+	private PointTextContainer(String text, float x, float y, Paint paintFront, Paint paintBack,
+			SymbolContainer symbol, Rect boundary) {
 		this.text = text;
 		this.x = x;
 		this.y = y;
 		this.paintFront = paintFront;
 		this.paintBack = paintBack;
 		this.symbol = symbol;
-
-		this.boundary = new Rect();
-		if (paintBack != null) {
-			paintBack.getTextBounds(text, 0, text.length(), this.boundary);
-		} else {
-			paintFront.getTextBounds(text, 0, text.length(), this.boundary);
-		}
+		this.boundary = boundary;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * Predicts where the visible area of a MapView is moving and keeps track of the tiles which have been
+ * prefetched. The pan velocity is estimated from the map movements of the touch handlers, the
+ * trackball and the MapMover. Each prefetched tile is remembered until it becomes visible, so that
+ * the hit rate of the prediction can be reported.
+ * <p>
+ * This class is not thread-safe, all calls must be synchronized on the MapView.
+ */
+class PrefetchPlanner {
+	/**
+	 * Number of prefetch jobs per idle MapGenerator thread which may be added at once.
+	 */
+	private static final int JOBS_PER_IDLE_THREAD = 4;
+
+	/**
+	 * Time in milliseconds which the visible area is predicted in advance.
+	 */
+	private static final int LOOKAHEAD_TIME = 400;
+
+	/**
+	 * Maximum distance in pixels between the visible area and the predicted area.
+	 */
+	private static final int MAXIMUM_LOOKAHEAD_DISTANCE = 3 * Tile.TILE_SIZE;
+
+	/**
+	 * Maximum number of prefetched tiles which are remembered for the statistics.
+	 */
+	private static final int MAXIMUM_TRACKED_TILES = 256;
+
+	/**
+	 * Weight of a new velocity sample in the moving average.
+	 */
+	private static final float VELOCITY_SMOOTHING = 0.3f;
+
+	/**
+	 * Time in milliseconds without any movement after which the map is considered to stand still.
+	 */
+	private static final int VELOCITY_TIMEOUT = 100;
+
+	/**
+	 * Limits the given distance to the maximum lookahead distance.
+	 * 
+	 * @param distance
+	 *            the distance in pixels.
+	 * @return the limited distance.
+	 */
+	private static float clipDistance(float distance) {
+		return Math.max(-MAXIMUM_LOOKAHEAD_DISTANCE, Math.min(MAXIMUM_LOOKAHEAD_DISTANCE,
+				distance));
+	}
+
+	private long hits;
+	private long issued;
+	private long lastMoveTime;
+	private long late;
+	private final LongHashMap<Object> prefetchedTiles;
+	private float velocityX;
+	private float velocityY;
+
+	/**
+	 * Constructs a new PrefetchPlanner for a map which does not move.
+	 */
+	PrefetchPlanner() {
+		this.prefetchedTiles = new LongHashMap<Object>(MAXIMUM_TRACKED_TILES, false);
+	}
+
+	/**
+	 * Returns the number of prefetch jobs which may be added at once.
+	 * 
+	 * @param idleMapGenerators
+	 *            the number of MapGenerator threads which currently have nothing to do.
+	 * @return the number of prefetch jobs.
+	 */
+	int getBudget(int idleMapGenerators) {
+		return JOBS_PER_IDLE_THREAD * Math.max(1, idleMapGenerators);
+	}
+
+	/**
+	 * Returns the horizontal distance which the visible area is expected to move.
+	 * 
+	 * @param time
+	 *            the current uptime in milliseconds.
+	 * @return the predicted distance in pixels, positive values move the visible area to the right.
+	 */
+	float getPredictedOffsetX(long time) {
+		if (time - this.lastMoveTime > VELOCITY_TIMEOUT) {
+			return 0;
+		}
+		// moving the map to the right moves the visible area to the left
+		return clipDistance(-this.velocityX * LOOKAHEAD_TIME);
+	}
+
+	/**
+	 * Returns the vertical distance which the visible area is expected to move.
+	 * 
+	 * @param time
+	 *            the current uptime in milliseconds.
+	 * @return the predicted distance in pixels, positive values move the visible area downwards.
+	 */
+	float getPredictedOffsetY(long time) {
+		if (time - this.lastMoveTime > VELOCITY_TIMEOUT) {
+			return 0;
+		}
+		return clipDistance(-this.velocityY * LOOKAHEAD_TIME);
+	}
+
+	/**
+	 * Returns a snapshot of the prefetch counters.
+	 * 
+	 * @return the current statistics.
+	 */
+	PrefetchStatistics getStatistics() {
+		return new PrefetchStatistics(this.issued, this.hits, this.late);
+	}
+
+	/**
+	 * Updates the velocity estimation with a movement of the map.
+	 * 
+	 * @param moveHorizontal
+	 *            the amount of pixels the map was moved horizontally.
+	 * @param moveVertical
+	 *            the amount of pixels the map was moved vertically.
+	 * @param time
+	 *            the current uptime in milliseconds.
+	 */
+	void onMove(float moveHorizontal, float moveVertical, long time) {
+		long elapsedTime = time - this.lastMoveTime;
+		if (elapsedTime > VELOCITY_TIMEOUT) {
+			// a new movement starts, the first sample has no reference time
+			this.velocityX = 0;
+			this.velocityY = 0;
+		} else if (elapsedTime > 0) {
+			this.velocityX += VELOCITY_SMOOTHING * (moveHorizontal / elapsedTime - this.velocityX);
+			this.velocityY += VELOCITY_SMOOTHING * (moveVertical / elapsedTime - this.velocityY);
+		}
+		this.lastMoveTime = time;
+	}
+
+	/**
+	 * Remembers a tile for which a prefetch job has been added. The oldest tile is forgotten if too
+	 * many tiles are remembered.
+	 * 
+	 * @param key
+	 *            the packed key of the tile.
+	 */
+	void onPrefetch(long key) {
+		++this.issued;
+		if (this.prefetchedTiles.size() >= MAXIMUM_TRACKED_TILES) {
+			this.prefetchedTiles.remove(this.prefetchedTiles.keyAt(this.prefetchedTiles.first()));
+		}
+		this.prefetchedTiles.put(key, Boolean.TRUE);
+	}
+
+	/**
+	 * Counts a visible tile if it has been prefetched before.
+	 * 
+	 * @param key
+	 *            the packed key of the tile.
+	 * @param cached
+	 *            true if the tile was found in one of the caches, false otherwise.
+	 */
+	void onTileVisible(long key, boolean cached) {
+		if (this.prefetchedTiles.size() == 0 || this.prefetchedTiles.remove(key) == null) {
+			return;
+		} else if (cached) {
+			++this.hits;
+		} else {
+			++this.late;
+		}
+	}
+
+	/**
+	 * Resets all prefetch counters and forgets all prefetched tiles.
+	 */
+	void resetStatistics() {
+		this.prefetchedTiles.clear();
+		this.issued = 0;
+		this.hits = 0;
+		this.late = 0;
+	}
+}
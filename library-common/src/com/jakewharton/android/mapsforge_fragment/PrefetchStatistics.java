@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * An immutable snapshot of the prefetch counters of a MapView. A prefetched tile counts as a hit if
+ * it was found in one of the caches when it became visible, and as late if it became visible while
+ * it was still being generated. Tracked tiles which never become visible count as neither.
+ */
+public class PrefetchStatistics {
+	private final long hits;
+	private final long issued;
+	private final long late;
+
+	/**
+	 * Constructs a new snapshot with the given counters.
+	 * 
+	 * @param issued
+	 *            the number of prefetch jobs.
+	 * @param hits
+	 *            the number of prefetched tiles which were cached when they became visible.
+	 * @param late
+	 *            the number of prefetched tiles which were not ready when they became visible.
+	 */
+	PrefetchStatistics(long issued, long hits, long late) {
+		this.issued = issued;
+		this.hits = hits;
+		this.late = late;
+	}
+
+	/**
+	 * Returns the fraction of the prefetch jobs whose tiles were cached when they became visible.
+	 * 
+	 * @return the hit rate between 0 and 1, or 0 if no prefetch jobs have been issued.
+	 */
+	public float getHitRate() {
+		if (this.issued == 0) {
+			return 0;
+		}
+		return (float) this.hits / this.issued;
+	}
+
+	/**
+	 * Returns the number of prefetched tiles which were cached when they became visible.
+	 * 
+	 * @return the number of hits.
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Returns the number of prefetch jobs which have been added to the job queue.
+	 * 
+	 * @return the number of prefetch jobs.
+	 */
+	public long getIssued() {
+		return this.issued;
+	}
+
+	/**
+	 * Returns the number of prefetched tiles which became visible before they were generated.
+	 * 
+	 * @return the number of late tiles.
+	 */
+	public long getLate() {
+		return this.late;
+	}
+
+	@Override
+	public String toString() {
+		return "PrefetchStatistics [issued=" + this.issued + ", hits=" + this.hits + ", late="
+				+ this.late + "]";
+	}
+}
@@ -14,16 +14,40 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
-class WayContainer extends ShapeContainer {
-	final float[][] coordinates;
+import java.nio.ByteBuffer;
 
-	WayContainer(float[][] coordinates) {
-		super();
-		this.coordinates = coordinates;
+/**
+ * A TileCodec which stores the uncompressed RGB_565 pixels of a tile.
+ */
+class RawTileCodec implements TileCodec {
+	/**
+	 * Name of the encoding.
+	 */
+	private static final String NAME = "raw";
+
+	@Override
+	public boolean decode(byte[] data, int length, ByteBuffer pixels) {
+		if (length != Tile.TILE_SIZE_IN_BYTES) {
+			return false;
+		}
+		System.arraycopy(data, 0, pixels.array(), 0, length);
+		pixels.rewind();
+		return true;
+	}
+
+	@Override
+	public int encode(ByteBuffer pixels, byte[] data) {
+		System.arraycopy(pixels.array(), 0, data, 0, Tile.TILE_SIZE_IN_BYTES);
+		return Tile.TILE_SIZE_IN_BYTES;
+	}
+
+	@Override
+	public int getMaximumEncodedLength() {
+		return Tile.TILE_SIZE_IN_BYTES;
 	}
 
 	@Override
-	ShapeType getShapeType() {
-		return ShapeType.WAY;
+	public String getName() {
+		return NAME;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable combination of all settings which influence the rendering of a map image. Each
+ * combination is interned and gets a small id, which is stored in the {@link TileKey} of all images
+ * rendered with these settings. Ids are only valid for the lifetime of the process.
+ */
+final class RenderProfile {
+	/**
+	 * Interned render profiles.
+	 */
+	private static final Map<RenderProfile, RenderProfile> PROFILES = new HashMap<RenderProfile, RenderProfile>();
+
+	/**
+	 * Interned render profiles by their id.
+	 */
+	private static final List<RenderProfile> PROFILES_BY_ID = new ArrayList<RenderProfile>();
+
+	/**
+	 * Returns the render profile with the given id.
+	 * 
+	 * @param id
+	 *            the id of the render profile.
+	 * @return the render profile or null, if no render profile with the given id exists.
+	 */
+	static synchronized RenderProfile get(int id) {
+		if (id < 0 || id >= PROFILES_BY_ID.size()) {
+			return null;
+		}
+		return PROFILES_BY_ID.get(id);
+	}
+
+	/**
+	 * Returns the interned render profile for the given settings. A new render profile is created if
+	 * the settings have not been used before.
+	 * 
+	 * @param mapViewMode
+	 *            the operation mode in which the map image should be generated.
+	 * @param mapFile
+	 *            the map file or null, if no map file is needed.
+	 * @param textScale
+	 *            the text scale for map rendering.
+	 * @param drawTileFrames
+	 *            flag to enable tile frames.
+	 * @param drawTileCoordinates
+	 *            flag to enable tile coordinates.
+	 * @param highlightWater
+	 *            flag to enable water tile highlighting.
+	 * @param tileContent
+	 *            the map objects which are drawn on the map image.
+	 * @return the render profile.
+	 * @throws IllegalStateException
+	 *             if the maximum number of render profiles has been reached.
+	 */
+	static synchronized RenderProfile get(MapViewMode mapViewMode, String mapFile,
+			float textScale, boolean drawTileFrames, boolean drawTileCoordinates,
+			boolean highlightWater, TileContent tileContent) {
+		RenderProfile renderProfile = new RenderProfile(PROFILES_BY_ID.size(), mapViewMode,
+				mapFile, textScale, drawTileFrames, drawTileCoordinates, highlightWater, tileContent);
+		RenderProfile internedProfile = PROFILES.get(renderProfile);
+		if (internedProfile != null) {
+			return internedProfile;
+		} else if (PROFILES_BY_ID.size() == TileKey.MAXIMUM_RENDER_PROFILES) {
+			throw new IllegalStateException("too many render profiles");
+		}
+		PROFILES.put(renderProfile, renderProfile);
+		PROFILES_BY_ID.add(renderProfile);
+		return renderProfile;
+	}
+
+	/**
+	 * Stores the hash value of this object.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Flag if the tile coordinates should be drawn on the image for debugging.
+	 */
+	final boolean drawTileCoordinates;
+
+	/**
+	 * Flag if a frame should be drawn around the image for debugging.
+	 */
+	final boolean drawTileFrames;
+
+	/**
+	 * Flag to highlight the tile in case it is a water tile.
+	 */
+	final boolean highlightWater;
+
+	/**
+	 * Unique id of this render profile.
+	 */
+	final int id;
+
+	/**
+	 * Map file used to render the map image (may be null).
+	 */
+	final String mapFile;
+
+	/**
+	 * MapViewMode used to render the map image.
+	 */
+	final MapViewMode mapViewMode;
+
+	/**
+	 * Text scale for the map rendering.
+	 */
+	final float textScale;
+
+	/**
+	 * Map objects which are drawn on the map image.
+	 */
+	final TileContent tileContent;
+
+	/**
+	 * Creates a new render profile with the given id and settings.
+	 * 
+	 * @param id
+	 *            the unique id of the render profile.
+	 * @param mapViewMode
+	 *            the operation mode in which the map image should be generated.
+	 * @param mapFile
+	 *            the map file or null, if no map file is needed.
+	 * @param textScale
+	 *            the text scale for map rendering.
+	 * @param drawTileFrames
+	 *            flag to enable tile frames.
+	 * @param drawTileCoordinates
+	 *            flag to enable tile coordinates.
+	 * @param highlightWater
+	 *            flag to enable water tile highlighting.
+	 * @param tileContent
+	 *            the map objects which are drawn on the map image.
+	 */
+	private RenderProfile(int id, MapViewMode mapViewMode, String mapFile, float textScale,
+			boolean drawTileFrames, boolean drawTileCoordinates, boolean highlightWater,
+			TileContent tileContent) {
+		this.id = id;
+		this.mapViewMode = mapViewMode;
+		this.mapFile = mapFile;
+		this.textScale = textScale;
+		this.drawTileFrames = drawTileFrames;
+		this.drawTileCoordinates = drawTileCoordinates;
+		this.highlightWater = highlightWater;
+		this.tileContent = tileContent;
+		this.hashCode = calculateHashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof RenderProfile)) {
+			return false;
+		}
+		RenderProfile other = (RenderProfile) obj;
+		return matches(other.mapViewMode, other.mapFile, other.textScale, other.drawTileFrames,
+				other.drawTileCoordinates, other.highlightWater, other.tileContent);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * Calculates the hash value of this object.
+	 * 
+	 * @return the hash value of this object.
+	 */
+	private int calculateHashCode() {
+		int result = 7;
+		result = 31 * result + ((this.mapViewMode == null) ? 0 : this.mapViewMode.hashCode());
+		result = 31 * result + ((this.mapFile == null) ? 0 : this.mapFile.hashCode());
+		result = 31 * result + Float.floatToIntBits(this.textScale);
+		result = 31 * result + (this.drawTileFrames ? 1231 : 1237);
+		result = 31 * result + (this.drawTileCoordinates ? 1231 : 1237);
+		result = 31 * result + (this.highlightWater ? 1231 : 1237);
+		result = 31 * result + ((this.tileContent == null) ? 0 : this.tileContent.hashCode());
+		return result;
+	}
+
+	/**
+	 * Checks if this render profile consists of the given settings. Unlike {@link #get}, this method
+	 * does not create any objects.
+	 * 
+	 * @param otherMapViewMode
+	 *            the operation mode in which the map image should be generated.
+	 * @param otherMapFile
+	 *            the map file or null, if no map file is needed.
+	 * @param otherTextScale
+	 *            the text scale for map rendering.
+	 * @param otherDrawTileFrames
+	 *            flag to enable tile frames.
+	 * @param otherDrawTileCoordinates
+	 *            flag to enable tile coordinates.
+	 * @param otherHighlightWater
+	 *            flag to enable water tile highlighting.
+	 * @param otherTileContent
+	 *            the map objects which are drawn on the map image.
+	 * @return true if all settings are equal, false otherwise.
+	 */
+	boolean matches(MapViewMode otherMapViewMode, String otherMapFile, float otherTextScale,
+			boolean otherDrawTileFrames, boolean otherDrawTileCoordinates,
+			boolean otherHighlightWater, TileContent otherTileContent) {
+		if (this.mapViewMode != otherMapViewMode) {
+			return false;
+		} else if (this.mapFile == null && otherMapFile != null) {
+			return false;
+		} else if (this.mapFile != null && !this.mapFile.equals(otherMapFile)) {
+			return false;
+		} else if (this.textScale != otherTextScale) {
+			return false;
+		} else if (this.drawTileFrames != otherDrawTileFrames) {
+			return false;
+		} else if (this.drawTileCoordinates != otherDrawTileCoordinates) {
+			return false;
+		} else if (this.highlightWater != otherHighlightWater) {
+			return false;
+		} else if (this.tileContent != otherTileContent) {
+			return false;
+		}
+		return true;
+	}
+}
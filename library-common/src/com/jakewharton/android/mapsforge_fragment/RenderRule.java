@@ -0,0 +1,90 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * An immutable styling rule which matches map objects by their tags. A map object matches the rule
+ * if it has at least one of the tags of the rule and the zoom level is inside the zoom range of the
+ * rule. Rules of the same class exclude each other, the rule with the lowest id wins.
+ */
+final class RenderRule {
+	/**
+	 * Unique id of the rule, which is also its priority inside its class.
+	 */
+	final int id;
+
+	/**
+	 * Class of the rule.
+	 */
+	final int ruleClass;
+
+	/**
+	 * Tags of the rule in the form "key=value".
+	 */
+	final String[] tags;
+
+	/**
+	 * Maximum zoom level at which the rule is applied.
+	 */
+	final byte zoomMax;
+
+	/**
+	 * Minimum zoom level at which the rule is applied.
+	 */
+	final byte zoomMin;
+
+	/**
+	 * Constructs a new rule which is applied at all zoom levels.
+	 * 
+	 * @param id
+	 *            the unique id of the rule.
+	 * @param ruleClass
+	 *            the class of the rule.
+	 * @param tags
+	 *            the tags of the rule in the form "key=value".
+	 */
+	RenderRule(int id, int ruleClass, String... tags) {
+		this(id, ruleClass, 0, Byte.MAX_VALUE, tags);
+	}
+
+	/**
+	 * Constructs a new rule which is only applied in the given zoom range.
+	 * 
+	 * @param id
+	 *            the unique id of the rule.
+	 * @param ruleClass
+	 *            the class of the rule.
+	 * @param zoomMin
+	 *            the minimum zoom level at which the rule is applied.
+	 * @param zoomMax
+	 *            the maximum zoom level at which the rule is applied.
+	 * @param tags
+	 *            the tags of the rule in the form "key=value".
+	 * @throws IllegalArgumentException
+	 *             if the zoom range is invalid or the rule has no tags.
+	 */
+	RenderRule(int id, int ruleClass, int zoomMin, int zoomMax, String... tags) {
+		if (zoomMin < 0 || zoomMin > zoomMax || zoomMax > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("invalid zoom range: " + zoomMin + "-" + zoomMax);
+		} else if (tags.length == 0) {
+			throw new IllegalArgumentException("rule without tags: " + id);
+		}
+		this.id = id;
+		this.ruleClass = ruleClass;
+		this.zoomMin = (byte) zoomMin;
+		this.zoomMax = (byte) zoomMax;
+		this.tags = tags;
+	}
+}
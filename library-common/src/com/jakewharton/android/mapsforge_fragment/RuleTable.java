@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A dispatch table which maps the tag ids of a map file to render rules. The table is compiled once
+ * for each map file, so that matching a map object costs one array lookup per tag of the object.
+ */
+class RuleTable {
+	/**
+	 * Marks the absence of a matching rule.
+	 */
+	static final int NO_RULE = -1;
+
+	private boolean[][] renderableTagsByZoomLevel;
+	private final int[] ruleClasses;
+	private final byte[] ruleZoomMax;
+	private final byte[] ruleZoomMin;
+	private final RenderRule[] rules;
+	private int[] rulesByTagId;
+
+	/**
+	 * Constructs a new rule table for the given rules. The table must be compiled before it matches
+	 * any map objects.
+	 * 
+	 * @param rules
+	 *            the rules, each rule at the index of its id.
+	 * @param numberOfClasses
+	 *            the number of rule classes.
+	 * @throws IllegalArgumentException
+	 *             if a rule is not at the index of its id, has an invalid class or if a tag is used
+	 *             by more than one rule.
+	 */
+	RuleTable(RenderRule[] rules, int numberOfClasses) {
+		this.rules = rules;
+		this.ruleClasses = new int[rules.length];
+		this.ruleZoomMin = new byte[rules.length];
+		this.ruleZoomMax = new byte[rules.length];
+		this.rulesByTagId = new int[0];
+		this.renderableTagsByZoomLevel = new boolean[Byte.MAX_VALUE + 1][];
+
+		Map<String, Integer> tags = new HashMap<String, Integer>();
+		for (int i = 0; i < rules.length; ++i) {
+			if (rules[i].id != i) {
+				throw new IllegalArgumentException("rule at wrong index: " + rules[i].id);
+			} else if (rules[i].ruleClass < 0 || rules[i].ruleClass >= numberOfClasses) {
+				throw new IllegalArgumentException("invalid rule class: " + rules[i].ruleClass);
+			}
+			for (String tag : rules[i].tags) {
+				if (tags.put(tag, Integer.valueOf(i)) != null) {
+					throw new IllegalArgumentException("duplicate tag: " + tag);
+				}
+			}
+			this.ruleClasses[i] = rules[i].ruleClass;
+			this.ruleZoomMin[i] = rules[i].zoomMin;
+			this.ruleZoomMax[i] = rules[i].zoomMax;
+		}
+	}
+
+	/**
+	 * Compiles the table for the tag ids of a map file. Tags which are not used by any rule map to
+	 * {@link #NO_RULE}.
+	 * 
+	 * @param tagIds
+	 *            the tag ids of the map file by their "key=value" string.
+	 */
+	void compile(Map<String, Integer> tagIds) {
+		int maximumTagId = -1;
+		for (Integer tagId : tagIds.values()) {
+			maximumTagId = Math.max(maximumTagId, tagId.intValue());
+		}
+
+		int[] newRulesByTagId = new int[maximumTagId + 1];
+		Arrays.fill(newRulesByTagId, NO_RULE);
+		for (RenderRule rule : this.rules) {
+			for (String tag : rule.tags) {
+				Integer tagId = tagIds.get(tag);
+				if (tagId != null) {
+					newRulesByTagId[tagId.intValue()] = rule.id;
+				}
+			}
+		}
+		this.rulesByTagId = newRulesByTagId;
+		this.renderableTagsByZoomLevel = new boolean[Byte.MAX_VALUE + 1][];
+	}
+
+	/**
+	 * Returns the set of tags which are used by at least one rule at the given zoom level. A map
+	 * object without any of these tags does not match a rule and needs not to be decoded. The set is
+	 * calculated on first use and shared by all later calls until the table is compiled again.
+	 * 
+	 * @param zoomLevel
+	 *            the zoom level.
+	 * @return a flag for each tag id of the map file, true if the tag is used by a rule.
+	 */
+	boolean[] getRenderableTags(byte zoomLevel) {
+		boolean[][] renderableTags = this.renderableTagsByZoomLevel;
+		int[] table = this.rulesByTagId;
+		if (renderableTags[zoomLevel] == null) {
+			boolean[] tags = new boolean[table.length];
+			for (int tagId = 0; tagId < table.length; ++tagId) {
+				int rule = table[tagId];
+				tags[tagId] = rule != NO_RULE && zoomLevel >= this.ruleZoomMin[rule]
+						&& zoomLevel <= this.ruleZoomMax[rule];
+			}
+			renderableTags[zoomLevel] = tags;
+		}
+		return renderableTags[zoomLevel];
+	}
+
+	/**
+	 * Finds the rules which match a map object. For each rule class, the matching rule with the lowest
+	 * id is stored in the result array, or {@link #NO_RULE} if no rule of the class matches.
+	 * 
+	 * @param tagIds
+	 *            the tag ids of the map object.
+	 * @param numberOfTags
+	 *            the number of valid entries in the tag id array.
+	 * @param zoomLevel
+	 *            the zoom level of the current tile.
+	 * @param matchingRules
+	 *            the result array with one entry per rule class.
+	 */
+	void match(int[] tagIds, int numberOfTags, byte zoomLevel, int[] matchingRules) {
+		Arrays.fill(matchingRules, NO_RULE);
+		int[] table = this.rulesByTagId;
+		for (int i = 0; i < numberOfTags; ++i) {
+			if (tagIds[i] < 0 || tagIds[i] >= table.length) {
+				continue;
+			}
+			int rule = table[tagIds[i]];
+			if (rule == NO_RULE || zoomLevel < this.ruleZoomMin[rule]
+					|| zoomLevel > this.ruleZoomMax[rule]) {
+				continue;
+			}
+			int ruleClass = this.ruleClasses[rule];
+			if (matchingRules[ruleClass] == NO_RULE || rule < matchingRules[ruleClass]) {
+				matchingRules[ruleClass] = rule;
+			}
+		}
+	}
+}
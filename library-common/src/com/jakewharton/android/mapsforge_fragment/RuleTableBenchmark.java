@@ -0,0 +1,193 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures the rule dispatch time per tile of the {@link RuleTable} against the former matching,
+ * which walked through all rules for every map object and checked the boxed tag id of each rule
+ * against the tag flags of the object. Both variants match the same random map objects, whose tags
+ * are drawn from the tags of the rules and the same number of tags without any rule, like the tags
+ * of a map file.
+ * <p>
+ * This class is a debugging aid. It is not used by the MapView, but can be run on a device.
+ */
+final class RuleTableBenchmark {
+	/**
+	 * Maximum number of tags of a single map object.
+	 */
+	private static final int MAXIMUM_TAGS = 4;
+
+	/**
+	 * Seed of the random map objects, so that repeated runs match the same objects.
+	 */
+	private static final long RANDOM_SEED = 42;
+
+	/**
+	 * Matches a map object by walking through all rules, like the former if/else chains did.
+	 * 
+	 * @param rules
+	 *            the rules, each rule at the index of its id.
+	 * @param ruleTagIds
+	 *            the boxed tag ids of each rule, null for tags which are not in the map file.
+	 * @param objectTags
+	 *            a flag for each tag id, true if the map object has the tag.
+	 * @param zoomLevel
+	 *            the zoom level of the current tile.
+	 * @param matchingRules
+	 *            the result array with one entry per rule class.
+	 */
+	private static void matchAllRules(RenderRule[] rules, Integer[][] ruleTagIds,
+			boolean[] objectTags, byte zoomLevel, int[] matchingRules) {
+		Arrays.fill(matchingRules, RuleTable.NO_RULE);
+		for (int rule = 0; rule < rules.length; ++rule) {
+			if (zoomLevel < rules[rule].zoomMin || zoomLevel > rules[rule].zoomMax
+					|| matchingRules[rules[rule].ruleClass] != RuleTable.NO_RULE) {
+				continue;
+			}
+			for (Integer tagId : ruleTagIds[rule]) {
+				if (tagId != null && objectTags[tagId.intValue()]) {
+					matchingRules[rules[rule].ruleClass] = rule;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Measures both variants for the given rules and appends one line with the average dispatch
+	 * time per tile to the report.
+	 * 
+	 * @param name
+	 *            the name of the rules in the report.
+	 * @param rules
+	 *            the rules, each rule at the index of its id.
+	 * @param numberOfClasses
+	 *            the number of rule classes.
+	 * @param numberOfTiles
+	 *            the number of tiles which should be matched.
+	 * @param objectsPerTile
+	 *            the number of map objects per tile.
+	 * @param zoomLevel
+	 *            the zoom level of the tiles.
+	 * @param report
+	 *            the report to which the results should be appended.
+	 */
+	private static void measure(String name, RenderRule[] rules, int numberOfClasses,
+			int numberOfTiles, int objectsPerTile, byte zoomLevel, StringBuilder report) {
+		// assign tag ids to the tags of the rules and to the same number of other tags
+		Map<String, Integer> tagIds = new HashMap<String, Integer>();
+		Integer[][] ruleTagIds = new Integer[rules.length][];
+		for (int rule = 0; rule < rules.length; ++rule) {
+			ruleTagIds[rule] = new Integer[rules[rule].tags.length];
+			for (int i = 0; i < rules[rule].tags.length; ++i) {
+				ruleTagIds[rule][i] = Integer.valueOf(tagIds.size());
+				tagIds.put(rules[rule].tags[i], ruleTagIds[rule][i]);
+			}
+		}
+		int numberOfTagIds = 2 * tagIds.size();
+
+		RuleTable ruleTable = new RuleTable(rules, numberOfClasses);
+		ruleTable.compile(tagIds);
+
+		// create the tags of the map objects of one tile
+		Random random = new Random(RANDOM_SEED);
+		int[][] objectTagIds = new int[objectsPerTile][];
+		for (int i = 0; i < objectsPerTile; ++i) {
+			objectTagIds[i] = new int[1 + random.nextInt(MAXIMUM_TAGS)];
+			for (int j = 0; j < objectTagIds[i].length; ++j) {
+				objectTagIds[i][j] = random.nextInt(numberOfTagIds);
+			}
+		}
+
+		int[] matchingRules = new int[numberOfClasses];
+		long tableChecksum = 0;
+		long startTime = System.nanoTime();
+		for (int tile = 0; tile < numberOfTiles; ++tile) {
+			for (int[] tags : objectTagIds) {
+				ruleTable.match(tags, tags.length, zoomLevel, matchingRules);
+				for (int rule : matchingRules) {
+					tableChecksum += rule;
+				}
+			}
+		}
+		long tableTime = System.nanoTime() - startTime;
+
+		boolean[] objectTags = new boolean[numberOfTagIds];
+		long chainChecksum = 0;
+		startTime = System.nanoTime();
+		for (int tile = 0; tile < numberOfTiles; ++tile) {
+			for (int[] tags : objectTagIds) {
+				for (int tagId : tags) {
+					objectTags[tagId] = true;
+				}
+				matchAllRules(rules, ruleTagIds, objectTags, zoomLevel, matchingRules);
+				for (int rule : matchingRules) {
+					chainChecksum += rule;
+				}
+				for (int tagId : tags) {
+					objectTags[tagId] = false;
+				}
+			}
+		}
+		long chainTime = System.nanoTime() - startTime;
+
+		report.append(name).append(": ").append(rules.length).append(" rules");
+		report.append(", all rules ").append(chainTime / numberOfTiles / 1000).append(" us");
+		report.append(", table ").append(tableTime / numberOfTiles / 1000).append(" us");
+		if (tableChecksum != chainChecksum) {
+			report.append(", different matches");
+		}
+		report.append('\n');
+	}
+
+	/**
+	 * Runs the benchmark for the way rules and the node rules and logs the report.
+	 * 
+	 * @param numberOfTiles
+	 *            the number of tiles which should be matched.
+	 * @param objectsPerTile
+	 *            the number of map objects per tile.
+	 * @param zoomLevel
+	 *            the zoom level of the tiles.
+	 * @return the report with the average dispatch time per tile for both variants.
+	 */
+	static String run(int numberOfTiles, int objectsPerTile, byte zoomLevel) {
+		if (numberOfTiles <= 0 || objectsPerTile < 0 || zoomLevel < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		StringBuilder report = new StringBuilder(256);
+		report.append(numberOfTiles).append(" tiles, ").append(objectsPerTile);
+		report.append(" objects per tile, zoom level ").append(zoomLevel).append('\n');
+		measure("ways", WayRules.RULES, WayRules.NUMBER_OF_CLASSES, numberOfTiles,
+				objectsPerTile, zoomLevel, report);
+		measure("nodes", NodeRules.RULES, NodeRules.NUMBER_OF_CLASSES, numberOfTiles,
+				objectsPerTile, zoomLevel, report);
+		Logger.debug(report.toString());
+		return report.toString();
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private RuleTableBenchmark() {
+		// do nothing
+	}
+}
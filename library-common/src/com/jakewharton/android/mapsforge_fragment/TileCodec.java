@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the pixels of a tile to the representation which is stored in the memory card cache and
+ * back. Encoding and decoding may run at the same time in different threads, but each of the two
+ * methods is never called concurrently with itself.
+ */
+interface TileCodec {
+	/**
+	 * Decodes a stored tile.
+	 * 
+	 * @param data
+	 *            the stored data of the tile.
+	 * @param length
+	 *            the number of bytes in the data array that belong to the tile.
+	 * @param pixels
+	 *            the buffer in which the RGB_565 pixels of the tile should be copied.
+	 * @return true if the tile was decoded successfully, false otherwise.
+	 */
+	boolean decode(byte[] data, int length, ByteBuffer pixels);
+
+	/**
+	 * Encodes a tile.
+	 * 
+	 * @param pixels
+	 *            the buffer with the RGB_565 pixels of the tile.
+	 * @param data
+	 *            the array in which the encoded tile should be written, its length is at least
+	 *            {@link #getMaximumEncodedLength()}.
+	 * @return the number of bytes written to the data array or -1, if the tile could not be encoded.
+	 */
+	int encode(ByteBuffer pixels, byte[] data);
+
+	/**
+	 * Returns the maximum number of bytes of an encoded tile.
+	 * 
+	 * @return the maximum number of bytes of an encoded tile.
+	 */
+	int getMaximumEncodedLength();
+
+	/**
+	 * Returns the unique name of the encoding. Tiles which were stored with a different encoding are
+	 * discarded.
+	 * 
+	 * @return the name of the encoding.
+	 */
+	String getName();
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import android.graphics.Bitmap;
+
+/**
+ * Measures the cost and the benefit of the codecs of the memory card cache. For each codec, the
+ * given tiles are encoded, written to a file on the memory card, read back and decoded. The time of
+ * each step and the size of the encoded tiles are reported, so that the encoding time can be
+ * compared with the I/O time it saves against the {@link RawTileCodec}.
+ * <p>
+ * This class is a debugging aid. It is not used by the MapView, but can be run on a device, for
+ * example with the tiles of the RAM cache after the map has been rendered.
+ */
+final class TileCodecBenchmark {
+	/**
+	 * Name of the temporary file which is written and read by the benchmark.
+	 */
+	private static final String BENCHMARK_FILE_NAME = "benchmark.dat";
+
+	/**
+	 * Measures a single codec and appends one line with the average times per tile to the report.
+	 * 
+	 * @param tileCodec
+	 *            the codec to be measured.
+	 * @param tiles
+	 *            the pixels of the tiles.
+	 * @param file
+	 *            the temporary file for the encoded tiles.
+	 * @param report
+	 *            the report to which the results should be appended.
+	 * @throws IOException
+	 *             if an error occurs while writing or reading the file.
+	 */
+	private static void measure(TileCodec tileCodec, ByteBuffer[] tiles, File file,
+			StringBuilder report) throws IOException {
+		byte[][] encodedTiles = new byte[tiles.length][];
+		int[] lengths = new int[tiles.length];
+		byte[] data = new byte[tileCodec.getMaximumEncodedLength()];
+		long encodedSize = 0;
+
+		long startTime = System.nanoTime();
+		for (int i = 0; i < tiles.length; ++i) {
+			lengths[i] = tileCodec.encode(tiles[i], data);
+			if (lengths[i] <= 0) {
+				report.append(tileCodec.getName()).append(": encoding failed\n");
+				return;
+			}
+			encodedTiles[i] = new byte[lengths[i]];
+			System.arraycopy(data, 0, encodedTiles[i], 0, lengths[i]);
+			encodedSize += lengths[i];
+		}
+		long encodeTime = System.nanoTime() - startTime;
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			randomAccessFile.setLength(0);
+			startTime = System.nanoTime();
+			for (int i = 0; i < tiles.length; ++i) {
+				randomAccessFile.write(encodedTiles[i], 0, lengths[i]);
+			}
+			// the data must reach the memory card, not only the page cache
+			randomAccessFile.getFD().sync();
+			long writeTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			randomAccessFile.seek(0);
+			for (int i = 0; i < tiles.length; ++i) {
+				randomAccessFile.readFully(data, 0, lengths[i]);
+			}
+			long readTime = System.nanoTime() - startTime;
+
+			ByteBuffer pixels = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+			startTime = System.nanoTime();
+			for (int i = 0; i < tiles.length; ++i) {
+				if (!tileCodec.decode(encodedTiles[i], lengths[i], pixels)) {
+					report.append(tileCodec.getName()).append(": decoding failed\n");
+					return;
+				}
+				pixels.rewind();
+			}
+			long decodeTime = System.nanoTime() - startTime;
+
+			int count = tiles.length;
+			report.append(tileCodec.getName());
+			report.append(": size ").append(encodedSize / count).append(" bytes");
+			report.append(", encode ").append(encodeTime / count / 1000).append(" us");
+			report.append(", write ").append(writeTime / count / 1000).append(" us");
+			report.append(", read ").append(readTime / count / 1000).append(" us");
+			report.append(", decode ").append(decodeTime / count / 1000).append(" us\n");
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Runs the benchmark for all codecs with the given tiles and logs the report.
+	 * 
+	 * @param tiles
+	 *            the tiles which should be encoded, the bitmaps must have the RGB_565 format.
+	 * @param directory
+	 *            the directory on the memory card in which the temporary file is created.
+	 * @return the report with the average size and times per tile for each codec.
+	 * @throws IOException
+	 *             if an error occurs while writing or reading the temporary file.
+	 */
+	static String run(Bitmap[] tiles, File directory) throws IOException {
+		ByteBuffer[] pixels = new ByteBuffer[tiles.length];
+		for (int i = 0; i < tiles.length; ++i) {
+			pixels[i] = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+			tiles[i].copyPixelsToBuffer(pixels[i]);
+			pixels[i].rewind();
+		}
+
+		StringBuilder report = new StringBuilder(256);
+		report.append(tiles.length).append(" tiles\n");
+		File file = new File(directory, BENCHMARK_FILE_NAME);
+		try {
+			if (tiles.length > 0) {
+				measure(new RawTileCodec(), pixels, file, report);
+				measure(new DeflateTileCodec(), pixels, file, report);
+				measure(new PngTileCodec(), pixels, file, report);
+			}
+		} finally {
+			if (file.exists() && !file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+		Logger.debug(report.toString());
+		return report.toString();
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private TileCodecBenchmark() {
+		// do nothing
+	}
+}
@@ -14,20 +14,25 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
-class CircleContainer extends ShapeContainer {
-	final float radius;
-	final float x;
-	final float y;
+/**
+ * The TileContent enumeration lists which map objects are drawn on a rendered map image. Labels and
+ * symbols depend on the text scale, so they can be rendered separately from the geometry.
+ */
+enum TileContent {
+	/**
+	 * All map objects are drawn on the map image, labels are placed per tile.
+	 */
+	ALL,
 
-	CircleContainer(float x, float y, float radius) {
-		super();
-		this.x = x;
-		this.y = y;
-		this.radius = radius;
-	}
+	/**
+	 * Only the ways and their symbols are drawn on the map image. The labels are drawn by the
+	 * {@link LabelLayer} of the MapView, so that the image does not depend on the text scale.
+	 */
+	BASE,
 
-	@Override
-	ShapeType getShapeType() {
-		return ShapeType.CIRCLE;
-	}
-}
\ No newline at end of file
+	/**
+	 * No map image is generated. The labels and symbols of the tile are passed to the
+	 * {@link LabelLayer} of the MapView.
+	 */
+	LABELS;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * A container class for a continuous range of bytes in the data file of the tile memory card cache.
+ * It either holds the data of a single tile or free space.
+ */
+class TileFileExtent implements Comparable<TileFileExtent> {
+	/**
+	 * Number of bytes in the range.
+	 */
+	int length;
+
+	/**
+	 * Position of the first byte in the data file.
+	 */
+	long offset;
+
+	/**
+	 * Constructs a new extent with the given position and length.
+	 * 
+	 * @param offset
+	 *            the position of the first byte in the data file.
+	 * @param length
+	 *            the number of bytes in the range.
+	 */
+	TileFileExtent(long offset, int length) {
+		this.offset = offset;
+		this.length = length;
+	}
+
+	@Override
+	public int compareTo(TileFileExtent another) {
+		if (this.offset < another.offset) {
+			return -1;
+		} else if (this.offset > another.offset) {
+			return 1;
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * This class packs the identity of a rendered map image into a single long value. A key consists of
+ * the zoom level, the X and Y number of the tile and the id of the {@link RenderProfile} which was
+ * used to render the image. Keys can be compared and hashed without creating any objects.
+ * <p>
+ * Tile numbers are stored in 22 bits each. Each number from -2^21 (exclusive) to 2^21 (inclusive)
+ * has a unique representation, which covers all tiles up to zoom level 21 and their direct
+ * neighbours outside of the world map.
+ */
+final class TileKey {
+	/**
+	 * Number of bits for each tile number.
+	 */
+	private static final int COORDINATE_BITS = 22;
+
+	/**
+	 * Bit mask for a single tile number.
+	 */
+	private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+
+	/**
+	 * Number of bits for the render profile id.
+	 */
+	private static final int RENDER_PROFILE_BITS = 15;
+
+	/**
+	 * Bit mask for the render profile id.
+	 */
+	private static final long RENDER_PROFILE_MASK = (1L << RENDER_PROFILE_BITS) - 1;
+
+	/**
+	 * Bit mask for the zoom level.
+	 */
+	private static final long ZOOM_LEVEL_MASK = 0x1f;
+
+	/**
+	 * Maximum number of different render profiles which can be stored in a key.
+	 */
+	static final int MAXIMUM_RENDER_PROFILES = 1 << RENDER_PROFILE_BITS;
+
+	/**
+	 * Returns the render profile id of the given key.
+	 * 
+	 * @param key
+	 *            the packed key.
+	 * @return the render profile id.
+	 */
+	static int getRenderProfileId(long key) {
+		return (int) (key & RENDER_PROFILE_MASK);
+	}
+
+	/**
+	 * Packs the given values into a key.
+	 * 
+	 * @param tileX
+	 *            the X number of the tile.
+	 * @param tileY
+	 *            the Y number of the tile.
+	 * @param zoomLevel
+	 *            the zoom level of the tile.
+	 * @param renderProfileId
+	 *            the id of the render profile.
+	 * @return the packed key.
+	 */
+	static long pack(long tileX, long tileY, byte zoomLevel, int renderProfileId) {
+		return (zoomLevel & ZOOM_LEVEL_MASK) << (2 * COORDINATE_BITS + RENDER_PROFILE_BITS)
+				| (tileX & COORDINATE_MASK) << (COORDINATE_BITS + RENDER_PROFILE_BITS)
+				| (tileY & COORDINATE_MASK) << RENDER_PROFILE_BITS
+				| (renderProfileId & RENDER_PROFILE_MASK);
+	}
+
+	/**
+	 * Replaces the render profile id of the given key.
+	 * 
+	 * @param key
+	 *            the packed key.
+	 * @param renderProfileId
+	 *            the new id of the render profile.
+	 * @return the packed key with the new render profile id.
+	 */
+	static long setRenderProfileId(long key, int renderProfileId) {
+		return (key & ~RENDER_PROFILE_MASK) | (renderProfileId & RENDER_PROFILE_MASK);
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private TileKey() {
+		// do nothing
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.graphics.Paint;
+
+/**
+ * A container class for the labels and symbols of a single tile, which are drawn by the
+ * {@link LabelLayer} of the MapView. All coordinates are relative to the upper left corner of the
+ * tile. The labels use copies of the paints of the MapGenerator, which may change the original paints
+ * for the next job.
+ */
+class TileLabels {
+	/**
+	 * Returns the copy of the given paint. Each paint is only copied once.
+	 * 
+	 * @param paint
+	 *            the paint to be copied or null.
+	 * @param paintCopies
+	 *            the copies of the paints by their original paint.
+	 * @return the copy of the paint or null, if the given paint is null.
+	 */
+	private static Paint copyPaint(Paint paint, Map<Paint, Paint> paintCopies) {
+		if (paint == null) {
+			return null;
+		}
+		Paint paintCopy = paintCopies.get(paint);
+		if (paintCopy == null) {
+			paintCopy = new Paint(paint);
+			paintCopies.put(paint, paintCopy);
+		}
+		return paintCopy;
+	}
+
+	/**
+	 * Copies the given labels and their paints.
+	 * 
+	 * @param labels
+	 *            the labels to be copied.
+	 * @param paintCopies
+	 *            the copies of the paints by their original paint.
+	 * @return the copied labels.
+	 */
+	private static List<PointTextContainer> copyPointTexts(List<PointTextContainer> labels,
+			Map<Paint, Paint> paintCopies) {
+		List<PointTextContainer> labelCopies = new ArrayList<PointTextContainer>(labels.size());
+		for (PointTextContainer label : labels) {
+			labelCopies.add(new PointTextContainer(label, label.x, label.y, copyPaint(
+					label.paintFront, paintCopies), copyPaint(label.paintBack, paintCopies),
+					label.symbol));
+		}
+		return labelCopies;
+	}
+
+	final List<PointTextContainer> areaLabels;
+	final List<PointTextContainer> nodes;
+	final List<SymbolContainer> pointSymbols;
+	final Tile tile;
+	final List<WayTextContainer> wayNames;
+
+	/**
+	 * Copies the given labels and symbols of a tile. The symbols are immutable and not copied.
+	 * 
+	 * @param tile
+	 *            the tile.
+	 * @param nodes
+	 *            the labels of the points of interest.
+	 * @param areaLabels
+	 *            the labels of the areas.
+	 * @param pointSymbols
+	 *            the symbols of the points of interest and areas.
+	 * @param wayNames
+	 *            the names of the ways.
+	 */
+	TileLabels(Tile tile, List<PointTextContainer> nodes, List<PointTextContainer> areaLabels,
+			List<SymbolContainer> pointSymbols, List<WayTextContainer> wayNames) {
+		Map<Paint, Paint> paintCopies = new IdentityHashMap<Paint, Paint>();
+		this.tile = tile;
+		this.nodes = copyPointTexts(nodes, paintCopies);
+		this.areaLabels = copyPointTexts(areaLabels, paintCopies);
+		this.pointSymbols = new ArrayList<SymbolContainer>(pointSymbols);
+		this.wayNames = new ArrayList<WayTextContainer>(wayNames.size());
+		for (WayTextContainer wayName : wayNames) {
+			this.wayNames.add(new WayTextContainer(wayName.coordinates, wayName.text, copyPaint(
+					wayName.paint, paintCopies)));
+		}
+	}
+}
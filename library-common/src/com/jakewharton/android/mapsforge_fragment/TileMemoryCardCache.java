@@ -14,217 +14,917 @@
  */
 package com.jakewharton.android.mapsforge_fragment;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.util.LinkedHashMap;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import android.graphics.Bitmap;
+import android.os.Process;
 
 /**
- * A thread-safe cache for image files with a fixed size and LRU policy.
+ * A thread-safe cache for images with a capacity in bytes and LRU policy. All images are encoded
+ * with a {@link TileCodec} and packed into a single data file. The capacity limits the sum of the
+ * encoded images, so a codec which compresses well lets the cache hold more images. An index maps
+ * each cached image to its range in the data file. Space of removed images is reused for new
+ * images, and a background thread compacts the data file when too much of it is unused.
+ * <p>
+ * New images are written behind by a separate thread, so that the MapGenerator threads do not wait
+ * for the memory card. The writer only holds the lock on the cache to reserve a range of the data
+ * file and to add the written image to the index. Images which are not yet written are served from
+ * the queue of pending images. If the queue is full, the oldest pending image is dropped.
+ * <p>
+ * Images are identified by their packed {@link TileKey}. As the ids of render profiles are only
+ * valid for the lifetime of the process, the index file stores the settings of all used render
+ * profiles, which are interned again when the index is restored.
+ * <p>
+ * Each cache locks its directory with a lock file. If the directory is already locked by another
+ * cache, a unique temporary directory is used instead, which is deleted when the cache is
+ * destroyed.
  */
 class TileMemoryCardCache {
 	/**
-	 * Filename extension for cached image files.
+	 * Minimum fraction of unused space in the data file which triggers a compaction.
 	 */
-	private static final String IMAGE_FILE_NAME_EXTENSION = ".tile";
+	private static final float COMPACTION_FREE_RATIO = 0.5f;
 
 	/**
-	 * Load factor of the internal HashMap.
+	 * Minimum amount of unused bytes in the data file which triggers a compaction.
 	 */
-	private static final float LOAD_FACTOR = 0.6f;
+	private static final int COMPACTION_MINIMUM_FREE_SIZE = 8 * Tile.TILE_SIZE_IN_BYTES;
 
 	/**
-	 * Name of the file used for serialization of the cache map.
+	 * Name of the file which contains the data of all cached images.
 	 */
-	private static final String SERIALIZATION_FILE_NAME = "cache.ser";
+	private static final String DATA_FILE_NAME = "tiles.dat";
 
-	private static Map<MapGeneratorJob, File> createMap(final int initialCapacity) {
-		return new LinkedHashMap<MapGeneratorJob, File>(
-				(int) (initialCapacity / LOAD_FACTOR) + 2, LOAD_FACTOR, true) {
-			private static final long serialVersionUID = 1L;
+	/**
+	 * Name of the file used to persist the index of the cache.
+	 */
+	private static final String INDEX_FILE_NAME = "tiles.idx";
 
-			@Override
-			protected boolean removeEldestEntry(Map.Entry<MapGeneratorJob, File> eldest) {
-				if (size() > initialCapacity) {
-					// remove the entry from the cache and delete the cached file
-					this.remove(eldest.getKey());
-					if (!eldest.getValue().delete()) {
-						eldest.getValue().deleteOnExit();
-					}
+	/**
+	 * Version number of the index file format.
+	 */
+	private static final int INDEX_FILE_VERSION = 4;
+
+	/**
+	 * Name of the file which is locked by the cache that uses the directory.
+	 */
+	private static final String LOCK_FILE_NAME = "tiles.lock";
+
+	/**
+	 * Absolute paths of all directories which are locked by a cache of this process. File locks
+	 * are held on behalf of the whole process, so they cannot exclude caches of the same process.
+	 */
+	private static final Set<String> LOCKED_DIRECTORIES = new HashSet<String>();
+
+	/**
+	 * Maximum number of images which wait for being written to the data file.
+	 */
+	private static final int MAXIMUM_PENDING_IMAGES = 8;
+
+	/**
+	 * Deletes the data file, the index file, the lock file and the given cache directory itself.
+	 * 
+	 * @param directory
+	 *            the cache directory.
+	 */
+	private static void deleteCacheDirectory(File directory) {
+		if (directory.isDirectory()) {
+			deleteFile(new File(directory, DATA_FILE_NAME));
+			deleteFile(new File(directory, INDEX_FILE_NAME));
+			deleteFile(new File(directory, LOCK_FILE_NAME));
+
+			// delete the cache directory
+			if (!directory.delete()) {
+				directory.deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the given file if it exists.
+	 * 
+	 * @param file
+	 *            the file to be deleted.
+	 */
+	private static void deleteFile(File file) {
+		if (file.exists() && !file.delete()) {
+			file.deleteOnExit();
+		}
+	}
+
+	/**
+	 * Deletes the given cache directory if it is not used by another cache. Directories which
+	 * cannot be locked are never deleted.
+	 * 
+	 * @param directory
+	 *            the cache directory.
+	 * @return true if the directory was deleted, false otherwise.
+	 */
+	static boolean deleteUnusedCacheDirectory(File directory) {
+		if (!directory.isDirectory()) {
+			return false;
+		}
+		FileLock lock = lockDirectory(directory);
+		if (lock == null) {
+			return false;
+		}
+		deleteCacheDirectory(directory);
+		unlockDirectory(directory, lock);
+		return true;
+	}
+
+	/**
+	 * Tries to lock the given cache directory for the calling cache.
+	 * 
+	 * @param directory
+	 *            the cache directory.
+	 * @return the lock of the directory, or null if the directory is used by another cache or
+	 *         cannot be locked.
+	 */
+	private static FileLock lockDirectory(File directory) {
+		String path = directory.getAbsolutePath();
+		synchronized (LOCKED_DIRECTORIES) {
+			if (!LOCKED_DIRECTORIES.add(path)) {
+				// the directory is used by another cache of this process
+				return null;
+			}
+		}
+
+		RandomAccessFile lockFile = null;
+		FileLock lock = null;
+		try {
+			lockFile = new RandomAccessFile(new File(directory, LOCK_FILE_NAME), "rw");
+			lock = lockFile.getChannel().tryLock();
+		} catch (IOException e) {
+			Logger.exception(e);
+		} catch (OverlappingFileLockException e) {
+			// the lock file is locked by another channel of this process
+			lock = null;
+		}
+
+		if (lock == null) {
+			if (lockFile != null) {
+				try {
+					lockFile.close();
+				} catch (IOException e) {
+					Logger.exception(e);
 				}
-				return false;
 			}
-		};
+			synchronized (LOCKED_DIRECTORIES) {
+				LOCKED_DIRECTORIES.remove(path);
+			}
+		}
+		return lock;
+	}
+
+	/**
+	 * Creates the given cache directory if necessary and checks that it can be used.
+	 * 
+	 * @param directory
+	 *            the cache directory.
+	 * @return true if the directory can be used, false otherwise.
+	 */
+	private static boolean prepareDirectory(File directory) {
+		// check if the cache directory exists
+		if (!directory.exists()) {
+			// check if the cache directory can be created
+			return directory.mkdirs();
+		}
+		return directory.isDirectory() && directory.canRead() && directory.canWrite();
+	}
+
+	/**
+	 * Reads bytes from the given position of a file channel until the buffer is full. The position
+	 * of the channel is not changed.
+	 * 
+	 * @param channel
+	 *            the channel from which the bytes should be read.
+	 * @param buffer
+	 *            the buffer into which the bytes should be read.
+	 * @param position
+	 *            the position in the file of the first byte.
+	 * @throws IOException
+	 *             if an error occurs while reading or the end of the file is reached.
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+			throws IOException {
+		int bytesRead = 0;
+		while (buffer.hasRemaining()) {
+			int count = channel.read(buffer, position + bytesRead);
+			if (count < 0) {
+				throw new EOFException();
+			}
+			bytesRead += count;
+		}
+	}
+
+	/**
+	 * Reads the settings of a single render profile from the index file and interns them.
+	 * 
+	 * @param inputStream
+	 *            the stream from which the render profile should be read.
+	 * @return the render profile.
+	 * @throws IOException
+	 *             if an error occurs while reading the stream.
+	 * @throws IllegalArgumentException
+	 *             if the stored MapViewMode or TileContent does not exist.
+	 */
+	private static RenderProfile readRenderProfile(DataInputStream inputStream)
+			throws IOException {
+		MapViewMode mapViewMode = MapViewMode.valueOf(inputStream.readUTF());
+		String mapFile = inputStream.readBoolean() ? inputStream.readUTF() : null;
+		float textScale = inputStream.readFloat();
+		boolean drawTileFrames = inputStream.readBoolean();
+		boolean drawTileCoordinates = inputStream.readBoolean();
+		boolean highlightWater = inputStream.readBoolean();
+		TileContent tileContent = TileContent.valueOf(inputStream.readUTF());
+		return RenderProfile.get(mapViewMode, mapFile, textScale, drawTileFrames,
+				drawTileCoordinates, highlightWater, tileContent);
+	}
+
+	/**
+	 * Releases the lock of the given cache directory.
+	 * 
+	 * @param directory
+	 *            the cache directory.
+	 * @param lock
+	 *            the lock of the directory.
+	 */
+	private static void unlockDirectory(File directory, FileLock lock) {
+		try {
+			// closing the channel also releases the lock
+			lock.channel().close();
+		} catch (IOException e) {
+			Logger.exception(e);
+		}
+		synchronized (LOCKED_DIRECTORIES) {
+			LOCKED_DIRECTORIES.remove(directory.getAbsolutePath());
+		}
+	}
+
+	/**
+	 * Writes the remaining bytes of the buffer to the given position of a file channel. The
+	 * position of the channel is not changed.
+	 * 
+	 * @param channel
+	 *            the channel to which the bytes should be written.
+	 * @param buffer
+	 *            the buffer which contains the bytes.
+	 * @param position
+	 *            the position in the file of the first byte.
+	 * @throws IOException
+	 *             if an error occurs while writing.
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+			throws IOException {
+		int bytesWritten = 0;
+		while (buffer.hasRemaining()) {
+			bytesWritten += channel.write(buffer, position + bytesWritten);
+		}
+	}
+
+	/**
+	 * Writes the settings of a single render profile to the index file.
+	 * 
+	 * @param outputStream
+	 *            the stream to which the render profile should be written.
+	 * @param renderProfile
+	 *            the render profile.
+	 * @throws IOException
+	 *             if an error occurs while writing the stream.
+	 */
+	private static void writeRenderProfile(DataOutputStream outputStream,
+			RenderProfile renderProfile) throws IOException {
+		outputStream.writeUTF(renderProfile.mapViewMode.name());
+		outputStream.writeBoolean(renderProfile.mapFile != null);
+		if (renderProfile.mapFile != null) {
+			outputStream.writeUTF(renderProfile.mapFile);
+		}
+		outputStream.writeFloat(renderProfile.textScale);
+		outputStream.writeBoolean(renderProfile.drawTileFrames);
+		outputStream.writeBoolean(renderProfile.drawTileCoordinates);
+		outputStream.writeBoolean(renderProfile.highlightWater);
+		outputStream.writeUTF(renderProfile.tileContent.name());
 	}
 
-	private final ByteBuffer bitmapBuffer;
-	private long cacheId;
 	private int capacity;
-	private Map<MapGeneratorJob, File> map;
-	private File outputFile;
+	private boolean compacting;
+	private Thread compactionThread;
+	private RandomAccessFile dataFile;
+	private long dataFileLength;
+	private FileLock directoryLock;
+	private final byte[] encodeBuffer;
+	private final List<TileFileExtent> freeExtents;
+	private long freeSize;
+	private LongHashMap<TileFileExtent> map;
+	private final List<ByteBuffer> pendingBufferPool;
+	private int pendingCount;
+	private final ByteBuffer[] pendingImages;
+	private final long[] pendingKeys;
+	private final byte[] readBuffer;
+	private final List<ByteBuffer> readingImages;
+	private boolean stopThreads;
 	private final File tempDir;
+	private final boolean temporaryDirectory;
+	private final TileCodec tileCodec;
+	private ByteBuffer writingImage;
+	private Thread writerThread;
 
 	/**
-	 * Constructs an image file cache with a fixes size and LRU policy.
+	 * Constructs an image file cache with a capacity in bytes and LRU policy.
 	 * 
 	 * @param tempDir
 	 *            the temporary directory to use for cached files.
 	 * @param capacity
-	 *            the maximum number of entries in the cache.
+	 *            the maximum number of bytes of all encoded images in the cache.
+	 * @param tileCodec
+	 *            the codec which encodes the cached images.
 	 * @throws IllegalArgumentException
 	 *             if the capacity is negative.
 	 */
-	TileMemoryCardCache(String tempDir, int capacity) {
+	TileMemoryCardCache(String tempDir, int capacity, TileCodec tileCodec) {
 		if (capacity < 0) {
 			throw new IllegalArgumentException();
 		}
 
-		this.tempDir = new File(tempDir);
-		// check if the cache directory exists
-		if (!this.tempDir.exists()) {
-			// check if the cache directory can be created
-			if (this.tempDir.mkdirs()) {
-				this.capacity = capacity;
-			} else {
-				this.capacity = 0;
+		File directory = new File(tempDir);
+		boolean usable = prepareDirectory(directory);
+		if (usable) {
+			this.directoryLock = lockDirectory(directory);
+		}
+		if (usable && this.directoryLock == null) {
+			// the directory is used by another cache, fall back to a unique directory
+			directory = new File(tempDir + '-' + UUID.randomUUID());
+			usable = prepareDirectory(directory);
+			if (usable) {
+				this.directoryLock = lockDirectory(directory);
 			}
-		} else if (!this.tempDir.isDirectory() || !this.tempDir.canRead()
-				|| !this.tempDir.canWrite()) {
-			this.capacity = 0;
+			this.temporaryDirectory = true;
 		} else {
-			this.capacity = capacity;
+			this.temporaryDirectory = false;
 		}
+		this.tempDir = directory;
+		this.capacity = usable ? capacity : 0;
 
-		this.bitmapBuffer = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+		this.tileCodec = tileCodec;
+		this.encodeBuffer = new byte[this.tileCodec.getMaximumEncodedLength()];
+		this.readBuffer = new byte[this.tileCodec.getMaximumEncodedLength()];
+		this.freeExtents = new ArrayList<TileFileExtent>();
+		this.map = new LongHashMap<TileFileExtent>(this.capacity / Tile.TILE_SIZE_IN_BYTES,
+				true);
+		this.pendingBufferPool = new ArrayList<ByteBuffer>(MAXIMUM_PENDING_IMAGES + 1);
+		this.pendingImages = new ByteBuffer[MAXIMUM_PENDING_IMAGES];
+		this.pendingKeys = new long[MAXIMUM_PENDING_IMAGES];
+		this.readingImages = new ArrayList<ByteBuffer>(2);
 
-		// restore the serialized cache map if possible
-		if (!deserializeCacheMap()) {
-			this.map = createMap(this.capacity);
+		if (this.capacity > 0) {
+			openDataFile();
+		}
+
+		if (this.dataFile != null) {
+			this.writerThread = new Thread() {
+				@Override
+				public void run() {
+					setName("TileMemoryCardCacheWriter");
+					writePendingImages();
+				}
+			};
+			this.writerThread.start();
 		}
 	}
 
 	/**
-	 * Deletes all cached files and the cache directory itself.
+	 * Returns the next free range of the data file with the given length. The first unused range which
+	 * is large enough is reused, otherwise the range is appended to the end of the data file.
+	 * 
+	 * @param length
+	 *            the number of bytes needed.
+	 * @return the position of the range in the data file.
 	 */
-	private void deleteCachedFiles() {
-		// delete all files in the cache map
-		if (this.map != null) {
-			for (File file : this.map.values()) {
-				if (!file.delete()) {
-					file.deleteOnExit();
+	private long allocateExtent(int length) {
+		int index = findFreeExtent(length);
+		if (index < 0) {
+			long offset = this.dataFileLength;
+			this.dataFileLength += length;
+			return offset;
+		}
+
+		TileFileExtent freeExtent = this.freeExtents.get(index);
+		long offset = freeExtent.offset;
+		freeExtent.offset += length;
+		freeExtent.length -= length;
+		if (freeExtent.length == 0) {
+			this.freeExtents.remove(index);
+		}
+		this.freeSize -= length;
+		return offset;
+	}
+
+	/**
+	 * Removes all images from the queue of pending images.
+	 */
+	private void clearPendingImages() {
+		Arrays.fill(this.pendingImages, null);
+		this.pendingCount = 0;
+	}
+
+	/**
+	 * Closes the data file.
+	 */
+	private void closeDataFile() {
+		if (this.dataFile != null) {
+			try {
+				this.dataFile.close();
+			} catch (IOException e) {
+				Logger.exception(e);
+			}
+			this.dataFile = null;
+		}
+	}
+
+	/**
+	 * Moves cached images from the end of the data file into unused ranges before them, until no image
+	 * can be moved anymore, and truncates the data file afterwards. The images are sorted by their
+	 * position once. Each image is copied to a reserved range without holding the lock on the cache
+	 * and only moved in the index if it has not been removed in the meantime.
+	 */
+	private void compact() {
+		ByteBuffer buffer = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+		try {
+			Long[] keys;
+			synchronized (this) {
+				if (this.dataFile == null) {
+					return;
+				}
+
+				// sort the cached images by their position, the last image first
+				keys = new Long[this.map.size()];
+				int i = 0;
+				for (int slot = this.map.first(); slot >= 0; slot = this.map.next(slot)) {
+					keys[i++] = Long.valueOf(this.map.keyAt(slot));
+				}
+				Arrays.sort(keys, new Comparator<Long>() {
+					@Override
+					public int compare(Long key1, Long key2) {
+						return TileMemoryCardCache.this.map.peek(key2.longValue()).compareTo(
+								TileMemoryCardCache.this.map.peek(key1.longValue()));
+					}
+				});
+			}
+
+			FileChannel channel;
+			TileFileExtent extent;
+			long oldOffset;
+			long newOffset;
+			for (Long key : keys) {
+				synchronized (this) {
+					if (this.dataFile == null || this.stopThreads) {
+						return;
+					}
+					extent = this.map.peek(key.longValue());
+					if (extent == null) {
+						// the image has been removed in the meantime
+						continue;
+					}
+					int index = findFreeExtent(extent.length);
+					if (index < 0 || this.freeExtents.get(index).offset > extent.offset) {
+						// no more images can be moved
+						break;
+					}
+					channel = this.dataFile.getChannel();
+					oldOffset = extent.offset;
+					newOffset = allocateExtent(extent.length);
+				}
+
+				// copy the image to the reserved range
+				if (buffer.capacity() < extent.length) {
+					buffer = ByteBuffer.allocate(extent.length);
+				}
+				buffer.clear();
+				buffer.limit(extent.length);
+				boolean copied = false;
+				try {
+					readFully(channel, buffer, oldOffset);
+					buffer.flip();
+					writeFully(channel, buffer, newOffset);
+					copied = true;
+				} finally {
+					synchronized (this) {
+						if (copied && this.dataFile != null
+								&& this.map.peek(key.longValue()) == extent) {
+							extent.offset = newOffset;
+							freeExtent(oldOffset, extent.length);
+						} else {
+							freeExtent(newOffset, extent.length);
+						}
+					}
 				}
 			}
+
+			synchronized (this) {
+				if (this.dataFile != null) {
+					this.dataFile.setLength(this.dataFileLength);
+				}
+			}
+		} catch (IOException e) {
+			Logger.exception(e);
+		} finally {
+			synchronized (this) {
+				this.compacting = false;
+			}
+		}
+	}
+
+	/**
+	 * Deletes the data file, the index file and the cache directory itself.
+	 */
+	private void deleteCachedFiles() {
+		closeDataFile();
+		if (this.map != null) {
 			this.map.clear();
 			this.map = null;
 		}
+		this.freeExtents.clear();
 
-		if (this.tempDir != null && this.tempDir.isDirectory()) {
-			// create a filename filter that matches all cached image files
-			FilenameFilter filenameFilter = new FilenameFilter() {
-				@Override
-				public boolean accept(File dir, String name) {
-					return name.endsWith(IMAGE_FILE_NAME_EXTENSION);
-				}
-			};
+		if (this.tempDir != null) {
+			deleteCacheDirectory(this.tempDir);
+		}
+	}
 
-			// delete all other cached image files
-			for (File file : this.tempDir.listFiles(filenameFilter)) {
-				if (!file.delete()) {
-					file.deleteOnExit();
-				}
+	/**
+	 * Returns the first unused range of the data file with at least the given length.
+	 * 
+	 * @param length
+	 *            the number of bytes needed.
+	 * @return the index of the range in the list of unused ranges or -1, if no range is large enough.
+	 */
+	private int findFreeExtent(int length) {
+		for (int i = 0; i < this.freeExtents.size(); ++i) {
+			if (this.freeExtents.get(i).length >= length) {
+				return i;
 			}
+		}
+		return -1;
+	}
 
-			// delete the cache directory
-			if (this.tempDir != null && !this.tempDir.delete()) {
-				this.tempDir.deleteOnExit();
+	/**
+	 * Returns the position of the given key in the queue of pending images.
+	 * 
+	 * @param key
+	 *            the key of the image.
+	 * @return the position in the queue or -1, if no image with the given key is pending.
+	 */
+	private int findPendingImage(long key) {
+		for (int i = 0; i < this.pendingCount; ++i) {
+			if (this.pendingKeys[i] == key) {
+				return i;
 			}
 		}
+		return -1;
+	}
+
+	/**
+	 * Marks the given range of the data file as unused and merges it with adjacent unused ranges. An
+	 * unused range at the end of the data file is removed from the data file.
+	 * 
+	 * @param offset
+	 *            the position of the range in the data file.
+	 * @param length
+	 *            the number of bytes in the range.
+	 */
+	private void freeExtent(long offset, int length) {
+		this.freeSize += length;
+
+		// find the position of the range in the sorted list
+		int index = 0;
+		while (index < this.freeExtents.size() && this.freeExtents.get(index).offset < offset) {
+			++index;
+		}
+		TileFileExtent extent = new TileFileExtent(offset, length);
+
+		// merge with the following range
+		if (index < this.freeExtents.size()
+				&& offset + length == this.freeExtents.get(index).offset) {
+			extent.length += this.freeExtents.remove(index).length;
+		}
+
+		// merge with the preceding range
+		if (index > 0
+				&& this.freeExtents.get(index - 1).offset + this.freeExtents.get(index - 1).length == offset) {
+			--index;
+			this.freeExtents.get(index).length += extent.length;
+			extent = this.freeExtents.get(index);
+		} else {
+			this.freeExtents.add(index, extent);
+		}
+
+		// check if the range is at the end of the data file
+		if (extent.offset + extent.length == this.dataFileLength) {
+			this.freeExtents.remove(index);
+			this.dataFileLength = extent.offset;
+			this.freeSize -= extent.length;
+		}
 	}
 
 	/**
-	 * Restores the serialized cache map if possible.
+	 * Returns the number of bytes in the data file which are used by images, including reserved
+	 * ranges of images which are being written or moved.
 	 * 
-	 * @return true if the map was restored successfully, false otherwise.
+	 * @return the number of used bytes.
 	 */
-	@SuppressWarnings("unchecked")
-	private synchronized boolean deserializeCacheMap() {
+	private long getUsedSize() {
+		return this.dataFileLength - this.freeSize;
+	}
+
+	/**
+	 * Checks if the given buffer of a pending image is being copied by a reader.
+	 * 
+	 * @param pixels
+	 *            the buffer of the pending image.
+	 * @return true if the buffer is being copied, false otherwise.
+	 */
+	private boolean isReadingImage(ByteBuffer pixels) {
+		for (int i = this.readingImages.size() - 1; i >= 0; --i) {
+			if (this.readingImages.get(i) == pixels) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Opens the data file and restores the persisted index if possible. If no valid index exists, the
+	 * data file is cleared. The capacity is set to zero if the data file cannot be opened.
+	 */
+	private void openDataFile() {
 		try {
-			// check if the serialization file exists and is readable
-			File file = new File(this.tempDir, SERIALIZATION_FILE_NAME);
-			if (!file.exists()) {
-				return false;
-			} else if (!file.isFile()) {
-				return false;
-			} else if (!file.canRead()) {
-				return false;
+			this.dataFile = new RandomAccessFile(new File(this.tempDir, DATA_FILE_NAME), "rw");
+			if (!readIndexFile()) {
+				this.map.clear();
+				this.freeExtents.clear();
+				this.freeSize = 0;
+				this.dataFileLength = 0;
+				this.dataFile.setLength(0);
 			}
+			removeEldestEntries(this.capacity);
+		} catch (IOException e) {
+			Logger.exception(e);
+			closeDataFile();
+			this.capacity = 0;
+		}
+	}
 
-			// create the input streams
-			FileInputStream inputStream = new FileInputStream(file);
-			ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
+	/**
+	 * Restores the persisted index and rebuilds the list of unused ranges from the gaps between the
+	 * cached images. The index file is deleted afterwards.
+	 * 
+	 * @return true if the index was restored successfully, false otherwise.
+	 */
+	private boolean readIndexFile() {
+		File file = new File(this.tempDir, INDEX_FILE_NAME);
+		if (!file.isFile() || !file.canRead()) {
+			return false;
+		}
 
-			// restore the serialized cache map (the compiler warning cannot be fixed)
-			this.map = (Map<MapGeneratorJob, File>) objectInputStream.readObject();
+		try {
+			DataInputStream inputStream = new DataInputStream(new BufferedInputStream(
+					new FileInputStream(file)));
+			try {
+				if (inputStream.readInt() != INDEX_FILE_VERSION) {
+					Logger.debug("unsupported index file version");
+					return false;
+				} else if (!inputStream.readUTF().equals(this.tileCodec.getName())) {
+					Logger.debug("cached images have a different encoding");
+					return false;
+				}
 
-			// close the input streams
-			objectInputStream.close();
-			inputStream.close();
+				// intern the render profiles and map their stored ids to the current ones
+				int numberOfRenderProfiles = inputStream.readInt();
+				Map<Integer, RenderProfile> renderProfiles = new HashMap<Integer, RenderProfile>();
+				for (int i = 0; i < numberOfRenderProfiles; ++i) {
+					int storedId = inputStream.readInt();
+					renderProfiles.put(Integer.valueOf(storedId), readRenderProfile(inputStream));
+				}
 
-			// delete the serialization file
-			if (!file.delete()) {
-				file.deleteOnExit();
-			}
+				// restore the entries in their LRU order
+				long fileLength = this.dataFile.length();
+				int numberOfEntries = inputStream.readInt();
+				List<TileFileExtent> extents = new ArrayList<TileFileExtent>(numberOfEntries);
+				for (int i = 0; i < numberOfEntries; ++i) {
+					long key = inputStream.readLong();
+					TileFileExtent extent = new TileFileExtent(inputStream.readLong(),
+							inputStream.readInt());
+					RenderProfile renderProfile = renderProfiles.get(Integer.valueOf(TileKey
+							.getRenderProfileId(key)));
+					if (renderProfile == null) {
+						Logger.debug("unknown render profile: " + TileKey.getRenderProfileId(key));
+						return false;
+					} else if (extent.offset < 0 || extent.length <= 0
+							|| extent.offset + extent.length > fileLength) {
+						Logger.debug("invalid index entry: " + extent.offset);
+						return false;
+					}
+					this.map.put(TileKey.setRenderProfileId(key, renderProfile.id), extent);
+					extents.add(extent);
+				}
 
-			return true;
+				// the gaps between the cached images are unused ranges
+				Collections.sort(extents);
+				long position = 0;
+				for (TileFileExtent extent : extents) {
+					if (extent.offset < position) {
+						Logger.debug("overlapping index entry: " + extent.offset);
+						return false;
+					} else if (extent.offset > position) {
+						this.freeExtents.add(new TileFileExtent(position,
+								(int) (extent.offset - position)));
+						this.freeSize += extent.offset - position;
+					}
+					position = extent.offset + extent.length;
+				}
+				this.dataFileLength = position;
+				return true;
+			} finally {
+				inputStream.close();
+				deleteFile(file);
+			}
 		} catch (IOException e) {
 			Logger.exception(e);
 			return false;
-		} catch (ClassNotFoundException e) {
+		} catch (IllegalArgumentException e) {
 			Logger.exception(e);
 			return false;
 		}
 	}
 
 	/**
-	 * Serializes the cache map.
+	 * Returns the buffer of a pending image to the pool, unless it is still being copied by a
+	 * reader. Such a buffer is left to the garbage collector.
 	 * 
-	 * @return true if the map was serialized successfully, false otherwise.
+	 * @param pixels
+	 *            the buffer which is not used anymore.
 	 */
-	private synchronized boolean serializeCacheMap() {
-		try {
-			// check if the serialization file exists and is readable
-			File file = new File(this.tempDir, SERIALIZATION_FILE_NAME);
+	private void recyclePendingBuffer(ByteBuffer pixels) {
+		if (!isReadingImage(pixels)) {
+			this.pendingBufferPool.add(pixels);
+		}
+	}
 
-			// try to delete the serialization file if it exists
-			if (file.exists() && !file.delete()) {
-				return false;
-			}
+	/**
+	 * Removes the least recently used images until the images in the cache use at most the given
+	 * number of bytes or the cache is empty.
+	 * 
+	 * @param maximumUsedSize
+	 *            the maximum number of used bytes.
+	 */
+	private void removeEldestEntries(long maximumUsedSize) {
+		while (this.map.size() > 0 && getUsedSize() > maximumUsedSize) {
+			TileFileExtent extent = this.map.remove(this.map.keyAt(this.map.first()));
+			freeExtent(extent.offset, extent.length);
+		}
+	}
 
-			// check if the cache map exists
-			if (this.map == null) {
-				return false;
+	/**
+	 * Removes the old image of the given key and reserves a range of the data file for its new
+	 * image. Old images are removed first so that their space can be reused.
+	 * 
+	 * @param key
+	 *            key of the image.
+	 * @param length
+	 *            the number of bytes of the encoded image.
+	 * @return the position of the reserved range or -1, if the image should be dropped.
+	 */
+	private long reserveExtent(long key, int length) {
+		TileFileExtent replacedExtent = this.map.remove(key);
+		if (replacedExtent != null) {
+			freeExtent(replacedExtent.offset, replacedExtent.length);
+		}
+		if (length > this.capacity) {
+			// the cache has been disabled or the image does not fit, drop the image
+			return -1;
+		}
+		removeEldestEntries(this.capacity - (long) length);
+		return allocateExtent(length);
+	}
+
+	/**
+	 * Removes the image at the given position from the queue of pending images.
+	 * 
+	 * @param index
+	 *            the position in the queue.
+	 */
+	private void removePendingImage(int index) {
+		--this.pendingCount;
+		System.arraycopy(this.pendingKeys, index + 1, this.pendingKeys, index,
+				this.pendingCount - index);
+		System.arraycopy(this.pendingImages, index + 1, this.pendingImages, index,
+				this.pendingCount - index);
+		this.pendingImages[this.pendingCount] = null;
+	}
+
+	/**
+	 * Removes the given buffer from the list of buffers which are being copied by a reader.
+	 * 
+	 * @param pixels
+	 *            the buffer of the pending image.
+	 */
+	private void removeReadingImage(ByteBuffer pixels) {
+		for (int i = this.readingImages.size() - 1; i >= 0; --i) {
+			if (this.readingImages.get(i) == pixels) {
+				this.readingImages.remove(i);
+				return;
 			}
+		}
+	}
 
-			// create the output streams
-			FileOutputStream outputStream = new FileOutputStream(file);
-			ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+	/**
+	 * Starts the compaction of the data file in a background thread if enough of the data file is
+	 * unused and no compaction is running. The thread runs with background priority, so that it
+	 * does not compete with the UI thread and the MapGenerator threads.
+	 */
+	private void startCompactionIfNeeded() {
+		if (!this.compacting && !this.stopThreads && this.freeSize >= COMPACTION_MINIMUM_FREE_SIZE
+				&& this.freeSize > this.dataFileLength * COMPACTION_FREE_RATIO) {
+			this.compacting = true;
+			this.compactionThread = new Thread() {
+				@Override
+				public void run() {
+					setName("TileMemoryCardCacheCompaction");
+					Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+					compact();
+				}
+			};
+			this.compactionThread.start();
+		}
+	}
 
-			// serialize the cache map
-			objectOutputStream.writeObject(this.map);
+	/**
+	 * Persists the index of the cache and truncates unused space at the end of the data file.
+	 * 
+	 * @return true if the index was written successfully, false otherwise.
+	 */
+	private boolean writeIndexFile() {
+		if (this.map == null || this.dataFile == null) {
+			return false;
+		}
+
+		try {
+			this.dataFile.setLength(this.dataFileLength);
 
-			// close the output streams
-			objectOutputStream.close();
-			outputStream.close();
+			File file = new File(this.tempDir, INDEX_FILE_NAME);
+			DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(file, false)));
+			try {
+				outputStream.writeInt(INDEX_FILE_VERSION);
+				outputStream.writeUTF(this.tileCodec.getName());
 
+				// collect the render profiles of all cached images
+				Map<Integer, RenderProfile> renderProfiles = new HashMap<Integer, RenderProfile>();
+				for (int slot = this.map.first(); slot >= 0; slot = this.map.next(slot)) {
+					Integer id = Integer.valueOf(TileKey.getRenderProfileId(this.map.keyAt(slot)));
+					if (!renderProfiles.containsKey(id)) {
+						renderProfiles.put(id, RenderProfile.get(id.intValue()));
+					}
+				}
+				outputStream.writeInt(renderProfiles.size());
+				for (RenderProfile renderProfile : renderProfiles.values()) {
+					outputStream.writeInt(renderProfile.id);
+					writeRenderProfile(outputStream, renderProfile);
+				}
+
+				outputStream.writeInt(this.map.size());
+				// the iteration order is the LRU order
+				for (int slot = this.map.first(); slot >= 0; slot = this.map.next(slot)) {
+					outputStream.writeLong(this.map.keyAt(slot));
+					outputStream.writeLong(this.map.valueAt(slot).offset);
+					outputStream.writeInt(this.map.valueAt(slot).length);
+				}
+			} finally {
+				outputStream.close();
+			}
 			return true;
 		} catch (IOException e) {
 			Logger.exception(e);
@@ -233,14 +933,100 @@ class TileMemoryCardCache {
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Encodes and writes the pending images in the order in which they were added, until the writer is
+	 * stopped and no more images are pending. The range of an image is reserved while holding the
+	 * lock on the cache, encoding and writing happen without it. The image is served from the queue
+	 * until it has been added to the index.
+	 */
+	private void writePendingImages() {
+		ByteBuffer encodedImage = ByteBuffer.wrap(this.encodeBuffer);
+		long key;
+		ByteBuffer pixels;
+		int length;
+		FileChannel channel;
+		long offset;
+		boolean written;
+		while (true) {
+			synchronized (this) {
+				while (this.pendingCount == 0 && !this.stopThreads) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						// restore the interrupted status
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+				if (this.pendingCount == 0) {
+					return;
+				}
+				key = this.pendingKeys[0];
+				pixels = this.pendingImages[0];
+				this.writingImage = pixels;
+			}
+
+			length = this.tileCodec.encode(pixels, this.encodeBuffer);
+
+			synchronized (this) {
+				// the image might have been replaced or dropped in the meantime
+				int index = findPendingImage(key);
+				channel = null;
+				offset = -1;
+				if (index >= 0 && this.pendingImages[index] == pixels) {
+					if (length <= 0) {
+						Logger.debug("encoding the image has failed");
+					} else if (this.dataFile != null) {
+						channel = this.dataFile.getChannel();
+						offset = reserveExtent(key, length);
+					}
+					if (offset < 0) {
+						removePendingImage(index);
+					}
+				}
+			}
+
+			written = false;
+			if (offset >= 0) {
+				encodedImage.clear();
+				encodedImage.limit(length);
+				try {
+					writeFully(channel, encodedImage, offset);
+					written = true;
+				} catch (IOException e) {
+					Logger.exception(e);
+				}
+			}
+
+			synchronized (this) {
+				if (offset >= 0) {
+					// publish the image only if it has not been replaced while it was written
+					int index = findPendingImage(key);
+					boolean current = index >= 0 && this.pendingImages[index] == pixels;
+					if (written && current && this.dataFile != null) {
+						this.map.put(key, new TileFileExtent(offset, length));
+						removeEldestEntries(this.capacity);
+					} else {
+						freeExtent(offset, length);
+					}
+					if (current) {
+						removePendingImage(index);
+					}
+					startCompactionIfNeeded();
+				}
+				this.writingImage = null;
+				recyclePendingBuffer(pixels);
+			}
+		}
+	}
+
+	/**
+	 * @param key
 	 *            key of the image whose presence in the cache should be tested.
 	 * @return true if the cache contains an image for the specified key, false otherwise.
-	 * @see Map#containsKey(Object)
 	 */
-	boolean containsKey(MapGeneratorJob mapGeneratorJob) {
+	boolean containsKey(long key) {
 		synchronized (this) {
-			return this.map.containsKey(mapGeneratorJob);
+			return (this.map != null && this.map.containsKey(key)) || findPendingImage(key) >= 0;
 		}
 	}
 
@@ -250,98 +1036,219 @@ class TileMemoryCardCache {
 	 * @param persistence
 	 *            true if the cached images should be kept, false otherwise.
 	 */
-	synchronized void destroy(boolean persistence) {
-		if (persistence) {
-			// delete all files only if serialization of the cache map fails
-			if (!serializeCacheMap()) {
+	void destroy(boolean persistence) {
+		// a temporary directory is never reused
+		boolean keepFiles = persistence && !this.temporaryDirectory;
+
+		// stop the writer and compaction threads, pending images are only written if they are kept
+		synchronized (this) {
+			this.stopThreads = true;
+			if (!keepFiles) {
+				clearPendingImages();
+			}
+			notifyAll();
+		}
+		if (this.writerThread != null) {
+			try {
+				this.writerThread.join();
+			} catch (InterruptedException e) {
+				// restore the interrupted status
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		// the writer thread might have started a compaction before it stopped
+		Thread compaction;
+		synchronized (this) {
+			compaction = this.compactionThread;
+			this.compactionThread = null;
+		}
+		if (compaction != null) {
+			try {
+				compaction.join();
+			} catch (InterruptedException e) {
+				// restore the interrupted status
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		synchronized (this) {
+			clearPendingImages();
+			this.pendingBufferPool.clear();
+			if (keepFiles) {
+				// delete all files only if writing the index fails
+				if (writeIndexFile()) {
+					closeDataFile();
+				} else {
+					deleteCachedFiles();
+				}
+				this.map = null;
+			} else {
 				deleteCachedFiles();
 			}
-			this.map = null;
-		} else {
-			deleteCachedFiles();
+
+			if (this.directoryLock != null) {
+				unlockDirectory(this.tempDir, this.directoryLock);
+				this.directoryLock = null;
+			}
 		}
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Copies the data of an image into the given buffer. The lock on the cache is only held to look
+	 * up the image, the image is copied, read and decoded without it. If the image has been removed
+	 * or moved in the data file in the meantime, the read data is discarded.
+	 * 
+	 * @param key
 	 *            key of the image whose data should be returned.
 	 * @param buffer
 	 *            the buffer in which the image data should be copied.
 	 * @return true if the image data were copied successfully, false otherwise.
-	 * @see Map#get(Object)
 	 */
-	boolean get(MapGeneratorJob mapGeneratorJob, ByteBuffer buffer) {
-		try {
-			File inputFile;
-			synchronized (this) {
-				inputFile = this.map.get(mapGeneratorJob);
+	boolean get(long key, ByteBuffer buffer) {
+		ByteBuffer pendingImage = null;
+		synchronized (this) {
+			// check if the image is not yet written
+			int index = findPendingImage(key);
+			if (index >= 0) {
+				// the buffer must not be reused while it is copied
+				pendingImage = this.pendingImages[index];
+				this.readingImages.add(pendingImage);
 			}
-			FileInputStream fileInputStream = new FileInputStream(inputFile);
-			if (fileInputStream.read(buffer.array()) == buffer.array().length) {
-				// the complete bitmap has been read successfully
-				buffer.rewind();
+		}
+		if (pendingImage != null) {
+			System.arraycopy(pendingImage.array(), 0, buffer.array(), 0, Tile.TILE_SIZE_IN_BYTES);
+			buffer.rewind();
+			synchronized (this) {
+				removeReadingImage(pendingImage);
 			}
-			fileInputStream.close();
 			return true;
-		} catch (FileNotFoundException e) {
-			synchronized (this) {
-				this.map.remove(mapGeneratorJob);
+		}
+
+		FileChannel channel;
+		TileFileExtent extent;
+		long offset;
+		synchronized (this) {
+			if (this.map == null || this.dataFile == null) {
+				return false;
+			}
+			extent = this.map.get(key);
+			if (extent == null) {
+				return false;
+			} else if (extent.length > this.readBuffer.length) {
+				Logger.debug("invalid image length: " + extent.length);
+				return false;
+			}
+			channel = this.dataFile.getChannel();
+			offset = extent.offset;
+		}
+
+		// the codec must not decode concurrently, so the readers share the read buffer
+		boolean decoded = false;
+		try {
+			synchronized (this.readBuffer) {
+				readFully(channel, ByteBuffer.wrap(this.readBuffer, 0, extent.length), offset);
+				decoded = this.tileCodec.decode(this.readBuffer, extent.length, buffer);
 			}
-			return false;
 		} catch (IOException e) {
 			Logger.exception(e);
-			return false;
 		}
+
+		synchronized (this) {
+			// the range might have been reused if the image was removed or moved in the meantime
+			if (this.map == null || this.map.peek(key) != extent || extent.offset != offset) {
+				return false;
+			} else if (!decoded) {
+				// the image cannot be read or decoded anymore, remove it from the cache
+				this.map.remove(key);
+				freeExtent(offset, extent.length);
+			}
+			return decoded;
+		}
+	}
+
+	/**
+	 * Returns the estimated number of images which fit into the capacity of the cache, based on the
+	 * average size of the cached images. Without cached images, the size of an unencoded image is
+	 * assumed.
+	 * 
+	 * @return the estimated number of images.
+	 */
+	synchronized int getEstimatedTileCapacity() {
+		long usedSize = getUsedSize();
+		if (this.map == null || this.map.size() == 0 || usedSize <= 0) {
+			return this.capacity / Tile.TILE_SIZE_IN_BYTES;
+		}
+		return (int) Math.min(Integer.MAX_VALUE, this.capacity * (long) this.map.size()
+				/ usedSize);
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Adds the given image to the queue of pending images, from which it is written to the data file
+	 * in the background.
+	 * 
+	 * @param key
 	 *            key of the image which should be added to the cache.
 	 * @param bitmap
 	 *            the data of the image that should be cached.
-	 * @see Map#put(Object, Object)
 	 */
-	void put(MapGeneratorJob mapGeneratorJob, Bitmap bitmap) {
+	void put(long key, Bitmap bitmap) {
 		if (this.capacity > 0) {
-			// write the image to a temporary file
-			try {
-				bitmap.copyPixelsToBuffer(this.bitmapBuffer);
-				this.bitmapBuffer.rewind();
-				this.outputFile = new File(this.tempDir, ++this.cacheId
-						+ IMAGE_FILE_NAME_EXTENSION);
-				// check for an existing file with that name
-				while (this.outputFile.exists()) {
-					// increment the cache ID to avoid overwriting the existing file
-					this.outputFile = new File(this.tempDir, ++this.cacheId
-							+ IMAGE_FILE_NAME_EXTENSION);
+			synchronized (this) {
+				if (this.writerThread == null || this.stopThreads) {
+					return;
 				}
-				FileOutputStream fileOutputStream = new FileOutputStream(this.outputFile, false);
-				fileOutputStream.write(this.bitmapBuffer.array(), 0, this.bitmapBuffer.array().length);
-				fileOutputStream.close();
-				synchronized (this) {
-					this.map.put(mapGeneratorJob, this.outputFile);
+
+				int index = findPendingImage(key);
+				ByteBuffer pixels;
+				if (index < 0 && this.pendingCount == MAXIMUM_PENDING_IMAGES) {
+					// the queue is full, drop the oldest image which is not being written
+					int droppedIndex = 0;
+					while (this.pendingImages[droppedIndex] == this.writingImage) {
+						++droppedIndex;
+					}
+					pixels = this.pendingImages[droppedIndex];
+					removePendingImage(droppedIndex);
+					if (isReadingImage(pixels)) {
+						pixels = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+					}
+					Logger.debug("dropped pending image");
+				} else if (!this.pendingBufferPool.isEmpty()) {
+					pixels = this.pendingBufferPool.remove(this.pendingBufferPool.size() - 1);
+				} else {
+					pixels = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
 				}
-			} catch (IOException e) {
-				Logger.exception(e);
+
+				bitmap.copyPixelsToBuffer(pixels);
+				pixels.rewind();
+				if (index < 0) {
+					this.pendingKeys[this.pendingCount] = key;
+					this.pendingImages[this.pendingCount] = pixels;
+					++this.pendingCount;
+				} else {
+					ByteBuffer replacedImage = this.pendingImages[index];
+					this.pendingImages[index] = pixels;
+					if (replacedImage != this.writingImage) {
+						recyclePendingBuffer(replacedImage);
+					}
+				}
+				notifyAll();
 			}
 		}
 	}
 
 	/**
-	 * Adjusts the capacity of the cache.
+	 * Adjusts the capacity of the cache. The data file may stay larger than the new capacity until
+	 * its unused space has been compacted.
 	 * 
 	 * @param capacity
-	 *            the new capacity of the cache.
+	 *            the maximum number of bytes of all encoded images in the cache.
 	 */
 	synchronized void setCapacity(int capacity) {
 		this.capacity = capacity;
-		// create a new map with the new capacity
-		Map<MapGeneratorJob, File> newMap = createMap(this.capacity);
-
-		// put all entries from the old map in the new one.
-		for (Map.Entry<MapGeneratorJob, File> entry : this.map.entrySet()) {
-			newMap.put(entry.getKey(), entry.getValue());
+		if (this.map != null) {
+			removeEldestEntries(this.capacity);
+			startCompactionIfNeeded();
 		}
-		this.map = newMap;
 	}
 }
\ No newline at end of file
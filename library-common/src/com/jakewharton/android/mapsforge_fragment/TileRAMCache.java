@@ -15,37 +15,91 @@
 package com.jakewharton.android.mapsforge_fragment;
 
 import java.nio.ByteBuffer;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import android.graphics.Bitmap;
 
 /**
- * A thread-safe cache for bitmap images with a fixed size and LRU policy.
+ * A thread-safe cache for bitmap images with a capacity in bytes. Lookups never block, so that the UI
+ * thread does not wait for MapGenerator threads which insert new images. Images are evicted with the
+ * CLOCK algorithm, an approximation of LRU which does not need to reorder entries on every access.
+ * Bitmaps are created on demand and bitmaps of evicted images are reused for new images.
+ * <p>
+ * Images are identified by their packed {@link TileKey}. The entries are stored in an open
+ * addressing table which is only modified while holding the lock on the cache. Lookups probe the
+ * table without locking and without creating objects. A lookup which runs concurrently to the
+ * removal of another image may miss an existing image, which then is only loaded again.
+ * <p>
+ * Bitmaps returned by {@link #get(long)} are only valid while the cache is pinned. Pinning never
+ * blocks. A modifying thread first removes an image from the table, so that no new lookup can find
+ * it, and then waits until all pins have been released before it overwrites or recycles the bitmap.
  */
 class TileRAMCache {
 	/**
-	 * Load factor of the internal HashMap.
+	 * A cached image together with its reference bit for the CLOCK algorithm.
 	 */
-	private static final float LOAD_FACTOR = 0.6f;
+	private static class CacheEntry {
+		final Bitmap bitmap;
+		final long key;
+		volatile boolean referenced;
 
-	private final ByteBuffer bitmapBuffer;
-	private final int capacity;
-	private Map<MapGeneratorJob, Bitmap> map;
-	private Bitmap tempBitmap;
+		/**
+		 * Constructs a new entry which has not been referenced yet.
+		 * 
+		 * @param key
+		 *            the key of the image.
+		 * @param bitmap
+		 *            the bitmap which contains the image.
+		 */
+		CacheEntry(long key, Bitmap bitmap) {
+			this.key = key;
+			this.bitmap = bitmap;
+		}
+	}
 
 	/**
-	 * List of all Bitmaps which are used for object pooling.
+	 * Buffer of each thread for the pixels of a new image, which are copied before taking the lock.
 	 */
-	final List<Bitmap> bitmapPool;
+	private static final ThreadLocal<ByteBuffer> PIXEL_BUFFERS = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
+		}
+	};
 
 	/**
-	 * Constructs an image bitmap cache with a fixes size and LRU policy.
+	 * Adds the given entry to the given table. The key of the entry must not be in the table.
+	 * 
+	 * @param targetTable
+	 *            the table to which the entry should be added.
+	 * @param cacheEntry
+	 *            the entry to be added.
+	 */
+	private static void insertEntry(AtomicReferenceArray<CacheEntry> targetTable,
+			CacheEntry cacheEntry) {
+		int mask = targetTable.length() - 1;
+		int slot = LongHashMap.hash(cacheEntry.key) & mask;
+		while (targetTable.get(slot) != null) {
+			slot = (slot + 1) & mask;
+		}
+		targetTable.set(slot, cacheEntry);
+	}
+
+	private int capacity;
+	private CacheEntry[] clock;
+	private int clockHand;
+	private boolean destroyed;
+	private final Object pinLock;
+	private final AtomicInteger pins;
+	private int size;
+	private volatile AtomicReferenceArray<CacheEntry> table;
+
+	/**
+	 * Constructs an image bitmap cache with a capacity in bytes.
 	 * 
 	 * @param capacity
-	 *            the maximum number of entries in the cache.
+	 *            the maximum memory size in bytes of all images in the cache.
 	 * @throws IllegalArgumentException
 	 *             if the capacity is negative.
 	 */
@@ -54,42 +108,125 @@ class TileRAMCache {
 			throw new IllegalArgumentException();
 		}
 		this.capacity = capacity;
-		this.map = createMap(this.capacity);
-		this.bitmapPool = new LinkedList<Bitmap>();
-		// one more bitmap than the cache capacity is needed for put operations
-		for (int i = 0; i <= this.capacity; ++i) {
-			this.bitmapPool.add(Bitmap.createBitmap(Tile.TILE_SIZE, Tile.TILE_SIZE,
-					Bitmap.Config.RGB_565));
-		}
-		this.bitmapBuffer = ByteBuffer.allocate(Tile.TILE_SIZE_IN_BYTES);
-	}
-
-	private Map<MapGeneratorJob, Bitmap> createMap(final int initialCapacity) {
-		return new LinkedHashMap<MapGeneratorJob, Bitmap>(
-				(int) (initialCapacity / LOAD_FACTOR) + 2, LOAD_FACTOR, true) {
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			protected boolean removeEldestEntry(Map.Entry<MapGeneratorJob, Bitmap> eldest) {
-				if (size() > initialCapacity) {
-					this.remove(eldest.getKey());
-					TileRAMCache.this.bitmapPool.add(eldest.getValue());
+		this.clock = new CacheEntry[getMaximumNumberOfEntries()];
+		this.table = new AtomicReferenceArray<CacheEntry>(LongHashMap
+				.tableLength(this.clock.length));
+		this.pinLock = new Object();
+		this.pins = new AtomicInteger();
+	}
+
+	/**
+	 * Returns the entry of the given key without locking.
+	 * 
+	 * @param key
+	 *            the key of the image.
+	 * @return the entry or null, if no entry for the key was found.
+	 */
+	private CacheEntry findEntry(long key) {
+		AtomicReferenceArray<CacheEntry> currentTable = this.table;
+		int mask = currentTable.length() - 1;
+		int slot = LongHashMap.hash(key) & mask;
+		// the number of probes is limited as the table may change during the lookup
+		for (int i = 0; i < currentTable.length(); ++i) {
+			CacheEntry cacheEntry = currentTable.get(slot);
+			if (cacheEntry == null) {
+				return null;
+			} else if (cacheEntry.key == key) {
+				return cacheEntry;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Moves the clock hand to the next entry which has not been referenced since the last pass and
+	 * clears the reference bits on the way. The cache must not be empty.
+	 * 
+	 * @return the position of the entry in the clock.
+	 */
+	private int findEvictionCandidate() {
+		while (true) {
+			int position = this.clockHand;
+			CacheEntry cacheEntry = this.clock[position];
+			this.clockHand = (this.clockHand + 1) % this.clock.length;
+			if (cacheEntry != null) {
+				if (!cacheEntry.referenced) {
+					return position;
 				}
-				return false;
+				cacheEntry.referenced = false;
 			}
-		};
+		}
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Returns the maximum number of images which fit into the capacity of the cache.
+	 * 
+	 * @return the maximum number of images.
+	 */
+	private int getMaximumNumberOfEntries() {
+		return this.capacity / Tile.TILE_SIZE_IN_BYTES;
+	}
+
+	/**
+	 * Removes the entry of the given key from the table and moves following entries of the same probe
+	 * sequence backwards.
+	 * 
+	 * @param key
+	 *            the key of the entry to be removed.
+	 */
+	private void removeEntry(long key) {
+		int mask = this.table.length() - 1;
+		int hole = LongHashMap.hash(key) & mask;
+		while (this.table.get(hole).key != key) {
+			hole = (hole + 1) & mask;
+		}
+
+		int next = (hole + 1) & mask;
+		CacheEntry cacheEntry;
+		while ((cacheEntry = this.table.get(next)) != null) {
+			// an entry may fill the hole if the hole lies between its home slot and its slot
+			int home = LongHashMap.hash(cacheEntry.key) & mask;
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				this.table.set(hole, cacheEntry);
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		this.table.set(hole, null);
+	}
+
+	/**
+	 * Waits until all pins of the cache have been released. Images which should be modified must
+	 * have been removed from the table before, so that they cannot be pinned again.
+	 * 
+	 * @return true if no pins are left, false if the current thread has been interrupted.
+	 */
+	private boolean waitForUnpinnedBitmaps() {
+		if (this.pins.get() == 0) {
+			return true;
+		}
+		synchronized (this.pinLock) {
+			while (this.pins.get() > 0) {
+				try {
+					this.pinLock.wait();
+				} catch (InterruptedException e) {
+					// restore the interrupted status
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param key
 	 *            key of the image whose presence in the cache should be tested.
 	 * @return true if the cache contains an image for the specified key, false otherwise.
-	 * @see Map#containsKey(Object)
 	 */
-	boolean containsKey(MapGeneratorJob mapGeneratorJob) {
-		synchronized (this) {
-			return this.map.containsKey(mapGeneratorJob);
-		}
+	boolean containsKey(long key) {
+		return findEntry(key) != null;
 	}
 
 	/**
@@ -97,46 +234,179 @@ class TileRAMCache {
 	 */
 	void destroy() {
 		synchronized (this) {
-			if (this.map != null) {
-				for (Bitmap bitmap : this.map.values()) {
-					bitmap.recycle();
-				}
-				for (Bitmap bitmap : this.bitmapPool) {
-					bitmap.recycle();
+			if (!this.destroyed) {
+				this.destroyed = true;
+				this.table = new AtomicReferenceArray<CacheEntry>(1);
+				// bitmaps which may still be drawn are left to the garbage collector
+				if (waitForUnpinnedBitmaps()) {
+					for (CacheEntry cacheEntry : this.clock) {
+						if (cacheEntry != null) {
+							cacheEntry.bitmap.recycle();
+						}
+					}
 				}
-				this.map.clear();
-				this.map = null;
+				this.clock = new CacheEntry[0];
+				this.size = 0;
 			}
 		}
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Returns the bitmap of an image. The cache must be pinned while the bitmap is used.
+	 * 
+	 * @param key
 	 *            key of the image whose data should be returned.
-	 * @return the data of the image.
-	 * @see Map#get(Object)
+	 * @return the data of the image or null, if the cache contains no image for the key.
+	 */
+	Bitmap get(long key) {
+		CacheEntry cacheEntry = findEntry(key);
+		if (cacheEntry == null) {
+			return null;
+		}
+		cacheEntry.referenced = true;
+		return cacheEntry.bitmap;
+	}
+
+	/**
+	 * Returns the capacity of the cache.
+	 * 
+	 * @return the maximum memory size in bytes of all images in the cache.
 	 */
-	Bitmap get(MapGeneratorJob mapGeneratorJob) {
+	int getCapacity() {
 		synchronized (this) {
-			return this.map.get(mapGeneratorJob);
+			return this.capacity;
 		}
 	}
 
 	/**
-	 * @param mapGeneratorJob
+	 * Pins the cache, so that the bitmaps returned by {@link #get(long)} are neither modified nor
+	 * recycled until {@link #unpin()} is called. Pinning does not lock the cache. Other threads
+	 * which modify the cache wait for the pins to be released, so the pinning thread must not modify
+	 * the cache itself.
+	 */
+	void pin() {
+		this.pins.incrementAndGet();
+	}
+
+	/**
+	 * Adds an image to the cache. The pixels are copied before taking the lock on the cache. A
+	 * bitmap which is reused for the image is only overwritten after all pins have been released.
+	 * 
+	 * @param key
 	 *            key of the image which should be added to the cache.
 	 * @param bitmap
 	 *            the data of the image that should be cached.
-	 * @see Map#put(Object, Object)
-	 */
-	void put(MapGeneratorJob mapGeneratorJob, Bitmap bitmap) {
-		if (this.capacity > 0) {
-			bitmap.copyPixelsToBuffer(this.bitmapBuffer);
-			this.bitmapBuffer.rewind();
-			this.tempBitmap = this.bitmapPool.remove(0);
-			this.tempBitmap.copyPixelsFromBuffer(this.bitmapBuffer);
-			synchronized (this) {
-				this.map.put(mapGeneratorJob, this.tempBitmap);
+	 */
+	void put(long key, Bitmap bitmap) {
+		ByteBuffer pixels = PIXEL_BUFFERS.get();
+		pixels.rewind();
+		bitmap.copyPixelsToBuffer(pixels);
+		pixels.rewind();
+
+		synchronized (this) {
+			if (this.destroyed || this.clock.length == 0) {
+				return;
+			}
+
+			int position = -1;
+			CacheEntry removedEntry = findEntry(key);
+			if (removedEntry == null) {
+				if (this.size < this.clock.length) {
+					// the cache is not full yet, a new bitmap cannot be pinned by anyone
+					position = this.size++;
+					Bitmap cacheBitmap = Bitmap.createBitmap(Tile.TILE_SIZE, Tile.TILE_SIZE,
+							Bitmap.Config.RGB_565);
+					cacheBitmap.copyPixelsFromBuffer(pixels);
+					this.clock[position] = new CacheEntry(key, cacheBitmap);
+					insertEntry(this.table, this.clock[position]);
+					return;
+				}
+				// reuse the bitmap of an evicted image
+				position = findEvictionCandidate();
+				removedEntry = this.clock[position];
+			}
+
+			// no new lookup can find the removed image while its bitmap is overwritten
+			removeEntry(removedEntry.key);
+			if (!waitForUnpinnedBitmaps()) {
+				insertEntry(this.table, removedEntry);
+				return;
+			}
+			removedEntry.bitmap.copyPixelsFromBuffer(pixels);
+			if (position < 0) {
+				// the key was already in the cache, its entry is kept
+				removedEntry.referenced = true;
+				insertEntry(this.table, removedEntry);
+			} else {
+				this.clock[position] = new CacheEntry(key, removedEntry.bitmap);
+				insertEntry(this.table, this.clock[position]);
+			}
+		}
+	}
+
+	/**
+	 * Sets the new capacity of the cache. If the cache already contains more images than the new
+	 * capacity allows, images are discarded based on the cache policy. Their bitmaps are recycled
+	 * after all pins have been released.
+	 * 
+	 * @param capacity
+	 *            the maximum memory size in bytes of all images in the cache.
+	 * @throws IllegalArgumentException
+	 *             if the capacity is negative.
+	 */
+	void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		synchronized (this) {
+			this.capacity = capacity;
+			if (this.destroyed || this.clock.length == getMaximumNumberOfEntries()) {
+				return;
+			}
+
+			// discard the images which do not fit into the new capacity
+			Bitmap[] discardedBitmaps = new Bitmap[Math.max(0, this.size
+					- getMaximumNumberOfEntries())];
+			int position;
+			for (int i = 0; i < discardedBitmaps.length; ++i) {
+				position = findEvictionCandidate();
+				removeEntry(this.clock[position].key);
+				discardedBitmaps[i] = this.clock[position].bitmap;
+				this.clock[position] = null;
+				--this.size;
+			}
+
+			// copy the remaining images to a clock and a table of the new size
+			CacheEntry[] newClock = new CacheEntry[getMaximumNumberOfEntries()];
+			AtomicReferenceArray<CacheEntry> newTable = new AtomicReferenceArray<CacheEntry>(
+					LongHashMap.tableLength(newClock.length));
+			position = 0;
+			for (CacheEntry cacheEntry : this.clock) {
+				if (cacheEntry != null) {
+					newClock[position++] = cacheEntry;
+					insertEntry(newTable, cacheEntry);
+				}
+			}
+			this.clock = newClock;
+			this.table = newTable;
+			this.clockHand = 0;
+
+			// bitmaps which may still be drawn are left to the garbage collector
+			if (waitForUnpinnedBitmaps()) {
+				for (Bitmap discardedBitmap : discardedBitmaps) {
+					discardedBitmap.recycle();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Releases a pin of the cache which has been set by {@link #pin()}.
+	 */
+	void unpin() {
+		if (this.pins.decrementAndGet() == 0) {
+			synchronized (this.pinLock) {
+				this.pinLock.notifyAll();
 			}
 		}
 	}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+import java.util.Random;
+
+import android.graphics.Bitmap;
+
+/**
+ * Measures the contention of the {@link TileRAMCache}. The calling thread plays the role of the UI
+ * thread: it pins the cache and looks up random tiles like {@code MapView.drawTiles}, while writer
+ * threads play the role of the MapGenerator threads and insert random tiles at the same time. The
+ * average and the maximum time of a lookup are reported without writers and with the given number
+ * of writers, together with the number of inserts per second.
+ * <p>
+ * This class is a debugging aid. It is not used by the MapView, but can be run on a device.
+ */
+final class TileRAMCacheBenchmark {
+	/**
+	 * Number of tiles which fit into the measured cache.
+	 */
+	private static final int CACHE_TILES = 16;
+
+	/**
+	 * Number of different tiles which are looked up and inserted, twice the capacity of the cache.
+	 */
+	private static final int NUMBER_OF_KEYS = 2 * CACHE_TILES;
+
+	/**
+	 * Seed of the random tiles, so that repeated runs use the same sequence of lookups.
+	 */
+	private static final long RANDOM_SEED = 42;
+
+	/**
+	 * Inserts random tiles into the cache until the thread is interrupted.
+	 */
+	private static class Writer extends Thread {
+		private final Bitmap bitmap;
+		private final long[] keys;
+		int puts;
+		private final TileRAMCache tileRAMCache;
+
+		Writer(TileRAMCache tileRAMCache, long[] keys, Bitmap bitmap) {
+			this.tileRAMCache = tileRAMCache;
+			this.keys = keys;
+			this.bitmap = bitmap;
+		}
+
+		@Override
+		public void run() {
+			setName("TileRAMCacheBenchmarkWriter");
+			Random random = new Random();
+			while (!isInterrupted()) {
+				this.tileRAMCache.put(this.keys[random.nextInt(this.keys.length)], this.bitmap);
+				++this.puts;
+			}
+		}
+	}
+
+	/**
+	 * Measures the lookups of the calling thread while the given number of writers insert tiles
+	 * and appends one line with the results to the report.
+	 * 
+	 * @param numberOfGets
+	 *            the number of lookups which should be measured.
+	 * @param numberOfWriters
+	 *            the number of threads which insert tiles.
+	 * @param keys
+	 *            the keys of the tiles.
+	 * @param bitmap
+	 *            the image which is inserted by the writers.
+	 * @param report
+	 *            the report to which the results should be appended.
+	 */
+	private static void measure(int numberOfGets, int numberOfWriters, long[] keys,
+			Bitmap bitmap, StringBuilder report) {
+		TileRAMCache tileRAMCache = new TileRAMCache(CACHE_TILES * Tile.TILE_SIZE_IN_BYTES);
+		for (int i = 0; i < CACHE_TILES; ++i) {
+			tileRAMCache.put(keys[i], bitmap);
+		}
+
+		Writer[] writers = new Writer[numberOfWriters];
+		for (int i = 0; i < numberOfWriters; ++i) {
+			writers[i] = new Writer(tileRAMCache, keys, bitmap);
+			writers[i].start();
+		}
+
+		Random random = new Random(RANDOM_SEED);
+		int hits = 0;
+		long totalTime = 0;
+		long maximumTime = 0;
+		long startTime;
+		long time;
+		for (int i = 0; i < numberOfGets; ++i) {
+			startTime = System.nanoTime();
+			tileRAMCache.pin();
+			if (tileRAMCache.get(keys[random.nextInt(keys.length)]) != null) {
+				++hits;
+			}
+			tileRAMCache.unpin();
+			time = System.nanoTime() - startTime;
+			totalTime += time;
+			maximumTime = Math.max(maximumTime, time);
+		}
+
+		int puts = 0;
+		for (Writer writer : writers) {
+			writer.interrupt();
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				// restore the interrupted status
+				Thread.currentThread().interrupt();
+			}
+			puts += writer.puts;
+		}
+		tileRAMCache.destroy();
+
+		report.append(numberOfWriters).append(" writers");
+		report.append(": get ").append(totalTime / numberOfGets).append(" ns");
+		report.append(", max ").append(maximumTime / 1000).append(" us");
+		report.append(", hits ").append(hits * 100 / numberOfGets).append('%');
+		report.append(", puts ").append(puts * 1000000000L / Math.max(totalTime, 1));
+		report.append("/s\n");
+	}
+
+	/**
+	 * Runs the benchmark without writers and with the given number of writers and logs the
+	 * report.
+	 * 
+	 * @param numberOfGets
+	 *            the number of lookups which should be measured in each run.
+	 * @param numberOfWriters
+	 *            the number of threads which insert tiles in the second run.
+	 * @return the report with the lookup times of both runs.
+	 */
+	static String run(int numberOfGets, int numberOfWriters) {
+		if (numberOfGets <= 0 || numberOfWriters < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		long[] keys = new long[NUMBER_OF_KEYS];
+		for (int i = 0; i < NUMBER_OF_KEYS; ++i) {
+			keys[i] = TileKey.pack(i, 0, (byte) 0, 0);
+		}
+		Bitmap bitmap = Bitmap.createBitmap(Tile.TILE_SIZE, Tile.TILE_SIZE,
+				Bitmap.Config.RGB_565);
+
+		StringBuilder report = new StringBuilder(256);
+		report.append(numberOfGets).append(" gets, ").append(CACHE_TILES).append(" tiles\n");
+		measure(numberOfGets, 0, keys, bitmap, report);
+		if (numberOfWriters > 0) {
+			measure(numberOfGets, numberOfWriters, keys, bitmap, report);
+		}
+		bitmap.recycle();
+
+		Logger.debug(report.toString());
+		return report.toString();
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private TileRAMCacheBenchmark() {
+		// do nothing
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2010, 2011 mapsforge.org
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.jakewharton.android.mapsforge_fragment;
+
+/**
+ * Render rules for ways and areas. Each rule class corresponds to one group of tags, of which at
+ * most one rule is applied to a way.
+ */
+final class WayRules {
+	/**
+	 * Default simplification tolerance in pixels, smaller details are not visible on the screen.
+	 */
+	private static final float DEFAULT_SIMPLIFICATION_TOLERANCE = 0.5f;
+
+	static final int AERIALWAY = 14;
+	static final int AERIALWAY$CABLE_CAR = 77;
+	static final int AERIALWAY$CHAIR_LIFT = 78;
+	static final int AEROWAY = 12;
+	static final int AEROWAY$AERODROME = 70;
+	static final int AEROWAY$APRON = 71;
+	static final int AEROWAY$RUNWAY = 72;
+	static final int AEROWAY$TAXIWAY = 73;
+	static final int AEROWAY$TERMINAL = 74;
+	static final int AMENITY = 5;
+	static final int AMENITY$COLLEGE = 46;
+	static final int AMENITY$FOUNTAIN = 50;
+	static final int AMENITY$GRAVE_YARD = 47;
+	static final int AMENITY$HOSPITAL = 48;
+	static final int AMENITY$PARKING = 49;
+	static final int BARRIER = 9;
+	static final int BARRIER$FENCE = 64;
+	static final int BOUNDARY = 10;
+	static final int BOUNDARY$ADMINISTRATIVE = 65;
+	static final int BOUNDARY$NATIONAL_PARK = 66;
+	static final int BUILDING = 1;
+	static final int BUILDING$APARTMENTS = 25;
+	static final int BUILDING$ROOF = 24;
+	static final int HIGHWAY = 0;
+	static final int HIGHWAY$BRIDLEWAY = 21;
+	static final int HIGHWAY$BYWAY = 20;
+	static final int HIGHWAY$CONSTRUCTION = 23;
+	static final int HIGHWAY$CYCLEWAY = 18;
+	static final int HIGHWAY$FOOTWAY = 19;
+	static final int HIGHWAY$LIVING_STREET = 13;
+	static final int HIGHWAY$MOTORWAY = 1;
+	static final int HIGHWAY$MOTORWAY_LINK = 2;
+	static final int HIGHWAY$PATH = 17;
+	static final int HIGHWAY$PEDESTRIAN = 16;
+	static final int HIGHWAY$PRIMARY = 5;
+	static final int HIGHWAY$PRIMARY_LINK = 6;
+	static final int HIGHWAY$RESIDENTIAL = 12;
+	static final int HIGHWAY$ROAD = 11;
+	static final int HIGHWAY$SECONDARY = 7;
+	static final int HIGHWAY$SECONDARY_LINK = 8;
+	static final int HIGHWAY$SERVICE = 14;
+	static final int HIGHWAY$STEPS = 22;
+	static final int HIGHWAY$TERTIARY = 9;
+	static final int HIGHWAY$TRACK = 15;
+	static final int HIGHWAY$TRUNK = 3;
+	static final int HIGHWAY$TRUNK_LINK = 4;
+	static final int HIGHWAY$UNCLASSIFIED = 10;
+	static final int HISTORIC = 18;
+	static final int HISTORIC$RUINS = 84;
+	static final int LANDUSE = 3;
+	static final int LANDUSE$ALLOTMENTS = 31;
+	static final int LANDUSE$BASIN = 34;
+	static final int LANDUSE$BROWNFIELD = 35;
+	static final int LANDUSE$CEMETERY = 32;
+	static final int LANDUSE$COMMERCIAL = 36;
+	static final int LANDUSE$CONSTRUCTION = 37;
+	static final int LANDUSE$FARM = 33;
+	static final int LANDUSE$FARMLAND = 39;
+	static final int LANDUSE$FOREST = 38;
+	static final int LANDUSE$MILITARY = 40;
+	static final int LANDUSE$RESIDENTIAL = 41;
+	static final int LANDUSE$RETAIL = 42;
+	static final int LEISURE = 4;
+	static final int LEISURE$COMMON = 43;
+	static final int LEISURE$NATURE_RESERVE = 44;
+	static final int LEISURE$SPORTS_CENTRE = 45;
+	static final int MAN_MADE = 7;
+	static final int MAN_MADE$PIER = 59;
+	static final int MILITARY = 17;
+	static final int MILITARY$AIRFIELD = 82;
+	static final int MILITARY$NAVAL_BASE = 83;
+	static final int NATURAL = 6;
+	static final int NATURAL$BEACH = 51;
+	static final int NATURAL$COASTLINE = 57;
+	static final int NATURAL$GLACIER = 58;
+	static final int NATURAL$HEATH = 52;
+	static final int NATURAL$LAND = 53;
+	static final int NATURAL$MARSH = 56;
+	static final int NATURAL$SCRUB = 54;
+	static final int NATURAL$WATER = 55;
+	static final int NUMBER_OF_CLASSES = 20;
+	static final int PISTE = 15;
+	static final int PISTE$TYPE$DOWNHILL = 79;
+	static final int PISTE$TYPE$NORDIC = 80;
+	static final int PLACE = 19;
+	static final int PLACE$LOCALITY = 85;
+	static final int RAILWAY = 2;
+	static final int RAILWAY$LIGHT_RAIL = 28;
+	static final int RAILWAY$RAIL = 26;
+	static final int RAILWAY$STATION = 30;
+	static final int RAILWAY$SUBWAY = 29;
+	static final int RAILWAY$TRAM = 27;
+	static final int ROUTE = 16;
+	static final int ROUTE$FERRY = 81;
+	static final int SPORT = 11;
+	static final int SPORT$SHOOTING = 67;
+	static final int SPORT$SWIMMING = 68;
+	static final int SPORT$TENNIS = 69;
+	static final int TOURISM = 13;
+	static final int TOURISM$ATTRACTION = 75;
+	static final int TOURISM$ZOO = 76;
+	static final int TUNNEL$YES = 0;
+	static final int WATERWAY = 8;
+	static final int WATERWAY$CANAL = 60;
+	static final int WATERWAY$RIVER = 61;
+	static final int WATERWAY$RIVERBANK = 62;
+	static final int WATERWAY$STREAM = 63;
+
+	/**
+	 * Rules in the order of their priority, each rule at the index of its id.
+	 */
+	static final RenderRule[] RULES = {
+			new RenderRule(TUNNEL$YES, HIGHWAY, "tunnel=yes"),
+			new RenderRule(HIGHWAY$MOTORWAY, HIGHWAY, "highway=motorway"),
+			new RenderRule(HIGHWAY$MOTORWAY_LINK, HIGHWAY, "highway=motorway_link"),
+			new RenderRule(HIGHWAY$TRUNK, HIGHWAY, "highway=trunk"),
+			new RenderRule(HIGHWAY$TRUNK_LINK, HIGHWAY, "highway=trunk_link"),
+			new RenderRule(HIGHWAY$PRIMARY, HIGHWAY, "highway=primary"),
+			new RenderRule(HIGHWAY$PRIMARY_LINK, HIGHWAY, "highway=primary_link"),
+			new RenderRule(HIGHWAY$SECONDARY, HIGHWAY, "highway=secondary"),
+			new RenderRule(HIGHWAY$SECONDARY_LINK, HIGHWAY, "highway=secondary_link"),
+			new RenderRule(HIGHWAY$TERTIARY, HIGHWAY, "highway=tertiary"),
+			new RenderRule(HIGHWAY$UNCLASSIFIED, HIGHWAY, "highway=unclassified"),
+			new RenderRule(HIGHWAY$ROAD, HIGHWAY, "highway=road"),
+			new RenderRule(HIGHWAY$RESIDENTIAL, HIGHWAY, "highway=residential"),
+			new RenderRule(HIGHWAY$LIVING_STREET, HIGHWAY, "highway=living_street"),
+			new RenderRule(HIGHWAY$SERVICE, HIGHWAY, "highway=service"),
+			new RenderRule(HIGHWAY$TRACK, HIGHWAY, "highway=track"),
+			new RenderRule(HIGHWAY$PEDESTRIAN, HIGHWAY, "highway=pedestrian"),
+			new RenderRule(HIGHWAY$PATH, HIGHWAY, "highway=path"),
+			new RenderRule(HIGHWAY$CYCLEWAY, HIGHWAY, "highway=cycleway"),
+			new RenderRule(HIGHWAY$FOOTWAY, HIGHWAY, "highway=footway"),
+			new RenderRule(HIGHWAY$BYWAY, HIGHWAY, "highway=byway"),
+			new RenderRule(HIGHWAY$BRIDLEWAY, HIGHWAY, "highway=bridleway"),
+			new RenderRule(HIGHWAY$STEPS, HIGHWAY, "highway=steps"),
+			new RenderRule(HIGHWAY$CONSTRUCTION, HIGHWAY, "highway=construction"),
+			new RenderRule(BUILDING$ROOF, BUILDING, "building=roof"),
+			new RenderRule(BUILDING$APARTMENTS, BUILDING, "building=apartments", "building=embassy",
+					"building=government", "building=gym", "building=ruins", "building=sports",
+					"building=train_station", "building=university", "building=yes"),
+			new RenderRule(RAILWAY$RAIL, RAILWAY, "railway=rail"),
+			new RenderRule(RAILWAY$TRAM, RAILWAY, "railway=tram"),
+			new RenderRule(RAILWAY$LIGHT_RAIL, RAILWAY, "railway=light_rail",
+					"railway=narrow_gauge"),
+			new RenderRule(RAILWAY$SUBWAY, RAILWAY, "railway=subway"),
+			new RenderRule(RAILWAY$STATION, RAILWAY, "railway=station"),
+			new RenderRule(LANDUSE$ALLOTMENTS, LANDUSE, "landuse=allotments"),
+			new RenderRule(LANDUSE$CEMETERY, LANDUSE, "landuse=cemetery"),
+			new RenderRule(LANDUSE$FARM, LANDUSE, "landuse=farm", "landuse=recreation_ground"),
+			new RenderRule(LANDUSE$BASIN, LANDUSE, "landuse=basin", "landuse=reservoir"),
+			new RenderRule(LANDUSE$BROWNFIELD, LANDUSE, "landuse=brownfield", "landuse=industrial"),
+			new RenderRule(LANDUSE$COMMERCIAL, LANDUSE, "landuse=commercial"),
+			new RenderRule(LANDUSE$CONSTRUCTION, LANDUSE, "landuse=construction",
+					"landuse=greenfield"),
+			new RenderRule(LANDUSE$FOREST, LANDUSE, "landuse=forest", "landuse=wood"),
+			new RenderRule(LANDUSE$FARMLAND, LANDUSE, "landuse=farmland", "landuse=grass",
+					"landuse=village_green"),
+			new RenderRule(LANDUSE$MILITARY, LANDUSE, "landuse=military"),
+			new RenderRule(LANDUSE$RESIDENTIAL, LANDUSE, "landuse=residential"),
+			new RenderRule(LANDUSE$RETAIL, LANDUSE, "landuse=retail"),
+			new RenderRule(LEISURE$COMMON, LEISURE, "leisure=common", "leisure=garden",
+					"leisure=golf_course", "leisure=park", "leisure=pitch", "leisure=playground"),
+			new RenderRule(LEISURE$NATURE_RESERVE, LEISURE, "leisure=nature_reserve"),
+			new RenderRule(LEISURE$SPORTS_CENTRE, LEISURE, "leisure=sports_centre",
+					"leisure=stadium", "leisure=track", "leisure=water_park"),
+			new RenderRule(AMENITY$COLLEGE, AMENITY, "amenity=college", "amenity=school",
+					"amenity=university"),
+			new RenderRule(AMENITY$GRAVE_YARD, AMENITY, "amenity=grave_yard"),
+			new RenderRule(AMENITY$HOSPITAL, AMENITY, "amenity=hospital"),
+			new RenderRule(AMENITY$PARKING, AMENITY, "amenity=parking"),
+			new RenderRule(AMENITY$FOUNTAIN, AMENITY, 16, Byte.MAX_VALUE, "amenity=fountain"),
+			new RenderRule(NATURAL$BEACH, NATURAL, "natural=beach"),
+			new RenderRule(NATURAL$HEATH, NATURAL, "natural=heath"),
+			new RenderRule(NATURAL$LAND, NATURAL, "natural=land"),
+			new RenderRule(NATURAL$SCRUB, NATURAL, "natural=scrub", "natural=wood"),
+			new RenderRule(NATURAL$WATER, NATURAL, "natural=water"),
+			new RenderRule(NATURAL$MARSH, NATURAL, "natural=marsh", "natural=wetland"),
+			new RenderRule(NATURAL$COASTLINE, NATURAL, "natural=coastline"),
+			new RenderRule(NATURAL$GLACIER, NATURAL, "natural=glacier"),
+			new RenderRule(MAN_MADE$PIER, MAN_MADE, "man_made=pier"),
+			new RenderRule(WATERWAY$CANAL, WATERWAY, "waterway=canal", "waterway=drain"),
+			new RenderRule(WATERWAY$RIVER, WATERWAY, "waterway=river"),
+			new RenderRule(WATERWAY$RIVERBANK, WATERWAY, "waterway=riverbank"),
+			new RenderRule(WATERWAY$STREAM, WATERWAY, "waterway=stream"),
+			new RenderRule(BARRIER$FENCE, BARRIER, 16, Byte.MAX_VALUE, "barrier=fence",
+					"barrier=wall"),
+			new RenderRule(BOUNDARY$ADMINISTRATIVE, BOUNDARY, "boundary=administrative"),
+			new RenderRule(BOUNDARY$NATIONAL_PARK, BOUNDARY, "boundary=national_park"),
+			new RenderRule(SPORT$SHOOTING, SPORT, "sport=shooting"),
+			new RenderRule(SPORT$SWIMMING, SPORT, "sport=swimming"),
+			new RenderRule(SPORT$TENNIS, SPORT, "sport=tennis"),
+			new RenderRule(AEROWAY$AERODROME, AEROWAY, "aeroway=aerodrome"),
+			new RenderRule(AEROWAY$APRON, AEROWAY, "aeroway=apron"),
+			new RenderRule(AEROWAY$RUNWAY, AEROWAY, "aeroway=runway"),
+			new RenderRule(AEROWAY$TAXIWAY, AEROWAY, "aeroway=taxiway"),
+			new RenderRule(AEROWAY$TERMINAL, AEROWAY, "aeroway=terminal"),
+			new RenderRule(TOURISM$ATTRACTION, TOURISM, "tourism=attraction"),
+			new RenderRule(TOURISM$ZOO, TOURISM, "tourism=zoo"),
+			new RenderRule(AERIALWAY$CABLE_CAR, AERIALWAY, "aerialway=cable_car",
+					"aerialway=drag_lift", "aerialway=gondola", "aerialway=magic_carpet",
+					"aerialway=mixed_lift", "aerialway=rope_tow"),
+			new RenderRule(AERIALWAY$CHAIR_LIFT, AERIALWAY, "aerialway=chair_lift"),
+			new RenderRule(PISTE$TYPE$DOWNHILL, PISTE, "piste:type=downhill"),
+			new RenderRule(PISTE$TYPE$NORDIC, PISTE, "piste:type=nordic"),
+			new RenderRule(ROUTE$FERRY, ROUTE, "route=ferry"),
+			new RenderRule(MILITARY$AIRFIELD, MILITARY, "military=airfield", "military=barracks"),
+			new RenderRule(MILITARY$NAVAL_BASE, MILITARY, "military=naval_base"),
+			new RenderRule(HISTORIC$RUINS, HISTORIC, "historic=ruins"),
+			new RenderRule(PLACE$LOCALITY, PLACE, "place=locality") };
+
+	/**
+	 * Simplification tolerance in pixels for the ways of each rule class, indexed by class. Way
+	 * points which are closer than the tolerance to the previous point are skipped and ways which
+	 * fit into a square of the tolerance are not rendered at all. A tolerance of zero disables the
+	 * simplification.
+	 */
+	static final float[] SIMPLIFICATION_TOLERANCES = getSimplificationTolerances();
+
+	/**
+	 * Returns the simplification tolerances of all rule classes.
+	 * 
+	 * @return the simplification tolerances, indexed by class.
+	 */
+	private static float[] getSimplificationTolerances() {
+		float[] tolerances = new float[NUMBER_OF_CLASSES];
+		for (int i = 0; i < NUMBER_OF_CLASSES; ++i) {
+			tolerances[i] = DEFAULT_SIMPLIFICATION_TOLERANCE;
+		}
+
+		// outlines of buildings and boundaries do not need sub-pixel details
+		tolerances[BUILDING] = 1;
+		tolerances[BOUNDARY] = 1;
+		return tolerances;
+	}
+
+	/**
+	 * Empty private constructor to prevent object creation.
+	 */
+	private WayRules() {
+		// do nothing
+	}
+}
@@ -59,6 +59,15 @@ public class MapFragment extends Fragment {
 		}
 	}
 
+	@Override
+	public void onLowMemory() {
+		super.onLowMemory();
+		MapView mapView = getView();
+		if (mapView != null) {
+			mapView.onLowMemory();
+		}
+	}
+
 	@Override
 	public void onSaveInstanceState(Bundle outState) {
 		super.onSaveInstanceState(outState);